@@ -0,0 +1,195 @@
+package com.eduscrum.upt.Ubereats.benchmark;
+
+import com.eduscrum.upt.Ubereats.entity.Achievement;
+import com.eduscrum.upt.Ubereats.entity.Analytic;
+import com.eduscrum.upt.Ubereats.entity.Badge;
+import com.eduscrum.upt.Ubereats.entity.Course;
+import com.eduscrum.upt.Ubereats.entity.Project;
+import com.eduscrum.upt.Ubereats.entity.Sprint;
+import com.eduscrum.upt.Ubereats.entity.Team;
+import com.eduscrum.upt.Ubereats.entity.TeamMember;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.UserStory;
+import com.eduscrum.upt.Ubereats.entity.enums.BadgeType;
+import com.eduscrum.upt.Ubereats.entity.enums.ScrumRole;
+import com.eduscrum.upt.Ubereats.entity.enums.Semester;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryPriority;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Deterministic in-memory object graph of one course for the benchmarks: a
+ * teacher, teams of students with Scrum roles, projects with sprints, stories,
+ * badges, individual and team achievements, and daily sprint analytics with
+ * burn-down series. Sizes follow a typical course; the seed is fixed so every
+ * run measures the same graph.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public final class SyntheticData {
+
+    private static final String[] FIRST_NAMES = { "Ana", "Bruno", "Carla", "Diogo", "Eva", "Filipe", "Joana",
+            "Luis", "Marta", "Nuno", "Rita", "Tiago" };
+    private static final String[] LAST_NAMES = { "Silva", "Costa", "Pereira", "Santos, Jr", "Oliveira",
+            "Ferreira", "Rodrigues", "Sousa \"Sam\"" };
+    private static final ScrumRole[] ROLES = { ScrumRole.SCRUM_MASTER, ScrumRole.PRODUCT_OWNER,
+            ScrumRole.DEVELOPER, ScrumRole.DEVELOPER, ScrumRole.DEVELOPER };
+    private static final int SPRINTS_PER_PROJECT = 6;
+    private static final int SPRINT_DAYS = 14;
+
+    public final Course course;
+    public final List<User> students = new ArrayList<>();
+    public final List<Team> teams = new ArrayList<>();
+    public final List<UserStory> stories = new ArrayList<>();
+    public final List<Achievement> achievements = new ArrayList<>();
+    public final List<Analytic> analytics = new ArrayList<>();
+    public final Map<Long, User> usersById = new HashMap<>();
+    public final Map<Long, List<UserStory>> storiesByAssignee = new HashMap<>();
+
+    private long nextId = 1;
+
+    /**
+     * Builds the graph.
+     *
+     * @param teamCount       Number of teams (five students each)
+     * @param storiesPerSprint User stories per sprint
+     */
+    public SyntheticData(int teamCount, int storiesPerSprint) {
+        Random random = new Random(42);
+        User teacher = user("teacher", UserRole.TEACHER, null, random);
+        course = new Course("Software Engineering", "ES2026", "Scrum project course", Semester.FIRST, "2026",
+                teacher);
+        course.setId(nextId++);
+
+        List<Badge> badges = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Badge badge = new Badge("Badge " + i, "Awarded for milestone " + i, 10 + 5 * i,
+                    i % 3 == 0 ? BadgeType.AUTOMATIC : BadgeType.MANUAL, teacher);
+            badge.setId(nextId++);
+            badge.setIcon("icon-" + i);
+            badges.add(badge);
+        }
+
+        LocalDate termStart = LocalDate.of(2026, 9, 14);
+        for (int t = 0; t < teamCount; t++) {
+            Team team = new Team("Team " + t);
+            team.setId(nextId++);
+            teams.add(team);
+
+            List<User> members = new ArrayList<>();
+            for (ScrumRole role : ROLES) {
+                User student = user("student" + students.size(), UserRole.STUDENT,
+                        String.format("26%05d", students.size() + 1), random);
+                TeamMember member = new TeamMember(team, student, role);
+                team.getMembers().add(member);
+                student.getTeamMemberships().add(member);
+                students.add(student);
+                members.add(student);
+            }
+
+            Project project = new Project("Project " + t, "Delivery app for team " + t, termStart,
+                    termStart.plusDays(SPRINTS_PER_PROJECT * SPRINT_DAYS), course);
+            project.setId(nextId++);
+
+            for (int s = 0; s < SPRINTS_PER_PROJECT; s++) {
+                LocalDate sprintStart = termStart.plusDays(s * SPRINT_DAYS);
+                Sprint sprint = new Sprint(s + 1, "Sprint " + (s + 1), "Increment " + (s + 1), sprintStart,
+                        sprintStart.plusDays(SPRINT_DAYS - 1), project);
+                sprint.setId(nextId++);
+
+                int totalPoints = 0;
+                for (int k = 0; k < storiesPerSprint; k++) {
+                    int points = 1 + random.nextInt(13);
+                    totalPoints += points;
+                    UserStory story = new UserStory("As a customer I want feature " + k + " of sprint " + s,
+                            "Acceptance criteria, notes, and a description, with \"quotes\"", points,
+                            StoryPriority.values()[random.nextInt(StoryPriority.values().length)], sprint, team,
+                            members.get(1));
+                    story.setId(nextId++);
+                    story.setStatus(StoryStatus.values()[random.nextInt(StoryStatus.values().length)]);
+                    User assignee = members.get(random.nextInt(members.size()));
+                    story.setAssignedTo(assignee);
+                    story.setCreatedAt(LocalDateTime.of(sprintStart, LocalTime.NOON));
+                    stories.add(story);
+                    storiesByAssignee.computeIfAbsent(assignee.getId(), id -> new ArrayList<>()).add(story);
+                }
+
+                int remaining = totalPoints;
+                for (int d = 0; d < SPRINT_DAYS; d++) {
+                    Analytic analytic = new Analytic(sprint, team, sprintStart.plusDays(d));
+                    analytic.setId(nextId++);
+                    analytic.setTotalTasks(storiesPerSprint);
+                    analytic.setCompletedTasks(storiesPerSprint * d / SPRINT_DAYS);
+                    analytic.setVelocity(BigDecimal.valueOf(random.nextInt(400), 1));
+                    analytic.setTotalStoryPoints(BigDecimal.valueOf(totalPoints));
+                    analytic.setStoryPointsCompleted(BigDecimal.valueOf(totalPoints - remaining));
+                    for (int day = 0; day <= d; day++) {
+                        analytic.recordBurnDown(day, totalPoints - totalPoints * day / SPRINT_DAYS);
+                    }
+                    remaining = Math.max(0, remaining - random.nextInt(totalPoints / SPRINT_DAYS + 2));
+                    team.getAnalytics().add(analytic);
+                    analytics.add(analytic);
+                }
+
+                Achievement teamAchievement = new Achievement(badges.get(random.nextInt(badges.size())), team,
+                        project, teacher, "Sprint " + (s + 1) + " goal met");
+                teamAchievement.setId(nextId++);
+                teamAchievement.setSprint(sprint);
+                team.getTeamAchievements().add(teamAchievement);
+                achievements.add(teamAchievement);
+
+                User awarded = members.get(random.nextInt(members.size()));
+                Achievement individual = new Achievement(badges.get(random.nextInt(badges.size())), awarded,
+                        project, teacher, "Outstanding work in sprint " + (s + 1));
+                individual.setId(nextId++);
+                individual.setSprint(sprint);
+                awarded.getIndividualAchievements().add(individual);
+                achievements.add(individual);
+            }
+        }
+    }
+
+    /**
+     * Creates a repository stub that answers the given methods from the graph
+     * and fails on any other call, so benchmarks measure service code rather
+     * than a mocking framework.
+     *
+     * @param type    The repository interface
+     * @param answers Answers by method name
+     * @param <T>     The repository type
+     * @return The stub
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(method.getName() + " is not stubbed");
+            }
+            return answer.apply(args);
+        });
+    }
+
+    private User user(String username, UserRole role, String studentNumber, Random random) {
+        User user = new User(username, username + "@upt.pt", "$2a$10$hash", role,
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                studentNumber);
+        user.setId(nextId++);
+        usersById.put(user.getId(), user);
+        return user;
+    }
+}
@@ -0,0 +1,108 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.eduscrum.upt.Ubereats.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for entity computations used by analytics and team
+ * responses: burn-down map decoding and the BigDecimal arithmetic of the team
+ * performance rating.
+ *
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; the gc profiler
+ * adds the allocation rate ({@code gc.alloc.rate.norm}, bytes per operation).
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EntityBenchmark {
+
+    @Param({ "20" })
+    public int teams;
+
+    private List<Analytic> analytics;
+    private List<Team> teamList;
+    private byte[][] encodedSeries;
+    private String[] legacyJson;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(teams, 15);
+        analytics = data.analytics;
+        teamList = data.teams;
+        encodedSeries = new byte[analytics.size()][];
+        legacyJson = new String[analytics.size()];
+        for (int i = 0; i < analytics.size(); i++) {
+            BurnDownSeries series = analytics.get(i).getBurnDownSeries();
+            encodedSeries[i] = series.encode();
+            legacyJson[i] = toJson(series);
+        }
+    }
+
+    /** Burn-down map of analytics already loaded in the session. */
+    @Benchmark
+    public void burnDownDataMap(Blackhole blackhole) {
+        for (Analytic analytic : analytics) {
+            blackhole.consume(analytic.getBurnDownDataMap());
+        }
+    }
+
+    /** Burn-down map of freshly loaded rows stored in the binary column. */
+    @Benchmark
+    public void burnDownDataMapFromBinary(Blackhole blackhole) {
+        for (byte[] bytes : encodedSeries) {
+            blackhole.consume(BurnDownSeries.decode(bytes).toMap());
+        }
+    }
+
+    /** Burn-down map of freshly loaded rows still in the legacy JSON column. */
+    @Benchmark
+    public void burnDownDataMapFromJson(Blackhole blackhole) {
+        for (String json : legacyJson) {
+            Analytic analytic = new Analytic();
+            analytic.setBurnDownData(json);
+            blackhole.consume(analytic.getBurnDownDataMap());
+        }
+    }
+
+    /** Performance rating of every team of the course. */
+    @Benchmark
+    public void teamPerformanceRating(Blackhole blackhole) {
+        for (Team team : teamList) {
+            blackhole.consume(team.getPerformanceRating());
+        }
+    }
+
+    private static String toJson(BurnDownSeries series) {
+        StringBuilder json = new StringBuilder("{");
+        series.toMap().forEach((day, value) -> {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(day).append("\":").append(value);
+        });
+        return json.append('}').toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.benchmark.SyntheticData;
+import com.eduscrum.upt.Ubereats.entity.Achievement;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.UserStory;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.repository.UserStoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmarks for the service-layer hot paths that run once per row of a
+ * list response or export: DTO conversion, global score calculation and CSV
+ * generation. Repositories are stubbed with the in-memory graph, so the
+ * numbers cover the service and entity code only.
+ *
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; the gc profiler
+ * adds the allocation rate ({@code gc.alloc.rate.norm}, bytes per operation).
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ServiceLayerBenchmark {
+
+    @Param({ "20" })
+    public int teams;
+
+    @Param({ "15" })
+    public int storiesPerSprint;
+
+    private SyntheticData data;
+    private UserStoryService userStoryService;
+    private AchievementService achievementService;
+    private UserService userService;
+    private ExportService exportService;
+    private List<String> csvValues;
+
+    @Setup
+    public void setUp() {
+        data = new SyntheticData(teams, storiesPerSprint);
+
+        UserRepository userRepository = SyntheticData.repository(UserRepository.class, Map.of(
+                "findById", args -> Optional.ofNullable(data.usersById.get((Long) args[0])),
+                "findStudentsByCourseId", args -> data.students));
+        UserStoryRepository userStoryRepository = SyntheticData.repository(UserStoryRepository.class, Map.of(
+                "findByAssignedToId", args -> data.storiesByAssignee.getOrDefault((Long) args[0], List.of())));
+
+        userStoryService = new UserStoryService(null, null, null, null, null, null, null, null, null, null);
+        achievementService = new AchievementService(null, null, null, null, null, null, null, null, null, null);
+        userService = new UserService(userRepository, null, userStoryRepository, null, null, null, null, null);
+        exportService = new ExportService(userRepository, userService);
+        csvValues = data.students.stream()
+                .flatMap(student -> Stream.of(student.getFullName(), student.getStudentNumber()))
+                .toList();
+    }
+
+    /** Converts every story of the course, as a board or list endpoint does. */
+    @Benchmark
+    public void userStoryConvertToDTO(Blackhole blackhole) {
+        for (UserStory story : data.stories) {
+            blackhole.consume(userStoryService.convertToDTO(story));
+        }
+    }
+
+    /** Converts every achievement of the course. */
+    @Benchmark
+    public void achievementConvertToDTO(Blackhole blackhole) {
+        for (Achievement achievement : data.achievements) {
+            blackhole.consume(achievementService.convertToDTO(achievement));
+        }
+    }
+
+    /** Computes the global score of every student, as the dashboard does. */
+    @Benchmark
+    public void calculateGlobalScore(Blackhole blackhole) {
+        for (User student : data.students) {
+            blackhole.consume(userService.calculateGlobalScore(student.getId()));
+        }
+    }
+
+    /** Escapes names and student numbers, some of which need quoting. */
+    @Benchmark
+    public void escapeCsv(Blackhole blackhole) {
+        for (String value : csvValues) {
+            blackhole.consume(exportService.escapeCsv(value));
+        }
+    }
+
+    /** Generates the full course CSV export. */
+    @Benchmark
+    public byte[] generateCourseCsv() {
+        return exportService.generateCourseCsv(data.course.getId());
+    }
+}
@@ -0,0 +1,74 @@
+package com.eduscrum.upt.Ubereats.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples and error count of one endpoint. Each virtual user records
+ * into its own instance; instances are merged when the run ends, so
+ * recording needs no synchronization.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class LatencyStats {
+
+    private long[] samplesMicros = new long[256];
+    private int count;
+    private long errors;
+
+    /**
+     * Records one request.
+     *
+     * @param micros  Latency in microseconds
+     * @param success Whether the response had the expected status
+     */
+    public void record(long micros, boolean success) {
+        if (count == samplesMicros.length) {
+            samplesMicros = Arrays.copyOf(samplesMicros, count * 2);
+        }
+        samplesMicros[count++] = micros;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Adds the samples of another instance to this one.
+     *
+     * @param other The stats to merge
+     */
+    public void merge(LatencyStats other) {
+        if (count + other.count > samplesMicros.length) {
+            samplesMicros = Arrays.copyOf(samplesMicros, count + other.count);
+        }
+        System.arraycopy(other.samplesMicros, 0, samplesMicros, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    /**
+     * Summarizes the samples.
+     *
+     * @param seconds Measured duration, for throughput
+     * @return The endpoint summary
+     */
+    public LoadReport.EndpointResult summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(samplesMicros, count);
+        Arrays.sort(sorted);
+        return new LoadReport.EndpointResult(count, errors, count == 0 ? 0 : (double) errors / count,
+                count / seconds, percentileMillis(sorted, 50), percentileMillis(sorted, 95),
+                percentileMillis(sorted, 99), count == 0 ? 0 : sorted[count - 1] / 1000.0);
+    }
+
+    /**
+     * Nearest-rank percentile.
+     */
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1000.0;
+    }
+}
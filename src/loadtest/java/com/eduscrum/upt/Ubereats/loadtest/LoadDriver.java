@@ -0,0 +1,313 @@
+package com.eduscrum.upt.Ubereats.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP load driver. Each virtual user is a generated student that signs in,
+ * then sends requests picked from a {@link Mix} until the run ends, one every
+ * think time on a fixed schedule. Requests due during the warmup are not
+ * recorded.
+ *
+ * <p>
+ * Latency is measured from when a request was due, not when it was sent. A
+ * slow response delays the user's next requests, and that delay is counted
+ * against them, so a server stall shows up in the percentiles instead of
+ * thinning out the samples taken during it. With a zero think time each user
+ * sends back to back and requests are timed from when they are sent.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.3.0 (2026-10-18)
+ */
+public class LoadDriver {
+
+    /** Card properties the board view asks for. */
+    private static final String BOARD_FIELDS = "title,status,storyPoints,priority,assignedUserName";
+
+    /**
+     * A student virtual users act as.
+     *
+     * @param userId   The student's user id
+     * @param email    Login email
+     * @param sprintId An in-progress sprint of the student's team
+     */
+    public record Student(long userId, String email, long sprintId) {
+    }
+
+    /**
+     * A teacher whose course is exported.
+     *
+     * @param email    Login email
+     * @param courseId A course taught by the teacher
+     */
+    public record Teacher(String email, long courseId) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final List<Student> students;
+    private final List<Teacher> teachers;
+    private final String password;
+    private final Map<String, String> teacherTokens = new HashMap<>();
+
+    /**
+     * Constructs a new LoadDriver.
+     *
+     * @param baseUri  Root URI of the server, e.g. {@code http://localhost:8080}
+     * @param students Students the virtual users act as
+     * @param teachers Teachers for course exports
+     * @param password Password of every generated user
+     */
+    public LoadDriver(URI baseUri, List<Student> students, List<Teacher> teachers, String password) {
+        this.baseUri = baseUri;
+        this.students = students;
+        this.teachers = teachers;
+        this.password = password;
+    }
+
+    /**
+     * Runs one mix.
+     *
+     * @param mix          The request mix
+     * @param virtualUsers Concurrent virtual users
+     * @param warmup       Unrecorded time before measuring
+     * @param duration     Measured time
+     * @param thinkTime    Interval between two scheduled requests of a virtual user
+     * @param seed         Seed of the virtual users' random generators
+     * @return Results per endpoint
+     * @throws Exception if a virtual user cannot sign in or the run is interrupted
+     */
+    public LoadReport.MixResult run(Mix mix, int virtualUsers, Duration warmup, Duration duration,
+            Duration thinkTime, long seed) throws Exception {
+        if (!teachers.isEmpty() && teacherTokens.isEmpty()) {
+            for (Teacher teacher : teachers) {
+                teacherTokens.put(teacher.email(), login(teacher.email()).path("token").asText());
+            }
+        }
+
+        List<VirtualUser> users = new ArrayList<>(virtualUsers);
+        for (int i = 0; i < virtualUsers; i++) {
+            Student student = students.get(i % students.size());
+            users.add(new VirtualUser(student, login(student.email()).path("token").asText(),
+                    new SplittableRandom(seed + i)));
+        }
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long endAt = measureFrom + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(virtualUsers);
+            for (VirtualUser user : users) {
+                futures.add(executor.submit(() -> {
+                    user.run(mix, measureFrom, endAt, thinkTime);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Map<Operation, LatencyStats> merged = new EnumMap<>(Operation.class);
+        for (VirtualUser user : users) {
+            user.stats.forEach((operation, stats) -> merged.computeIfAbsent(operation, o -> new LatencyStats())
+                    .merge(stats));
+        }
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, LoadReport.EndpointResult> endpoints = new LinkedHashMap<>();
+        merged.forEach((operation, stats) -> endpoints.put(operation.getEndpoint(), stats.summarize(seconds)));
+        return new LoadReport.MixResult(mix.label(), virtualUsers, seconds, endpoints);
+    }
+
+    private JsonNode login(String email) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(loginRequest(email), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of " + email + " failed with status " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest loginRequest(String email) {
+        String body = objectMapper.createObjectNode().put("email", email).put("password", password).toString();
+        return HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * One simulated user with its own token, random generator, view of the
+     * board and latency recorders.
+     */
+    private final class VirtualUser {
+        private final Student student;
+        private final SplittableRandom random;
+        private final Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+        private final Map<Long, String> storyStatuses = new HashMap<>();
+        private final List<Long> storyIds = new ArrayList<>();
+        private String token;
+        private boolean recording;
+        /** When the request being sent was due, or {@code Long.MAX_VALUE} once it has been timed. */
+        private long dueAt = Long.MAX_VALUE;
+
+        private VirtualUser(Student student, String token, SplittableRandom random) {
+            this.student = student;
+            this.token = token;
+            this.random = random;
+        }
+
+        private void run(Mix mix, long measureFrom, long endAt, Duration thinkTime) throws InterruptedException {
+            long interval = thinkTime.toNanos();
+            long due = System.nanoTime();
+            while (due < endAt) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                recording = due >= measureFrom;
+                dueAt = due;
+                send(mix.next(random));
+                // Behind schedule after a slow response, the next request is due already and goes out at once
+                due = interval > 0 ? due + interval : System.nanoTime();
+            }
+        }
+
+        private void send(Operation operation) {
+            switch (operation) {
+                case BOARD_POLL -> pollBoard();
+                case CARD_MOVE -> moveCard();
+                case SPRINT_STATS -> call(operation, get("/api/user-stories/sprint/" + student.sprintId() + "/stats",
+                        token));
+                case DASHBOARD -> call(operation, get("/api/dashboard/student/" + student.userId(), token));
+                case LOGIN -> {
+                    JsonNode body = call(operation, loginRequest(student.email()));
+                    if (body != null) {
+                        token = body.path("token").asText();
+                    }
+                }
+                case EXPORT -> {
+                    if (teachers.isEmpty()) {
+                        pollBoard();
+                        return;
+                    }
+                    Teacher teacher = teachers.get(random.nextInt(teachers.size()));
+                    call(operation, get("/api/export/course/" + teacher.courseId(),
+                            teacherTokens.get(teacher.email())));
+                }
+            }
+        }
+
+        private void pollBoard() {
+            JsonNode board = call(Operation.BOARD_POLL,
+                    get("/api/user-stories/sprint/" + student.sprintId() + "?fields=" + BOARD_FIELDS, token));
+            if (board != null && board.isArray()) {
+                storyIds.clear();
+                for (JsonNode story : board) {
+                    long id = story.path("id").asLong();
+                    storyIds.add(id);
+                    storyStatuses.put(id, story.path("status").asText());
+                }
+            }
+        }
+
+        /**
+         * Moves a card one column forward, or back if it is already done. A
+         * 400 means another user moved the card first and is not an error.
+         */
+        private void moveCard() {
+            if (storyIds.isEmpty()) {
+                pollBoard();
+                if (storyIds.isEmpty()) {
+                    return;
+                }
+            }
+            long id = storyIds.get(random.nextInt(storyIds.size()));
+            String direction = "DONE".equals(storyStatuses.get(id)) ? "previous-status" : "next-status";
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/user-stories/" + id + "/" + direction))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token)
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            JsonNode story = call(Operation.CARD_MOVE, request, 400);
+            if (story != null && story.has("status")) {
+                storyStatuses.put(id, story.path("status").asText());
+            } else {
+                storyStatuses.remove(id);
+            }
+        }
+
+        private HttpRequest get(String path, String bearer) {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + bearer)
+                    .GET()
+                    .build();
+        }
+
+        /**
+         * Sends a request and records its latency, from when it was due for
+         * the first request of an operation and from now for any follow-up.
+         *
+         * @return The JSON body of a 2xx response, or null
+         */
+        private JsonNode call(Operation operation, HttpRequest request, int... alsoExpected) {
+            long started = Math.min(dueAt, System.nanoTime());
+            dueAt = Long.MAX_VALUE;
+            HttpResponse<byte[]> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                record(operation, started, false);
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            int status = response.statusCode();
+            boolean ok = status / 100 == 2;
+            boolean expected = ok;
+            for (int code : alsoExpected) {
+                expected |= status == code;
+            }
+            record(operation, started, expected);
+            if (!ok || !response.headers().firstValue("Content-Type").orElse("").contains("json")) {
+                return null;
+            }
+            try {
+                return objectMapper.readTree(response.body());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private void record(Operation operation, long started, boolean success) {
+            if (recording) {
+                stats.computeIfAbsent(operation, o -> new LatencyStats())
+                        .record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started), success);
+            }
+        }
+    }
+}
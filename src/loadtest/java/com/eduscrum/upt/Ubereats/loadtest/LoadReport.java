@@ -0,0 +1,186 @@
+package com.eduscrum.upt.Ubereats.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of a load test run: latency percentiles, throughput and error rate
+ * per endpoint for each mix. Written as JSON (also the baseline format) and
+ * as an HTML table.
+ *
+ * @param startedAt   ISO timestamp of the run
+ * @param scaleFactor Dataset scale factor
+ * @param seed        Dataset seed
+ * @param mixes       Results per mix, in run order
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public record LoadReport(String startedAt, double scaleFactor, long seed, List<MixResult> mixes) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Summary of one endpoint.
+     *
+     * @param requests   Requests sent
+     * @param errors     Responses with an unexpected status or no response
+     * @param errorRate  errors / requests
+     * @param throughput Requests per second
+     * @param p50Ms      Median latency in milliseconds
+     * @param p95Ms      95th percentile latency in milliseconds
+     * @param p99Ms      99th percentile latency in milliseconds
+     * @param maxMs      Slowest request in milliseconds
+     */
+    public record EndpointResult(long requests, long errors, double errorRate, double throughput, double p50Ms,
+            double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    /**
+     * Results of one mix.
+     *
+     * @param mix             Mix label
+     * @param virtualUsers    Concurrent virtual users
+     * @param durationSeconds Measured duration, after warmup
+     * @param endpoints       Results keyed by endpoint label
+     */
+    public record MixResult(String mix, int virtualUsers, double durationSeconds,
+            Map<String, EndpointResult> endpoints) {
+    }
+
+    /**
+     * Thresholds for the baseline comparison. A percentile regresses when it
+     * is both relatively and absolutely slower than the baseline, so that
+     * sub-millisecond noise never fails a run.
+     *
+     * @param latencyTolerance     Allowed relative increase of p95 and p99, e.g. 0.25
+     * @param minLatencyDeltaMs    Increase in milliseconds below which latency never regresses
+     * @param maxErrorRateIncrease Allowed absolute increase of the error rate
+     */
+    public record Thresholds(double latencyTolerance, double minLatencyDeltaMs, double maxErrorRateIncrease) {
+    }
+
+    // region BASELINE
+
+    /**
+     * Compares this run with a baseline run. Endpoints missing from the
+     * baseline are not compared.
+     *
+     * @param baseline   The stored baseline
+     * @param thresholds Allowed differences
+     * @return One message per regression, empty if none
+     */
+    public List<String> regressionsAgainst(LoadReport baseline, Thresholds thresholds) {
+        List<String> regressions = new ArrayList<>();
+        for (MixResult mix : mixes) {
+            MixResult baseMix = baseline.mixes().stream()
+                    .filter(candidate -> candidate.mix().equals(mix.mix()))
+                    .findFirst()
+                    .orElse(null);
+            if (baseMix == null) {
+                continue;
+            }
+            mix.endpoints().forEach((endpoint, result) -> {
+                EndpointResult base = baseMix.endpoints().get(endpoint);
+                if (base == null) {
+                    return;
+                }
+                String where = mix.mix() + " " + endpoint;
+                checkLatency(regressions, where, "p95", result.p95Ms(), base.p95Ms(), thresholds);
+                checkLatency(regressions, where, "p99", result.p99Ms(), base.p99Ms(), thresholds);
+                if (result.errorRate() > base.errorRate() + thresholds.maxErrorRateIncrease()) {
+                    regressions.add(String.format(Locale.ROOT, "%s: error rate %.2f%% (baseline %.2f%%)", where,
+                            result.errorRate() * 100, base.errorRate() * 100));
+                }
+            });
+        }
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, String where, String percentile, double value,
+            double base, Thresholds thresholds) {
+        if (value > base * (1 + thresholds.latencyTolerance()) && value - base > thresholds.minLatencyDeltaMs()) {
+            regressions.add(String.format(Locale.ROOT, "%s: %s %.1f ms (baseline %.1f ms)", where, percentile,
+                    value, base));
+        }
+    }
+
+    // endregion
+
+    // region OUTPUT
+
+    /**
+     * Reads a report written by {@link #writeJson(Path)}.
+     *
+     * @param path The JSON file
+     * @return The report
+     * @throws IOException if the file cannot be read
+     */
+    public static LoadReport readJson(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param path The target file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeJson(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    /**
+     * Writes the report as an HTML page with one table per mix.
+     *
+     * @param path        The target file
+     * @param regressions Regressions to list above the tables
+     * @throws IOException if the file cannot be written
+     */
+    public void writeHtml(Path path, List<String> regressions) throws IOException {
+        StringBuilder html = new StringBuilder()
+                .append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Load test report</title>\n")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse;margin-bottom:2em}")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}")
+                .append("td:first-child{text-align:left}.bad{color:#b00}</style></head><body>\n")
+                .append("<h1>Load test report</h1>\n<p>")
+                .append(escape(startedAt)).append(" &middot; scale factor ").append(scaleFactor)
+                .append(" &middot; seed ").append(seed).append("</p>\n");
+        if (!regressions.isEmpty()) {
+            html.append("<h2 class=\"bad\">Regressions</h2>\n<ul>\n");
+            regressions.forEach(regression -> html.append("<li class=\"bad\">").append(escape(regression))
+                    .append("</li>\n"));
+            html.append("</ul>\n");
+        }
+        for (MixResult mix : mixes) {
+            html.append("<h2>").append(escape(mix.mix())).append("</h2>\n<p>").append(mix.virtualUsers())
+                    .append(" virtual users, ").append(String.format(Locale.ROOT, "%.1f", mix.durationSeconds()))
+                    .append(" s</p>\n<table><tr><th>Endpoint</th><th>Requests</th><th>Req/s</th><th>Errors</th>")
+                    .append("<th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>max ms</th></tr>\n");
+            mix.endpoints().forEach((endpoint, result) -> html.append(String.format(Locale.ROOT,
+                    "<tr><td>%s</td><td>%d</td><td>%.1f</td><td>%.2f%%</td><td>%.1f</td><td>%.1f</td>"
+                            + "<td>%.1f</td><td>%.1f</td></tr>\n",
+                    escape(endpoint), result.requests(), result.throughput(), result.errorRate() * 100,
+                    result.p50Ms(), result.p95Ms(), result.p99Ms(), result.maxMs())));
+            html.append("</table>\n");
+        }
+        html.append("</body></html>\n");
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, html);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    // endregion
+}
@@ -0,0 +1,167 @@
+package com.eduscrum.upt.Ubereats.loadtest;
+
+import com.eduscrum.upt.Ubereats.UbereatsApplication;
+import com.eduscrum.upt.Ubereats.service.DatasetGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Entry point of the end-to-end load test. Starts the application on a
+ * random port against in-memory H2 in MySQL mode, fills it with a
+ * {@link DatasetGenerator} dataset, replays each requested {@link Mix} and
+ * writes {@code report.json} and {@code report.html}. When a baseline report
+ * exists the run is compared with it and the process exits with status 1 on a
+ * regression.
+ *
+ * <p>
+ * Arguments are {@code --name=value}; see {@link #DEFAULTS}. Run with
+ * {@code ./mvnw -Ploadtest test-compile exec:exec}.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public final class LoadTestMain {
+
+    private static final String PREFIX = "lt";
+    private static final String PASSWORD = "loadtest123";
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("scale-factor", "1"),
+            Map.entry("seed", "42"),
+            Map.entry("users", "50"),
+            Map.entry("warmup-seconds", "10"),
+            Map.entry("duration-seconds", "30"),
+            Map.entry("think-ms", "50"),
+            Map.entry("mixes", "mixed,board,login-storm"),
+            Map.entry("report-dir", "target/loadtest"),
+            Map.entry("baseline", "src/loadtest/baseline.json"),
+            Map.entry("update-baseline", "false"),
+            Map.entry("latency-tolerance", "0.25"),
+            Map.entry("min-latency-delta-ms", "5"),
+            Map.entry("max-error-rate-increase", "0.01"));
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        double scaleFactor = Double.parseDouble(options.get("scale-factor"));
+        long seed = Long.parseLong(options.get("seed"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UbereatsApplication.class)
+                .profiles("loadtest")
+                .run();
+        int exitCode;
+        try {
+            context.getBean(DatasetGenerator.class).generate(new DatasetGenerator.Options(scaleFactor, seed, PREFIX,
+                    LocalDate.now(), PASSWORD));
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            LoadDriver driver = new LoadDriver(baseUri, students(jdbcTemplate), teachers(jdbcTemplate), PASSWORD);
+
+            String startedAt = Instant.now().toString();
+            List<LoadReport.MixResult> results = new ArrayList<>();
+            for (String label : options.get("mixes").split(",")) {
+                Mix mix = Mix.fromLabel(label);
+                LoadReport.MixResult result = driver.run(mix, Integer.parseInt(options.get("users")),
+                        Duration.ofSeconds(Long.parseLong(options.get("warmup-seconds"))),
+                        Duration.ofSeconds(Long.parseLong(options.get("duration-seconds"))),
+                        Duration.ofMillis(Long.parseLong(options.get("think-ms"))), seed);
+                print(result);
+                results.add(result);
+            }
+            exitCode = report(new LoadReport(startedAt, scaleFactor, seed, results), options);
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static int report(LoadReport report, Map<String, String> options) throws Exception {
+        Path reportDir = Path.of(options.get("report-dir"));
+        Path baselinePath = Path.of(options.get("baseline"));
+        report.writeJson(reportDir.resolve("report.json"));
+
+        List<String> regressions = List.of();
+        if (Boolean.parseBoolean(options.get("update-baseline"))) {
+            report.writeJson(baselinePath);
+            System.out.println("Baseline written to " + baselinePath);
+        } else if (Files.exists(baselinePath)) {
+            regressions = report.regressionsAgainst(LoadReport.readJson(baselinePath), new LoadReport.Thresholds(
+                    Double.parseDouble(options.get("latency-tolerance")),
+                    Double.parseDouble(options.get("min-latency-delta-ms")),
+                    Double.parseDouble(options.get("max-error-rate-increase"))));
+            System.out.println(regressions.isEmpty() ? "No regressions against " + baselinePath
+                    : "Regressions against " + baselinePath + ":");
+            regressions.forEach(regression -> System.out.println("  " + regression));
+        } else {
+            System.out.println("No baseline at " + baselinePath + "; run with --update-baseline=true to store one");
+        }
+        report.writeHtml(reportDir.resolve("report.html"), regressions);
+        System.out.println("Report written to " + reportDir.toAbsolutePath());
+        return regressions.isEmpty() ? 0 : 1;
+    }
+
+    private static void print(LoadReport.MixResult result) {
+        System.out.printf(Locale.ROOT, "%n== %s (%d users, %.0f s)%n%-56s %9s %8s %7s %8s %8s %8s%n", result.mix(),
+                result.virtualUsers(), result.durationSeconds(), "endpoint", "requests", "req/s", "errors", "p50 ms",
+                "p95 ms", "p99 ms");
+        result.endpoints().forEach((endpoint, r) -> System.out.printf(Locale.ROOT,
+                "%-56s %9d %8.1f %6.2f%% %8.1f %8.1f %8.1f%n", endpoint, r.requests(), r.throughput(),
+                r.errorRate() * 100, r.p50Ms(), r.p95Ms(), r.p99Ms()));
+    }
+
+    // region DATASET
+
+    private static List<LoadDriver.Student> students(JdbcTemplate jdbcTemplate) {
+        List<LoadDriver.Student> students = jdbcTemplate.query("SELECT u.id, u.email, s.id AS sprint_id "
+                + "FROM team_members tm JOIN users u ON u.id = tm.user_id "
+                + "JOIN projects p ON p.team_id = tm.team_id JOIN sprints s ON s.project_id = p.id "
+                + "WHERE u.username LIKE ? AND s.status = 'IN_PROGRESS' ORDER BY u.id",
+                (rs, row) -> new LoadDriver.Student(rs.getLong("id"), rs.getString("email"), rs.getLong("sprint_id")),
+                PREFIX + "_s%");
+        if (students.isEmpty()) {
+            throw new IllegalStateException("The generated dataset has no student with an in-progress sprint");
+        }
+        return students;
+    }
+
+    private static List<LoadDriver.Teacher> teachers(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.query("SELECT u.email, c.id FROM courses c JOIN users u ON u.id = c.teacher_id "
+                + "WHERE c.code LIKE ? ORDER BY c.id",
+                (rs, row) -> new LoadDriver.Teacher(rs.getString("email"), rs.getLong("id")),
+                PREFIX.toUpperCase() + "-%");
+    }
+
+    // endregion
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        Arrays.stream(args).forEach(arg -> {
+            int separator = arg.indexOf('=');
+            String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name == null || !DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown argument " + arg + "; expected one of --"
+                        + String.join("=, --", DEFAULTS.keySet()) + "=");
+            }
+            options.put(name, arg.substring(separator + 1));
+        });
+        return options;
+    }
+}
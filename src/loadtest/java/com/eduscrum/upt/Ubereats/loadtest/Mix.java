@@ -0,0 +1,69 @@
+package com.eduscrum.upt.Ubereats.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted request mixes replayed by the load driver.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum Mix {
+    /** A normal working day: students watch boards and dashboards, move cards, teachers export. */
+    MIXED(Map.of(Operation.BOARD_POLL, 40, Operation.CARD_MOVE, 15, Operation.SPRINT_STATS, 10,
+            Operation.DASHBOARD, 20, Operation.LOGIN, 10, Operation.EXPORT, 5)),
+    /** Sprint review: every team has its board open and moves cards. */
+    BOARD(Map.of(Operation.BOARD_POLL, 70, Operation.CARD_MOVE, 25, Operation.SPRINT_STATS, 5)),
+    /** Start of a lecture: everybody signs in at once. */
+    LOGIN_STORM(Map.of(Operation.LOGIN, 100));
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    Mix(Map<Operation, Integer> weights) {
+        Map<Operation, Integer> ordered = new EnumMap<>(weights);
+        this.operations = ordered.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += ordered.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Picks the next operation according to the weights.
+     *
+     * @param random The virtual user's random generator
+     * @return The operation to send
+     */
+    public Operation next(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * @return Lowercase, dash-separated name used in reports and arguments
+     */
+    public String label() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    /**
+     * Parses a label such as {@code login-storm}.
+     *
+     * @param label The label
+     * @return The mix
+     */
+    public static Mix fromLabel(String label) {
+        return valueOf(label.trim().toUpperCase().replace('-', '_'));
+    }
+}
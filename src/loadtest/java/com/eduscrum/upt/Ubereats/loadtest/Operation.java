@@ -0,0 +1,27 @@
+package com.eduscrum.upt.Ubereats.loadtest;
+
+/**
+ * Requests the load driver can send, labelled by endpoint.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum Operation {
+    BOARD_POLL("GET /api/user-stories/sprint/{id}"),
+    CARD_MOVE("PUT /api/user-stories/{id}/next-status|previous-status"),
+    SPRINT_STATS("GET /api/user-stories/sprint/{id}/stats"),
+    DASHBOARD("GET /api/dashboard/student/{id}"),
+    LOGIN("POST /api/auth/login"),
+    EXPORT("GET /api/export/course/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
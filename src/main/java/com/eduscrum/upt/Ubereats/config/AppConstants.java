@@ -5,7 +5,7 @@ package com.eduscrum.upt.Ubereats.config;
  *
  * @author Joao
  * @author Ana
- * @version 0.3.0
+ * @version 0.8.0 (2026-10-18)
  */
 public final class AppConstants {
 
@@ -21,6 +21,23 @@ public final class AppConstants {
     public static final String ROLE_TEACHER = "TEACHER";
     public static final String ROLE_STUDENT = "STUDENT";
 
+    // Batch lookups
+    public static final int MAX_BATCH_IDS = 100;
+
+    // Leaderboards
+    public static final int MAX_LEADERBOARD_PAGE_SIZE = 100;
+
     // Scheduler
     public static final String CRON_DAILY_MIDNIGHT = "0 0 0 * * ?";
+    public static final String CRON_DAILY_ANALYTICS_COMPACTION = "0 30 2 * * ?";
+    public static final String CRON_DAILY_TOKEN_CLEANUP = "0 15 3 * * ?";
+    public static final String CRON_DAILY_SYNC_TOMBSTONE_CLEANUP = "0 45 3 * * ?";
+    public static final String JOB_SPRINT_AUTO_COMPLETE = "sprint-auto-complete";
+    public static final String JOB_SPRINT_AUTO_START = "sprint-auto-start";
+    public static final String JOB_SPRINT_OVERDUE_CHECK = "sprint-overdue-check";
+    public static final String JOB_ANALYTICS_COMPACTION = "analytics-compaction";
+    public static final String JOB_OUTBOX_RELAY = "outbox-relay";
+    public static final String JOB_TOKEN_CLEANUP = "token-cleanup";
+    public static final String JOB_SYNC_TOMBSTONE_CLEANUP = "sync-tombstone-cleanup";
+    public static final String JOB_STORY_FLOW_BACKFILL = "story-flow-backfill";
 }
@@ -0,0 +1,47 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import com.eduscrum.upt.Ubereats.service.DatasetGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.LocalDate;
+
+/**
+ * Configuration class that fills the database with a synthetic dataset at
+ * startup when the {@code datagen} profile is active, e.g.
+ * {@code ./mvnw spring-boot:run -Dspring-boot.run.profiles=datagen
+ * -Dspring-boot.run.arguments=--app.datagen.scale-factor=10}.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Configuration
+@Profile("datagen")
+public class DatasetGeneratorConfig {
+
+    @Bean
+    public CommandLineRunner generateDataset(DatasetGenerator datasetGenerator,
+            ConfigurableApplicationContext context,
+            @Value("${app.datagen.scale-factor:1}") double scaleFactor,
+            @Value("${app.datagen.seed:42}") long seed,
+            @Value("${app.datagen.prefix:}") String prefix,
+            @Value("${app.datagen.anchor-date:}") String anchorDate,
+            @Value("${app.datagen.password:datagen123}") String password,
+            @Value("${app.datagen.exit-on-finish:true}") boolean exitOnFinish) {
+        return args -> {
+            DatasetGenerator.Options options = new DatasetGenerator.Options(scaleFactor, seed,
+                    prefix.isBlank() ? "ds" + seed : prefix,
+                    anchorDate.isBlank() ? LocalDate.now() : LocalDate.parse(anchorDate), password);
+            datasetGenerator.generate(options);
+            if (exitOnFinish) {
+                System.exit(SpringApplication.exit(context));
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the application's JSON mapper. Registers the
+ * sparse fieldset filter so that response DTOs are written in full whenever
+ * a controller does not select fields through {@link FieldSelection}.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * @return Customizer registering the serialize-all default for {@link FieldSelection#FILTER}
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aspect that times every public service method and every repository call.
+ * Each call is recorded in the {@code app.method} timer, tagged with the
+ * layer, the class or repository interface, the method and the exception
+ * class (or {@code none}).
+ *
+ * <p>
+ * Only calls through the Spring proxy are timed; a service calling one of
+ * its own methods is counted once. Can be switched off with
+ * {@code app.metrics.method-timing.enabled=false}.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.metrics.method-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingAspect {
+
+    static final String METRIC = "app.method";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Class<?>, String> classNames = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new MethodTimingAspect with required dependencies.
+     *
+     * @param meterRegistry Registry for the method timers
+     */
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.eduscrum.upt.Ubereats.service..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service", serviceName(joinPoint.getTarget()));
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository", repositoryName(joinPoint.getThis()));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer, String className) throws Throwable {
+        long started = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder(METRIC)
+                    .description("Duration of service and repository calls")
+                    .tag("layer", layer)
+                    .tag("class", className)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String serviceName(Object target) {
+        return classNames.computeIfAbsent(target.getClass(), type -> AopUtils.getTargetClass(target).getSimpleName());
+    }
+
+    /**
+     * Spring Data repositories are proxies of an interface such as
+     * UserStoryRepository; the tag is that interface, not the generic
+     * implementation class.
+     */
+    private String repositoryName(Object proxy) {
+        return classNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (candidate.getName().startsWith("com.eduscrum.upt.Ubereats.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return AopUtils.getTargetClass(proxy).getSimpleName();
+        });
+    }
+}
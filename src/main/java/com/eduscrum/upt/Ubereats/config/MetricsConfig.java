@@ -0,0 +1,43 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class for per-request SQL metrics and sampled SQL logging.
+ * Wraps the application data source so that {@link SqlStatementRecorder}
+ * sees every statement. Can be switched off with
+ * {@code app.metrics.sql-recording.enabled=false}.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.sql-recording.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    /**
+     * Constructs a new MetricsConfig.
+     *
+     * @param slowStatementMs Statements at least this slow are logged (0 = off)
+     */
+    public MetricsConfig(@Value("${app.logging.sql.slow-ms:0}") long slowStatementMs) {
+        SqlStatementRecorder.setSlowStatementThreshold(slowStatementMs);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? SqlStatementRecorder.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
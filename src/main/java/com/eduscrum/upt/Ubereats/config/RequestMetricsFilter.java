@@ -0,0 +1,168 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Filter that records the SQL work of each HTTP request. Publishes the
+ * statement count ({@code http.server.requests.sql.statements}) and the JDBC
+ * time ({@code http.server.requests.sql.time}) per method and URI pattern, and
+ * logs requests slower than {@code app.metrics.slow-request-ms} together with
+ * their dominant queries.
+ *
+ * <p>
+ * One in {@code app.logging.sql.sample-every} requests is sampled: all of its
+ * statements are logged. Statements run by the outbox relay or scheduled jobs
+ * are outside any request and are not attributed here; work a request hands
+ * to the password hashing pool is.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+    static final String JDBC_TIME_METRIC = "http.server.requests.sql.time";
+    private static final int DOMINANT_QUERIES = 3;
+    private static final int MAX_SQL_LENGTH = 160;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestNanos;
+    private final int sqlSampleEvery;
+    private final AtomicLong requests = new AtomicLong();
+
+    /**
+     * Constructs a new RequestMetricsFilter with required dependencies.
+     *
+     * @param meterRegistry  Registry for the per-request SQL metrics
+     * @param slowRequestMs  Requests at least this slow are logged with their dominant queries
+     * @param sqlSampleEvery One in this many requests logs all its statements (0 = none)
+     */
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+            @Value("${app.metrics.slow-request-ms:1000}") long slowRequestMs,
+            @Value("${app.logging.sql.sample-every:0}") int sqlSampleEvery) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMs);
+        this.sqlSampleEvery = sqlSampleEvery;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        SqlStatementRecorder.start(sqlSampleEvery > 0 && requests.incrementAndGet() % sqlSampleEvery == 0);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementRecorder.Recording recording = SqlStatementRecorder.stop();
+            if (request.isAsyncStarted()) {
+                Map<String, String> logContext = MDC.getCopyOfContextMap();
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        if (logContext != null) {
+                            MDC.setContextMap(logContext);
+                        }
+                        try {
+                            publish(request, recording, started);
+                        } finally {
+                            MDC.clear();
+                        }
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                publish(request, recording, started);
+            }
+        }
+    }
+
+    /**
+     * Publishes the metrics of a finished request. Asynchronous requests are
+     * published when the async processing completes.
+     */
+    private void publish(HttpServletRequest request, SqlStatementRecorder.Recording recording, long started) {
+        long elapsed = System.nanoTime() - started;
+        String uri = uriPattern(request);
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(recording.getStatements());
+        Timer.builder(JDBC_TIME_METRIC)
+                .description("Time spent executing SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(recording.getNanos(), TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowRequestNanos) {
+            logger.warn("Slow request {} {} ({}): {} ms, {} SQL statements, {} ms in JDBC; dominant queries: {}",
+                    request.getMethod(), request.getRequestURI(), uri, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    recording.getStatements(), TimeUnit.NANOSECONDS.toMillis(recording.getNanos()),
+                    describe(recording));
+        }
+    }
+
+    private String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private String describe(SqlStatementRecorder.Recording recording) {
+        if (recording.getStatements() == 0) {
+            return "none";
+        }
+        return recording.dominantQueries(DOMINANT_QUERIES).stream()
+                .map(query -> String.format(Locale.ROOT, "[%dx, %.1f ms] %s", query.getCount(),
+                        query.getNanos() / 1e6, abbreviate(query.getSql())))
+                .collect(Collectors.joining("; "));
+    }
+
+    private String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() <= MAX_SQL_LENGTH ? compact : compact.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
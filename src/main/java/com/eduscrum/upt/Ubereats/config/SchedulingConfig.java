@@ -0,0 +1,57 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import com.eduscrum.upt.Ubereats.service.SchedulerService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration class that enables scheduled tasks, such as the outbox relay
+ * and the token revocation sync. The daily jobs of SchedulerService are
+ * triggered by {@link SchedulerJobs} and can be switched off with
+ * {@code app.scheduling.enabled=false}, e.g. in tests that run them directly.
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.2.0 (2026-10-18)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Cron triggers of the SchedulerService jobs.
+     */
+    @Component
+    @ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+    static class SchedulerJobs {
+
+        private final SchedulerService schedulerService;
+
+        SchedulerJobs(SchedulerService schedulerService) {
+            this.schedulerService = schedulerService;
+        }
+
+        @Scheduled(cron = AppConstants.CRON_DAILY_MIDNIGHT)
+        void runSprintLifecycle() {
+            schedulerService.runSprintLifecycle();
+        }
+
+        @Scheduled(cron = AppConstants.CRON_DAILY_ANALYTICS_COMPACTION)
+        void compactCompletedSprintAnalytics() {
+            schedulerService.compactCompletedSprintAnalytics();
+        }
+
+        @Scheduled(cron = AppConstants.CRON_DAILY_TOKEN_CLEANUP)
+        void purgeExpiredTokens() {
+            schedulerService.purgeExpiredTokens();
+        }
+
+        @Scheduled(cron = AppConstants.CRON_DAILY_SYNC_TOMBSTONE_CLEANUP)
+        void purgeExpiredSyncTombstones() {
+            schedulerService.purgeExpiredSyncTombstones();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the SQL statements a thread executes while a recording is open.
+ * The application {@link DataSource} is wrapped so that every statement,
+ * whether issued by Hibernate or by a JdbcTemplate, reports its SQL and
+ * execution time here. Outside a recording the wrapper only delegates.
+ *
+ * <p>
+ * Recordings are opened per HTTP request by {@link RequestMetricsFilter}.
+ * SQL is logged on the {@code com.eduscrum.upt.Ubereats.sql} logger instead
+ * of all-or-nothing Hibernate output: any statement slower than the slow
+ * threshold, on any thread, and every statement of a sampled recording.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+public final class SqlStatementRecorder {
+
+    /** Distinct statements tracked per recording; later ones are counted under {@link #OTHER_SQL}. */
+    static final int MAX_DISTINCT_STATEMENTS = 200;
+    static final String OTHER_SQL = "(other statements)";
+
+    private static final Logger sqlLogger = LoggerFactory.getLogger("com.eduscrum.upt.Ubereats.sql");
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    private static volatile long slowStatementNanos = Long.MAX_VALUE;
+
+    private SqlStatementRecorder() {
+    }
+
+    /**
+     * Opens a recording on the current thread, replacing any open one.
+     */
+    public static void start() {
+        start(false);
+    }
+
+    /**
+     * Opens a recording on the current thread, replacing any open one.
+     *
+     * @param logStatements Whether every statement of the recording is logged
+     */
+    public static void start(boolean logStatements) {
+        CURRENT.set(new Recording(logStatements));
+    }
+
+    /**
+     * Sets the duration from which statements are logged, recording or not.
+     *
+     * @param millis Threshold in milliseconds; 0 or less disables slow statement logging
+     */
+    public static void setSlowStatementThreshold(long millis) {
+        slowStatementNanos = millis > 0 ? TimeUnit.MILLISECONDS.toNanos(millis) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Closes the recording of the current thread.
+     *
+     * @return The recording, or an empty one if none was open
+     */
+    public static Recording stop() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording != null ? recording : new Recording(false);
+    }
+
+    /**
+     * @return The recording open on the current thread, or null
+     */
+    public static Recording current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Continues a recording on the current thread, for work a request hands
+     * to another thread while it waits.
+     *
+     * @param recording The recording, or null to stop recording on this thread
+     */
+    public static void resume(Recording recording) {
+        if (recording == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(recording);
+        }
+    }
+
+    static void record(String sql, long nanos) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(sql, nanos);
+        }
+        boolean slow = nanos >= slowStatementNanos;
+        if (slow || recording != null && recording.logStatements) {
+            sqlLogger.info("SQL [{}] {} ms: {}", slow ? "slow" : "sampled",
+                    String.format(Locale.ROOT, "%.1f", nanos / 1e6), sql.replaceAll("\\s+", " ").trim());
+        }
+    }
+
+    static boolean isRecording() {
+        return CURRENT.get() != null;
+    }
+
+    private static boolean isTiming() {
+        return CURRENT.get() != null || slowStatementNanos != Long.MAX_VALUE;
+    }
+
+    /**
+     * Wraps a data source so that its statements are recorded.
+     *
+     * @param dataSource The data source to wrap
+     * @return The recording data source
+     */
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? proxy(Connection.class, connection,
+                    SqlStatementRecorder::onConnection) : result;
+        });
+    }
+
+    private static Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        String name = method.getName();
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement, statementHandler((String) args[0]));
+        }
+        if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+            return proxy(PreparedStatement.class, statement, statementHandler((String) args[0]));
+        }
+        if (result instanceof Statement statement && name.equals("createStatement")) {
+            return proxy(Statement.class, statement, statementHandler(null));
+        }
+        return result;
+    }
+
+    /**
+     * Times the execute methods of a statement while a recording is open or
+     * slow statements are logged. Plain statements pass their SQL to execute;
+     * batches of plain statements are labelled as such.
+     */
+    private static Handler statementHandler(String preparedSql) {
+        return (target, method, args) -> {
+            if (!method.getName().startsWith("execute") || !isTiming()) {
+                return invoke(target, method, args);
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : "(batch)";
+            long started = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } finally {
+                record(sql, System.nanoTime() - started);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("unwrap") && args != null && args[0] instanceof Class<?> iface
+                    && iface.isInstance(target)) {
+                return target;
+            }
+            return handler.handle(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(SqlStatementRecorder.class.getClassLoader(), new Class<?>[] { type },
+                invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Statements executed during one recording, aggregated by SQL text.
+     */
+    public static final class Recording {
+        private final Map<String, QueryStats> queries = new HashMap<>();
+        private final boolean logStatements;
+        private int statements;
+        private long nanos;
+
+        private Recording(boolean logStatements) {
+            this.logStatements = logStatements;
+        }
+
+        private synchronized void add(String sql, long elapsed) {
+            statements++;
+            nanos += elapsed;
+            String key = queries.containsKey(sql) || queries.size() < MAX_DISTINCT_STATEMENTS ? sql : OTHER_SQL;
+            queries.computeIfAbsent(key, QueryStats::new).add(elapsed);
+        }
+
+        /**
+         * @return Number of statements executed
+         */
+        public synchronized int getStatements() {
+            return statements;
+        }
+
+        /**
+         * @return Total time spent executing statements, in nanoseconds
+         */
+        public synchronized long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the statements that took the most time in total.
+         *
+         * @param limit Maximum number of statements to return
+         * @return Statements by descending total time
+         */
+        public synchronized List<QueryStats> dominantQueries(int limit) {
+            List<QueryStats> sorted = new ArrayList<>(queries.values());
+            sorted.sort(Comparator.comparingLong(QueryStats::getNanos).reversed());
+            return sorted.subList(0, Math.min(limit, sorted.size()));
+        }
+    }
+
+    /**
+     * Executions of one SQL statement within a recording.
+     */
+    public static final class QueryStats {
+        private final String sql;
+        private int count;
+        private long nanos;
+
+        private QueryStats(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(long elapsed) {
+            count++;
+            nanos += elapsed;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
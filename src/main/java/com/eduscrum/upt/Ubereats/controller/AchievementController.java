@@ -1,10 +1,12 @@
 package com.eduscrum.upt.Ubereats.controller;
 
 import com.eduscrum.upt.Ubereats.dto.request.AchievementRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.response.AchievementResponseDTO;
 import com.eduscrum.upt.Ubereats.service.AchievementService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,7 +20,7 @@ import java.util.Map;
  *
  * @author Joao
  * @author Ana
- * @version 0.6.1
+ * @version 0.7.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/achievements")
@@ -58,13 +60,15 @@ public class AchievementController {
     /**
      * Retrieves all achievements in the system.
      *
+     * @param fields Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of all achievements
      */
     @GetMapping
     @PreAuthorize("hasAuthority('ROLE_TEACHER')")
-    public ResponseEntity<List<AchievementResponseDTO>> getAllAchievements() {
-        List<AchievementResponseDTO> achievements = achievementService.getAllAchievements();
-        return ResponseEntity.ok(achievements);
+    public ResponseEntity<MappingJacksonValue> getAllAchievements(@RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, AchievementResponseDTO.class);
+        List<AchievementResponseDTO> achievements = achievementService.getAllAchievements(selection);
+        return ResponseEntity.ok(selection.wrap(achievements));
     }
 
     /**
@@ -91,39 +95,48 @@ public class AchievementController {
      * Retrieves all achievements for a specific user.
      *
      * @param userId The ID of the user
+     * @param fields Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of user achievements
      */
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasAuthority('ROLE_TEACHER') or #userId.toString() == authentication.principal.id.toString()")
-    public ResponseEntity<List<AchievementResponseDTO>> getUserAchievements(@PathVariable Long userId) {
-        List<AchievementResponseDTO> achievements = achievementService.getUserAchievements(userId);
-        return ResponseEntity.ok(achievements);
+    public ResponseEntity<MappingJacksonValue> getUserAchievements(@PathVariable Long userId,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, AchievementResponseDTO.class);
+        List<AchievementResponseDTO> achievements = achievementService.getUserAchievements(userId, selection);
+        return ResponseEntity.ok(selection.wrap(achievements));
     }
 
     /**
      * Retrieves all achievements for a specific team.
      *
      * @param teamId The ID of the team
+     * @param fields Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of team achievements
      */
     @GetMapping("/team/{teamId}")
     @PreAuthorize("hasAuthority('ROLE_TEACHER')")
-    public ResponseEntity<List<AchievementResponseDTO>> getTeamAchievements(@PathVariable Long teamId) {
-        List<AchievementResponseDTO> achievements = achievementService.getTeamAchievements(teamId);
-        return ResponseEntity.ok(achievements);
+    public ResponseEntity<MappingJacksonValue> getTeamAchievements(@PathVariable Long teamId,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, AchievementResponseDTO.class);
+        List<AchievementResponseDTO> achievements = achievementService.getTeamAchievements(teamId, selection);
+        return ResponseEntity.ok(selection.wrap(achievements));
     }
 
     /**
      * Retrieves all achievements for a specific project.
      *
      * @param projectId The ID of the project
+     * @param fields    Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of project achievements
      */
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAuthority('ROLE_TEACHER')")
-    public ResponseEntity<List<AchievementResponseDTO>> getProjectAchievements(@PathVariable Long projectId) {
-        List<AchievementResponseDTO> achievements = achievementService.getProjectAchievements(projectId);
-        return ResponseEntity.ok(achievements);
+    public ResponseEntity<MappingJacksonValue> getProjectAchievements(@PathVariable Long projectId,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, AchievementResponseDTO.class);
+        List<AchievementResponseDTO> achievements = achievementService.getProjectAchievements(projectId, selection);
+        return ResponseEntity.ok(selection.wrap(achievements));
     }
 
     /**
@@ -2,13 +2,21 @@ package com.eduscrum.upt.Ubereats.controller;
 
 import com.eduscrum.upt.Ubereats.dto.request.AnalyticsRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.response.AnalyticsResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.SprintFlowResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.SprintRollupResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.WeeklyRollupResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.enums.RollupScope;
+import com.eduscrum.upt.Ubereats.service.AnalyticsRollupService;
 import com.eduscrum.upt.Ubereats.service.AnalyticsService;
 import com.eduscrum.upt.Ubereats.service.SprintService;
+import com.eduscrum.upt.Ubereats.service.StoryFlowService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -26,16 +34,23 @@ public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
     private final SprintService sprintService;
+    private final StoryFlowService storyFlowService;
+    private final AnalyticsRollupService analyticsRollupService;
 
     /**
      * Constructs a new AnalyticsController with required dependencies.
      *
-     * @param analyticsService Service for analytics operations
-     * @param sprintService    Service for sprint operations
+     * @param analyticsService       Service for analytics operations
+     * @param sprintService          Service for sprint operations
+     * @param storyFlowService       Service for sprint flow series
+     * @param analyticsRollupService Service for analytics rollups
      */
-    public AnalyticsController(AnalyticsService analyticsService, SprintService sprintService) {
+    public AnalyticsController(AnalyticsService analyticsService, SprintService sprintService,
+            StoryFlowService storyFlowService, AnalyticsRollupService analyticsRollupService) {
         this.analyticsService = analyticsService;
         this.sprintService = sprintService;
+        this.storyFlowService = storyFlowService;
+        this.analyticsRollupService = analyticsRollupService;
     }
 
     /**
@@ -88,4 +103,72 @@ public class AnalyticsController {
     public ResponseEntity<Object> getProjectBurndown(@PathVariable Long projectId) {
         return ResponseEntity.ok(sprintService.getProjectBurndown(projectId));
     }
+
+    /**
+     * Gets the burndown, burnup and cumulative flow series of a sprint.
+     *
+     * @param sprintId The ID of the sprint
+     * @param teamId   The ID of the team (optional, whole sprint if omitted)
+     * @return ResponseEntity containing the flow series
+     */
+    @GetMapping("/sprint/{sprintId}/flow")
+    public ResponseEntity<SprintFlowResponseDTO> getSprintFlow(
+            @PathVariable Long sprintId,
+            @RequestParam(required = false) Long teamId) {
+        return ResponseEntity.ok(storyFlowService.getSprintFlow(sprintId, teamId));
+    }
+
+    /**
+     * Gets the pre-aggregated sprint rollups of a project.
+     *
+     * @param projectId The ID of the project
+     * @return ResponseEntity containing one rollup per sprint
+     */
+    @GetMapping("/project/{projectId}/rollups/sprints")
+    public ResponseEntity<List<SprintRollupResponseDTO>> getProjectSprintRollups(@PathVariable Long projectId) {
+        return ResponseEntity.ok(analyticsRollupService.getSprintRollupsByProject(projectId));
+    }
+
+    /**
+     * Gets the pre-aggregated weekly rollups of a project.
+     *
+     * @param projectId The ID of the project
+     * @param from      The first day of the range (optional)
+     * @param to        The last day of the range (optional)
+     * @return ResponseEntity containing one rollup per week
+     */
+    @GetMapping("/project/{projectId}/rollups/weekly")
+    public ResponseEntity<List<WeeklyRollupResponseDTO>> getProjectWeeklyRollups(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsRollupService.getWeeklyRollups(RollupScope.PROJECT, projectId, from, to));
+    }
+
+    /**
+     * Gets the pre-aggregated sprint rollups of every project in a course.
+     *
+     * @param courseId The ID of the course
+     * @return ResponseEntity containing one rollup per sprint
+     */
+    @GetMapping("/course/{courseId}/rollups/sprints")
+    public ResponseEntity<List<SprintRollupResponseDTO>> getCourseSprintRollups(@PathVariable Long courseId) {
+        return ResponseEntity.ok(analyticsRollupService.getSprintRollupsByCourse(courseId));
+    }
+
+    /**
+     * Gets the pre-aggregated weekly rollups of a course.
+     *
+     * @param courseId The ID of the course
+     * @param from     The first day of the range (optional)
+     * @param to       The last day of the range (optional)
+     * @return ResponseEntity containing one rollup per week
+     */
+    @GetMapping("/course/{courseId}/rollups/weekly")
+    public ResponseEntity<List<WeeklyRollupResponseDTO>> getCourseWeeklyRollups(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsRollupService.getWeeklyRollups(RollupScope.COURSE, courseId, from, to));
+    }
 }
@@ -1,31 +1,47 @@
 package com.eduscrum.upt.Ubereats.controller;
 
 import com.eduscrum.upt.Ubereats.dto.request.LoginRequest;
+import com.eduscrum.upt.Ubereats.dto.request.RefreshTokenRequest;
 import com.eduscrum.upt.Ubereats.dto.request.RegisterRequest;
 import com.eduscrum.upt.Ubereats.dto.response.LoginResponse;
 import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.exception.ServiceOverloadedException;
 import com.eduscrum.upt.Ubereats.security.CustomUserDetails;
 import com.eduscrum.upt.Ubereats.security.JwtTokenProvider;
+import com.eduscrum.upt.Ubereats.security.LoginRateLimiter;
+import com.eduscrum.upt.Ubereats.security.TokenRevocationService;
+import com.eduscrum.upt.Ubereats.service.PasswordHashingService;
+import com.eduscrum.upt.Ubereats.service.RefreshTokenService;
 import com.eduscrum.upt.Ubereats.service.UserService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * REST controller for authentication operations.
- * Provides endpoints for login, registration, and current user retrieval.
+ * Provides endpoints for login, token refresh, logout, registration, and
+ * current user retrieval.
  *
  * @author Joao
  * @author Ana
- * @version 0.9.1
+ * @version 0.12.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -35,67 +51,165 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final Executor taskExecutor;
 
     /**
      * Constructs a new AuthController with required dependencies.
      *
-     * @param authenticationManager Manager for authentication operations
-     * @param tokenProvider         Provider for JWT token generation
-     * @param userService           Service for user operations
+     * @param authenticationManager  Manager for authentication operations
+     * @param tokenProvider          Provider for JWT token generation
+     * @param userService            Service for user operations
+     * @param passwordHashingService Bounded pool for password verification
+     * @param loginRateLimiter       Rate limiter for login attempts
+     * @param refreshTokenService    Service for refresh token operations
+     * @param tokenRevocationService Service for access token revocation
+     * @param taskExecutor           Executor finishing logins off the hashing pool
      */
     public AuthController(AuthenticationManager authenticationManager,
             JwtTokenProvider tokenProvider,
-            UserService userService) {
+            UserService userService,
+            PasswordHashingService passwordHashingService,
+            LoginRateLimiter loginRateLimiter,
+            RefreshTokenService refreshTokenService,
+            TokenRevocationService tokenRevocationService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor) {
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
         this.userService = userService;
+        this.passwordHashingService = passwordHashingService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.taskExecutor = taskExecutor;
     }
 
     /**
-     * Authenticates a user and returns a JWT token.
+     * Authenticates a user and returns a short-lived JWT access token together
+     * with a refresh token.
+     * Password verification runs on the bounded hashing pool, so the servlet
+     * thread is released while BCrypt works; the user lookup and refresh token
+     * insert then run on the application task executor, so the pool only
+     * does hashing. Attempts are rate limited per account (429), and rejected
+     * with 503 when the pool is saturated.
      *
      * @param loginRequest The request containing login credentials (email or
      *                     username)
-     * @return ResponseEntity containing the login response with JWT token
+     * @return Future of the ResponseEntity containing the login response with
+     *         JWT token
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getEmail(),
-                            loginRequest.getPassword()));
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest) {
+        if (!loginRateLimiter.tryAcquireAccount(loginRequest.getEmail())) {
+            return CompletableFuture.completedFuture(errorResponse(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many login attempts, please retry later.", loginRateLimiter.getAccountRetryAfterSeconds()));
+        }
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            String jwt = tokenProvider.generateToken(authentication);
+        return passwordHashingService.submit(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())))
+                .thenApplyAsync(this::buildLoginResponse, taskExecutor)
+                .exceptionally(this::loginFailure);
+    }
 
-            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+    private ResponseEntity<?> buildLoginResponse(Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-            // Try to find user by email first, then by username
-            User user = userService.findByEmail(userDetails.getUsername())
-                    .orElseGet(() -> userService.findByUsername(userDetails.getUsername())
-                            .orElseThrow(() -> new RuntimeException(
-                                    "User data not found after successful authentication.")));
+        // Try to find user by email first, then by username
+        User user = userService.findByEmail(userDetails.getUsername())
+                .orElseGet(() -> userService.findByUsername(userDetails.getUsername())
+                        .orElseThrow(() -> new RuntimeException(
+                                "User data not found after successful authentication.")));
 
-            LoginResponse loginResponse = new LoginResponse(
-                    jwt,
-                    user.getId(),
-                    user.getUsername(),
-                    user.getEmail(),
-                    user.getRole(),
-                    user.getFullName());
+        return ResponseEntity.ok(tokenResponse(user, refreshTokenService.issue(user)));
+    }
 
-            return ResponseEntity.ok(loginResponse);
+    private LoginResponse tokenResponse(User user, String refreshToken) {
+        return new LoginResponse(
+                tokenProvider.generateToken(CustomUserDetails.build(user)),
+                refreshToken,
+                tokenProvider.getAccessTokenValiditySeconds(),
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getRole(),
+                user.getFullName());
+    }
 
-        } catch (BadCredentialsException e) {
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "Invalid email/username or password.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-        } catch (Exception e) {
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "Login failed: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    private ResponseEntity<?> loginFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof BadCredentialsException) {
+            loginRateLimiter.recordRejection("bad_credentials");
+            return errorResponse(HttpStatus.UNAUTHORIZED, "Invalid email/username or password.", null);
         }
+        if (cause instanceof DisabledException) {
+            loginRateLimiter.recordRejection("disabled");
+            return errorResponse(HttpStatus.FORBIDDEN, "Account is deactivated.", null);
+        }
+        if (cause instanceof ServiceOverloadedException overloaded) {
+            return errorResponse(HttpStatus.SERVICE_UNAVAILABLE, overloaded.getMessage(),
+                    overloaded.getRetryAfterSeconds());
+        }
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Login failed: " + cause.getMessage(), null);
+    }
+
+    private ResponseEntity<?> errorResponse(HttpStatus status, String message, Long retryAfterSeconds) {
+        Map<String, String> response = new HashMap<>();
+        response.put("message", message);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (retryAfterSeconds != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        }
+        return builder.body(response);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh
+     * token. The presented refresh token cannot be used again.
+     *
+     * @param request The request containing the refresh token
+     * @return ResponseEntity containing the new tokens, or 401/403 if the
+     *         refresh token is not accepted
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenRequest request) {
+        try {
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+            return ResponseEntity.ok(tokenResponse(rotation.user(), rotation.refreshToken()));
+        } catch (DisabledException e) {
+            return errorResponse(HttpStatus.FORBIDDEN, "Account is deactivated.", null);
+        } catch (AuthenticationException e) {
+            return errorResponse(HttpStatus.UNAUTHORIZED, e.getMessage(), null);
+        }
+    }
+
+    /**
+     * Logs out: revokes the presented access token on every node and the
+     * family of the given refresh token.
+     *
+     * @param authorization The Authorization header with the access token
+     * @param request       The request containing the refresh token (optional)
+     * @return ResponseEntity with success message
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        if (StringUtils.hasText(authorization) && authorization.startsWith("Bearer ")) {
+            tokenProvider.parseClaims(authorization.substring(7))
+                    .filter(claims -> claims.getId() != null)
+                    .ifPresent(claims -> tokenRevocationService.revokeToken(claims.getId(),
+                            claims.getExpiration().toInstant()));
+        }
+        if (request != null && StringUtils.hasText(request.getRefreshToken())) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Logged out successfully");
+        return ResponseEntity.ok(response);
     }
 
     /**
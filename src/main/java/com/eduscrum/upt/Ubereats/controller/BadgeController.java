@@ -2,6 +2,7 @@ package com.eduscrum.upt.Ubereats.controller;
 
 import com.eduscrum.upt.Ubereats.dto.request.BadgeRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.response.BadgeResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.enums.BadgeType;
 import com.eduscrum.upt.Ubereats.entity.enums.RecipientType;
 import com.eduscrum.upt.Ubereats.service.BadgeService;
@@ -20,7 +21,7 @@ import java.util.Map;
  *
  * @author Joao
  * @author Ana
- * @version 1.0.1
+ * @version 1.1.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/badges")
@@ -80,6 +81,19 @@ public class BadgeController {
         return ResponseEntity.ok(badges);
     }
 
+    /**
+     * Retrieves several badges by ID with a single query, e.g. to resolve the
+     * IDs of a list response.
+     *
+     * @param ids Comma-separated badge IDs, at most 100
+     * @return ResponseEntity containing the badges in request order and the IDs not found
+     */
+    @GetMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BatchResponseDTO<BadgeResponseDTO>> getBadgesByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(badgeService.getBadgesByIds(ids));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getBadgeById(@PathVariable Long id) {
@@ -0,0 +1,74 @@
+package com.eduscrum.upt.Ubereats.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Answers conditional GET requests from the aggregate ETags.
+ * The response is only built when the client's {@code If-None-Match} does not
+ * match the current ETag; otherwise a bodiless 304 is returned. Responses are
+ * marked {@code no-cache}, so clients revalidate on every use.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+final class ConditionalResponses {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Returns 304 if the request's ETags match the current one, otherwise
+     * builds the response and tags it.
+     *
+     * @param ifNoneMatch The request's If-None-Match header, may be null
+     * @param eTag        The current ETag, empty if the aggregate does not exist
+     * @param response    Builds the full response
+     * @param <T>         The response body type
+     * @return The 304 or the tagged response
+     */
+    static <T> ResponseEntity<T> ifNoneMatch(String ifNoneMatch, Optional<String> eTag,
+            Supplier<ResponseEntity<T>> response) {
+        if (eTag.isEmpty()) {
+            return response.get();
+        }
+        String current = eTag.get();
+        if (matches(ifNoneMatch, current)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(current)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        ResponseEntity<T> full = response.get();
+        if (!full.getStatusCode().is2xxSuccessful()) {
+            return full;
+        }
+        return ResponseEntity.status(full.getStatusCode())
+                .headers(full.getHeaders())
+                .eTag(current)
+                .cacheControl(REVALIDATE)
+                .body(full.getBody());
+    }
+
+    // If-None-Match uses the weak comparison (RFC 9110, section 13.1.2)
+    private static boolean matches(String ifNoneMatch, String current) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        ETag currentTag = ETag.create(current);
+        for (ETag tag : ETag.parse(ifNoneMatch)) {
+            if (tag.isWildcard() || tag.compare(currentTag, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
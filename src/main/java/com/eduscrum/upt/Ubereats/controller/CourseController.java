@@ -3,23 +3,31 @@ package com.eduscrum.upt.Ubereats.controller;
 import com.eduscrum.upt.Ubereats.dto.request.CreateCourseRequest;
 import com.eduscrum.upt.Ubereats.dto.request.UpdateCourseRequest;
 import com.eduscrum.upt.Ubereats.dto.response.CourseResponse;
+import com.eduscrum.upt.Ubereats.dto.response.StudentImportReportDTO;
+import com.eduscrum.upt.Ubereats.service.AggregateVersionService;
 import com.eduscrum.upt.Ubereats.service.CourseService;
+import com.eduscrum.upt.Ubereats.service.StudentImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
  * REST controller for managing courses in the EduScrum platform.
- * Provides endpoints for course CRUD operations and teacher management.
+ * Provides endpoints for course CRUD operations, teacher management and
+ * bulk student import.
  *
  * @author Joao
  * @author Ana
- * @version 1.1.0
+ * @version 1.3.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/courses")
@@ -27,14 +35,21 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final StudentImportService studentImportService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new CourseController with required dependencies.
      *
-     * @param courseService Service for course operations
+     * @param courseService           Service for course operations
+     * @param studentImportService    Service for bulk student import
+     * @param aggregateVersionService Service for the ETag version counters
      */
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, StudentImportService studentImportService,
+            AggregateVersionService aggregateVersionService) {
         this.courseService = courseService;
+        this.studentImportService = studentImportService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
@@ -82,16 +97,18 @@ public class CourseController {
     }
 
     /**
-     * Gets a course by its ID.
+     * Gets a course by its ID, or 304 if the client's copy is current.
      *
-     * @param courseId The ID of the course
+     * @param courseId    The ID of the course
+     * @param ifNoneMatch The ETags the client holds (optional)
      * @return ResponseEntity containing the course
      */
     @GetMapping("/{courseId}")
     @PreAuthorize("hasRole('TEACHER') or @courseService.isStudentEnrolled(#courseId, authentication.name)")
-    public ResponseEntity<CourseResponse> getCourse(@PathVariable Long courseId) {
-        CourseResponse course = courseService.getCourseById(courseId);
-        return ResponseEntity.ok(course);
+    public ResponseEntity<CourseResponse> getCourse(@PathVariable Long courseId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, aggregateVersionService.courseETag(courseId),
+                () -> ResponseEntity.ok(courseService.getCourseById(courseId)));
     }
 
     /**
@@ -136,4 +153,37 @@ public class CourseController {
         List<CourseResponse> courses = courseService.searchCourses(q);
         return ResponseEntity.ok(courses);
     }
+
+    /**
+     * Registers and enrolls students in a course from a CSV file with the
+     * columns username, email, password, firstName and lastName.
+     *
+     * @param courseId The ID of the course
+     * @param dryRun   true to only validate and report
+     * @param request  The request whose body is the CSV file
+     * @return ResponseEntity containing the per-row import report
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/{courseId}/students/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('TEACHER') and @courseService.isCourseTeacher(#courseId, authentication.name)")
+    public ResponseEntity<StudentImportReportDTO> importStudentsCsv(@PathVariable Long courseId,
+            @RequestParam(defaultValue = "false") boolean dryRun, HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(studentImportService.importCsv(courseId, request.getInputStream(), dryRun));
+    }
+
+    /**
+     * Registers and enrolls students in a course from a JSON array.
+     *
+     * @param courseId The ID of the course
+     * @param dryRun   true to only validate and report
+     * @param request  The request whose body is the JSON array
+     * @return ResponseEntity containing the per-row import report
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/{courseId}/students/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('TEACHER') and @courseService.isCourseTeacher(#courseId, authentication.name)")
+    public ResponseEntity<StudentImportReportDTO> importStudentsJson(@PathVariable Long courseId,
+            @RequestParam(defaultValue = "false") boolean dryRun, HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(studentImportService.importJson(courseId, request.getInputStream(), dryRun));
+    }
 }
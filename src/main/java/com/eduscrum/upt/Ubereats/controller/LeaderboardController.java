@@ -0,0 +1,98 @@
+package com.eduscrum.upt.Ubereats.controller;
+
+import com.eduscrum.upt.Ubereats.dto.response.LeaderboardPageDTO;
+import com.eduscrum.upt.Ubereats.service.LeaderboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the course leaderboards of students and teams.
+ * Pages and ranks are served from in-memory rankings.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@RestController
+@RequestMapping("/api/courses/{courseId}/leaderboard")
+@CrossOrigin(origins = "*")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Constructs a new LeaderboardController with required dependencies.
+     *
+     * @param leaderboardService Service for the course leaderboards
+     */
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Gets a page of the course's students in ranking order; the first page
+     * is the top N.
+     *
+     * @param courseId The ID of the course
+     * @param offset   The 0-based position of the first entry
+     * @param limit    Maximum number of entries, at most 100
+     * @return ResponseEntity containing the page
+     */
+    @GetMapping("/students")
+    @PreAuthorize("hasRole('TEACHER') or @courseService.isStudentEnrolled(#courseId, authentication.name)")
+    public ResponseEntity<LeaderboardPageDTO> getStudentPage(@PathVariable Long courseId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getStudentPage(courseId, offset, limit));
+    }
+
+    /**
+     * Gets a student's rank in the course with the students ranked around them.
+     *
+     * @param courseId   The ID of the course
+     * @param userId     The ID of the student
+     * @param neighbours Entries to include above and below, at most 50
+     * @return ResponseEntity containing the neighbourhood
+     */
+    @GetMapping("/students/{userId}")
+    @PreAuthorize("hasRole('TEACHER') or @courseService.isStudentEnrolled(#courseId, authentication.name)")
+    public ResponseEntity<LeaderboardPageDTO> getStudentNeighbourhood(@PathVariable Long courseId,
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "2") int neighbours) {
+        return ResponseEntity.ok(leaderboardService.getStudentNeighbourhood(courseId, userId, neighbours));
+    }
+
+    /**
+     * Gets a page of the course's teams in ranking order; the first page is
+     * the top N.
+     *
+     * @param courseId The ID of the course
+     * @param offset   The 0-based position of the first entry
+     * @param limit    Maximum number of entries, at most 100
+     * @return ResponseEntity containing the page
+     */
+    @GetMapping("/teams")
+    @PreAuthorize("hasRole('TEACHER') or @courseService.isStudentEnrolled(#courseId, authentication.name)")
+    public ResponseEntity<LeaderboardPageDTO> getTeamPage(@PathVariable Long courseId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTeamPage(courseId, offset, limit));
+    }
+
+    /**
+     * Gets a team's rank in the course with the teams ranked around it.
+     *
+     * @param courseId   The ID of the course
+     * @param teamId     The ID of the team
+     * @param neighbours Entries to include above and below, at most 50
+     * @return ResponseEntity containing the neighbourhood
+     */
+    @GetMapping("/teams/{teamId}")
+    @PreAuthorize("hasRole('TEACHER') or @courseService.isStudentEnrolled(#courseId, authentication.name)")
+    public ResponseEntity<LeaderboardPageDTO> getTeamNeighbourhood(@PathVariable Long courseId,
+            @PathVariable Long teamId,
+            @RequestParam(defaultValue = "2") int neighbours) {
+        return ResponseEntity.ok(leaderboardService.getTeamNeighbourhood(courseId, teamId, neighbours));
+    }
+}
@@ -3,8 +3,10 @@ package com.eduscrum.upt.Ubereats.controller;
 import com.eduscrum.upt.Ubereats.dto.request.CreateProjectRequest;
 import com.eduscrum.upt.Ubereats.dto.request.UpdateProjectRequest;
 import com.eduscrum.upt.Ubereats.dto.response.ProjectResponse;
+import com.eduscrum.upt.Ubereats.service.AggregateVersionService;
 import com.eduscrum.upt.Ubereats.service.ProjectService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,7 +19,7 @@ import java.util.List;
  *
  * @author Joao
  * @author Ana
- * @version 0.5.0
+ * @version 0.6.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/projects")
@@ -25,14 +27,17 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new ProjectController with required dependencies.
      *
-     * @param projectService Service for project operations
+     * @param projectService          Service for project operations
+     * @param aggregateVersionService Service for the ETag version counters
      */
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, AggregateVersionService aggregateVersionService) {
         this.projectService = projectService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
@@ -65,15 +70,17 @@ public class ProjectController {
     }
 
     /**
-     * Gets a project by its ID.
+     * Gets a project by its ID, or 304 if the client's copy is current.
      *
-     * @param id The ID of the project
+     * @param id          The ID of the project
+     * @param ifNoneMatch The ETags the client holds (optional)
      * @return ResponseEntity containing the project
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getById(@PathVariable Long id) {
-        ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectResponse> getById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, aggregateVersionService.projectETag(id),
+                () -> ResponseEntity.ok(projectService.getProjectById(id)));
     }
 
     /**
@@ -1,12 +1,19 @@
 package com.eduscrum.upt.Ubereats.controller;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.request.SprintRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.SprintBoardResponseDTO;
 import com.eduscrum.upt.Ubereats.dto.response.SprintResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.enums.SprintStatus;
+import com.eduscrum.upt.Ubereats.service.AggregateVersionService;
+import com.eduscrum.upt.Ubereats.service.SprintBoardService;
 import com.eduscrum.upt.Ubereats.service.SprintService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -18,7 +25,7 @@ import java.util.List;
  *
  * @author Joao
  * @author Ana
- * @version 0.6.1
+ * @version 0.10.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/sprints")
@@ -26,14 +33,21 @@ import java.util.List;
 public class SprintController {
 
     private final SprintService sprintService;
+    private final SprintBoardService sprintBoardService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new SprintController with required dependencies.
      *
-     * @param sprintService Service for sprint operations
+     * @param sprintService           Service for sprint operations
+     * @param sprintBoardService      Service for the sprint board read model
+     * @param aggregateVersionService Service for the ETag version counters
      */
-    public SprintController(SprintService sprintService) {
+    public SprintController(SprintService sprintService, SprintBoardService sprintBoardService,
+            AggregateVersionService aggregateVersionService) {
         this.sprintService = sprintService;
+        this.sprintBoardService = sprintBoardService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
@@ -51,48 +65,86 @@ public class SprintController {
     /**
      * Retrieves all sprints.
      *
+     * @param fields Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of all sprints
      */
     @GetMapping
-    public ResponseEntity<List<SprintResponseDTO>> getAllSprints() {
-        List<SprintResponseDTO> sprints = sprintService.getAllSprints();
-        return ResponseEntity.ok(sprints);
+    public ResponseEntity<MappingJacksonValue> getAllSprints(@RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, SprintResponseDTO.class);
+        List<SprintResponseDTO> sprints = sprintService.getAllSprints(selection);
+        return ResponseEntity.ok(selection.wrap(sprints));
     }
 
     /**
-     * Retrieves a sprint by its ID.
+     * Retrieves several sprints by ID with a single query, e.g. to resolve the
+     * IDs of a list response.
      *
-     * @param id The ID of the sprint
+     * @param ids Comma-separated sprint IDs, at most 100
+     * @return ResponseEntity containing the sprints in request order and the IDs not found
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchResponseDTO<SprintResponseDTO>> getSprintsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(sprintService.getSprintsByIds(ids));
+    }
+
+    /**
+     * Retrieves a sprint by its ID, or 304 if the client's copy is current.
+     *
+     * @param id          The ID of the sprint
+     * @param ifNoneMatch The ETags the client holds (optional)
      * @return ResponseEntity containing the sprint
      */
     @GetMapping("/{id}")
-    public ResponseEntity<SprintResponseDTO> getSprintById(@PathVariable Long id) {
-        SprintResponseDTO sprint = sprintService.getSprintById(id);
-        return ResponseEntity.ok(sprint);
+    public ResponseEntity<SprintResponseDTO> getSprintById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, aggregateVersionService.sprintETag(id),
+                () -> ResponseEntity.ok(sprintService.getSprintById(id)));
+    }
+
+    /**
+     * Retrieves the board of a sprint: the sprint, its stories grouped by
+     * status, the team members, story statistics and the latest analytics.
+     * Returns 304 if the client's copy is current.
+     *
+     * @param id          The ID of the sprint
+     * @param ifNoneMatch The ETags the client holds (optional)
+     * @return ResponseEntity containing the sprint board
+     */
+    @GetMapping("/{id}/board")
+    public ResponseEntity<SprintBoardResponseDTO> getSprintBoard(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, aggregateVersionService.sprintETag(id),
+                () -> ResponseEntity.ok(sprintBoardService.getBoard(id)));
     }
 
     /**
      * Retrieves all sprints for a specific project.
      *
      * @param projectId The ID of the project
+     * @param fields    Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of sprints
      */
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<SprintResponseDTO>> getSprintsByProject(@PathVariable Long projectId) {
-        List<SprintResponseDTO> sprints = sprintService.getSprintsByProject(projectId);
-        return ResponseEntity.ok(sprints);
+    public ResponseEntity<MappingJacksonValue> getSprintsByProject(@PathVariable Long projectId,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, SprintResponseDTO.class);
+        List<SprintResponseDTO> sprints = sprintService.getSprintsByProject(projectId, selection);
+        return ResponseEntity.ok(selection.wrap(sprints));
     }
 
     /**
      * Retrieves all sprints by their status.
      *
      * @param status The sprint status to filter by
+     * @param fields Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of sprints
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<SprintResponseDTO>> getSprintsByStatus(@PathVariable SprintStatus status) {
-        List<SprintResponseDTO> sprints = sprintService.getSprintsByStatus(status);
-        return ResponseEntity.ok(sprints);
+    public ResponseEntity<MappingJacksonValue> getSprintsByStatus(@PathVariable SprintStatus status,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, SprintResponseDTO.class);
+        List<SprintResponseDTO> sprints = sprintService.getSprintsByStatus(status, selection);
+        return ResponseEntity.ok(selection.wrap(sprints));
     }
 
     /**
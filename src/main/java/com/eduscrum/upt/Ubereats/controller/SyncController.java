@@ -0,0 +1,47 @@
+package com.eduscrum.upt.Ubereats.controller;
+
+import com.eduscrum.upt.Ubereats.dto.response.SyncChangesResponseDTO;
+import com.eduscrum.upt.Ubereats.service.ChangeFeedService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the change feed in the EduScrum platform.
+ * Provides the endpoint frontend caches poll to stay in sync.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * Constructs a new SyncController with required dependencies.
+     *
+     * @param changeFeedService Service for the change feed
+     */
+    public SyncController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    /**
+     * Gets the changes in a user's teams since a change token. Students can
+     * only read their own feed.
+     *
+     * @param userId The ID of the user
+     * @param since  The change token of the previous response, omitted for the whole scope
+     * @return ResponseEntity containing the changes and the next token
+     */
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasAuthority('ROLE_TEACHER') or #userId.toString() == authentication.principal.id.toString()")
+    public ResponseEntity<SyncChangesResponseDTO> getChanges(@PathVariable Long userId,
+            @RequestParam(required = false) String since) {
+        return ResponseEntity.ok(changeFeedService.getChanges(userId, since));
+    }
+}
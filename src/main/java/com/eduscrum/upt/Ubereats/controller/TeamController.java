@@ -3,12 +3,16 @@ package com.eduscrum.upt.Ubereats.controller;
 import com.eduscrum.upt.Ubereats.dto.request.AddMemberRequest;
 import com.eduscrum.upt.Ubereats.dto.request.CreateTeamRequest;
 import com.eduscrum.upt.Ubereats.dto.request.UpdateMemberRoleRequest;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
 import com.eduscrum.upt.Ubereats.dto.response.TeamMemberResponse;
 import com.eduscrum.upt.Ubereats.dto.response.TeamResponse;
 import com.eduscrum.upt.Ubereats.entity.Team;
 import com.eduscrum.upt.Ubereats.entity.TeamMember;
+import com.eduscrum.upt.Ubereats.service.AggregateVersionService;
 import com.eduscrum.upt.Ubereats.service.TeamService;
+import com.eduscrum.upt.Ubereats.service.TeamSummaryService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -19,24 +23,32 @@ import java.util.stream.Collectors;
 /**
  * REST controller for managing teams and team memberships.
  * Provides endpoints for team CRUD operations and member management.
+ * Team responses are read from the persisted team summaries.
  *
  * @author Joao
  * @author Ana
- * @version 0.8.0
+ * @version 0.11.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/teams")
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamSummaryService teamSummaryService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new TeamController with required dependencies.
      *
-     * @param teamService Service for team operations
+     * @param teamService             Service for team operations
+     * @param teamSummaryService      Service for the team summaries
+     * @param aggregateVersionService Service for the ETag version counters
      */
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService, TeamSummaryService teamSummaryService,
+            AggregateVersionService aggregateVersionService) {
         this.teamService = teamService;
+        this.teamSummaryService = teamSummaryService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     // Create new team (teachers and students can create teams)
@@ -44,7 +56,7 @@ public class TeamController {
     @PreAuthorize("hasAnyAuthority('ROLE_TEACHER', 'ROLE_STUDENT')")
     public ResponseEntity<TeamResponse> createTeam(@Valid @RequestBody CreateTeamRequest request) {
         Team team = teamService.createTeam(request);
-        return ResponseEntity.ok(new TeamResponse(team));
+        return ResponseEntity.ok(teamSummaryService.getTeamSummary(team.getId()));
     }
 
     /**
@@ -58,18 +70,14 @@ public class TeamController {
     @PreAuthorize("hasAuthority('ROLE_TEACHER')")
     public ResponseEntity<TeamResponse> addTeamToProject(@PathVariable Long teamId, @PathVariable Long projectId) {
         Team team = teamService.addTeamToProject(teamId, projectId);
-        return ResponseEntity.ok(new TeamResponse(team));
+        return ResponseEntity.ok(teamSummaryService.getTeamSummary(team.getId()));
     }
 
     // Get team for project (single team per project)
     @GetMapping("/project/{projectId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<TeamResponse> getProjectTeam(@PathVariable Long projectId) {
-        Team team = teamService.getTeamByProject(projectId);
-        if (team == null) {
-            return ResponseEntity.ok(null);
-        }
-        return ResponseEntity.ok(new TeamResponse(team));
+        return ResponseEntity.ok(teamSummaryService.getProjectTeamSummary(projectId));
     }
 
     /**
@@ -81,24 +89,35 @@ public class TeamController {
     @GetMapping("/user/{userId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<List<TeamResponse>> getUserTeams(@PathVariable Long userId) {
-        List<Team> teams = teamService.getUserTeams(userId);
-        List<TeamResponse> response = teams.stream()
-                .map(TeamResponse::new)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(teamSummaryService.getUserTeamSummaries(userId));
     }
 
     /**
-     * Retrieves a team by its ID.
+     * Retrieves several teams by ID with a single query, e.g. to resolve the
+     * IDs of a list response.
      *
-     * @param teamId The ID of the team
+     * @param ids Comma-separated team IDs, at most 100
+     * @return ResponseEntity containing the teams in request order and the IDs not found
+     */
+    @GetMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BatchResponseDTO<TeamResponse>> getTeamsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(teamSummaryService.getTeamsByIds(ids));
+    }
+
+    /**
+     * Retrieves a team by its ID, or 304 if the client's copy is current.
+     *
+     * @param teamId      The ID of the team
+     * @param ifNoneMatch The ETags the client holds (optional)
      * @return ResponseEntity containing the team
      */
     @GetMapping("/{teamId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<TeamResponse> getTeam(@PathVariable Long teamId) {
-        Team team = teamService.getTeamById(teamId);
-        return ResponseEntity.ok(new TeamResponse(team));
+    public ResponseEntity<TeamResponse> getTeam(@PathVariable Long teamId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, aggregateVersionService.teamETag(teamId),
+                () -> ResponseEntity.ok(teamSummaryService.getTeamSummary(teamId)));
     }
 
     // Add member to team (teachers and students can add members)
@@ -112,19 +131,23 @@ public class TeamController {
     }
 
     /**
-     * Retrieves all members of a team.
+     * Retrieves all members of a team, or 304 if the client's copy is current.
      *
-     * @param teamId The ID of the team
+     * @param teamId      The ID of the team
+     * @param ifNoneMatch The ETags the client holds (optional)
      * @return ResponseEntity containing the list of team members
      */
     @GetMapping("/{teamId}/members")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TeamMemberResponse>> getTeamMembers(@PathVariable Long teamId) {
-        List<TeamMember> members = teamService.getTeamMembers(teamId);
-        List<TeamMemberResponse> response = members.stream()
-                .map(TeamMemberResponse::new)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<TeamMemberResponse>> getTeamMembers(@PathVariable Long teamId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, aggregateVersionService.teamETag(teamId), () -> {
+            List<TeamMember> members = teamService.getTeamMembers(teamId);
+            List<TeamMemberResponse> response = members.stream()
+                    .map(TeamMemberResponse::new)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(response);
+        });
     }
 
     /**
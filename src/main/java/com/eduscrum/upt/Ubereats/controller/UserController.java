@@ -1,13 +1,18 @@
 package com.eduscrum.upt.Ubereats.controller;
 
 import com.eduscrum.upt.Ubereats.dto.request.UpdateProfileRequest;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
 import com.eduscrum.upt.Ubereats.dto.response.UserProfileResponse;
 import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.service.AggregateVersionService;
 import com.eduscrum.upt.Ubereats.service.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,7 +21,7 @@ import java.util.Map;
  *
  * @author Joao Pacheco
  * @author Yeswanth Kumar
- * @version 1.0.0
+ * @version 1.3.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/users")
@@ -24,28 +29,46 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final AggregateVersionService aggregateVersionService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, AggregateVersionService aggregateVersionService) {
         this.userService = userService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
-     * Gets a user's profile by ID.
+     * Retrieves the profiles of several users by ID with a single query, e.g. to resolve the
+     * IDs of a list response.
      *
-     * @param id The user ID
+     * @param ids Comma-separated user IDs, at most 100
+     * @return ResponseEntity containing the profiles in request order and the IDs not found
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchResponseDTO<UserProfileResponse>> getUsersByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
+    /**
+     * Gets a user's profile by ID, or 304 if the client's copy is current.
+     *
+     * @param id          The user ID
+     * @param ifNoneMatch The ETags the client holds (optional)
      * @return ResponseEntity containing the user profile
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getUserById(@PathVariable Long id) {
-        try {
-            User user = userService.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
-            return ResponseEntity.ok(new UserProfileResponse(user));
-        } catch (IllegalArgumentException e) {
-            Map<String, String> response = new HashMap<>();
-            response.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(response);
-        }
+    public ResponseEntity<?> getUserById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.<Object>ifNoneMatch(ifNoneMatch, aggregateVersionService.userETag(id), () -> {
+            try {
+                User user = userService.findById(id)
+                        .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
+                return ResponseEntity.ok(new UserProfileResponse(user));
+            } catch (IllegalArgumentException e) {
+                Map<String, String> response = new HashMap<>();
+                response.put("message", e.getMessage());
+                return ResponseEntity.badRequest().body(response);
+            }
+        });
     }
 
     /**
@@ -73,4 +96,22 @@ public class UserController {
             return ResponseEntity.badRequest().body(response);
         }
     }
+
+    /**
+     * Deactivates a user account and revokes all of its tokens.
+     *
+     * @param id The user ID
+     * @return ResponseEntity containing the updated user profile
+     */
+    @PutMapping("/{id}/deactivate")
+    @PreAuthorize("hasAuthority('ROLE_TEACHER')")
+    public ResponseEntity<?> deactivateUser(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(new UserProfileResponse(userService.deactivateUser(id)));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
 }
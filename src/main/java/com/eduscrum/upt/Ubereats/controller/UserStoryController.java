@@ -1,11 +1,15 @@
 package com.eduscrum.upt.Ubereats.controller;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
+import com.eduscrum.upt.Ubereats.service.AggregateVersionService;
 import com.eduscrum.upt.Ubereats.service.UserStoryService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -18,7 +22,7 @@ import java.util.Map;
  *
  * @author Joao
  * @author Ana
- * @version 0.9.1
+ * @version 0.11.0 (2026-10-18)
  */
 @RestController
 @RequestMapping("/api/user-stories")
@@ -26,14 +30,18 @@ import java.util.Map;
 public class UserStoryController {
 
     private final UserStoryService userStoryService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new UserStoryController with required dependencies.
      *
-     * @param userStoryService Service for user story operations
+     * @param userStoryService        Service for user story operations
+     * @param aggregateVersionService Service for the ETag version counters
      */
-    public UserStoryController(UserStoryService userStoryService) {
+    public UserStoryController(UserStoryService userStoryService,
+            AggregateVersionService aggregateVersionService) {
         this.userStoryService = userStoryService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
@@ -51,18 +59,35 @@ public class UserStoryController {
     /**
      * Retrieves all user stories.
      *
+     * @param fields Comma-separated properties to return (optional, all by default)
      * @return ResponseEntity containing the list of all user stories
      */
     @GetMapping
-    public ResponseEntity<List<UserStoryResponseDTO>> getAllUserStories() {
-        List<UserStoryResponseDTO> userStories = userStoryService.getAllUserStories();
-        return ResponseEntity.ok(userStories);
+    public ResponseEntity<MappingJacksonValue> getAllUserStories(@RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, UserStoryResponseDTO.class);
+        List<UserStoryResponseDTO> userStories = userStoryService.getAllUserStories(selection);
+        return ResponseEntity.ok(selection.wrap(userStories));
     }
 
+    /**
+     * Retrieves the user stories of a sprint, e.g. for a board with
+     * {@code fields=title,status,storyPoints,priority,assignedUserName}.
+     * Returns 304 if the client's copy is current. The ETag is the same for
+     * every field selection; caches key the copies by the full URL.
+     *
+     * @param sprintId    The ID of the sprint
+     * @param fields      Comma-separated properties to return (optional, all by default)
+     * @param ifNoneMatch The ETags the client holds (optional)
+     * @return ResponseEntity containing the list of user stories
+     */
     @GetMapping("/sprint/{sprintId}")
-    public ResponseEntity<List<UserStoryResponseDTO>> getUserStoriesBySprint(@PathVariable Long sprintId) {
-        List<UserStoryResponseDTO> userStories = userStoryService.getUserStoriesBySprint(sprintId);
-        return ResponseEntity.ok(userStories);
+    public ResponseEntity<MappingJacksonValue> getUserStoriesBySprint(@PathVariable Long sprintId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FieldSelection selection = FieldSelection.parse(fields, UserStoryResponseDTO.class);
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, aggregateVersionService.sprintETag(sprintId),
+                () -> ResponseEntity.ok(selection.wrap(
+                        userStoryService.getUserStoriesBySprint(sprintId, selection))));
     }
 
     /**
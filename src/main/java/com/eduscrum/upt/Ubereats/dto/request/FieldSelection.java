@@ -0,0 +1,138 @@
+package com.eduscrum.upt.Ubereats.dto.request;
+
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset requested with the {@code fields=} query parameter, e.g.
+ * {@code ?fields=id,title,status,storyPoints}. Services compute and load only
+ * the selected properties; {@link #wrap(Object)} serializes only those.
+ *
+ * <p>
+ * The {@code id} is always included. Response DTOs taking part carry
+ * {@code @JsonFilter(FieldSelection.FILTER)}; their property names are their
+ * field names.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public final class FieldSelection {
+
+    /** Jackson filter id of response DTOs supporting sparse fieldsets. */
+    public static final String FILTER = "fields";
+
+    /** Selection of every property, used when no {@code fields=} is given. */
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    private static final ClassValue<Set<String>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return Arrays.stream(type.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                    .map(Field::getName)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+    };
+
+    private final Set<String> names;
+
+    private FieldSelection(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Parses a comma-separated {@code fields=} value for a response DTO.
+     *
+     * @param fields  The requested properties, or null/blank for all of them
+     * @param dtoType The response DTO class
+     * @return The selection
+     * @throws BusinessLogicException if a property does not exist on the DTO
+     */
+    public static FieldSelection parse(String fields, Class<?> dtoType) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> available = PROPERTIES.get(dtoType);
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        Set<String> unknown = new TreeSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (available.contains(trimmed)) {
+                names.add(trimmed);
+            } else {
+                unknown.add(trimmed);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new BusinessLogicException("Unknown fields " + unknown + "; available: " + available);
+        }
+        return new FieldSelection(Collections.unmodifiableSet(names));
+    }
+
+    /**
+     * @return true if every property is selected
+     */
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * @param name The property name
+     * @return true if the property is selected
+     */
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    /**
+     * @param first The first property name
+     * @param rest  Further property names
+     * @return true if any of the properties is selected
+     */
+    public boolean includesAny(String first, String... rest) {
+        if (includes(first)) {
+            return true;
+        }
+        for (String name : rest) {
+            if (includes(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Wraps a response body so that only the selected properties are written.
+     *
+     * @param body The DTO or list of DTOs
+     * @return The body with its serialization filter
+     */
+    public MappingJacksonValue wrap(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(FILTER,
+                isAll() ? SimpleBeanPropertyFilter.serializeAll() : SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", names);
+    }
+}
@@ -0,0 +1,31 @@
+package com.eduscrum.upt.Ubereats.dto.request;
+
+/**
+ * Data Transfer Object for receiving a refresh token from frontend.
+ * Used to obtain a new access token and to log out.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class RefreshTokenRequest {
+    private String refreshToken;
+
+    /** Default constructor. */
+    public RefreshTokenRequest() {
+    }
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    /** @return The refresh token */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    /** @param refreshToken The refresh token */
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,74 @@
+package com.eduscrum.upt.Ubereats.dto.request;
+
+/**
+ * Data Transfer Object for one student of a bulk registration import.
+ * Imported users are always students; their student number is allocated.
+ *
+ * @author Joao Pacheco
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+public class StudentImportRow {
+    private String username;
+    private String email;
+    private String password;
+    private String firstName;
+    private String lastName;
+
+    /** Default constructor. */
+    public StudentImportRow() {
+    }
+
+    public StudentImportRow(String username, String email, String password, String firstName, String lastName) {
+        this.username = username;
+        this.email = email;
+        this.password = password;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    /** @return The username */
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /** @return The email address */
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    /** @return The raw password */
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    /** @return The first name */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    /** @return The last name */
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+}
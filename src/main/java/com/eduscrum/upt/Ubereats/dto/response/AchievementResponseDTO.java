@@ -1,5 +1,8 @@
 package com.eduscrum.upt.Ubereats.dto.response;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.LocalDateTime;
 
 /**
@@ -8,8 +11,9 @@ import java.time.LocalDateTime;
  *
  * @author Joao
  * @author Ana
- * @version 0.6.1
+ * @version 0.7.0 (2026-10-18)
  */
+@JsonFilter(FieldSelection.FILTER)
 public class AchievementResponseDTO {
     private Long id;
     private String reason;
@@ -1,6 +1,8 @@
 package com.eduscrum.upt.Ubereats.dto.response;
 
+import com.eduscrum.upt.Ubereats.entity.BurnDownSeries;
 import com.eduscrum.upt.Ubereats.entity.enums.TeamMood;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,6 +39,7 @@ public class AnalyticsResponseDTO {
     private boolean allStoryPointsCompleted;
     private String progressStatus;
     private Map<String, Integer> burnDownDataMap;
+    private BurnDownSeries burnDownSeries;
 
     // Related entity info
     private Long sprintId;
@@ -203,7 +206,11 @@ public class AnalyticsResponseDTO {
         this.progressStatus = progressStatus;
     }
 
+    /** @return The burn down map, built from the series at serialization time */
     public Map<String, Integer> getBurnDownDataMap() {
+        if (burnDownDataMap == null && burnDownSeries != null) {
+            return burnDownSeries.toMap();
+        }
         return burnDownDataMap;
     }
 
@@ -211,6 +218,15 @@ public class AnalyticsResponseDTO {
         this.burnDownDataMap = burnDownDataMap;
     }
 
+    @JsonIgnore
+    public BurnDownSeries getBurnDownSeries() {
+        return burnDownSeries;
+    }
+
+    public void setBurnDownSeries(BurnDownSeries burnDownSeries) {
+        this.burnDownSeries = burnDownSeries;
+    }
+
     public Long getSprintId() {
         return sprintId;
     }
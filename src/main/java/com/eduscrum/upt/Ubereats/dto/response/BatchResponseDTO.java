@@ -0,0 +1,52 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a lookup of several entities by ID.
+ * Contains the entities found, in the order their IDs were requested, and
+ * the requested IDs that do not exist.
+ *
+ * @param <T> The type of the entity responses
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class BatchResponseDTO<T> {
+    private List<T> items = new ArrayList<>();
+    private List<Long> missingIds = new ArrayList<>();
+
+    /** Default constructor. */
+    public BatchResponseDTO() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param items      The entities found, in request order
+     * @param missingIds The requested IDs not found, in request order
+     */
+    public BatchResponseDTO(List<T> items, List<Long> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    /** @return The entities found, in request order */
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    /** @return The requested IDs not found, in request order */
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,71 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+/**
+ * Data Transfer Object for a student or team on a course leaderboard.
+ * Tied scores share a rank, and the next rank skips the tied positions.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class LeaderboardEntryDTO {
+    private Long id;
+    private String name;
+    private Integer score;
+    private Integer rank;
+
+    /** Default constructor. */
+    public LeaderboardEntryDTO() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param id    The student or team ID
+     * @param name  The student's full name or the team name
+     * @param score The score in the course
+     * @param rank  The 1-based rank in the course
+     */
+    public LeaderboardEntryDTO(Long id, String name, Integer score, Integer rank) {
+        this.id = id;
+        this.name = name;
+        this.score = score;
+        this.rank = rank;
+    }
+
+    /** @return The student or team ID */
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /** @return The student's full name or the team name */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /** @return The score in the course */
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+
+    /** @return The 1-based rank in the course */
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+}
@@ -0,0 +1,74 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a contiguous slice of a course leaderboard.
+ * Used both for pages from the top and for the neighbourhood of one entry.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class LeaderboardPageDTO {
+    private Long courseId;
+    private Integer total;
+    private Integer offset;
+    private List<LeaderboardEntryDTO> entries = new ArrayList<>();
+
+    /** Default constructor. */
+    public LeaderboardPageDTO() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param courseId The course ID
+     * @param total    Number of entries on the leaderboard
+     * @param offset   The 0-based position of the first entry
+     * @param entries  The entries in ranking order
+     */
+    public LeaderboardPageDTO(Long courseId, Integer total, Integer offset, List<LeaderboardEntryDTO> entries) {
+        this.courseId = courseId;
+        this.total = total;
+        this.offset = offset;
+        this.entries = entries;
+    }
+
+    /** @return The course ID */
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    /** @return Number of entries on the leaderboard */
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    /** @return The 0-based position of the first entry */
+    public Integer getOffset() {
+        return offset;
+    }
+
+    public void setOffset(Integer offset) {
+        this.offset = offset;
+    }
+
+    /** @return The entries in ranking order */
+    public List<LeaderboardEntryDTO> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<LeaderboardEntryDTO> entries) {
+        this.entries = entries;
+    }
+}
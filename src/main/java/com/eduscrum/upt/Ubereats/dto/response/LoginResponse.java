@@ -4,11 +4,11 @@ import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
 
 /**
  * Data Transfer Object for sending login response data to frontend.
- * Contains JWT token, user info, and role.
+ * Contains JWT token, refresh token, user info, and role.
  *
  * @author Joao
  * @author Ana
- * @version 0.1.0
+ * @version 0.2.0 (2026-10-18)
  */
 public class LoginResponse {
     private String token;
@@ -18,6 +18,8 @@ public class LoginResponse {
     private String email;
     private UserRole role;
     private String fullName;
+    private String refreshToken;
+    private long expiresIn; // Access token lifetime in seconds
 
     /** Default constructor. */
     public LoginResponse() {
@@ -33,6 +35,13 @@ public class LoginResponse {
         this.fullName = fullName;
     }
 
+    public LoginResponse(String token, String refreshToken, long expiresIn, Long id, String username,
+            String email, UserRole role, String fullName) {
+        this(token, id, username, email, role, fullName);
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
     /** @return The JWT token */
     public String getToken() {
         return token;
@@ -102,4 +111,24 @@ public class LoginResponse {
     public void setFullName(String fullName) {
         this.fullName = fullName;
     }
+
+    /** @return The refresh token */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    /** @param refreshToken The refresh token */
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    /** @return The access token lifetime in seconds */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    /** @param expiresIn The access token lifetime in seconds */
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
 }
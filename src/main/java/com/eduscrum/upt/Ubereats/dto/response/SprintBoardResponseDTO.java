@@ -0,0 +1,146 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the sprint board.
+ * Contains everything the board screen shows in one response: the sprint
+ * header, the stories grouped by status, the team members, aggregated story
+ * statistics and the latest analytics snapshot.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class SprintBoardResponseDTO {
+    private long version;
+    private SprintResponseDTO sprint;
+    private Map<StoryStatus, List<UserStoryResponseDTO>> columns = new EnumMap<>(StoryStatus.class);
+    private List<TeamMemberResponse> members = new ArrayList<>();
+    private BoardStats stats;
+    private AnalyticsResponseDTO latestAnalytics;
+
+    /** Default constructor. */
+    public SprintBoardResponseDTO() {
+    }
+
+    /** @return The board version the response was built from */
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /** @return The sprint header */
+    public SprintResponseDTO getSprint() {
+        return sprint;
+    }
+
+    public void setSprint(SprintResponseDTO sprint) {
+        this.sprint = sprint;
+    }
+
+    /** @return The stories of each status, every status present and in board order */
+    public Map<StoryStatus, List<UserStoryResponseDTO>> getColumns() {
+        return columns;
+    }
+
+    public void setColumns(Map<StoryStatus, List<UserStoryResponseDTO>> columns) {
+        this.columns = columns;
+    }
+
+    /** @return The active members of the sprint's team */
+    public List<TeamMemberResponse> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<TeamMemberResponse> members) {
+        this.members = members;
+    }
+
+    /** @return The aggregated story statistics */
+    public BoardStats getStats() {
+        return stats;
+    }
+
+    public void setStats(BoardStats stats) {
+        this.stats = stats;
+    }
+
+    /** @return The latest analytics snapshot of the sprint's team, null if none was recorded */
+    public AnalyticsResponseDTO getLatestAnalytics() {
+        return latestAnalytics;
+    }
+
+    public void setLatestAnalytics(AnalyticsResponseDTO latestAnalytics) {
+        this.latestAnalytics = latestAnalytics;
+    }
+
+    /**
+     * Story statistics of a sprint board.
+     */
+    public static class BoardStats {
+        private final int totalStories;
+        private final int completedStories;
+        private final int unassignedStories;
+        private final int totalStoryPoints;
+        private final int completedStoryPoints;
+        private final Map<StoryStatus, Integer> storiesByStatus;
+        private final Map<StoryStatus, Integer> pointsByStatus;
+
+        public BoardStats(int totalStories, int completedStories, int unassignedStories, int totalStoryPoints,
+                int completedStoryPoints, Map<StoryStatus, Integer> storiesByStatus,
+                Map<StoryStatus, Integer> pointsByStatus) {
+            this.totalStories = totalStories;
+            this.completedStories = completedStories;
+            this.unassignedStories = unassignedStories;
+            this.totalStoryPoints = totalStoryPoints;
+            this.completedStoryPoints = completedStoryPoints;
+            this.storiesByStatus = storiesByStatus;
+            this.pointsByStatus = pointsByStatus;
+        }
+
+        public int getTotalStories() {
+            return totalStories;
+        }
+
+        public int getCompletedStories() {
+            return completedStories;
+        }
+
+        public int getUnassignedStories() {
+            return unassignedStories;
+        }
+
+        public int getTotalStoryPoints() {
+            return totalStoryPoints;
+        }
+
+        public int getCompletedStoryPoints() {
+            return completedStoryPoints;
+        }
+
+        public int getRemainingStoryPoints() {
+            return totalStoryPoints - completedStoryPoints;
+        }
+
+        public double getCompletionPercentage() {
+            return totalStoryPoints > 0 ? completedStoryPoints * 100.0 / totalStoryPoints : 0.0;
+        }
+
+        public Map<StoryStatus, Integer> getStoriesByStatus() {
+            return storiesByStatus;
+        }
+
+        public Map<StoryStatus, Integer> getPointsByStatus() {
+            return pointsByStatus;
+        }
+    }
+}
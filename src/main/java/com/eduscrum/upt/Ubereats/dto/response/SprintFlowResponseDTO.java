@@ -0,0 +1,123 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for sprint flow charts.
+ * Contains one point per transition with scope, completed and remaining story
+ * points (burnup/burndown) and the points held in each status (cumulative
+ * flow).
+ *
+ * @author Ana
+ * @author Joao Pacheco
+ * @version 0.1.0 (2026-10-18)
+ */
+public class SprintFlowResponseDTO {
+    private Long sprintId;
+    private Long teamId;
+    private Integer scopePoints;
+    private Integer completedPoints;
+    private Integer remainingPoints;
+    private List<FlowPoint> points = new ArrayList<>();
+
+    /** Default constructor. */
+    public SprintFlowResponseDTO() {
+    }
+
+    /** @return The sprint ID */
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    /** @return The team ID, null when the series covers the whole sprint */
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    /** @return The current committed story points */
+    public Integer getScopePoints() {
+        return scopePoints;
+    }
+
+    public void setScopePoints(Integer scopePoints) {
+        this.scopePoints = scopePoints;
+    }
+
+    /** @return The current completed story points */
+    public Integer getCompletedPoints() {
+        return completedPoints;
+    }
+
+    public void setCompletedPoints(Integer completedPoints) {
+        this.completedPoints = completedPoints;
+    }
+
+    /** @return The current remaining story points */
+    public Integer getRemainingPoints() {
+        return remainingPoints;
+    }
+
+    public void setRemainingPoints(Integer remainingPoints) {
+        this.remainingPoints = remainingPoints;
+    }
+
+    /** @return The series points in chronological order */
+    public List<FlowPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<FlowPoint> points) {
+        this.points = points;
+    }
+
+    /**
+     * A single point of the flow series.
+     */
+    public static class FlowPoint {
+        private final LocalDateTime timestamp;
+        private final int scopePoints;
+        private final int completedPoints;
+        private final Map<StoryStatus, Integer> pointsByStatus;
+
+        public FlowPoint(LocalDateTime timestamp, int scopePoints, int completedPoints,
+                Map<StoryStatus, Integer> pointsByStatus) {
+            this.timestamp = timestamp;
+            this.scopePoints = scopePoints;
+            this.completedPoints = completedPoints;
+            this.pointsByStatus = pointsByStatus;
+        }
+
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+
+        public int getScopePoints() {
+            return scopePoints;
+        }
+
+        public int getCompletedPoints() {
+            return completedPoints;
+        }
+
+        public int getRemainingPoints() {
+            return scopePoints - completedPoints;
+        }
+
+        public Map<StoryStatus, Integer> getPointsByStatus() {
+            return pointsByStatus;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.eduscrum.upt.Ubereats.dto.response;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.entity.enums.SprintStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
@@ -11,8 +14,9 @@ import java.math.BigDecimal;
  *
  * @author Joao
  * @author Ana
- * @version 0.6.1
+ * @version 0.7.0 (2026-10-18)
  */
+@JsonFilter(FieldSelection.FILTER)
 public class SprintResponseDTO {
     private Long id;
     private Integer sprintNumber;
@@ -0,0 +1,149 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for pre-aggregated sprint analytics.
+ * Contains the running or final totals of one sprint.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+public class SprintRollupResponseDTO {
+    private Long sprintId;
+    private Integer sprintNumber;
+    private String sprintName;
+    private Long projectId;
+    private Long courseId;
+    private Integer totalTasks;
+    private Integer completedTasks;
+    private Integer totalStoryPoints;
+    private Integer completedStoryPoints;
+    private BigDecimal completionPercentage;
+    private boolean finalized;
+    private Boolean onTime;
+    private LocalDate completedAt;
+
+    /** Default constructor. */
+    public SprintRollupResponseDTO() {
+    }
+
+    /** @return The sprint ID */
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    /** @return The sprint number */
+    public Integer getSprintNumber() {
+        return sprintNumber;
+    }
+
+    public void setSprintNumber(Integer sprintNumber) {
+        this.sprintNumber = sprintNumber;
+    }
+
+    /** @return The sprint name */
+    public String getSprintName() {
+        return sprintName;
+    }
+
+    public void setSprintName(String sprintName) {
+        this.sprintName = sprintName;
+    }
+
+    /** @return The project ID */
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    /** @return The course ID */
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    /** @return The total number of tasks */
+    public Integer getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(Integer totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    /** @return The number of completed tasks */
+    public Integer getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(Integer completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    /** @return The committed story points */
+    public Integer getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public void setTotalStoryPoints(Integer totalStoryPoints) {
+        this.totalStoryPoints = totalStoryPoints;
+    }
+
+    /** @return The completed story points (sprint velocity) */
+    public Integer getCompletedStoryPoints() {
+        return completedStoryPoints;
+    }
+
+    public void setCompletedStoryPoints(Integer completedStoryPoints) {
+        this.completedStoryPoints = completedStoryPoints;
+    }
+
+    /** @return The story points completion percentage */
+    public BigDecimal getCompletionPercentage() {
+        return completionPercentage;
+    }
+
+    public void setCompletionPercentage(BigDecimal completionPercentage) {
+        this.completionPercentage = completionPercentage;
+    }
+
+    /** @return Whether the sprint is completed and the figures are final */
+    public boolean isFinalized() {
+        return finalized;
+    }
+
+    public void setFinalized(boolean finalized) {
+        this.finalized = finalized;
+    }
+
+    /** @return Whether the sprint completed on or before its end date */
+    public Boolean getOnTime() {
+        return onTime;
+    }
+
+    public void setOnTime(Boolean onTime) {
+        this.onTime = onTime;
+    }
+
+    /** @return The completion date */
+    public LocalDate getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDate completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,125 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import com.eduscrum.upt.Ubereats.entity.enums.ImportRowStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the report of a bulk student import.
+ * Contains the totals per outcome and the result of every row.
+ *
+ * @author Joao Pacheco
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+public class StudentImportReportDTO {
+    private Long courseId;
+    private boolean dryRun;
+    private int totalRows;
+    private int created;
+    private int enrolled;
+    private int alreadyEnrolled;
+    private int rejected;
+    private List<StudentImportRowResultDTO> rows = new ArrayList<>();
+
+    /** Default constructor. */
+    public StudentImportReportDTO() {
+    }
+
+    public StudentImportReportDTO(Long courseId, boolean dryRun) {
+        this.courseId = courseId;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Adds the result of a row and updates the totals.
+     *
+     * @param result The row result
+     */
+    public void addRow(StudentImportRowResultDTO result) {
+        rows.add(result);
+        totalRows++;
+        if (result.getStatus() == ImportRowStatus.CREATED) {
+            created++;
+        } else if (result.getStatus() == ImportRowStatus.ENROLLED) {
+            enrolled++;
+        } else if (result.getStatus() == ImportRowStatus.ALREADY_ENROLLED) {
+            alreadyEnrolled++;
+        } else {
+            rejected++;
+        }
+    }
+
+    /** @return The course the students were enrolled in */
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    /** @return true if nothing was written */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    /** @return The number of rows read */
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    /** @return The number of new students registered and enrolled */
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    /** @return The number of existing students enrolled */
+    public int getEnrolled() {
+        return enrolled;
+    }
+
+    public void setEnrolled(int enrolled) {
+        this.enrolled = enrolled;
+    }
+
+    /** @return The number of existing students already in the course */
+    public int getAlreadyEnrolled() {
+        return alreadyEnrolled;
+    }
+
+    public void setAlreadyEnrolled(int alreadyEnrolled) {
+        this.alreadyEnrolled = alreadyEnrolled;
+    }
+
+    /** @return The number of rejected rows */
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    /** @return The result of every row, in file order */
+    public List<StudentImportRowResultDTO> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<StudentImportRowResultDTO> rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,96 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import com.eduscrum.upt.Ubereats.entity.enums.ImportRowStatus;
+
+/**
+ * Data Transfer Object for the outcome of one row of a bulk student import.
+ *
+ * @author Joao Pacheco
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+public class StudentImportRowResultDTO {
+    private int row;
+    private String username;
+    private String email;
+    private ImportRowStatus status;
+    private Long userId;
+    private String studentNumber;
+    private String message;
+
+    /** Default constructor. */
+    public StudentImportRowResultDTO() {
+    }
+
+    public StudentImportRowResultDTO(int row, String username, String email, ImportRowStatus status,
+            String message) {
+        this.row = row;
+        this.username = username;
+        this.email = email;
+        this.status = status;
+        this.message = message;
+    }
+
+    /** @return The 1-based row number in the imported file */
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    /** @return The username of the row */
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /** @return The email of the row */
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    /** @return The outcome of the row */
+    public ImportRowStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportRowStatus status) {
+        this.status = status;
+    }
+
+    /** @return The created or matched user ID (null on dry run or rejection) */
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    /** @return The allocated student number of a created user */
+    public String getStudentNumber() {
+        return studentNumber;
+    }
+
+    public void setStudentNumber(String studentNumber) {
+        this.studentNumber = studentNumber;
+    }
+
+    /** @return The rejection reason, if any */
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
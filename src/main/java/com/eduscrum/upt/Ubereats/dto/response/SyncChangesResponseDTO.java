@@ -0,0 +1,125 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import com.eduscrum.upt.Ubereats.entity.enums.SyncEntityType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the change feed of a user's scope.
+ * Contains the entities created or updated since the client's change token,
+ * the entities deleted or out of scope since then, and the token for the
+ * next request. Clients apply the deletions first, then upsert the rest.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class SyncChangesResponseDTO {
+    private String changeToken;
+    private boolean fullResync;
+    private List<TeamResponse> teams = new ArrayList<>();
+    private List<SprintResponseDTO> sprints = new ArrayList<>();
+    private List<UserStoryResponseDTO> userStories = new ArrayList<>();
+    private List<AchievementResponseDTO> achievements = new ArrayList<>();
+    private List<DeletedEntity> deleted = new ArrayList<>();
+
+    /** Default constructor. */
+    public SyncChangesResponseDTO() {
+    }
+
+    /** @return The token to send with the next request */
+    public String getChangeToken() {
+        return changeToken;
+    }
+
+    public void setChangeToken(String changeToken) {
+        this.changeToken = changeToken;
+    }
+
+    /**
+     * @return true if the response holds the whole scope and the client must
+     *         replace its cache instead of applying a delta
+     */
+    public boolean isFullResync() {
+        return fullResync;
+    }
+
+    public void setFullResync(boolean fullResync) {
+        this.fullResync = fullResync;
+    }
+
+    /** @return The changed teams */
+    public List<TeamResponse> getTeams() {
+        return teams;
+    }
+
+    public void setTeams(List<TeamResponse> teams) {
+        this.teams = teams;
+    }
+
+    /** @return The changed sprints */
+    public List<SprintResponseDTO> getSprints() {
+        return sprints;
+    }
+
+    public void setSprints(List<SprintResponseDTO> sprints) {
+        this.sprints = sprints;
+    }
+
+    /** @return The changed user stories */
+    public List<UserStoryResponseDTO> getUserStories() {
+        return userStories;
+    }
+
+    public void setUserStories(List<UserStoryResponseDTO> userStories) {
+        this.userStories = userStories;
+    }
+
+    /** @return The new achievements */
+    public List<AchievementResponseDTO> getAchievements() {
+        return achievements;
+    }
+
+    public void setAchievements(List<AchievementResponseDTO> achievements) {
+        this.achievements = achievements;
+    }
+
+    /** @return The entities to drop from the client's cache */
+    public List<DeletedEntity> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<DeletedEntity> deleted) {
+        this.deleted = deleted;
+    }
+
+    /**
+     * An entity deleted or moved out of the user's scope. A dropped team
+     * also drops its sprints and user stories.
+     */
+    public static class DeletedEntity {
+        private final SyncEntityType type;
+        private final Long id;
+        private final LocalDateTime deletedAt;
+
+        public DeletedEntity(SyncEntityType type, Long id, LocalDateTime deletedAt) {
+            this.type = type;
+            this.id = id;
+            this.deletedAt = deletedAt;
+        }
+
+        public SyncEntityType getType() {
+            return type;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDateTime getDeletedAt() {
+            return deletedAt;
+        }
+    }
+}
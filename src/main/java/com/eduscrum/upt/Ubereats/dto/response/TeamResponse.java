@@ -2,6 +2,7 @@ package com.eduscrum.upt.Ubereats.dto.response;
 
 import com.eduscrum.upt.Ubereats.entity.Team;
 import com.eduscrum.upt.Ubereats.entity.Project;
+import com.eduscrum.upt.Ubereats.entity.TeamSummary;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -14,7 +15,7 @@ import java.util.stream.Collectors;
  *
  * @author Joao
  * @author Ana
- * @version 0.9.1
+ * @version 0.10.0
  */
 public class TeamResponse {
     private Long id;
@@ -48,6 +49,25 @@ public class TeamResponse {
         this.createdAt = team.getCreatedAt();
     }
 
+    /**
+     * Constructs a TeamResponse from a stored team summary.
+     *
+     * @param summary The team summary to convert
+     */
+    public TeamResponse(TeamSummary summary) {
+        this.id = summary.getTeamId();
+        this.name = summary.getName();
+        this.projectCount = summary.getProjectCount();
+        this.projectNames = summary.getProjectNames();
+        this.memberCount = summary.getMemberCount();
+        this.totalPoints = summary.getTotalPoints();
+        this.scrumMaster = summary.getScrumMaster();
+        this.productOwner = summary.getProductOwner();
+        this.currentProgress = summary.getCurrentProgress();
+        this.performanceRating = summary.getPerformanceRating();
+        this.createdAt = summary.getCreatedAt();
+    }
+
     // Getters
     public Long getId() {
         return id;
@@ -1,7 +1,10 @@
 package com.eduscrum.upt.Ubereats.dto.response;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.entity.enums.StoryPriority;
 import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.LocalDateTime;
 
 /**
@@ -10,8 +13,9 @@ import java.time.LocalDateTime;
  *
  * @author Joao
  * @author Ana
- * @version 1.0.1
+ * @version 1.1.0 (2026-10-18)
  */
+@JsonFilter(FieldSelection.FILTER)
 public class UserStoryResponseDTO {
     private Long id;
     private String title;
@@ -0,0 +1,121 @@
+package com.eduscrum.upt.Ubereats.dto.response;
+
+import com.eduscrum.upt.Ubereats.entity.enums.RollupScope;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for pre-aggregated weekly analytics of a project or
+ * course.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+public class WeeklyRollupResponseDTO {
+    private RollupScope scope;
+    private Long scopeId;
+    private LocalDate weekStart;
+    private Integer totalTasks;
+    private Integer completedTasks;
+    private Integer totalStoryPoints;
+    private Integer completedStoryPoints;
+    private BigDecimal averageVelocity;
+    private BigDecimal completionPercentage;
+    private Integer snapshotCount;
+
+    /** Default constructor. */
+    public WeeklyRollupResponseDTO() {
+    }
+
+    /** @return The rollup scope */
+    public RollupScope getScope() {
+        return scope;
+    }
+
+    public void setScope(RollupScope scope) {
+        this.scope = scope;
+    }
+
+    /** @return The project or course ID */
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    /** @return The Monday of the week */
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    /** @return The total number of tasks */
+    public Integer getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(Integer totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    /** @return The number of completed tasks */
+    public Integer getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(Integer completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    /** @return The committed story points */
+    public Integer getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public void setTotalStoryPoints(Integer totalStoryPoints) {
+        this.totalStoryPoints = totalStoryPoints;
+    }
+
+    /** @return The completed story points */
+    public Integer getCompletedStoryPoints() {
+        return completedStoryPoints;
+    }
+
+    public void setCompletedStoryPoints(Integer completedStoryPoints) {
+        this.completedStoryPoints = completedStoryPoints;
+    }
+
+    /** @return The average velocity of the snapshots in the week */
+    public BigDecimal getAverageVelocity() {
+        return averageVelocity;
+    }
+
+    public void setAverageVelocity(BigDecimal averageVelocity) {
+        this.averageVelocity = averageVelocity;
+    }
+
+    /** @return The story points completion percentage */
+    public BigDecimal getCompletionPercentage() {
+        return completionPercentage;
+    }
+
+    public void setCompletionPercentage(BigDecimal completionPercentage) {
+        this.completionPercentage = completionPercentage;
+    }
+
+    /** @return The number of sprint/team snapshots aggregated */
+    public Integer getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    public void setSnapshotCount(Integer snapshotCount) {
+        this.snapshotCount = snapshotCount;
+    }
+}
@@ -12,10 +12,13 @@ import java.util.Objects;
  *
  * @author Bruna
  * @author Francisco
- * @version 1.1.0
+ * @version 1.2.0 (2026-10-18)
  */
 @Entity
-@Table(name = "achievements")
+@Table(name = "achievements", indexes = {
+        @Index(name = "idx_achievements_user_awarded", columnList = "awarded_to_user_id, awarded_at"),
+        @Index(name = "idx_achievements_team_awarded", columnList = "awarded_to_team_id, awarded_at")
+})
 public class Achievement {
     // === ATTRIBUTES ===
     @Id
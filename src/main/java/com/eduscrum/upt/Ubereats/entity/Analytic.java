@@ -1,7 +1,5 @@
 package com.eduscrum.upt.Ubereats.entity;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.eduscrum.upt.Ubereats.entity.enums.TeamMood;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -11,7 +9,6 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -21,7 +18,7 @@ import java.util.Objects;
  *
  * @author Ana
  * @author Yeswanth Kumar
- * @version 1.2.0
+ * @version 1.4.0
  */
 @Entity
 @Table(name = "analytics")
@@ -46,9 +43,17 @@ public class Analytic {
     @Column(precision = 5, scale = 2)
     private BigDecimal velocity = BigDecimal.ZERO;
 
+    /** Legacy JSON burn-down map, only read when no binary series exists. */
     @Column(name = "burn_down_data", columnDefinition = "JSON")
     private String burnDownData;
 
+    /** Burn-down series in the compact binary format of BurnDownSeries. */
+    @Column(name = "burn_down_series", length = 4096)
+    private byte[] burnDownSeries;
+
+    @Transient
+    private BurnDownSeries decodedBurnDown;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "team_mood", length = 20)
     private TeamMood teamMood;
@@ -59,6 +64,13 @@ public class Analytic {
     @Column(name = "recorded_date", nullable = false)
     private LocalDate recordedDate;
 
+    /** Number of daily snapshots this row stands for (greater than 1 once compacted). */
+    @Column(name = "sample_count")
+    private Integer sampleCount = 1;
+
+    @Column
+    private Boolean compacted = false;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -142,6 +154,36 @@ public class Analytic {
 
     public void setBurnDownData(String burnDownData) {
         this.burnDownData = burnDownData;
+        this.burnDownSeries = null;
+        this.decodedBurnDown = null;
+    }
+
+    public BurnDownSeries getBurnDownSeries() {
+        if (decodedBurnDown == null) {
+            decodedBurnDown = burnDownSeries != null
+                    ? BurnDownSeries.decode(burnDownSeries)
+                    : BurnDownSeries.fromJson(burnDownData, sprintStart());
+        }
+        return decodedBurnDown;
+    }
+
+    /**
+     * Sets the burn-down series in the binary format. Legacy JSON is dropped
+     * once converted, unless it holds keys the series cannot represent; it
+     * is then kept so those points are not lost.
+     *
+     * @param series The burn-down series
+     */
+    public void setBurnDownSeries(BurnDownSeries series) {
+        this.decodedBurnDown = series != null ? series : BurnDownSeries.EMPTY;
+        this.burnDownSeries = this.decodedBurnDown.encode();
+        if (BurnDownSeries.isFullyMapped(burnDownData, sprintStart())) {
+            this.burnDownData = null;
+        }
+    }
+
+    private LocalDate sprintStart() {
+        return sprint != null ? sprint.getStartDate() : null;
     }
 
     public TeamMood getTeamMood() {
@@ -168,6 +210,22 @@ public class Analytic {
         this.recordedDate = recordedDate;
     }
 
+    public Integer getSampleCount() {
+        return sampleCount != null && sampleCount > 0 ? sampleCount : 1;
+    }
+
+    public void setSampleCount(Integer sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public boolean isCompacted() {
+        return Boolean.TRUE.equals(compacted);
+    }
+
+    public void setCompacted(Boolean compacted) {
+        this.compacted = compacted;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -236,23 +294,28 @@ public class Analytic {
     }
 
     /**
-     * Parses burn down data from JSON.
+     * Records the remaining story points for a day of the sprint.
      *
-     * @return Map of date to remaining work, or empty map if none
+     * @param dayOffset Days since the sprint start
+     * @param remaining Remaining story points on that day
      */
-    public Map<String, Integer> getBurnDownDataMap() {
-        if (burnDownData == null || burnDownData.trim().isEmpty()) {
-            return new HashMap<>();
-        }
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(burnDownData, new TypeReference<Map<String, Integer>>() {
-            });
-        } catch (Exception e) {
-            return new HashMap<>();
+    public void recordBurnDown(int dayOffset, int remaining) {
+        BurnDownSeries current = getBurnDownSeries();
+        BurnDownSeries updated = current.with(dayOffset, remaining);
+        if (updated != current || burnDownSeries == null && !updated.isEmpty()) {
+            setBurnDownSeries(updated);
         }
     }
 
+    /**
+     * Gets burn down data as a map of day key to remaining work.
+     *
+     * @return Map of "dayN" to remaining work, or empty map if none
+     */
+    public Map<String, Integer> getBurnDownDataMap() {
+        return getBurnDownSeries().toMap();
+    }
+
     /**
      * Calculates remaining tasks.
      *
@@ -0,0 +1,301 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable burn-down series stored as parallel primitive arrays of day offsets
+ * (from the sprint start) and remaining values, sorted by offset.
+ * Also holds the shared, stateless codec for the compact binary column and for
+ * the legacy JSON format, so it is safe to use from any thread.
+ *
+ * Binary layout: varint count, then per point the zig-zag varint delta of the
+ * day offset and the zig-zag varint value.
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.2.0 (2026-10-18)
+ */
+public final class BurnDownSeries {
+
+    /** Key prefix used by the JSON map representation ("day3" = offset 3). */
+    public static final String DAY_KEY_PREFIX = "day";
+
+    public static final BurnDownSeries EMPTY = new BurnDownSeries(new int[0], new int[0]);
+
+    private static final Logger logger = LoggerFactory.getLogger(BurnDownSeries.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Integer>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final int[] dayOffsets;
+    private final int[] values;
+
+    // === CONSTRUCTORS ===
+    private BurnDownSeries(int[] dayOffsets, int[] values) {
+        this.dayOffsets = dayOffsets;
+        this.values = values;
+    }
+
+    // === GETTERS ===
+    public int size() {
+        return dayOffsets.length;
+    }
+
+    public boolean isEmpty() {
+        return dayOffsets.length == 0;
+    }
+
+    public int getDayOffset(int index) {
+        return dayOffsets[index];
+    }
+
+    public int getValue(int index) {
+        return values[index];
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * Returns a series with the value of a day set, keeping offsets sorted.
+     *
+     * @param dayOffset The day offset from the sprint start
+     * @param value     The remaining value for that day
+     * @return The updated series (this instance is left unchanged)
+     */
+    public BurnDownSeries with(int dayOffset, int value) {
+        int index = Arrays.binarySearch(dayOffsets, dayOffset);
+        if (index >= 0) {
+            if (values[index] == value) {
+                return this;
+            }
+            int[] newValues = values.clone();
+            newValues[index] = value;
+            return new BurnDownSeries(dayOffsets, newValues);
+        }
+
+        int insertAt = -index - 1;
+        int[] newOffsets = new int[dayOffsets.length + 1];
+        int[] newValues = new int[values.length + 1];
+        System.arraycopy(dayOffsets, 0, newOffsets, 0, insertAt);
+        System.arraycopy(values, 0, newValues, 0, insertAt);
+        newOffsets[insertAt] = dayOffset;
+        newValues[insertAt] = value;
+        System.arraycopy(dayOffsets, insertAt, newOffsets, insertAt + 1, dayOffsets.length - insertAt);
+        System.arraycopy(values, insertAt, newValues, insertAt + 1, values.length - insertAt);
+        return new BurnDownSeries(newOffsets, newValues);
+    }
+
+    /**
+     * Converts the series to the JSON map representation ("dayN" to value).
+     *
+     * @return Ordered map of day key to remaining value
+     */
+    public Map<String, Integer> toMap() {
+        Map<String, Integer> map = new LinkedHashMap<>(dayOffsets.length * 2);
+        for (int i = 0; i < dayOffsets.length; i++) {
+            map.put(DAY_KEY_PREFIX + dayOffsets[i], values[i]);
+        }
+        return map;
+    }
+
+    // === CODEC ===
+
+    /**
+     * Encodes the series into the compact binary format.
+     *
+     * @return The encoded bytes, or null for an empty series
+     */
+    public byte[] encode() {
+        if (isEmpty()) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 + dayOffsets.length * 3);
+        writeVarint(out, dayOffsets.length);
+        int previous = 0;
+        for (int i = 0; i < dayOffsets.length; i++) {
+            writeVarint(out, zigZag(dayOffsets[i] - previous));
+            writeVarint(out, zigZag(values[i]));
+            previous = dayOffsets[i];
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a series from the compact binary format.
+     *
+     * @param bytes The encoded bytes (null or empty for an empty series)
+     * @return The decoded series, or EMPTY if the bytes are malformed
+     */
+    public static BurnDownSeries decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return EMPTY;
+        }
+        try {
+            int[] position = { 0 };
+            int count = readVarint(bytes, position);
+            if (count < 0 || count > bytes.length) {
+                return EMPTY;
+            }
+            int[] offsets = new int[count];
+            int[] vals = new int[count];
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                previous += unZigZag(readVarint(bytes, position));
+                offsets[i] = previous;
+                vals[i] = unZigZag(readVarint(bytes, position));
+            }
+            return new BurnDownSeries(offsets, vals);
+        } catch (ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Parses the legacy JSON format ({"day1": 10, ...}) without a sprint start,
+     * so date keys cannot be mapped.
+     *
+     * @param json The JSON string
+     * @return The parsed series, or EMPTY if the JSON is missing or invalid
+     * @see #fromJson(String, LocalDate)
+     */
+    public static BurnDownSeries fromJson(String json) {
+        return fromJson(json, null);
+    }
+
+    /**
+     * Parses the legacy JSON format. Keys are "dayN", a bare day offset
+     * ("3"), or an ISO date ("2024-03-04", optionally with a time) that is
+     * mapped to its offset from the sprint start. Other keys are skipped with
+     * a warning.
+     *
+     * @param json        The JSON string
+     * @param sprintStart The start date of the sprint, or null if unknown
+     * @return The parsed series, or EMPTY if the JSON is missing or invalid
+     */
+    public static BurnDownSeries fromJson(String json, LocalDate sprintStart) {
+        if (json == null || json.trim().isEmpty()) {
+            return EMPTY;
+        }
+        try {
+            BurnDownSeries series = EMPTY;
+            List<String> skipped = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : MAPPER.readValue(json, MAP_TYPE).entrySet()) {
+                Integer offset = parseKey(entry.getKey(), sprintStart);
+                if (offset == null) {
+                    skipped.add(entry.getKey());
+                } else if (entry.getValue() != null) {
+                    series = series.with(offset, entry.getValue());
+                }
+            }
+            if (!skipped.isEmpty()) {
+                logger.warn("Skipped burn-down keys {} that are not day offsets or dates of a known sprint", skipped);
+            }
+            return series;
+        } catch (Exception e) {
+            logger.warn("Invalid burn-down JSON: {}", e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Checks whether every key of a legacy JSON series maps to a day offset,
+     * i.e. whether converting it to the binary format loses nothing.
+     *
+     * @param json        The JSON string
+     * @param sprintStart The start date of the sprint, or null if unknown
+     * @return True if the JSON is missing or all its keys map to an offset
+     */
+    public static boolean isFullyMapped(String json, LocalDate sprintStart) {
+        if (json == null || json.trim().isEmpty()) {
+            return true;
+        }
+        try {
+            return MAPPER.readValue(json, MAP_TYPE).keySet().stream()
+                    .allMatch(key -> parseKey(key, sprintStart) != null);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static Integer parseKey(String key, LocalDate sprintStart) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        String offset = key.startsWith(DAY_KEY_PREFIX) ? key.substring(DAY_KEY_PREFIX.length()) : key;
+        try {
+            return Integer.parseInt(offset);
+        } catch (NumberFormatException e) {
+            // Not an offset; try a date below
+        }
+        if (sprintStart == null || key.length() < 10) {
+            return null;
+        }
+        try {
+            return Math.toIntExact(ChronoUnit.DAYS.between(sprintStart, LocalDate.parse(key.substring(0, 10))));
+        } catch (DateTimeParseException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static int zigZag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    private static int unZigZag(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] position) {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0 && shift < 35);
+        return result;
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof BurnDownSeries))
+            return false;
+        BurnDownSeries that = (BurnDownSeries) o;
+        return Arrays.equals(dayOffsets, that.dayOffsets) && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(dayOffsets) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "BurnDownSeries" + toMap();
+    }
+}
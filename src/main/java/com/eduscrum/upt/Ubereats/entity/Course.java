@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
  *
  * @author Bruna
  * @author Ana
- * @version 0.2.1
+ * @version 0.3.0 (2026-10-18)
  */
 @Entity
 @Table(name = "courses")
@@ -55,6 +55,10 @@ public class Course {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped by bulk updates whenever a response built from the course changes; null until the first change
+    @Column(name = "aggregate_version", insertable = false, updatable = false)
+    private Long aggregateVersion;
+
     // === RELATIONS ===
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id", nullable = false)
@@ -154,6 +158,10 @@ public class Course {
         this.updatedAt = updatedAt;
     }
 
+    public long getAggregateVersion() {
+        return aggregateVersion != null ? aggregateVersion : 0L;
+    }
+
     public User getTeacher() {
         return teacher;
     }
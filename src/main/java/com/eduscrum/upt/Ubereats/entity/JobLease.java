@@ -0,0 +1,137 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity representing the lease of a scheduled job, used to elect a
+ * single node to run it. The fencing token grows on every acquisition so a
+ * node that lost its lease can detect that a newer holder exists. The last
+ * completed trigger slot keeps a node whose trigger fires late from running
+ * the same scheduled run again.
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.2.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "job_leases")
+public class JobLease {
+    // === ATTRIBUTES ===
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken = 0L;
+
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;
+
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "last_completed_slot")
+    private LocalDateTime lastCompletedSlot;
+
+    // === CONSTRUCTORS ===
+    public JobLease() {
+    }
+
+    public JobLease(String jobName) {
+        this.jobName = jobName;
+        this.leasedUntil = LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
+
+    // === GETTERS & SETTERS ===
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
+    public void setFencingToken(Long fencingToken) {
+        this.fencingToken = fencingToken;
+    }
+
+    public LocalDateTime getLeasedUntil() {
+        return leasedUntil;
+    }
+
+    public void setLeasedUntil(LocalDateTime leasedUntil) {
+        this.leasedUntil = leasedUntil;
+    }
+
+    public LocalDateTime getAcquiredAt() {
+        return acquiredAt;
+    }
+
+    public void setAcquiredAt(LocalDateTime acquiredAt) {
+        this.acquiredAt = acquiredAt;
+    }
+
+    public LocalDateTime getLastCompletedSlot() {
+        return lastCompletedSlot;
+    }
+
+    public void setLastCompletedSlot(LocalDateTime lastCompletedSlot) {
+        this.lastCompletedSlot = lastCompletedSlot;
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * Checks whether the lease is held at the given time.
+     *
+     * @param now The reference time
+     * @return true if the lease has not expired yet
+     */
+    public boolean isHeldAt(LocalDateTime now) {
+        return owner != null && leasedUntil.isAfter(now);
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        JobLease jobLease = (JobLease) o;
+        return Objects.equals(jobName, jobLease.jobName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobName);
+    }
+
+    @Override
+    public String toString() {
+        return "JobLease{" +
+                "jobName='" + jobName + '\'' +
+                ", owner='" + owner + '\'' +
+                ", fencingToken=" + fencingToken +
+                ", leasedUntil=" + leasedUntil +
+                '}';
+    }
+}
@@ -0,0 +1,202 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.eduscrum.upt.Ubereats.entity.enums.JobRunStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity recording one execution of a scheduled job: which node ran it
+ * under which lease token, how long it took, how many rows it touched and in
+ * how many chunks.
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.1.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "job_runs", indexes = {
+        @Index(name = "idx_job_runs_job_started", columnList = "job_name, started_at")
+})
+public class JobRun {
+    // === ATTRIBUTES ===
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "fencing_token")
+    private Long fencingToken;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs = 0L;
+
+    @Column(name = "rows_processed", nullable = false)
+    private Integer rowsProcessed = 0;
+
+    @Column(nullable = false)
+    private Integer chunks = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobRunStatus status;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    // === CONSTRUCTORS ===
+    public JobRun() {
+    }
+
+    public JobRun(String jobName, LocalDateTime startedAt) {
+        this.jobName = jobName;
+        this.startedAt = startedAt;
+    }
+
+    public JobRun(String jobName, LocalDateTime startedAt, String nodeId, Long fencingToken) {
+        this(jobName, startedAt);
+        this.nodeId = nodeId;
+        this.fencingToken = fencingToken;
+    }
+
+    // === GETTERS & SETTERS ===
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
+    public void setFencingToken(Long fencingToken) {
+        this.fencingToken = fencingToken;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public Integer getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public void setRowsProcessed(Integer rowsProcessed) {
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    public Integer getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(Integer chunks) {
+        this.chunks = chunks;
+    }
+
+    public JobRunStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobRunStatus status) {
+        this.status = status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * Records the outcome of the run.
+     *
+     * @param durationMs    Elapsed time in milliseconds
+     * @param rowsProcessed Number of rows touched
+     * @param chunks        Number of chunks (transactions) used
+     * @param error         The failure, or null if the run succeeded
+     */
+    public void finish(long durationMs, int rowsProcessed, int chunks, RuntimeException error) {
+        this.durationMs = durationMs;
+        this.rowsProcessed = rowsProcessed;
+        this.chunks = chunks;
+        this.status = error == null ? JobRunStatus.SUCCESS : JobRunStatus.FAILED;
+        if (error != null && error.getMessage() != null) {
+            this.errorMessage = error.getMessage().length() > 500 ? error.getMessage().substring(0, 500)
+                    : error.getMessage();
+        }
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        JobRun jobRun = (JobRun) o;
+        return Objects.equals(id, jobRun.id) && Objects.equals(jobName, jobRun.jobName)
+                && Objects.equals(startedAt, jobRun.startedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, jobName, startedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "JobRun{" +
+                "id=" + id +
+                ", jobName='" + jobName + '\'' +
+                ", fencingToken=" + fencingToken +
+                ", durationMs=" + durationMs +
+                ", rowsProcessed=" + rowsProcessed +
+                ", chunks=" + chunks +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,90 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+/**
+ * JPA entity representing a named counter from which nodes reserve blocks of
+ * numbers. The row only moves forward; numbers inside a reserved block are
+ * handed out from memory by the node that reserved it.
+ *
+ * @author Bruna Silva
+ * @author Francisco Costa
+ * @version 0.1.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "number_sequences")
+public class NumberSequence {
+    // === ATTRIBUTES ===
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    // === CONSTRUCTORS ===
+    public NumberSequence() {
+    }
+
+    public NumberSequence(String name, Long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    // === GETTERS & SETTERS ===
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(Long nextValue) {
+        this.nextValue = nextValue;
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * Reserves the next block of numbers and advances the counter past it.
+     *
+     * @param size Number of values to reserve
+     * @return The first value of the reserved block
+     */
+    public long reserve(int size) {
+        long start = nextValue;
+        nextValue = start + size;
+        return start;
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        NumberSequence that = (NumberSequence) o;
+        return Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public String toString() {
+        return "NumberSequence{" +
+                "name='" + name + '\'' +
+                ", nextValue=" + nextValue +
+                '}';
+    }
+}
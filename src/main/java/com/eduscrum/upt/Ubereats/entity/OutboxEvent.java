@@ -0,0 +1,224 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.eduscrum.upt.Ubereats.entity.enums.OutboxEventType;
+import com.eduscrum.upt.Ubereats.entity.enums.OutboxStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity representing a side effect of a domain write, appended in the
+ * same transaction as the write and delivered later by the outbox relay.
+ * Events only carry IDs; handlers reload current state, so delivering an
+ * event twice has the same effect as delivering it once.
+ *
+ * @author Joao Pacheco
+ * @author Francisco
+ * @version 0.1.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_due", columnList = "status, available_at, id")
+})
+public class OutboxEvent {
+    // === ATTRIBUTES ===
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxEventType type;
+
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /** For STORY_CHANGED: whether the story reached DONE in this write. */
+    @Column(name = "story_done")
+    private Boolean storyDone = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // === CONSTRUCTORS ===
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(OutboxEventType type, Long sprintId, Long teamId, Long projectId) {
+        this.type = type;
+        this.sprintId = sprintId;
+        this.teamId = teamId;
+        this.projectId = projectId;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    // === GETTERS & SETTERS ===
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public OutboxEventType getType() {
+        return type;
+    }
+
+    public void setType(OutboxEventType type) {
+        this.type = type;
+    }
+
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Boolean getStoryDone() {
+        return storyDone;
+    }
+
+    public void setStoryDone(Boolean storyDone) {
+        this.storyDone = storyDone;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OutboxStatus status) {
+        this.status = status;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * Key under which events with the same effect are coalesced by the relay.
+     *
+     * @return The coalescing key
+     */
+    public String getCoalescingKey() {
+        return type + ":" + sprintId + ":" + teamId + ":" + projectId;
+    }
+
+    /**
+     * Records a failed delivery and schedules the next attempt with
+     * exponential backoff, or dead-letters the event once the attempts are
+     * exhausted.
+     *
+     * @param error       The failure message
+     * @param now         Current time
+     * @param maxAttempts Attempts before the event is marked FAILED
+     */
+    public void recordFailure(String error, LocalDateTime now, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        } else {
+            long delaySeconds = Math.min(1L << Math.min(attempts, 10), 600L);
+            this.availableAt = now.plusSeconds(delaySeconds);
+        }
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        OutboxEvent that = (OutboxEvent) o;
+        return Objects.equals(id, that.id) && type == that.type && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "id=" + id +
+                ", type=" + type +
+                ", sprintId=" + sprintId +
+                ", teamId=" + teamId +
+                ", projectId=" + projectId +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
@@ -22,7 +22,7 @@ import java.util.stream.Collectors;
  *
  * @author Francisco
  * @author Yeswanth Kumar
- * @version 0.6.1
+ * @version 0.7.0 (2026-10-18)
  */
 @Entity
 @Table(name = "projects")
@@ -65,6 +65,10 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped by bulk updates whenever a response built from the project changes; null until the first change
+    @Column(name = "aggregate_version", insertable = false, updatable = false)
+    private Long aggregateVersion;
+
     // === RELATIONS ===
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
@@ -190,6 +194,10 @@ public class Project {
         this.updatedAt = updatedAt;
     }
 
+    public long getAggregateVersion() {
+        return aggregateVersion != null ? aggregateVersion : 0L;
+    }
+
     public Course getCourse() {
         return course;
     }
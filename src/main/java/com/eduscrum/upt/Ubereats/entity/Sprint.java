@@ -20,10 +20,12 @@ import java.util.Objects;
  *
  * @author Ana
  * @author Bruna
- * @version 0.8.0
+ * @version 0.10.0 (2026-10-18)
  */
 @Entity
-@Table(name = "sprints")
+@Table(name = "sprints", indexes = {
+        @Index(name = "idx_sprints_project_updated", columnList = "project_id, updated_at")
+})
 public class Sprint {
     // === ATTRIBUTES ===
     @Id
@@ -63,6 +65,10 @@ public class Sprint {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped by bulk updates whenever the sprint board changes; null until the first change
+    @Column(name = "board_version", insertable = false, updatable = false)
+    private Long boardVersion;
+
     // === RELATIONS ===
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
@@ -178,6 +184,10 @@ public class Sprint {
         this.updatedAt = updatedAt;
     }
 
+    public long getBoardVersion() {
+        return boardVersion != null ? boardVersion : 0L;
+    }
+
     public Project getProject() {
         return project;
     }
@@ -254,6 +264,7 @@ public class Sprint {
 
     /**
      * Calculates team velocity for this sprint.
+     * Compacted rows are weighted by the number of snapshots they stand for.
      *
      * @param team The team to calculate velocity for
      * @return The average velocity as BigDecimal, or ZERO if no analytics
@@ -262,14 +273,15 @@ public class Sprint {
         if (analytics.isEmpty())
             return BigDecimal.ZERO;
 
-        BigDecimal totalVelocity = analytics.stream()
-                .filter(metric -> metric.getTeam().equals(team))
-                .map(Analytic::getVelocity)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        long metricCount = analytics.stream()
-                .filter(metric -> metric.getTeam().equals(team))
-                .count();
+        BigDecimal totalVelocity = BigDecimal.ZERO;
+        long metricCount = 0;
+        for (Analytic metric : analytics) {
+            if (metric.getTeam().equals(team)) {
+                BigDecimal velocity = metric.getVelocity() != null ? metric.getVelocity() : BigDecimal.ZERO;
+                totalVelocity = totalVelocity.add(velocity.multiply(BigDecimal.valueOf(metric.getSampleCount())));
+                metricCount += metric.getSampleCount();
+            }
+        }
 
         return metricCount > 0 ? totalVelocity.divide(BigDecimal.valueOf(metricCount), 2, RoundingMode.HALF_UP)
                 : BigDecimal.ZERO;
@@ -0,0 +1,261 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity representing the pre-aggregated analytics of one sprint.
+ * Kept up to date from the daily analytics while the sprint runs and frozen
+ * with the final figures when the sprint is completed.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "sprint_rollups", indexes = {
+        @Index(name = "idx_sprint_rollups_project", columnList = "project_id"),
+        @Index(name = "idx_sprint_rollups_course", columnList = "course_id")
+})
+public class SprintRollup {
+    // === ATTRIBUTES ===
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sprint_id", nullable = false, unique = true)
+    private Long sprintId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "sprint_number")
+    private Integer sprintNumber;
+
+    @Column(name = "sprint_name", length = 100)
+    private String sprintName;
+
+    @Column(name = "total_tasks", nullable = false)
+    private Integer totalTasks = 0;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private Integer completedTasks = 0;
+
+    @Column(name = "total_story_points", nullable = false)
+    private Integer totalStoryPoints = 0;
+
+    @Column(name = "completed_story_points", nullable = false)
+    private Integer completedStoryPoints = 0;
+
+    @Column(nullable = false)
+    private Boolean finalized = false;
+
+    @Column(name = "on_time")
+    private Boolean onTime;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "completed_at")
+    private LocalDate completedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // === CONSTRUCTORS ===
+    public SprintRollup() {
+    }
+
+    public SprintRollup(Sprint sprint) {
+        this.sprintId = sprint.getId();
+        this.projectId = sprint.getProject().getId();
+        this.courseId = sprint.getProject().getCourse() != null ? sprint.getProject().getCourse().getId() : null;
+        this.sprintNumber = sprint.getSprintNumber();
+        this.sprintName = sprint.getName();
+        this.endDate = sprint.getEndDate();
+    }
+
+    // === GETTERS & SETTERS ===
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getSprintNumber() {
+        return sprintNumber;
+    }
+
+    public void setSprintNumber(Integer sprintNumber) {
+        this.sprintNumber = sprintNumber;
+    }
+
+    public String getSprintName() {
+        return sprintName;
+    }
+
+    public void setSprintName(String sprintName) {
+        this.sprintName = sprintName;
+    }
+
+    public Integer getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(Integer totalTasks) {
+        this.totalTasks = totalTasks != null ? totalTasks : 0;
+    }
+
+    public Integer getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(Integer completedTasks) {
+        this.completedTasks = completedTasks != null ? completedTasks : 0;
+    }
+
+    public Integer getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public void setTotalStoryPoints(Integer totalStoryPoints) {
+        this.totalStoryPoints = totalStoryPoints != null ? totalStoryPoints : 0;
+    }
+
+    public Integer getCompletedStoryPoints() {
+        return completedStoryPoints;
+    }
+
+    public void setCompletedStoryPoints(Integer completedStoryPoints) {
+        this.completedStoryPoints = completedStoryPoints != null ? completedStoryPoints : 0;
+    }
+
+    public Boolean getFinalized() {
+        return finalized;
+    }
+
+    public void setFinalized(Boolean finalized) {
+        this.finalized = finalized;
+    }
+
+    public Boolean getOnTime() {
+        return onTime;
+    }
+
+    public void setOnTime(Boolean onTime) {
+        this.onTime = onTime;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalDate getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDate completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * Marks the rollup as final for a completed sprint.
+     *
+     * @param completionDate The date the sprint was completed
+     */
+    public void finalizeRollup(LocalDate completionDate) {
+        this.finalized = true;
+        this.completedAt = completionDate;
+        this.onTime = endDate == null || completionDate == null || !completionDate.isAfter(endDate);
+    }
+
+    /**
+     * Calculates story points completion percentage.
+     *
+     * @return Percentage of story points completed (0-100)
+     */
+    public BigDecimal getCompletionPercentage() {
+        if (totalStoryPoints == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(completedStoryPoints * 100L)
+                .divide(BigDecimal.valueOf(totalStoryPoints), 2, RoundingMode.HALF_UP);
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        SprintRollup that = (SprintRollup) o;
+        return Objects.equals(id, that.id) && Objects.equals(sprintId, that.sprintId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, sprintId);
+    }
+
+    @Override
+    public String toString() {
+        return "SprintRollup{" +
+                "id=" + id +
+                ", sprintId=" + sprintId +
+                ", totalStoryPoints=" + totalStoryPoints +
+                ", completedStoryPoints=" + completedStoryPoints +
+                ", finalized=" + finalized +
+                '}';
+    }
+}
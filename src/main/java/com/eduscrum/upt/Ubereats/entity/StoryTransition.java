@@ -0,0 +1,200 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity representing one entry of the user story transition log.
+ * Every status or story point change of a user story appends a row, which is
+ * folded incrementally into burndown, burnup and cumulative flow series.
+ * Identifiers are stored as plain columns so entries outlive deleted stories.
+ *
+ * @author Ana
+ * @author Joao Pacheco
+ * @version 0.2.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "story_transitions", indexes = {
+        @Index(name = "idx_story_transitions_sprint_team", columnList = "sprint_id, team_id, id"),
+        @Index(name = "idx_story_transitions_story", columnList = "story_id")
+})
+public class StoryTransition {
+    // === ATTRIBUTES ===
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "story_id", nullable = false)
+    private Long storyId;
+
+    @Column(name = "sprint_id", nullable = false)
+    private Long sprintId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    /** Previous status, null when the story enters the sprint/team. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private StoryStatus fromStatus;
+
+    /** New status, null when the story leaves the sprint/team. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 20)
+    private StoryStatus toStatus;
+
+    @Column(name = "from_points", nullable = false)
+    private Integer fromPoints = 0;
+
+    @Column(name = "to_points", nullable = false)
+    private Integer toPoints = 0;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // === CONSTRUCTORS ===
+    public StoryTransition() {
+    }
+
+    public StoryTransition(Long storyId, Long sprintId, Long teamId, StoryStatus fromStatus, Integer fromPoints,
+            StoryStatus toStatus, Integer toPoints, LocalDateTime occurredAt) {
+        this.storyId = storyId;
+        this.sprintId = sprintId;
+        this.teamId = teamId;
+        this.fromStatus = fromStatus;
+        this.fromPoints = fromPoints != null ? fromPoints : 0;
+        this.toStatus = toStatus;
+        this.toPoints = toPoints != null ? toPoints : 0;
+        this.occurredAt = occurredAt;
+    }
+
+    // === GETTERS & SETTERS ===
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getStoryId() {
+        return storyId;
+    }
+
+    public void setStoryId(Long storyId) {
+        this.storyId = storyId;
+    }
+
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public StoryStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(StoryStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public StoryStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(StoryStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public Integer getFromPoints() {
+        return fromPoints;
+    }
+
+    public void setFromPoints(Integer fromPoints) {
+        this.fromPoints = fromPoints != null ? fromPoints : 0;
+    }
+
+    public Integer getToPoints() {
+        return toPoints;
+    }
+
+    public void setToPoints(Integer toPoints) {
+        this.toPoints = toPoints != null ? toPoints : 0;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    // === BUSINESS METHODS ===
+    public boolean isEntry() {
+        return fromStatus == null && toStatus != null;
+    }
+
+    public boolean isExit() {
+        return fromStatus != null && toStatus == null;
+    }
+
+    /** Change in committed scope (all points in the sprint/team). */
+    public int getScopeDelta() {
+        int before = fromStatus != null ? fromPoints : 0;
+        int after = toStatus != null ? toPoints : 0;
+        return after - before;
+    }
+
+    /** Change in completed points (points in DONE). */
+    public int getCompletedDelta() {
+        int before = fromStatus == StoryStatus.DONE ? fromPoints : 0;
+        int after = toStatus == StoryStatus.DONE ? toPoints : 0;
+        return after - before;
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        StoryTransition that = (StoryTransition) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "StoryTransition{" +
+                "id=" + id +
+                ", storyId=" + storyId +
+                ", sprintId=" + sprintId +
+                ", teamId=" + teamId +
+                ", fromStatus=" + fromStatus +
+                ", toStatus=" + toStatus +
+                ", fromPoints=" + fromPoints +
+                ", toPoints=" + toPoints +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
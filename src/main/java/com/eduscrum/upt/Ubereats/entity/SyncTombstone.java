@@ -0,0 +1,138 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.eduscrum.upt.Ubereats.entity.enums.SyncEntityType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity recording that an entity was deleted or left a scope, so the
+ * change feed can tell clients to drop their cached copy. A tombstone is
+ * delivered to the members of its team and to its user; it only holds IDs
+ * since the entity itself is gone.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_team_deleted", columnList = "team_id, deleted_at"),
+        @Index(name = "idx_sync_tombstones_user_deleted", columnList = "user_id, deleted_at"),
+        @Index(name = "idx_sync_tombstones_deleted", columnList = "deleted_at")
+})
+public class SyncTombstone {
+    // === ATTRIBUTES ===
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    /** Team whose members must drop the entity, if any. */
+    @Column(name = "team_id")
+    private Long teamId;
+
+    /** User who must drop the entity, if any. */
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // === CONSTRUCTORS ===
+    public SyncTombstone() {
+    }
+
+    public SyncTombstone(SyncEntityType entityType, Long entityId, Long teamId, Long userId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.teamId = teamId;
+        this.userId = userId;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    // === GETTERS & SETTERS ===
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(SyncEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        SyncTombstone that = (SyncTombstone) o;
+        return Objects.equals(id, that.id) && entityType == that.entityType
+                && Objects.equals(entityId, that.entityId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, entityType, entityId);
+    }
+
+    @Override
+    public String toString() {
+        return "SyncTombstone{" +
+                "id=" + id +
+                ", entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", teamId=" + teamId +
+                ", userId=" + userId +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
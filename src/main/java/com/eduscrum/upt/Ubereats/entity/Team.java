@@ -22,7 +22,7 @@ import java.util.stream.Collectors;
  * @author Joao Pacheco
  * @author Francisco
  * 
- * @version 0.9.1
+ * @version 0.11.0 (2026-10-18)
  */
 @Entity
 @Table(name = "teams")
@@ -43,6 +43,10 @@ public class Team {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped by bulk updates whenever a response built from the team changes; null until the first change
+    @Column(name = "aggregate_version", insertable = false, updatable = false)
+    private Long aggregateVersion;
+
     // === RELATIONS ===
     @OneToMany(mappedBy = "team", fetch = FetchType.LAZY)
     private List<Project> projects = new ArrayList<>();
@@ -97,6 +101,10 @@ public class Team {
         this.updatedAt = updatedAt;
     }
 
+    public long getAggregateVersion() {
+        return aggregateVersion != null ? aggregateVersion : 0L;
+    }
+
     public List<Project> getProjects() {
         return projects;
     }
@@ -203,6 +211,8 @@ public class Team {
 
     /**
      * Calculates average velocity from progress metrics.
+     * Compacted rows are weighted by the number of daily snapshots they stand
+     * for, so the result is the same before and after compaction.
      *
      * @return The average velocity as BigDecimal
      */
@@ -210,12 +220,30 @@ public class Team {
         if (analytics.isEmpty())
             return BigDecimal.ZERO;
 
-        BigDecimal totalVelocity = analytics.stream()
-                .map(metric -> metric.getVelocity() != null ? metric.getVelocity() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalVelocity = BigDecimal.ZERO;
+        long samples = 0;
+        for (Analytic metric : analytics) {
+            BigDecimal velocity = metric.getVelocity() != null ? metric.getVelocity() : BigDecimal.ZERO;
+            totalVelocity = totalVelocity.add(velocity.multiply(BigDecimal.valueOf(metric.getSampleCount())));
+            samples += metric.getSampleCount();
+        }
+
+        return averageVelocity(totalVelocity, samples);
+    }
+
+    /**
+     * Averages velocity snapshots weighted by their sample counts.
+     *
+     * @param weightedVelocity The sum of each velocity times its sample count
+     * @param samples          The sum of the sample counts
+     * @return The average velocity, zero without samples
+     */
+    public static BigDecimal averageVelocity(BigDecimal weightedVelocity, long samples) {
+        if (samples == 0)
+            return BigDecimal.ZERO;
 
-        return totalVelocity.divide(
-                new BigDecimal(analytics.size()),
+        return weightedVelocity.divide(
+                BigDecimal.valueOf(samples),
                 2,
                 RoundingMode.HALF_UP);
     }
@@ -229,11 +257,25 @@ public class Team {
         if (analytics.isEmpty())
             return BigDecimal.ZERO;
         Analytic latest = getLatestAnalytic();
-        if (latest == null || latest.getTotalTasks() == 0)
+        if (latest == null)
             return BigDecimal.ZERO;
 
-        return new BigDecimal(latest.getCompletedTasks())
-                .divide(new BigDecimal(latest.getTotalTasks()), 4, RoundingMode.HALF_UP)
+        return progress(latest.getCompletedTasks(), latest.getTotalTasks());
+    }
+
+    /**
+     * Calculates a progress percentage from task counts.
+     *
+     * @param completedTasks The completed tasks
+     * @param totalTasks     The total tasks
+     * @return The progress as a percentage (0-100), zero without tasks
+     */
+    public static BigDecimal progress(int completedTasks, int totalTasks) {
+        if (totalTasks == 0)
+            return BigDecimal.ZERO;
+
+        return new BigDecimal(completedTasks)
+                .divide(new BigDecimal(totalTasks), 4, RoundingMode.HALF_UP)
                 .multiply(new BigDecimal("100.0"))
                 .setScale(2, RoundingMode.HALF_UP);
     }
@@ -308,9 +350,20 @@ public class Team {
      * Get team performance rating based on achievements and velocity
      */
     public BigDecimal getPerformanceRating() {
-        BigDecimal velocityScore = getAverageVelocity();
-        BigDecimal achievementScore = new BigDecimal(getTotalPoints());
-        BigDecimal progressScore = getCurrentProgress();
+        return performanceRating(getAverageVelocity(), getTotalPoints(), getCurrentProgress());
+    }
+
+    /**
+     * Weighs velocity, achievement points and progress into a performance
+     * rating.
+     *
+     * @param velocityScore The average velocity
+     * @param totalPoints   The achievement points
+     * @param progressScore The current progress percentage
+     * @return The performance rating
+     */
+    public static BigDecimal performanceRating(BigDecimal velocityScore, int totalPoints, BigDecimal progressScore) {
+        BigDecimal achievementScore = new BigDecimal(totalPoints);
 
         // Weighted calculation (adjust weights as needed)
         BigDecimal rating = velocityScore.multiply(new BigDecimal("0.4"))
@@ -0,0 +1,246 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JPA entity holding the denormalized figures a team response shows, so a
+ * team can be read without loading its projects, members, achievements and
+ * analytics. A row is current while its team version matches the team's
+ * aggregate version.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "team_summary")
+public class TeamSummary {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> NAMES_TYPE = new TypeReference<>() {
+    };
+
+    // === ATTRIBUTES ===
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "team_id", nullable = false, unique = true)
+    private Long teamId;
+
+    /** Aggregate version of the team these figures were computed from. */
+    @Column(name = "team_version", nullable = false)
+    private Long teamVersion;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "project_count", nullable = false)
+    private Integer projectCount = 0;
+
+    /** Project names as a JSON array. */
+    @Column(name = "project_names", columnDefinition = "TEXT")
+    private String projectNames;
+
+    @Column(name = "member_count", nullable = false)
+    private Integer memberCount = 0;
+
+    @Column(name = "total_points", nullable = false)
+    private Integer totalPoints = 0;
+
+    @Column(name = "scrum_master", length = 101)
+    private String scrumMaster;
+
+    @Column(name = "product_owner", length = 101)
+    private String productOwner;
+
+    @Column(name = "current_progress", precision = 7, scale = 2)
+    private BigDecimal currentProgress = BigDecimal.ZERO;
+
+    @Column(name = "performance_rating", precision = 12, scale = 2)
+    private BigDecimal performanceRating = BigDecimal.ZERO;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    // === CONSTRUCTORS ===
+    public TeamSummary() {
+    }
+
+    public TeamSummary(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    // === GETTERS & SETTERS ===
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public Long getTeamVersion() {
+        return teamVersion;
+    }
+
+    public void setTeamVersion(Long teamVersion) {
+        this.teamVersion = teamVersion;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(Integer projectCount) {
+        this.projectCount = projectCount;
+    }
+
+    /**
+     * Gets the project names.
+     *
+     * @return The project names, empty if none are stored or the JSON is invalid
+     */
+    public List<String> getProjectNames() {
+        if (projectNames == null || projectNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return MAPPER.readValue(projectNames, NAMES_TYPE);
+        } catch (JsonProcessingException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Sets the project names, stored as a JSON array.
+     *
+     * @param names The project names
+     */
+    public void setProjectNames(List<String> names) {
+        try {
+            this.projectNames = MAPPER.writeValueAsString(names != null ? names : List.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Project names cannot be serialized", e);
+        }
+    }
+
+    public Integer getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(Integer memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public Integer getTotalPoints() {
+        return totalPoints;
+    }
+
+    public void setTotalPoints(Integer totalPoints) {
+        this.totalPoints = totalPoints;
+    }
+
+    public String getScrumMaster() {
+        return scrumMaster;
+    }
+
+    public void setScrumMaster(String scrumMaster) {
+        this.scrumMaster = scrumMaster;
+    }
+
+    public String getProductOwner() {
+        return productOwner;
+    }
+
+    public void setProductOwner(String productOwner) {
+        this.productOwner = productOwner;
+    }
+
+    public BigDecimal getCurrentProgress() {
+        return currentProgress;
+    }
+
+    public void setCurrentProgress(BigDecimal currentProgress) {
+        this.currentProgress = currentProgress;
+    }
+
+    public BigDecimal getPerformanceRating() {
+        return performanceRating;
+    }
+
+    public void setPerformanceRating(BigDecimal performanceRating) {
+        this.performanceRating = performanceRating;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(LocalDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        TeamSummary that = (TeamSummary) o;
+        return Objects.equals(id, that.id) && Objects.equals(teamId, that.teamId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, teamId);
+    }
+
+    @Override
+    public String toString() {
+        return "TeamSummary{" +
+                "id=" + id +
+                ", teamId=" + teamId +
+                ", teamVersion=" + teamVersion +
+                ", memberCount=" + memberCount +
+                ", totalPoints=" + totalPoints +
+                '}';
+    }
+}
@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
  *
  * @author Joao Pacheco
  * @author Yeswanth Kumar
- * @version 1.1.0
+ * @version 1.2.0 (2026-10-18)
  */
 @Entity
 @Table(name = "users")
@@ -61,6 +61,10 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped by bulk updates whenever a response built from the user changes; null until the first change
+    @Column(name = "aggregate_version", insertable = false, updatable = false)
+    private Long aggregateVersion;
+
     // === RELATIONS ===
     @OneToMany(mappedBy = "teacher", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Course> taughtCourses = new ArrayList<>();
@@ -184,6 +188,10 @@ public class User {
         this.updatedAt = updatedAt;
     }
 
+    public long getAggregateVersion() {
+        return aggregateVersion != null ? aggregateVersion : 0L;
+    }
+
     public List<Course> getTaughtCourses() {
         return taughtCourses;
     }
@@ -15,10 +15,12 @@ import java.util.Objects;
  *
  * @author Yeswanth Kumar
  * @author Joao Pacheco
- * @version 1.2.0
+ * @version 1.3.0 (2026-10-18)
  */
 @Entity
-@Table(name = "user_stories")
+@Table(name = "user_stories", indexes = {
+        @Index(name = "idx_user_stories_team_updated", columnList = "team_id, updated_at")
+})
 public class UserStory {
     // === ATTRIBUTES ===
     @Id
@@ -0,0 +1,234 @@
+package com.eduscrum.upt.Ubereats.entity;
+
+import com.eduscrum.upt.Ubereats.entity.enums.RollupScope;
+import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity representing the pre-aggregated analytics of a project or course
+ * for one week (Monday to Sunday). Totals are taken from the latest daily
+ * snapshot of each sprint/team within the week.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+@Entity
+@Table(name = "weekly_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_weekly_rollups_scope_week", columnNames = { "scope", "scope_id", "week_start" })
+}, indexes = {
+        @Index(name = "idx_weekly_rollups_course_week", columnList = "scope, course_id, week_start")
+})
+public class WeeklyRollup {
+    // === ATTRIBUTES ===
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RollupScope scope;
+
+    /** Project ID or course ID, depending on the scope. */
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    /** Course of the project for PROJECT rows, same as scopeId for COURSE rows. */
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "total_tasks", nullable = false)
+    private Integer totalTasks = 0;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private Integer completedTasks = 0;
+
+    @Column(name = "total_story_points", nullable = false)
+    private Integer totalStoryPoints = 0;
+
+    @Column(name = "completed_story_points", nullable = false)
+    private Integer completedStoryPoints = 0;
+
+    @Column(name = "velocity_sum", precision = 10, scale = 2, nullable = false)
+    private BigDecimal velocitySum = BigDecimal.ZERO;
+
+    @Column(name = "snapshot_count", nullable = false)
+    private Integer snapshotCount = 0;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // === CONSTRUCTORS ===
+    public WeeklyRollup() {
+    }
+
+    public WeeklyRollup(RollupScope scope, Long scopeId, Long courseId, LocalDate weekStart) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.courseId = courseId;
+        this.weekStart = weekStart;
+    }
+
+    // === GETTERS & SETTERS ===
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public RollupScope getScope() {
+        return scope;
+    }
+
+    public void setScope(RollupScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public Integer getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(Integer totalTasks) {
+        this.totalTasks = totalTasks != null ? totalTasks : 0;
+    }
+
+    public Integer getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(Integer completedTasks) {
+        this.completedTasks = completedTasks != null ? completedTasks : 0;
+    }
+
+    public Integer getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public void setTotalStoryPoints(Integer totalStoryPoints) {
+        this.totalStoryPoints = totalStoryPoints != null ? totalStoryPoints : 0;
+    }
+
+    public Integer getCompletedStoryPoints() {
+        return completedStoryPoints;
+    }
+
+    public void setCompletedStoryPoints(Integer completedStoryPoints) {
+        this.completedStoryPoints = completedStoryPoints != null ? completedStoryPoints : 0;
+    }
+
+    public BigDecimal getVelocitySum() {
+        return velocitySum;
+    }
+
+    public void setVelocitySum(BigDecimal velocitySum) {
+        this.velocitySum = velocitySum != null ? velocitySum : BigDecimal.ZERO;
+    }
+
+    public Integer getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    public void setSnapshotCount(Integer snapshotCount) {
+        this.snapshotCount = snapshotCount != null ? snapshotCount : 0;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * Calculates the average velocity of the snapshots in the week.
+     *
+     * @return Average velocity, or zero if there are no snapshots
+     */
+    public BigDecimal getAverageVelocity() {
+        if (snapshotCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return velocitySum.divide(BigDecimal.valueOf(snapshotCount), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Calculates story points completion percentage.
+     *
+     * @return Percentage of story points completed (0-100)
+     */
+    public BigDecimal getCompletionPercentage() {
+        if (totalStoryPoints == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(completedStoryPoints * 100L)
+                .divide(BigDecimal.valueOf(totalStoryPoints), 2, RoundingMode.HALF_UP);
+    }
+
+    // === UTILITY METHODS ===
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        WeeklyRollup that = (WeeklyRollup) o;
+        return Objects.equals(id, that.id) && scope == that.scope && Objects.equals(scopeId, that.scopeId)
+                && Objects.equals(weekStart, that.weekStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, scope, scopeId, weekStart);
+    }
+
+    @Override
+    public String toString() {
+        return "WeeklyRollup{" +
+                "id=" + id +
+                ", scope=" + scope +
+                ", scopeId=" + scopeId +
+                ", weekStart=" + weekStart +
+                ", totalStoryPoints=" + totalStoryPoints +
+                ", completedStoryPoints=" + completedStoryPoints +
+                '}';
+    }
+}
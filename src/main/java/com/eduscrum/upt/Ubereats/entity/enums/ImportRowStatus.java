@@ -0,0 +1,15 @@
+package com.eduscrum.upt.Ubereats.entity.enums;
+
+/**
+ * Enum representing the outcome of one row of a bulk student import.
+ *
+ * @author Joao Pacheco
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum ImportRowStatus {
+    CREATED,
+    ENROLLED,
+    ALREADY_ENROLLED,
+    REJECTED
+}
@@ -0,0 +1,13 @@
+package com.eduscrum.upt.Ubereats.entity.enums;
+
+/**
+ * Enum representing the outcome of a scheduled job run.
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum JobRunStatus {
+    SUCCESS,
+    FAILED
+}
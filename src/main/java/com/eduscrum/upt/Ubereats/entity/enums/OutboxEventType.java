@@ -0,0 +1,14 @@
+package com.eduscrum.upt.Ubereats.entity.enums;
+
+/**
+ * Enum representing the kind of domain event stored in the outbox.
+ *
+ * @author Joao Pacheco
+ * @author Francisco
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum OutboxEventType {
+    STORY_CHANGED,
+    SPRINT_COMPLETED,
+    PROJECT_COMPLETED
+}
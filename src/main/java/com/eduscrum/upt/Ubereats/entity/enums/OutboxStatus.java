@@ -0,0 +1,15 @@
+package com.eduscrum.upt.Ubereats.entity.enums;
+
+/**
+ * Enum representing the delivery state of an outbox event.
+ * Delivered events are deleted, so only pending and dead-lettered events
+ * remain in the table.
+ *
+ * @author Joao Pacheco
+ * @author Francisco
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
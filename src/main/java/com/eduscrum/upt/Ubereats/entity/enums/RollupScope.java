@@ -0,0 +1,13 @@
+package com.eduscrum.upt.Ubereats.entity.enums;
+
+/**
+ * Enum representing the aggregation scope of a weekly analytics rollup.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum RollupScope {
+    PROJECT,
+    COURSE
+}
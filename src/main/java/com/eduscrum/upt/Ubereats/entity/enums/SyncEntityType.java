@@ -0,0 +1,15 @@
+package com.eduscrum.upt.Ubereats.entity.enums;
+
+/**
+ * Enum representing the kinds of entity delivered by the change feed.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public enum SyncEntityType {
+    TEAM,
+    SPRINT,
+    USER_STORY,
+    ACHIEVEMENT
+}
@@ -0,0 +1,36 @@
+package com.eduscrum.upt.Ubereats.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a bounded resource (such as the password hashing
+ * pool) cannot accept more work and the client should retry later.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new ServiceOverloadedException with the specified message.
+     *
+     * @param message           The detail message
+     * @param retryAfterSeconds Seconds after which the client may retry
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return Seconds after which the client may retry
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,7 +17,7 @@ import java.util.List;
  *
  * @author Yeswanth Kumar
  * @author Joao Pacheco
- * @version 0.6.1
+ * @version 0.10.0 (2026-10-18)
  */
 @Repository
 public interface AchievementRepository extends JpaRepository<Achievement, Long> {
@@ -116,4 +118,75 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
      */
     @Query("SELECT a FROM Achievement a ORDER BY a.awardedAt DESC")
     List<Achievement> findLatestAchievements();
+
+    /**
+     * Finds achievements awarded to a user or to one of the given teams
+     * since the given time, with their badges.
+     *
+     * @param userId  The user ID
+     * @param teamIds The team IDs
+     * @param since   Oldest award time to include
+     * @return List of achievements in award order
+     */
+    @Query("SELECT a FROM Achievement a JOIN FETCH a.badge WHERE a.awardedAt >= :since " +
+            "AND (a.awardedToUser.id = :userId OR a.awardedToTeam.id IN :teamIds) ORDER BY a.awardedAt, a.id")
+    List<Achievement> findAwardedSince(@Param("userId") Long userId, @Param("teamIds") Collection<Long> teamIds,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Finds the IDs of the teams holding an achievement of a badge.
+     *
+     * @param badgeId The badge ID
+     * @return List of team IDs
+     */
+    @Query("SELECT DISTINCT a.awardedToTeam.id FROM Achievement a WHERE a.badge.id = :badgeId " +
+            "AND a.awardedToTeam IS NOT NULL")
+    List<Long> findTeamIdsByBadgeId(@Param("badgeId") Long badgeId);
+
+    /**
+     * Sums the points of the individual achievements of the given users in the
+     * projects of a course.
+     *
+     * @param courseId The course ID
+     * @param userIds  The user IDs
+     * @return List of [userId, points] arrays, one per user with achievements
+     */
+    @Query("SELECT a.awardedToUser.id, COALESCE(SUM(a.badge.points), 0) FROM Achievement a " +
+            "WHERE a.project.course.id = :courseId AND a.awardedToUser.id IN :userIds " +
+            "GROUP BY a.awardedToUser.id")
+    List<Object[]> sumUserPointsInCourse(@Param("courseId") Long courseId,
+            @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Sums the points of the achievements of the given teams in the projects
+     * of a course.
+     *
+     * @param courseId The course ID
+     * @param teamIds  The team IDs
+     * @return List of [teamId, points] arrays, one per team with achievements
+     */
+    @Query("SELECT a.awardedToTeam.id, COALESCE(SUM(a.badge.points), 0) FROM Achievement a " +
+            "WHERE a.project.course.id = :courseId AND a.awardedToTeam.id IN :teamIds " +
+            "GROUP BY a.awardedToTeam.id")
+    List<Object[]> sumTeamPointsInCourse(@Param("courseId") Long courseId,
+            @Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Finds the IDs of the courses in which a badge has been awarded.
+     *
+     * @param badgeId The badge ID
+     * @return List of course IDs
+     */
+    @Query("SELECT DISTINCT a.project.course.id FROM Achievement a WHERE a.badge.id = :badgeId")
+    List<Long> findCourseIdsByBadgeId(@Param("badgeId") Long badgeId);
+
+    /**
+     * Sums the badge points of the achievements of the given teams.
+     *
+     * @param teamIds The team IDs
+     * @return List of [teamId, points] arrays, for teams with achievements
+     */
+    @Query("SELECT a.awardedToTeam.id, SUM(a.badge.points) FROM Achievement a " +
+            "WHERE a.awardedToTeam.id IN :teamIds GROUP BY a.awardedToTeam.id")
+    List<Object[]> sumPointsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -2,11 +2,13 @@ package com.eduscrum.upt.Ubereats.repository;
 
 import com.eduscrum.upt.Ubereats.entity.Analytic;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +18,7 @@ import java.util.Optional;
  *
  * @author Joao
  * @author Ana
- * @version 0.8.0
+ * @version 0.9.0
  */
 @Repository
 public interface AnalyticRepository extends JpaRepository<Analytic, Long> {
@@ -42,6 +44,15 @@ public interface AnalyticRepository extends JpaRepository<Analytic, Long> {
      */
     Optional<Analytic> findByTeamIdAndSprintIdAndRecordedDate(Long teamId, Long sprintId, LocalDate recordedDate);
 
+    /**
+     * Finds the most recent analytic of a team in a sprint.
+     *
+     * @param teamId   The team ID
+     * @param sprintId The sprint ID
+     * @return Optional containing the latest analytic
+     */
+    Optional<Analytic> findFirstByTeamIdAndSprintIdOrderByRecordedDateDesc(Long teamId, Long sprintId);
+
     /**
      * Finds analytics by team and project.
      *
@@ -59,4 +70,81 @@ public interface AnalyticRepository extends JpaRepository<Analytic, Long> {
      */
     @Query("SELECT a FROM Analytic a WHERE a.sprint.project.id = :projectId ORDER BY a.sprint.id, a.recordedDate ASC")
     List<Analytic> findByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Sums the latest snapshot of each team in a sprint.
+     * Returns one row: [totalTasks, completedTasks, totalStoryPoints,
+     * storyPointsCompleted, velocitySum, snapshotCount].
+     *
+     * @param sprintId The sprint ID
+     * @return Single-row list with the aggregated values
+     */
+    @Query("SELECT COALESCE(SUM(a.totalTasks), 0), COALESCE(SUM(a.completedTasks), 0), " +
+            "COALESCE(SUM(a.totalStoryPoints), 0), COALESCE(SUM(a.storyPointsCompleted), 0), " +
+            "COALESCE(SUM(a.velocity), 0), COUNT(a) FROM Analytic a WHERE a.sprint.id = :sprintId " +
+            "AND a.recordedDate = (SELECT MAX(b.recordedDate) FROM Analytic b " +
+            "WHERE b.sprint = a.sprint AND b.team = a.team)")
+    List<Object[]> aggregateLatestBySprint(@Param("sprintId") Long sprintId);
+
+    /**
+     * Sums the latest snapshot within a date range of each sprint/team of a
+     * project. Returns one row: [totalTasks, completedTasks, totalStoryPoints,
+     * storyPointsCompleted, velocitySum, snapshotCount].
+     *
+     * @param projectId The project ID
+     * @param from      The first day (inclusive)
+     * @param to        The last day (inclusive)
+     * @return Single-row list with the aggregated values
+     */
+    @Query("SELECT COALESCE(SUM(a.totalTasks), 0), COALESCE(SUM(a.completedTasks), 0), " +
+            "COALESCE(SUM(a.totalStoryPoints), 0), COALESCE(SUM(a.storyPointsCompleted), 0), " +
+            "COALESCE(SUM(a.velocity), 0), COUNT(a) FROM Analytic a WHERE a.sprint.project.id = :projectId " +
+            "AND a.recordedDate = (SELECT MAX(b.recordedDate) FROM Analytic b " +
+            "WHERE b.sprint = a.sprint AND b.team = a.team AND b.recordedDate BETWEEN :from AND :to)")
+    List<Object[]> aggregateLatestByProjectBetween(@Param("projectId") Long projectId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Finds all analytics of a sprint grouped by team in date order.
+     *
+     * @param sprintId The sprint ID
+     * @return List of analytics ordered by team and date
+     */
+    @Query("SELECT a FROM Analytic a WHERE a.sprint.id = :sprintId ORDER BY a.team.id, a.recordedDate ASC")
+    List<Analytic> findBySprintIdOrderByTeamAndDate(@Param("sprintId") Long sprintId);
+
+    /**
+     * Deletes analytics by ID in a single statement.
+     *
+     * @param ids The analytic IDs to delete
+     * @return Number of deleted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Analytic a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Sums the velocities of the given teams' analytics weighted by their
+     * sample counts, as {@code Team.getAverageVelocity()} does.
+     *
+     * @param teamIds The team IDs
+     * @return List of [teamId, weightedVelocity, samples] arrays, for teams with analytics
+     */
+    @Query("SELECT a.team.id, " +
+            "SUM(COALESCE(a.velocity, 0) * CASE WHEN a.sampleCount > 0 THEN a.sampleCount ELSE 1 END), " +
+            "SUM(CASE WHEN a.sampleCount > 0 THEN a.sampleCount ELSE 1 END) " +
+            "FROM Analytic a WHERE a.team.id IN :teamIds GROUP BY a.team.id")
+    List<Object[]> sumWeightedVelocityByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Finds the task counts of the latest analytics of the given teams. Teams
+     * with several analytics on their latest date return each of them.
+     *
+     * @param teamIds The team IDs
+     * @return List of [teamId, completedTasks, totalTasks] arrays ordered by analytic ID
+     */
+    @Query("SELECT a.team.id, a.completedTasks, a.totalTasks FROM Analytic a WHERE a.team.id IN :teamIds " +
+            "AND a.recordedDate = (SELECT MAX(b.recordedDate) FROM Analytic b WHERE b.team = a.team) " +
+            "ORDER BY a.id")
+    List<Object[]> findLatestTaskCountsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +19,7 @@ import java.util.Optional;
  *
  * @author Ana
  * @author Bruna
- * @version 0.9.1
+ * @version 0.10.0 (2026-10-18)
  */
 @Repository
 public interface BadgeRepository extends JpaRepository<Badge, Long> {
@@ -54,6 +55,11 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
         @Query("SELECT b FROM Badge b LEFT JOIN FETCH b.achievements WHERE b.id = :id")
         Optional<Badge> findByIdWithAchievements(@Param("id") Long id);
 
+        // Find badges by IDs with their creator and achievements, for batch lookups
+        @Query("SELECT DISTINCT b FROM Badge b LEFT JOIN FETCH b.createdBy LEFT JOIN FETCH b.achievements " +
+                        "WHERE b.id IN :ids")
+        List<Badge> findWithAchievementsByIdIn(@Param("ids") Collection<Long> ids);
+
         // Find most awarded badges
         @Query("SELECT b, COUNT(a) as awardCount FROM Badge b LEFT JOIN b.achievements a GROUP BY b ORDER BY awardCount DESC")
         List<Object[]> findMostAwardedBadges();
@@ -2,8 +2,11 @@ package com.eduscrum.upt.Ubereats.repository;
 
 import com.eduscrum.upt.Ubereats.entity.CourseEnrollment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +16,7 @@ import java.util.Optional;
  *
  * @author Joao
  * @author Ana
- * @version 1.0.1
+ * @version 1.4.0 (2026-10-18)
  */
 @Repository
 public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollment, Long> {
@@ -40,4 +43,35 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
      * @return true if enrollment exists
      */
     boolean existsByCourseIdAndStudentId(Long courseId, Long studentId);
+
+    /**
+     * Checks if a student is enrolled in a course that is still active.
+     *
+     * @param courseId     The course ID
+     * @param studentEmail The student email
+     * @return true if an active enrollment exists
+     */
+    @Query("SELECT COUNT(e) > 0 FROM CourseEnrollment e WHERE e.course.id = :courseId " +
+            "AND e.student.email = :studentEmail AND e.course.isActive = true")
+    boolean isActivelyEnrolled(@Param("courseId") Long courseId, @Param("studentEmail") String studentEmail);
+
+    /**
+     * Finds which of the given students are already enrolled in a course.
+     *
+     * @param courseId   The course ID
+     * @param studentIds The student IDs to check
+     * @return IDs of the students that are enrolled
+     */
+    @Query("SELECT e.student.id FROM CourseEnrollment e WHERE e.course.id = :courseId AND e.student.id IN :studentIds")
+    List<Long> findEnrolledStudentIds(@Param("courseId") Long courseId,
+            @Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Finds the IDs of the students enrolled in a course.
+     *
+     * @param courseId The course ID
+     * @return List of student IDs
+     */
+    @Query("SELECT e.student.id FROM CourseEnrollment e WHERE e.course.id = :courseId")
+    List<Long> findStudentIdsByCourseId(@Param("courseId") Long courseId);
 }
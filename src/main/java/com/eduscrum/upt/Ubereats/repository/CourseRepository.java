@@ -4,10 +4,12 @@ import com.eduscrum.upt.Ubereats.entity.Course;
 import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.entity.enums.Semester;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +19,7 @@ import java.util.Optional;
  *
  * @author Bruna
  * @author Yeswanth Kumar
- * @version 1.1.0
+ * @version 1.3.0 (2026-10-18)
  */
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -89,4 +91,69 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c WHERE c.isActive = true AND c NOT IN " +
             "(SELECT ce.course FROM CourseEnrollment ce WHERE ce.student.email = :studentEmail)")
     List<Course> findAvailableCoursesForStudent(@Param("studentEmail") String studentEmail);
+
+    /**
+     * Finds the aggregate version of a course, without loading it.
+     *
+     * @param id The course ID
+     * @return Optional containing the version, 0 if it never changed
+     */
+    @Query("SELECT COALESCE(c.aggregateVersion, 0) FROM Course c WHERE c.id = :id")
+    Optional<Long> findAggregateVersionById(@Param("id") Long id);
+
+    /**
+     * Bumps the aggregate version of the given courses. Loaded courses are kept
+     * in the persistence context since the column is never written by
+     * Hibernate.
+     *
+     * @param ids The course IDs
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Course c SET c.aggregateVersion = COALESCE(c.aggregateVersion, 0) + 1 " +
+            "WHERE c.id IN :ids")
+    int incrementAggregateVersions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bumps the aggregate version of the courses of the given projects, after
+     * flushing pending project changes.
+     *
+     * @param projectIds The project IDs
+     * @return Number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Course c SET c.aggregateVersion = COALESCE(c.aggregateVersion, 0) + 1 " +
+            "WHERE c.id IN (SELECT p.course.id FROM Project p WHERE p.id IN :projectIds)")
+    int incrementAggregateVersionsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * Bumps the aggregate version of the courses whose projects the given
+     * teams work on, after flushing pending project changes.
+     *
+     * @param teamIds The team IDs
+     * @return Number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Course c SET c.aggregateVersion = COALESCE(c.aggregateVersion, 0) + 1 " +
+            "WHERE c.id IN (SELECT p.course.id FROM Project p WHERE p.team.id IN :teamIds)")
+    int incrementAggregateVersionsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Bumps the aggregate version of the courses of a teacher.
+     *
+     * @param teacherId The teacher's user ID
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Course c SET c.aggregateVersion = COALESCE(c.aggregateVersion, 0) + 1 " +
+            "WHERE c.teacher.id = :teacherId")
+    int incrementAggregateVersionsByTeacherId(@Param("teacherId") Long teacherId);
+
+    /**
+     * Finds the IDs of the active courses.
+     *
+     * @return List of course IDs
+     */
+    @Query("SELECT c.id FROM Course c WHERE c.isActive = true")
+    List<Long> findActiveIds();
 }
@@ -0,0 +1,100 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.JobLease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for JobLease entity.
+ * Every state change is a single conditional UPDATE, so the database decides
+ * which node wins when several race for the same lease.
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.2.0 (2026-10-18)
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * Takes over an expired or released lease and increments its fencing token.
+     * Expiry is judged against the database clock, so nodes with skewed
+     * clocks agree on it. With a trigger slot, a lease whose job already
+     * completed that slot (or a later one) is not taken.
+     *
+     * @param jobName      The job name
+     * @param owner        The acquiring node
+     * @param leaseSeconds Lease duration from now
+     * @param slot         Scheduled fire time this run is for, or null for an on-demand run
+     * @return 1 if the lease was acquired, 0 if another node holds it or the slot is done
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.fencingToken = l.fencingToken + 1, " +
+            "l.leasedUntil = LOCAL DATETIME + (:leaseSeconds) SECOND, l.acquiredAt = LOCAL DATETIME " +
+            "WHERE l.jobName = :jobName AND (l.owner IS NULL OR l.leasedUntil <= LOCAL DATETIME) " +
+            "AND (:slot IS NULL OR l.lastCompletedSlot IS NULL OR l.lastCompletedSlot < :slot)")
+    int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner,
+            @Param("leaseSeconds") long leaseSeconds, @Param("slot") LocalDateTime slot);
+
+    /**
+     * Extends a lease that is still held by the given owner and token.
+     *
+     * @param jobName      The job name
+     * @param owner        The holding node
+     * @param token        The fencing token received on acquisition
+     * @param leaseSeconds Lease duration from now
+     * @return 1 if the lease was renewed, 0 if it was lost
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.leasedUntil = LOCAL DATETIME + (:leaseSeconds) SECOND " +
+            "WHERE l.jobName = :jobName AND l.owner = :owner AND l.fencingToken = :token " +
+            "AND l.leasedUntil > LOCAL DATETIME")
+    int renew(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") Long token,
+            @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Releases a lease held by the given owner and token, recording the
+     * trigger slot it completed.
+     *
+     * @param jobName       The job name
+     * @param owner         The holding node
+     * @param token         The fencing token received on acquisition
+     * @param completedSlot Scheduled fire time the run completed, or null to keep the recorded one
+     * @return 1 if the lease was released, 0 if it was already lost
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = NULL, " +
+            "l.lastCompletedSlot = COALESCE(:completedSlot, l.lastCompletedSlot) " +
+            "WHERE l.jobName = :jobName AND l.owner = :owner AND l.fencingToken = :token")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") Long token,
+            @Param("completedSlot") LocalDateTime completedSlot);
+
+    /**
+     * Locks a lease that is still held by the given owner and token, for the
+     * rest of the caller's transaction. Writes guarded by this lock commit
+     * only while the token is current: a node taking the lease over waits for
+     * them, and a stale holder finds nothing.
+     *
+     * @param jobName The job name
+     * @param owner   The holding node
+     * @param token   The fencing token received on acquisition
+     * @return The locked lease, or empty if it was lost
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM JobLease l WHERE l.jobName = :jobName AND l.owner = :owner " +
+            "AND l.fencingToken = :token AND l.leasedUntil > LOCAL DATETIME")
+    Optional<JobLease> findHeldForUpdate(@Param("jobName") String jobName, @Param("owner") String owner,
+            @Param("token") Long token);
+}
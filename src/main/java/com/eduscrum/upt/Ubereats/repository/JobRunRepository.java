@@ -0,0 +1,36 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.JobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for JobRun entity.
+ * Provides access to the execution history of scheduled jobs.
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.1.0 (2026-10-18)
+ */
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /**
+     * Finds the most recent run of a job.
+     *
+     * @param jobName The job name
+     * @return Optional containing the latest run
+     */
+    Optional<JobRun> findFirstByJobNameOrderByIdDesc(String jobName);
+
+    /**
+     * Finds the latest runs of a job.
+     *
+     * @param jobName The job name
+     * @return List of the 20 most recent runs, newest first
+     */
+    List<JobRun> findTop20ByJobNameOrderByIdDesc(String jobName);
+}
@@ -0,0 +1,33 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.NumberSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for NumberSequence entity.
+ *
+ * @author Bruna Silva
+ * @author Francisco Costa
+ * @version 0.1.0 (2026-10-18)
+ */
+@Repository
+public interface NumberSequenceRepository extends JpaRepository<NumberSequence, String> {
+
+    /**
+     * Finds a sequence and locks its row until the current transaction ends,
+     * so concurrent reservations on the same sequence are serialized.
+     *
+     * @param name The sequence name
+     * @return Optional containing the locked sequence if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM NumberSequence s WHERE s.name = :name")
+    Optional<NumberSequence> findByNameForUpdate(@Param("name") String name);
+}
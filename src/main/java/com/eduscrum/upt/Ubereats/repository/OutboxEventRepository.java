@@ -0,0 +1,54 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.OutboxEvent;
+import com.eduscrum.upt.Ubereats.entity.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity.
+ * Provides batch access to pending side-effect events.
+ *
+ * @author Joao Pacheco
+ * @author Francisco
+ * @version 0.1.0 (2026-10-18)
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Finds a batch of pending events that are due for delivery.
+     *
+     * @param now      Current time
+     * @param pageable Batch size
+     * @return List of due events, oldest first
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = 'PENDING' AND e.availableAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Counts events in a status.
+     *
+     * @param status The outbox status
+     * @return Number of events
+     */
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * Deletes delivered events.
+     *
+     * @param ids The event IDs
+     * @return Number of events deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
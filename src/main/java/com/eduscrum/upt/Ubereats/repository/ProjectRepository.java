@@ -3,9 +3,14 @@ package com.eduscrum.upt.Ubereats.repository;
 import com.eduscrum.upt.Ubereats.entity.Project;
 import com.eduscrum.upt.Ubereats.entity.enums.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Project entity.
@@ -13,11 +18,72 @@ import java.util.List;
  *
  * @author Francisco
  * @author Ana
- * @version 1.2.0
+ * @version 1.6.0 (2026-10-18)
  */
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByStatusNot(ProjectStatus status);
 
     List<Project> findByCourseIdAndStatusNot(Long courseId, ProjectStatus status);
+
+    /**
+     * Finds the aggregate version of a project, without loading it.
+     *
+     * @param id The project ID
+     * @return Optional containing the version, 0 if it never changed
+     */
+    @Query("SELECT COALESCE(p.aggregateVersion, 0) FROM Project p WHERE p.id = :id")
+    Optional<Long> findAggregateVersionById(@Param("id") Long id);
+
+    /**
+     * Bumps the aggregate version of the given projects. Loaded projects are kept
+     * in the persistence context since the column is never written by
+     * Hibernate.
+     *
+     * @param ids The project IDs
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.aggregateVersion = COALESCE(p.aggregateVersion, 0) + 1 " +
+            "WHERE p.id IN :ids")
+    int incrementAggregateVersions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bumps the aggregate version of every project of a course.
+     *
+     * @param courseId The course ID
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.aggregateVersion = COALESCE(p.aggregateVersion, 0) + 1 " +
+            "WHERE p.course.id = :courseId")
+    int incrementAggregateVersionsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Finds the IDs of the teams assigned to a course's projects.
+     *
+     * @param courseId The course ID
+     * @return List of team IDs
+     */
+    @Query("SELECT DISTINCT p.team.id FROM Project p WHERE p.course.id = :courseId AND p.team IS NOT NULL")
+    List<Long> findTeamIdsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Finds the IDs of the teams assigned to the given projects.
+     *
+     * @param ids The project IDs
+     * @return List of team IDs
+     */
+    @Query("SELECT DISTINCT p.team.id FROM Project p WHERE p.id IN :ids AND p.team IS NOT NULL")
+    List<Long> findTeamIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the project names of the given teams, without loading the
+     * projects.
+     *
+     * @param teamIds The team IDs
+     * @return List of [teamId, name] arrays ordered by project ID
+     */
+    @Query("SELECT p.team.id, p.name FROM Project p WHERE p.team.id IN :teamIds ORDER BY p.id")
+    List<Object[]> findNamesByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -4,11 +4,15 @@ package com.eduscrum.upt.Ubereats.repository;
 import com.eduscrum.upt.Ubereats.entity.Sprint;
 import com.eduscrum.upt.Ubereats.entity.enums.SprintStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +22,7 @@ import java.util.Optional;
  *
  * @author Yeswanth Kumar
  * @author Bruna
- * @version 0.1.0
+ * @version 0.5.0 (2026-10-18)
  */
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
@@ -122,4 +126,146 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
      */
     @Query("SELECT s FROM Sprint s WHERE s.status = 'IN_PROGRESS' AND s.endDate <= :today")
     List<Sprint> findSprintsReadyToComplete(@Param("today") LocalDate today);
+
+    /**
+     * Finds completed sprints past the retention grace period that still have
+     * uncompacted analytics.
+     *
+     * @param cutoff Latest completion date eligible for compaction
+     * @return List of sprint IDs to compact
+     */
+    @Query("SELECT DISTINCT s.id FROM Sprint s JOIN s.analytics a WHERE s.status = 'COMPLETED' " +
+            "AND COALESCE(s.completedAt, s.endDate) <= :cutoff AND (a.compacted IS NULL OR a.compacted = false)")
+    List<Long> findSprintIdsToCompact(@Param("cutoff") LocalDate cutoff);
+
+    /**
+     * Finds a chunk of sprint IDs ready to start.
+     *
+     * @param today    Current date
+     * @param pageable Chunk size
+     * @return List of sprint IDs ready to start, ordered by ID
+     */
+    @Query("SELECT s.id FROM Sprint s WHERE s.status = 'PLANNED' AND s.startDate <= :today ORDER BY s.id")
+    List<Long> findSprintIdsReadyToStart(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * Finds a chunk of sprint IDs ready to complete.
+     *
+     * @param today    Current date
+     * @param pageable Chunk size
+     * @return List of sprint IDs ready to complete, ordered by ID
+     */
+    @Query("SELECT s.id FROM Sprint s WHERE s.status = 'IN_PROGRESS' AND s.endDate <= :today ORDER BY s.id")
+    List<Long> findSprintIdsReadyToComplete(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * Finds a chunk of in-progress sprints past their end date, after a given ID.
+     *
+     * @param today    Current date
+     * @param afterId  Last sprint ID of the previous chunk
+     * @param pageable Chunk size
+     * @return List of overdue sprints, ordered by ID
+     */
+    @Query("SELECT s FROM Sprint s WHERE s.status = 'IN_PROGRESS' AND s.endDate < :today AND s.id > :afterId " +
+            "ORDER BY s.id")
+    List<Sprint> findOverdueSprintsAfter(@Param("today") LocalDate today, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Starts the given planned sprints in a single statement.
+     *
+     * @param ids The sprint IDs
+     * @param now Update timestamp
+     * @return Number of sprints started
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Sprint s SET s.status = com.eduscrum.upt.Ubereats.entity.enums.SprintStatus.IN_PROGRESS, " +
+            "s.updatedAt = :now WHERE s.id IN :ids AND s.status = 'PLANNED'")
+    int startSprints(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Completes the given in-progress sprints in a single statement, closing
+     * each one on its planned end date.
+     *
+     * @param ids The sprint IDs
+     * @param now Update timestamp
+     * @return Number of sprints completed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Sprint s SET s.status = com.eduscrum.upt.Ubereats.entity.enums.SprintStatus.COMPLETED, " +
+            "s.completedAt = s.endDate, s.updatedAt = :now WHERE s.id IN :ids AND s.status = 'IN_PROGRESS'")
+    int completeSprintsOnEndDate(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Finds a sprint with its project and team, for the sprint board.
+     *
+     * @param id The sprint ID
+     * @return Optional containing the sprint
+     */
+    @Query("SELECT s FROM Sprint s JOIN FETCH s.project p LEFT JOIN FETCH p.team WHERE s.id = :id")
+    Optional<Sprint> findWithProjectAndTeamById(@Param("id") Long id);
+
+    /**
+     * Finds the sprints with the given IDs, with their projects.
+     *
+     * @param ids The sprint IDs
+     * @return List of the sprints found, in no particular order
+     */
+    @Query("SELECT s FROM Sprint s LEFT JOIN FETCH s.project WHERE s.id IN :ids")
+    List<Sprint> findWithProjectByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds sprints of the given teams' projects updated since the given
+     * time, with their projects.
+     *
+     * @param teamIds The team IDs
+     * @param since   Oldest update time to include
+     * @return List of sprints in update order
+     */
+    @Query("SELECT s FROM Sprint s JOIN FETCH s.project p WHERE p.team.id IN :teamIds " +
+            "AND s.updatedAt >= :since ORDER BY s.updatedAt, s.id")
+    List<Sprint> findByTeamIdsUpdatedSince(@Param("teamIds") Collection<Long> teamIds,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Finds the board version of a sprint.
+     *
+     * @param id The sprint ID
+     * @return Optional containing the version, 0 if the board never changed
+     */
+    @Query("SELECT COALESCE(s.boardVersion, 0) FROM Sprint s WHERE s.id = :id")
+    Optional<Long> findBoardVersionById(@Param("id") Long id);
+
+    /**
+     * Bumps the board version of the given sprints. Loaded sprints are kept in
+     * the persistence context since the column is never written by Hibernate.
+     *
+     * @param ids The sprint IDs
+     * @return Number of sprints updated
+     */
+    @Modifying
+    @Query("UPDATE Sprint s SET s.boardVersion = COALESCE(s.boardVersion, 0) + 1 WHERE s.id IN :ids")
+    int incrementBoardVersions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bumps the board version of every sprint of the projects of the given
+     * teams.
+     *
+     * @param teamIds The team IDs
+     * @return Number of sprints updated
+     */
+    @Modifying
+    @Query("UPDATE Sprint s SET s.boardVersion = COALESCE(s.boardVersion, 0) + 1 " +
+            "WHERE s.project.id IN (SELECT p.id FROM Project p WHERE p.team.id IN :teamIds)")
+    int incrementBoardVersionsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Bumps the board version of every sprint of the given projects.
+     *
+     * @param projectIds The project IDs
+     * @return Number of sprints updated
+     */
+    @Modifying
+    @Query("UPDATE Sprint s SET s.boardVersion = COALESCE(s.boardVersion, 0) + 1 WHERE s.project.id IN :projectIds")
+    int incrementBoardVersionsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
 }
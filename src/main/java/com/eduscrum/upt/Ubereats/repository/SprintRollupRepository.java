@@ -0,0 +1,59 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.SprintRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for SprintRollup entity.
+ * Provides access to pre-aggregated sprint analytics.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.2.0 (2026-10-18)
+ */
+@Repository
+public interface SprintRollupRepository extends JpaRepository<SprintRollup, Long> {
+
+    /**
+     * Finds the rollup of a sprint.
+     *
+     * @param sprintId The sprint ID
+     * @return Optional containing the rollup
+     */
+    Optional<SprintRollup> findBySprintId(Long sprintId);
+
+    /**
+     * Finds the rollup of a sprint and locks its row until the current
+     * transaction ends, so concurrent refreshes of the sprint are serialized.
+     *
+     * @param sprintId The sprint ID
+     * @return Optional containing the locked rollup if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SprintRollup r WHERE r.sprintId = :sprintId")
+    Optional<SprintRollup> findBySprintIdForUpdate(@Param("sprintId") Long sprintId);
+
+    /**
+     * Finds all sprint rollups of a project.
+     *
+     * @param projectId The project ID
+     * @return List of rollups ordered by sprint number
+     */
+    List<SprintRollup> findByProjectIdOrderBySprintNumberAsc(Long projectId);
+
+    /**
+     * Finds all sprint rollups of a course.
+     *
+     * @param courseId The course ID
+     * @return List of rollups ordered by project and sprint number
+     */
+    List<SprintRollup> findByCourseIdOrderByProjectIdAscSprintNumberAsc(Long courseId);
+}
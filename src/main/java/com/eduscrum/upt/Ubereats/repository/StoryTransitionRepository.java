@@ -0,0 +1,89 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.StoryTransition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for StoryTransition entity.
+ * Provides append and incremental read access to the transition log.
+ *
+ * @author Ana
+ * @author Joao Pacheco
+ * @version 0.2.0 (2026-10-18)
+ */
+@Repository
+public interface StoryTransitionRepository extends JpaRepository<StoryTransition, Long> {
+
+    /**
+     * Finds transitions of a sprint appended after a given log position.
+     *
+     * @param sprintId The sprint ID
+     * @param teamId   The team ID (optional, null for the whole sprint)
+     * @param afterId  The last transition ID already folded (0 for all)
+     * @return Transitions in log order
+     */
+    @Query("SELECT t FROM StoryTransition t WHERE t.sprintId = :sprintId " +
+            "AND (:teamId IS NULL OR t.teamId = :teamId) AND t.id > :afterId ORDER BY t.id ASC")
+    List<StoryTransition> findAfter(@Param("sprintId") Long sprintId, @Param("teamId") Long teamId,
+            @Param("afterId") Long afterId);
+
+    /**
+     * Finds all transitions of a sprint in time order, for rebuilding a
+     * series after an entry with an earlier timestamp was appended.
+     *
+     * @param sprintId The sprint ID
+     * @param teamId   The team ID (optional, null for the whole sprint)
+     * @return Transitions ordered by time, then log order
+     */
+    @Query("SELECT t FROM StoryTransition t WHERE t.sprintId = :sprintId " +
+            "AND (:teamId IS NULL OR t.teamId = :teamId) ORDER BY t.occurredAt ASC, t.id ASC")
+    List<StoryTransition> findAllInTimeOrder(@Param("sprintId") Long sprintId, @Param("teamId") Long teamId);
+
+    /**
+     * Checks if a sprint already has transitions in the log.
+     *
+     * @param sprintId The sprint ID
+     * @return true if at least one transition exists
+     */
+    boolean existsBySprintId(Long sprintId);
+
+    /**
+     * Checks if a user story already has transitions in the log.
+     *
+     * @param storyId The user story ID
+     * @return true if at least one transition exists
+     */
+    boolean existsByStoryId(Long storyId);
+
+    /**
+     * Finds a transition of a user story with a locking read, which sees
+     * entries committed after the transaction started.
+     *
+     * @param storyId The user story ID
+     * @return Optional containing a transition of the story
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StoryTransition> findFirstByStoryId(Long storyId);
+
+    /**
+     * Counts transitions of a sprint up to a given log position.
+     * Used to detect entries committed late with a lower ID than the last one
+     * already folded.
+     *
+     * @param sprintId The sprint ID
+     * @param teamId   The team ID (optional, null for the whole sprint)
+     * @param upToId   The last transition ID already folded
+     * @return Number of transitions with ID lower or equal to upToId
+     */
+    @Query("SELECT COUNT(t) FROM StoryTransition t WHERE t.sprintId = :sprintId " +
+            "AND (:teamId IS NULL OR t.teamId = :teamId) AND t.id <= :upToId")
+    long countUpTo(@Param("sprintId") Long sprintId, @Param("teamId") Long teamId, @Param("upToId") Long upToId);
+}
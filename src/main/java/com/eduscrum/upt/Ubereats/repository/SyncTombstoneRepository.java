@@ -0,0 +1,62 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for SyncTombstone entity.
+ * Provides the deletions delivered by the change feed.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    /**
+     * Finds the tombstones addressed to a user or to one of their teams.
+     *
+     * @param userId  The user ID
+     * @param teamIds The IDs of the user's teams
+     * @param since   Oldest deletion time to include
+     * @return List of tombstones in deletion order
+     */
+    @Query("SELECT t FROM SyncTombstone t WHERE t.deletedAt >= :since " +
+            "AND (t.userId = :userId OR t.teamId IN :teamIds) ORDER BY t.deletedAt, t.id")
+    List<SyncTombstone> findForUserSince(@Param("userId") Long userId, @Param("teamIds") Collection<Long> teamIds,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Records a TEAM tombstone for every active member of the given teams,
+     * e.g. before their memberships are closed.
+     *
+     * @param teamIds   The team IDs
+     * @param deletedAt Time the members left
+     * @return Number of tombstones inserted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO SyncTombstone (entityType, entityId, userId, deletedAt) " +
+            "SELECT com.eduscrum.upt.Ubereats.entity.enums.SyncEntityType.TEAM, tm.team.id, tm.user.id, :deletedAt " +
+            "FROM TeamMember tm WHERE tm.team.id IN :teamIds AND tm.isActive = true")
+    int insertTeamTombstonesForActiveMembers(@Param("teamIds") Collection<Long> teamIds,
+            @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Deletes tombstones older than the given time in a single statement.
+     *
+     * @param before Oldest deletion time to keep
+     * @return Number of tombstones deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
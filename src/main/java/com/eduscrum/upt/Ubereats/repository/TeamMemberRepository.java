@@ -3,10 +3,13 @@ package com.eduscrum.upt.Ubereats.repository;
 import com.eduscrum.upt.Ubereats.entity.TeamMember;
 import com.eduscrum.upt.Ubereats.entity.enums.ScrumRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +19,7 @@ import java.util.Optional;
  *
  * @author Joao
  * @author Ana
- * @version 0.2.1
+ * @version 0.8.0 (2026-10-18)
  */
 @Repository
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
@@ -29,6 +32,16 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
      */
     List<TeamMember> findByTeamIdAndIsActiveTrue(Long teamId);
 
+    /**
+     * Finds active team members by team ID with their users.
+     *
+     * @param teamId The team ID
+     * @return List of active team members ordered by join date
+     */
+    @Query("SELECT tm FROM TeamMember tm JOIN FETCH tm.user " +
+            "WHERE tm.team.id = :teamId AND tm.isActive = true ORDER BY tm.joinedAt, tm.id")
+    List<TeamMember> findActiveWithUserByTeamId(@Param("teamId") Long teamId);
+
     /**
      * Finds a team member by user ID and team ID.
      *
@@ -38,6 +51,15 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
      */
     Optional<TeamMember> findByUserIdAndTeamId(Long userId, Long teamId);
 
+    /**
+     * Checks if a user is an active member of a team.
+     *
+     * @param userId The user ID
+     * @param teamId The team ID
+     * @return true if an active membership exists
+     */
+    boolean existsByUserIdAndTeamIdAndIsActiveTrue(Long userId, Long teamId);
+
     /**
      * Finds all teams where user is an active member.
      *
@@ -80,4 +102,73 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
      * @return List of team members with the role
      */
     List<TeamMember> findByTeamIdAndRoleAndIsActiveTrue(Long teamId, ScrumRole role);
+
+    /**
+     * Deactivates all active memberships of the given teams in a single
+     * statement. Clears the persistence context afterwards, so entities loaded
+     * before the call must be re-read.
+     *
+     * @param teamIds The team IDs
+     * @param leftAt  Time the members left
+     * @return Number of memberships closed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TeamMember tm SET tm.isActive = false, tm.leftAt = :leftAt " +
+            "WHERE tm.team.id IN :teamIds AND tm.isActive = true")
+    int deactivateActiveMembersByTeamIds(@Param("teamIds") Collection<Long> teamIds,
+            @Param("leftAt") LocalDateTime leftAt);
+
+    /**
+     * Finds the active memberships of the teams working on a course's projects.
+     *
+     * @param courseId The course ID
+     * @return List of [userId, teamId] arrays
+     */
+    @Query("SELECT DISTINCT tm.user.id, tm.team.id FROM TeamMember tm, Project p " +
+            "WHERE p.team = tm.team AND p.course.id = :courseId AND tm.isActive = true")
+    List<Object[]> findActiveMembershipsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Finds the active memberships of the given users in teams working on a
+     * course's projects.
+     *
+     * @param courseId The course ID
+     * @param userIds  The user IDs
+     * @return List of [userId, teamId] arrays
+     */
+    @Query("SELECT DISTINCT tm.user.id, tm.team.id FROM TeamMember tm, Project p " +
+            "WHERE p.team = tm.team AND p.course.id = :courseId AND tm.isActive = true " +
+            "AND tm.user.id IN :userIds")
+    List<Object[]> findActiveCourseMemberships(@Param("courseId") Long courseId,
+            @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Counts the active members of the given teams.
+     *
+     * @param teamIds The team IDs
+     * @return List of [teamId, memberCount] arrays, one per team with active members
+     */
+    @Query("SELECT tm.team.id, COUNT(tm) FROM TeamMember tm WHERE tm.team.id IN :teamIds " +
+            "AND tm.isActive = true GROUP BY tm.team.id")
+    List<Object[]> countActiveMembersByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Finds the IDs of the current and former members of the given teams.
+     *
+     * @param teamIds The team IDs
+     * @return List of user IDs
+     */
+    @Query("SELECT DISTINCT tm.user.id FROM TeamMember tm WHERE tm.team.id IN :teamIds")
+    List<Long> findUserIdsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Finds the roles and names of the active members of the given teams,
+     * without loading the members.
+     *
+     * @param teamIds The team IDs
+     * @return List of [teamId, role, firstName, lastName] arrays ordered by membership ID
+     */
+    @Query("SELECT tm.team.id, tm.role, tm.user.firstName, tm.user.lastName FROM TeamMember tm " +
+            "WHERE tm.team.id IN :teamIds AND tm.isActive = true ORDER BY tm.id")
+    List<Object[]> findActiveRolesByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
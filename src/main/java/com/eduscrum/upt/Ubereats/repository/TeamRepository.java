@@ -2,10 +2,13 @@ package com.eduscrum.upt.Ubereats.repository;
 
 import com.eduscrum.upt.Ubereats.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +18,7 @@ import java.util.Optional;
  *
  * @author Joao Pacheco
  * @author Francisco
- * @version 0.5.0
+ * @version 0.10.0 (2026-10-18)
  */
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
@@ -54,4 +57,86 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             "AND p.status = com.eduscrum.upt.Ubereats.entity.enums.ProjectStatus.COMPLETED")
     Long countCompletedProjectsByTeamInCourse(@Param("teamId") Long teamId, @Param("courseId") Long courseId);
 
+    /**
+     * Finds the IDs of the teams where a user is an active member.
+     *
+     * @param userId The user ID
+     * @return List of team IDs
+     */
+    @Query("SELECT m.team.id FROM TeamMember m WHERE m.user.id = :userId AND m.isActive = true")
+    List<Long> findActiveTeamIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the IDs of the teams working on projects of a teacher's courses.
+     *
+     * @param teacherId The teacher's user ID
+     * @return List of team IDs
+     */
+    @Query("SELECT DISTINCT p.team.id FROM Project p WHERE p.course.teacher.id = :teacherId AND p.team IS NOT NULL")
+    List<Long> findTeamIdsByCourseTeacherId(@Param("teacherId") Long teacherId);
+
+    /**
+     * Marks the given teams as updated, e.g. after a membership change that
+     * alters their members or roles.
+     *
+     * @param ids The team IDs
+     * @param now Update timestamp
+     * @return Number of teams updated
+     */
+    @Modifying
+    @Query("UPDATE Team t SET t.updatedAt = :now WHERE t.id IN :ids")
+    int touchTeams(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Finds the aggregate version of a team, without loading it.
+     *
+     * @param id The team ID
+     * @return Optional containing the version, 0 if it never changed
+     */
+    @Query("SELECT COALESCE(t.aggregateVersion, 0) FROM Team t WHERE t.id = :id")
+    Optional<Long> findAggregateVersionById(@Param("id") Long id);
+
+    /**
+     * Bumps the aggregate version of the given teams. Loaded teams are kept
+     * in the persistence context since the column is never written by
+     * Hibernate.
+     *
+     * @param ids The team IDs
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Team t SET t.aggregateVersion = COALESCE(t.aggregateVersion, 0) + 1 " +
+            "WHERE t.id IN :ids")
+    int incrementAggregateVersions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bumps the aggregate version of the teams of the given projects, after
+     * flushing pending project changes.
+     *
+     * @param projectIds The project IDs
+     * @return Number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Team t SET t.aggregateVersion = COALESCE(t.aggregateVersion, 0) + 1 " +
+            "WHERE t.id IN (SELECT p.team.id FROM Project p WHERE p.id IN :projectIds)")
+    int incrementAggregateVersionsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * Finds the name, creation time and aggregate version of the given teams,
+     * without loading them.
+     *
+     * @param ids The team IDs
+     * @return List of [id, name, createdAt, aggregateVersion] arrays
+     */
+    @Query("SELECT t.id, t.name, t.createdAt, COALESCE(t.aggregateVersion, 0) FROM Team t WHERE t.id IN :ids")
+    List<Object[]> findSummaryFieldsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the names of the given teams, without loading them.
+     *
+     * @param ids The team IDs
+     * @return List of [id, name] arrays
+     */
+    @Query("SELECT t.id, t.name FROM Team t WHERE t.id IN :ids")
+    List<Object[]> findNamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,64 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.TeamSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for TeamSummary entity.
+ * The lookups return each team with its summary only if the summary was
+ * computed from the team's current aggregate version, so a stale or missing
+ * row comes back as null and one query serves a warm read.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Repository
+public interface TeamSummaryRepository extends JpaRepository<TeamSummary, Long> {
+
+    /**
+     * Finds the given teams with their current summaries.
+     *
+     * @param teamIds The team IDs
+     * @return List of [teamId, summary or null] arrays, for the teams that exist
+     */
+    @Query("SELECT t.id, s FROM Team t LEFT JOIN TeamSummary s " +
+            "ON s.teamId = t.id AND s.teamVersion = COALESCE(t.aggregateVersion, 0) WHERE t.id IN :teamIds")
+    List<Object[]> findCurrentByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    /**
+     * Finds the teams a user is an active member of with their current
+     * summaries.
+     *
+     * @param userId The user ID
+     * @return List of [teamId, summary or null] arrays ordered by membership ID
+     */
+    @Query("SELECT t.id, s FROM TeamMember m JOIN m.team t LEFT JOIN TeamSummary s " +
+            "ON s.teamId = t.id AND s.teamVersion = COALESCE(t.aggregateVersion, 0) " +
+            "WHERE m.user.id = :userId AND m.isActive = true ORDER BY m.id")
+    List<Object[]> findCurrentByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the team of a project with its current summary.
+     *
+     * @param projectId The project ID
+     * @return List with one [teamId, summary or null] array, empty if the project has no team
+     */
+    @Query("SELECT t.id, s FROM Project p JOIN p.team t LEFT JOIN TeamSummary s " +
+            "ON s.teamId = t.id AND s.teamVersion = COALESCE(t.aggregateVersion, 0) WHERE p.id = :projectId")
+    List<Object[]> findCurrentByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Finds the stored summaries of the given teams, current or not.
+     *
+     * @param teamIds The team IDs
+     * @return List of the summaries found
+     */
+    List<TeamSummary> findByTeamIdIn(Collection<Long> teamIds);
+}
@@ -5,6 +5,7 @@ import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +15,7 @@ import java.util.Optional;
  *
  * @author Joao Pacheco
  * @author Ana
- * @version 0.6.1
+ * @version 0.9.0 (2026-10-18)
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -82,6 +83,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     List<User> findByIsActiveTrue();
 
+    /**
+     * Finds the users with any of the given usernames.
+     *
+     * @param usernames The usernames
+     * @return List of matching users
+     */
+    List<User> findByUsernameIn(java.util.Collection<String> usernames);
+
+    /**
+     * Finds the users with any of the given emails.
+     *
+     * @param emails The email addresses
+     * @return List of matching users
+     */
+    List<User> findByEmailIn(java.util.Collection<String> emails);
+
     /**
      * Finds students enrolled in a course.
      *
@@ -92,10 +109,42 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findStudentsByCourseId(@org.springframework.data.repository.query.Param("courseId") Long courseId);
 
     /**
-     * Finds the maximum student number for auto-generation.
+     * Finds the maximum student number starting with a prefix. Only used to
+     * seed the student number sequence of a new year.
+     *
+     * @param prefix The student number prefix (2-digit year)
+     * @return Optional containing the max student number with that prefix
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT MAX(u.studentNumber) FROM User u WHERE u.role = 'STUDENT' AND u.studentNumber LIKE CONCAT(:prefix, '%')")
+    Optional<String> findMaxStudentNumberWithPrefix(@org.springframework.data.repository.query.Param("prefix") String prefix);
+
+    /**
+     * Finds the aggregate version of a user, without loading it.
+     *
+     * @param id The user ID
+     * @return Optional containing the version, 0 if it never changed
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT COALESCE(u.aggregateVersion, 0) FROM User u WHERE u.id = :id")
+    Optional<Long> findAggregateVersionById(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * Bumps the aggregate version of a user. A loaded user is kept in the
+     * persistence context since the column is never written by Hibernate.
+     *
+     * @param id The user ID
+     * @return Number of rows updated
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE User u SET u.aggregateVersion = COALESCE(u.aggregateVersion, 0) + 1 " +
+            "WHERE u.id = :id")
+    int incrementAggregateVersion(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * Finds the names of the given users, without loading them.
      *
-     * @return Optional containing the max student number
+     * @param ids The user IDs
+     * @return List of [id, firstName, lastName] arrays
      */
-    @org.springframework.data.jpa.repository.Query("SELECT MAX(u.studentNumber) FROM User u WHERE u.role = 'STUDENT' AND u.studentNumber IS NOT NULL")
-    Optional<String> findMaxStudentNumber();
+    @org.springframework.data.jpa.repository.Query("SELECT u.id, u.firstName, u.lastName FROM User u WHERE u.id IN :ids")
+    List<Object[]> findNamesByIdIn(@org.springframework.data.repository.query.Param("ids") Collection<Long> ids);
 }
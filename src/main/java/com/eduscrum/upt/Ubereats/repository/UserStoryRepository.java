@@ -3,12 +3,18 @@ package com.eduscrum.upt.Ubereats.repository;
 import com.eduscrum.upt.Ubereats.entity.UserStory;
 import com.eduscrum.upt.Ubereats.entity.enums.StoryPriority;
 import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for UserStory entity.
@@ -16,10 +22,10 @@ import java.util.List;
  *
  * @author Francisco
  * @author Ana
- * @version 0.8.0
+ * @version 0.13.0 (2026-10-18)
  */
 @Repository
-public interface UserStoryRepository extends JpaRepository<UserStory, Long> {
+public interface UserStoryRepository extends JpaRepository<UserStory, Long>, UserStoryRepositoryCustom {
 
         /**
          * Finds user stories by sprint ID.
@@ -29,6 +35,31 @@ public interface UserStoryRepository extends JpaRepository<UserStory, Long> {
          */
         List<UserStory> findBySprintId(Long sprintId);
 
+        /**
+         * Finds user stories by sprint ID with their team, assignee and
+         * creator, for the sprint board.
+         *
+         * @param sprintId The sprint ID
+         * @return List of user stories in the sprint ordered by ID
+         */
+        @Query("SELECT us FROM UserStory us LEFT JOIN FETCH us.team LEFT JOIN FETCH us.assignedTo " +
+                        "LEFT JOIN FETCH us.createdBy WHERE us.sprint.id = :sprintId ORDER BY us.id")
+        List<UserStory> findWithPeopleBySprintId(@Param("sprintId") Long sprintId);
+
+        /**
+         * Finds user stories of the given teams updated since the given time,
+         * with their sprint, team, assignee and creator.
+         *
+         * @param teamIds The team IDs
+         * @param since   Oldest update time to include
+         * @return List of user stories in update order
+         */
+        @Query("SELECT us FROM UserStory us JOIN FETCH us.sprint JOIN FETCH us.team LEFT JOIN FETCH us.assignedTo " +
+                        "LEFT JOIN FETCH us.createdBy WHERE us.team.id IN :teamIds AND us.updatedAt >= :since " +
+                        "ORDER BY us.updatedAt, us.id")
+        List<UserStory> findByTeamIdsUpdatedSince(@Param("teamIds") Collection<Long> teamIds,
+                        @Param("since") LocalDateTime since);
+
         /**
          * Finds user stories by team ID.
          *
@@ -239,4 +270,61 @@ public interface UserStoryRepository extends JpaRepository<UserStory, Long> {
         @Query("SELECT COALESCE(SUM(us.storyPoints), 0) FROM UserStory us WHERE us.sprint.id = :sprintId AND us.team.id = :teamId AND us.status = com.eduscrum.upt.Ubereats.entity.enums.StoryStatus.DONE")
         Integer sumCompletedStoryPointsBySprintIdAndTeamId(@Param("sprintId") Long sprintId,
                         @Param("teamId") Long teamId);
+
+        /**
+         * Counts total user stories for a sprint (all teams).
+         *
+         * @param sprintId The sprint ID
+         * @return Count of user stories
+         */
+        @Query("SELECT COUNT(us) FROM UserStory us WHERE us.sprint.id = :sprintId")
+        Integer countBySprint(@Param("sprintId") Long sprintId);
+
+        /**
+         * Counts completed user stories for a sprint (all teams).
+         *
+         * @param sprintId The sprint ID
+         * @return Count of completed user stories
+         */
+        @Query("SELECT COUNT(us) FROM UserStory us WHERE us.sprint.id = :sprintId AND us.status = com.eduscrum.upt.Ubereats.entity.enums.StoryStatus.DONE")
+        Integer countCompletedBySprint(@Param("sprintId") Long sprintId);
+
+        /**
+         * Counts the completed stories of the given assignees in the projects of
+         * a course and sums their story points.
+         *
+         * @param courseId The course ID
+         * @param userIds  The assignee user IDs
+         * @return List of [userId, storyCount, storyPoints] arrays
+         */
+        @Query("SELECT us.assignedTo.id, COUNT(us), COALESCE(SUM(us.storyPoints), 0) FROM UserStory us " +
+                        "WHERE us.sprint.project.course.id = :courseId " +
+                        "AND us.assignedTo.id IN :userIds " +
+                        "AND us.status = com.eduscrum.upt.Ubereats.entity.enums.StoryStatus.DONE " +
+                        "GROUP BY us.assignedTo.id")
+        List<Object[]> sumCompletedStoriesByAssigneeInCourse(@Param("courseId") Long courseId,
+                        @Param("userIds") Collection<Long> userIds);
+
+        /**
+         * Finds a user story and locks its row until the end of the
+         * transaction.
+         *
+         * @param id The user story ID
+         * @return Optional containing the locked user story
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT us FROM UserStory us WHERE us.id = :id")
+        Optional<UserStory> findForUpdateById(@Param("id") Long id);
+
+        /**
+         * Finds the IDs of user stories that have no entry in the transition
+         * log, after a given ID.
+         *
+         * @param afterId  The last ID already handled (0 for all)
+         * @param pageable The chunk size
+         * @return Story IDs in ascending order
+         */
+        @Query("SELECT us.id FROM UserStory us WHERE us.id > :afterId AND NOT EXISTS " +
+                        "(SELECT t.id FROM StoryTransition t WHERE t.storyId = us.id) ORDER BY us.id")
+        List<Long> findUnloggedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
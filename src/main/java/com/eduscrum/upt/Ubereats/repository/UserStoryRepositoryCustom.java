@@ -0,0 +1,34 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.UserStory;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Projection queries for UserStory that select only some columns.
+ *
+ * @author Francisco
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public interface UserStoryRepositoryCustom {
+
+    /**
+     * Finds user stories by optional criteria, loading only the given
+     * attributes. The stories are detached and partially populated: their id
+     * and the requested attributes are set, everything else keeps its default.
+     * Attributes of a related entity are written as {@code sprint.name};
+     * the related entity is only set when it exists.
+     *
+     * @param sprintId     The sprint ID (optional)
+     * @param teamId       The team ID (optional)
+     * @param status       The story status (optional)
+     * @param assignedToId The assigned user ID (optional)
+     * @param attributes   The attributes to load
+     * @return The matching user stories ordered by ID
+     */
+    List<UserStory> findPartialByCriteria(Long sprintId, Long teamId, StoryStatus status, Long assignedToId,
+            Collection<String> attributes);
+}
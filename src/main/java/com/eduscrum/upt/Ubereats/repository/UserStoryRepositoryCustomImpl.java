@@ -0,0 +1,122 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.UserStory;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Criteria API implementation of {@link UserStoryRepositoryCustom}.
+ *
+ * @author Francisco
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+public class UserStoryRepositoryCustomImpl implements UserStoryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserStory> findPartialByCriteria(Long sprintId, Long teamId, StoryStatus status, Long assignedToId,
+            Collection<String> attributes) {
+        // A related entity's id comes before its other attributes, so a missing relation is known when they are read
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        for (String attribute : attributes) {
+            int dot = attribute.indexOf('.');
+            if (dot > 0) {
+                columns.add(attribute.substring(0, dot) + ".id");
+            }
+            columns.add(attribute);
+        }
+        List<String> paths = new ArrayList<>(columns);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<UserStory> story = query.from(UserStory.class);
+        Map<String, Join<UserStory, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            selections.add(path(story, joins, path));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (sprintId != null) {
+            predicates.add(cb.equal(story.get("sprint").get("id"), sprintId));
+        }
+        if (teamId != null) {
+            predicates.add(cb.equal(story.get("team").get("id"), teamId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(story.get("status"), status));
+        }
+        if (assignedToId != null) {
+            predicates.add(cb.equal(story.get("assignedTo").get("id"), assignedToId));
+        }
+        query.multiselect(selections)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(story.get("id")));
+
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
+        List<UserStory> stories = new ArrayList<>(rows.size());
+        Set<String> missingRelations = new HashSet<>();
+        for (Tuple row : rows) {
+            UserStory partial = new UserStory();
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(partial);
+            wrapper.setAutoGrowNestedPaths(true);
+            missingRelations.clear();
+            for (int i = 0; i < paths.size(); i++) {
+                String path = paths.get(i);
+                Object value = row.get(i);
+                int dot = path.indexOf('.');
+                if (dot < 0) {
+                    wrapper.setPropertyValue(path, value);
+                    continue;
+                }
+                String relation = path.substring(0, dot);
+                if (value == null && path.endsWith(".id")) {
+                    missingRelations.add(relation);
+                } else if (!missingRelations.contains(relation)) {
+                    wrapper.setPropertyValue(path, value);
+                }
+            }
+            stories.add(partial);
+        }
+        return stories;
+    }
+
+    private Path<?> path(Root<UserStory> story, Map<String, Join<UserStory, ?>> joins, String path) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            return story.get(path);
+        }
+        String relation = path.substring(0, dot);
+        String attribute = path.substring(dot + 1);
+        if ("id".equals(attribute)) {
+            // The foreign key column, no join needed
+            return story.get(relation).get(attribute);
+        }
+        return joins.computeIfAbsent(relation, name -> story.join(name, JoinType.LEFT)).get(attribute);
+    }
+}
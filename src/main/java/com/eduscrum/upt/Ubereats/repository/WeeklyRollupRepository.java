@@ -0,0 +1,79 @@
+package com.eduscrum.upt.Ubereats.repository;
+
+import com.eduscrum.upt.Ubereats.entity.WeeklyRollup;
+import com.eduscrum.upt.Ubereats.entity.enums.RollupScope;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for WeeklyRollup entity.
+ * Provides access to pre-aggregated weekly project and course analytics.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.2.0 (2026-10-18)
+ */
+@Repository
+public interface WeeklyRollupRepository extends JpaRepository<WeeklyRollup, Long> {
+
+    /**
+     * Finds the rollup of a scope for a given week.
+     *
+     * @param scope     The rollup scope
+     * @param scopeId   The project or course ID
+     * @param weekStart The Monday of the week
+     * @return Optional containing the rollup
+     */
+    Optional<WeeklyRollup> findByScopeAndScopeIdAndWeekStart(RollupScope scope, Long scopeId, LocalDate weekStart);
+
+    /**
+     * Finds the rollup of a scope for a given week and locks its row until
+     * the current transaction ends, so concurrent refreshes are serialized.
+     *
+     * @param scope     The rollup scope
+     * @param scopeId   The project or course ID
+     * @param weekStart The Monday of the week
+     * @return Optional containing the locked rollup if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WeeklyRollup w WHERE w.scope = :scope AND w.scopeId = :scopeId AND w.weekStart = :weekStart")
+    Optional<WeeklyRollup> findForUpdate(@Param("scope") RollupScope scope, @Param("scopeId") Long scopeId,
+            @Param("weekStart") LocalDate weekStart);
+
+    /**
+     * Finds the rollups of a scope within a range of weeks.
+     *
+     * @param scope   The rollup scope
+     * @param scopeId The project or course ID
+     * @param from    The first week start (inclusive)
+     * @param to      The last week start (inclusive)
+     * @return List of rollups ordered by week
+     */
+    List<WeeklyRollup> findByScopeAndScopeIdAndWeekStartBetweenOrderByWeekStartAsc(RollupScope scope, Long scopeId,
+            LocalDate from, LocalDate to);
+
+    /**
+     * Sums the project rollups of a course for a given week.
+     * Returns one row: [totalTasks, completedTasks, totalStoryPoints,
+     * completedStoryPoints, velocitySum, snapshotCount].
+     *
+     * @param courseId  The course ID
+     * @param weekStart The Monday of the week
+     * @return Single-row list with the aggregated values
+     */
+    @Query("SELECT COALESCE(SUM(w.totalTasks), 0), COALESCE(SUM(w.completedTasks), 0), " +
+            "COALESCE(SUM(w.totalStoryPoints), 0), COALESCE(SUM(w.completedStoryPoints), 0), " +
+            "COALESCE(SUM(w.velocitySum), 0), COALESCE(SUM(w.snapshotCount), 0) " +
+            "FROM WeeklyRollup w WHERE w.scope = com.eduscrum.upt.Ubereats.entity.enums.RollupScope.PROJECT " +
+            "AND w.courseId = :courseId AND w.weekStart = :weekStart")
+    List<Object[]> aggregateProjectsOfCourse(@Param("courseId") Long courseId,
+            @Param("weekStart") LocalDate weekStart);
+}
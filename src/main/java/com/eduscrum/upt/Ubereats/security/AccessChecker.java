@@ -0,0 +1,286 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import com.eduscrum.upt.Ubereats.repository.CourseEnrollmentRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Access checks on teams and courses, with a short-lived cache of their
+ * decisions keyed by (check, principal, resource). Checks such as "is this
+ * user the teacher of course Y" run on most requests; the cache answers
+ * repeated ones without a query.
+ *
+ * <p>
+ * Services that change memberships, enrollments or courses invalidate the
+ * affected resource, both immediately and again when their transaction
+ * completes, so a decision read in between cannot outlive the change. Each
+ * invalidation also bumps the generation of the resource, and a query that
+ * ran across an invalidation does not cache its answer. The TTL bounds
+ * staleness for changes made on other nodes.
+ * </p>
+ *
+ * <p>
+ * The cache is a bounded LRU map: past the maximum size, the least recently
+ * used decision is dropped. Decisions are also indexed by team or course, so
+ * invalidating a resource touches only its own entries.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.3.0 (2026-10-18)
+ */
+@Component
+public class AccessChecker {
+
+    /**
+     * Kinds of cached access decisions.
+     */
+    enum Check {
+        TEAM_MEMBER, COURSE_TEACHER, COURSE_STUDENT
+    }
+
+    private final TeamMemberRepository teamMemberRepository;
+    private final CourseRepository courseRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    // Access-ordered, so iteration starts at the least recently used decision; guarded by itself
+    private final LinkedHashMap<Key, Decision> decisions = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Resource, Set<Key>> keysByResource = new HashMap<>();
+    // Invalidations per resource and of the whole cache; guarded by decisions
+    private final Map<Resource, Long> generations = new HashMap<>();
+    private long clears;
+    private final Map<Check, Counter> hits = new EnumMap<>(Check.class);
+    private final Map<Check, Counter> misses = new EnumMap<>(Check.class);
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    /**
+     * Constructs a new AccessChecker with required dependencies.
+     *
+     * @param teamMemberRepository Repository for team member data access
+     * @param courseRepository     Repository for course data access
+     * @param enrollmentRepository Repository for enrollment data access
+     * @param meterRegistry        Registry for cache metrics
+     * @param ttlMs                How long a decision is reused
+     * @param maxEntries           Cached decisions before the least recently used are dropped
+     */
+    @Autowired
+    public AccessChecker(TeamMemberRepository teamMemberRepository, CourseRepository courseRepository,
+            CourseEnrollmentRepository enrollmentRepository, MeterRegistry meterRegistry,
+            @Value("${app.security.access-cache.ttl-ms:30000}") long ttlMs,
+            @Value("${app.security.access-cache.max-entries:100000}") int maxEntries) {
+        this(teamMemberRepository, courseRepository, enrollmentRepository, meterRegistry, ttlMs, maxEntries,
+                System::nanoTime);
+    }
+
+    AccessChecker(TeamMemberRepository teamMemberRepository, CourseRepository courseRepository,
+            CourseEnrollmentRepository enrollmentRepository, MeterRegistry meterRegistry, long ttlMs,
+            int maxEntries, LongSupplier clock) {
+        this.teamMemberRepository = teamMemberRepository;
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+
+        for (Check check : Check.values()) {
+            String tag = check.name().toLowerCase(Locale.ROOT);
+            hits.put(check, Counter.builder("auth.access.cache").tag("check", tag).tag("result", "hit")
+                    .description("Access decisions answered from the cache").register(meterRegistry));
+            misses.put(check, Counter.builder("auth.access.cache").tag("check", tag).tag("result", "miss")
+                    .description("Access decisions that ran a query").register(meterRegistry));
+        }
+        Gauge.builder("auth.access.cache.size", this, AccessChecker::size)
+                .description("Cached access decisions")
+                .register(meterRegistry);
+    }
+
+    // region ACCESS CHECKS
+
+    /**
+     * Checks if a user is an active member of a team.
+     *
+     * @param userId The user ID
+     * @param teamId The team ID
+     * @return true if the user is an active team member
+     */
+    public boolean isTeamMember(Long userId, Long teamId) {
+        return decide(Check.TEAM_MEMBER, userId, teamId,
+                () -> teamMemberRepository.existsByUserIdAndTeamIdAndIsActiveTrue(userId, teamId));
+    }
+
+    /**
+     * Checks if a user is the teacher of a course.
+     *
+     * @param courseId     The course ID
+     * @param teacherEmail The email of the user
+     * @return true if the user is the course teacher
+     */
+    public boolean isCourseTeacher(Long courseId, String teacherEmail) {
+        return decide(Check.COURSE_TEACHER, teacherEmail, courseId,
+                () -> courseRepository.isCourseTeacher(courseId, teacherEmail));
+    }
+
+    /**
+     * Checks if a student is enrolled in a course that is still active.
+     *
+     * @param courseId     The course ID
+     * @param studentEmail The email of the student
+     * @return true if the student is enrolled
+     */
+    public boolean isStudentEnrolled(Long courseId, String studentEmail) {
+        return decide(Check.COURSE_STUDENT, studentEmail, courseId,
+                () -> enrollmentRepository.isActivelyEnrolled(courseId, studentEmail));
+    }
+
+    // region INVALIDATION
+
+    /**
+     * Drops cached decisions about a team, e.g. after a membership change.
+     *
+     * @param teamId The team ID
+     */
+    public void invalidateTeam(Long teamId) {
+        invalidate(List.of(new Resource(true, teamId)));
+    }
+
+    /**
+     * Drops cached decisions about several teams.
+     *
+     * @param teamIds The team IDs
+     */
+    public void invalidateTeams(Collection<Long> teamIds) {
+        invalidate(teamIds.stream().map(teamId -> new Resource(true, teamId)).toList());
+    }
+
+    /**
+     * Drops cached decisions about a course, e.g. after an enrollment or a
+     * change of its active state.
+     *
+     * @param courseId The course ID
+     */
+    public void invalidateCourse(Long courseId) {
+        invalidate(List.of(new Resource(false, courseId)));
+    }
+
+    /**
+     * Drops every cached decision.
+     */
+    public void invalidateAll() {
+        synchronized (decisions) {
+            decisions.clear();
+            keysByResource.clear();
+            generations.clear();
+            clears++;
+        }
+    }
+
+    // region UTILITY METHODS
+
+    private boolean decide(Check check, Object principal, Long resourceId, BooleanSupplier query) {
+        if (principal == null || resourceId == null) {
+            return false;
+        }
+        Key key = new Key(check, principal, resourceId);
+        long now = clock.getAsLong();
+        Decision cached;
+        long generation;
+        long clearsBefore;
+        synchronized (decisions) {
+            cached = decisions.get(key);
+            generation = generations.getOrDefault(key.resource(), 0L);
+            clearsBefore = clears;
+        }
+        if (cached != null && now - cached.decidedAt < ttlNanos) {
+            hits.get(check).increment();
+            return cached.allowed;
+        }
+
+        misses.get(check).increment();
+        boolean allowed = query.getAsBoolean();
+        synchronized (decisions) {
+            if (clears != clearsBefore || generations.getOrDefault(key.resource(), 0L) != generation) {
+                // Invalidated while the query ran, so the answer may predate the change
+                return allowed;
+            }
+            decisions.put(key, new Decision(allowed, now));
+            keysByResource.computeIfAbsent(key.resource(), resource -> new HashSet<>()).add(key);
+            if (decisions.size() > maxEntries) {
+                Iterator<Key> leastRecentlyUsed = decisions.keySet().iterator();
+                Key evicted = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                Set<Key> siblings = keysByResource.get(evicted.resource());
+                siblings.remove(evicted);
+                if (siblings.isEmpty()) {
+                    keysByResource.remove(evicted.resource());
+                }
+            }
+        }
+        return allowed;
+    }
+
+    private void invalidate(Collection<Resource> resources) {
+        drop(resources);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop(resources);
+                }
+            });
+        }
+    }
+
+    private void drop(Collection<Resource> resources) {
+        synchronized (decisions) {
+            for (Resource resource : resources) {
+                generations.merge(resource, 1L, Long::sum);
+                Set<Key> keys = keysByResource.remove(resource);
+                if (keys != null) {
+                    decisions.keySet().removeAll(keys);
+                }
+            }
+        }
+    }
+
+    private int size() {
+        synchronized (decisions) {
+            return decisions.size();
+        }
+    }
+
+    private record Key(Check check, Object principal, Long resourceId) {
+        private Resource resource() {
+            return new Resource(check == Check.TEAM_MEMBER, resourceId);
+        }
+    }
+
+    // A team, or a course for the teacher and student checks
+    private record Resource(boolean team, Long id) {
+    }
+
+    private record Decision(boolean allowed, long decidedAt) {
+    }
+}
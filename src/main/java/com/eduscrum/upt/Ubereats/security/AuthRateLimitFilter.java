@@ -0,0 +1,67 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filter applying the per-IP rate limit to the authentication endpoints.
+ * Rejected requests get 429 with a Retry-After header before any password
+ * is looked at.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/auth/";
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    /**
+     * Constructs a new AuthRateLimitFilter with required dependencies.
+     *
+     * @param loginRateLimiter Rate limiter for authentication requests
+     */
+    public AuthRateLimitFilter(LoginRateLimiter loginRateLimiter) {
+        this.loginRateLimiter = loginRateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + AUTH_PATH);
+    }
+
+    /**
+     * Lets the request through if its client IP still has a token.
+     *
+     * @param request     The HTTP request
+     * @param response    The HTTP response
+     * @param filterChain The filter chain
+     * @throws ServletException if servlet error occurs
+     * @throws IOException      if I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        if (loginRateLimiter.tryAcquireIp(request.getRemoteAddr())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(loginRateLimiter.getIpRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"message\":\"Too many authentication requests, please retry later.\"}");
+    }
+}
@@ -16,7 +16,7 @@ import java.util.Collections;
  *
  * @author Joao
  * @author Ana
- * @version 0.9.1
+ * @version 0.10.0 (2026-10-18)
  */
 public class CustomUserDetails implements UserDetails {
     private Long id;
@@ -24,6 +24,7 @@ public class CustomUserDetails implements UserDetails {
     private String password;
     private UserRole role;
     private Collection<? extends GrantedAuthority> authorities;
+    private boolean enabled = true;
 
     /**
      * Full constructor for creating UserDetails.
@@ -43,6 +44,22 @@ public class CustomUserDetails implements UserDetails {
         this.authorities = authorities;
     }
 
+    /**
+     * Full constructor for creating UserDetails of a possibly deactivated user.
+     *
+     * @param id          The user ID
+     * @param email       The user email
+     * @param password    The encoded password
+     * @param role        The user role
+     * @param authorities The granted authorities
+     * @param enabled     Whether the account is active
+     */
+    public CustomUserDetails(Long id, String email, String password, UserRole role,
+            Collection<? extends GrantedAuthority> authorities, boolean enabled) {
+        this(id, email, password, role, authorities);
+        this.enabled = enabled;
+    }
+
     /**
      * Static factory method to create UserDetails from User entity.
      *
@@ -58,7 +75,8 @@ public class CustomUserDetails implements UserDetails {
                 user.getEmail(),
                 user.getPassword(),
                 user.getRole(),
-                Collections.singletonList(authority));
+                Collections.singletonList(authority),
+                !Boolean.FALSE.equals(user.getIsActive()));
     }
 
     /** @return The user ID */
@@ -110,6 +128,6 @@ public class CustomUserDetails implements UserDetails {
     /** {@inheritDoc} */
     @Override
     public boolean isEnabled() {
-        return true;
+        return enabled;
     }
 }
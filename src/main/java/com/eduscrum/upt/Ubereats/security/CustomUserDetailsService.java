@@ -3,6 +3,7 @@ package com.eduscrum.upt.Ubereats.security;
 import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.service.UserService;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -12,14 +13,15 @@ import java.util.Optional;
 /**
  * Service that loads user-specific data for Spring Security.
  * Implements UserDetailsService to integrate with Spring Security
- * authentication.
+ * authentication, and UserDetailsPasswordService so passwords are rehashed
+ * when the BCrypt cost is raised.
  *
  * @author Joao
  * @author Ana
- * @version 0.9.2
+ * @version 0.10.0 (2026-10-18)
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService userService;
 
@@ -55,4 +57,18 @@ public class CustomUserDetailsService implements UserDetailsService {
         // Convert User entity to Spring Security UserDetails
         return CustomUserDetails.build(user);
     }
+
+    /**
+     * Stores a password rehashed with the current encoder settings after a
+     * successful login.
+     *
+     * @param user        The authenticated user
+     * @param newPassword The new password hash
+     * @return UserDetails carrying the new hash
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User updated = userService.updatePasswordHash(((CustomUserDetails) user).getId(), newPassword);
+        return CustomUserDetails.build(updated);
+    }
 }
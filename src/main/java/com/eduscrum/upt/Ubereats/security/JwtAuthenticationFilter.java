@@ -1,5 +1,6 @@
 package com.eduscrum.upt.Ubereats.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,31 +14,39 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter that intercepts all HTTP requests.
  * Validates JWT tokens and sets up Spring Security context.
+ * The user is taken from the token claims and checked against the in-memory
+ * revocation set, so authenticating a request needs no database lookup.
  *
  * @author Joao
  * @author Ana
- * @version 0.9.1
+ * @version 0.11.0 (2026-10-18)
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Constructs a new JwtAuthenticationFilter with required dependencies.
      *
      * @param tokenProvider            Provider for JWT token operations
-     * @param customUserDetailsService Service for loading user details
+     * @param customUserDetailsService Service for loading user details of legacy
+     *                                 tokens
+     * @param tokenRevocationService   Service for revoked token checks
      */
     public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
-            CustomUserDetailsService customUserDetailsService) {
+            CustomUserDetailsService customUserDetailsService,
+            TokenRevocationService tokenRevocationService) {
         this.tokenProvider = tokenProvider;
         this.customUserDetailsService = customUserDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -55,19 +64,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Optional<Claims> claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : Optional.empty();
 
             // Validate JWT token and set authentication context
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String email = tokenProvider.getEmailFromToken(jwt);
+            if (claims.isPresent()) {
+                Optional<CustomUserDetails> principal = tokenProvider.getUserDetails(claims.get());
+                Long userId = principal.map(CustomUserDetails::getId).orElse(null);
 
-                // Load user details and create authentication token
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (!tokenRevocationService.isRevoked(claims.get().getId(), userId,
+                        tokenProvider.getIssuedAt(claims.get()))) {
+                    // Legacy tokens without user claims are resolved from the database
+                    UserDetails userDetails = principal.isPresent() ? principal.get()
+                            : customUserDetailsService.loadUserByUsername(claims.get().getSubject());
+                    if (userDetails.isEnabled()) {
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                // Set authentication in security context
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                        // Set authentication in security context
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
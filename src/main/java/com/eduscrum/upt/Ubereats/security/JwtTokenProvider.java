@@ -1,25 +1,39 @@
 package com.eduscrum.upt.Ubereats.security;
 
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Provider for JWT token operations.
  * Handles token generation, validation, and email extraction.
+ * Access tokens are short-lived and carry a unique ID (for revocation) plus
+ * the user ID and role, so a request can be authenticated from the token
+ * alone. The issue time is also kept in milliseconds, since the standard
+ * claim has second precision.
  *
  * @author Joao
  * @author Ana
- * @version 0.9.1
+ * @version 0.11.0 (2026-10-18)
  */
 @Component
 public class JwtTokenProvider {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_ISSUED_AT_MS = "iat_ms";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -42,19 +56,83 @@ public class JwtTokenProvider {
      * @return The generated JWT token string
      */
     public String generateToken(Authentication authentication) {
-        CustomUserDetails userPrincipal = (CustomUserDetails) authentication.getPrincipal();
+        return generateToken((CustomUserDetails) authentication.getPrincipal());
+    }
 
+    /**
+     * Generates a JWT access token for a user.
+     *
+     * @param userPrincipal The user details
+     * @return The generated JWT token string
+     */
+    public String generateToken(CustomUserDetails userPrincipal) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userPrincipal.getUsername())
+                .claim(CLAIM_USER_ID, userPrincipal.getId())
+                .claim(CLAIM_ROLE, userPrincipal.getRole().name())
                 .setIssuedAt(now)
+                .claim(CLAIM_ISSUED_AT_MS, now.getTime())
                 .setExpiration(expiryDate)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Parses and validates a JWT token.
+     *
+     * @param token The JWT token
+     * @return The claims, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody());
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Builds the user details carried by a token, if it has them.
+     * Tokens issued before the user ID and role claims were added return
+     * empty and must be resolved from the database.
+     *
+     * @param claims The token claims
+     * @return The user details, or empty for legacy tokens
+     */
+    public Optional<CustomUserDetails> getUserDetails(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        UserRole userRole = UserRole.valueOf(role);
+        return Optional.of(new CustomUserDetails(userId.longValue(), claims.getSubject(), null, userRole,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userRole.name()))));
+    }
+
+    /**
+     * Gets the issue time of a token, in milliseconds when the token carries
+     * it and in seconds for older tokens.
+     *
+     * @param claims The token claims
+     * @return The issue time, or null if the token has none
+     */
+    public Instant getIssuedAt(Claims claims) {
+        Number issuedAtMs = claims.get(CLAIM_ISSUED_AT_MS, Number.class);
+        if (issuedAtMs != null) {
+            return Instant.ofEpochMilli(issuedAtMs.longValue());
+        }
+        return claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+    }
+
     /**
      * Extracts the user email from a JWT token.
      *
@@ -77,14 +155,13 @@ public class JwtTokenProvider {
      * @return true if valid, false otherwise
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
-        }
+        return parseClaims(token).isPresent();
+    }
+
+    /**
+     * @return Lifetime of access tokens in seconds
+     */
+    public long getAccessTokenValiditySeconds() {
+        return jwtExpiration / 1000;
     }
 }
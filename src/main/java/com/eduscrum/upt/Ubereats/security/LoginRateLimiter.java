@@ -0,0 +1,177 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiter for the authentication endpoints.
+ * Keeps one bucket per client IP (all /api/auth requests) and one per
+ * account (login attempts), so neither a single client nor a guessing attack
+ * on one account can monopolize password verification.
+ *
+ * <p>
+ * Buckets live in memory on each node. Idle buckets are full again and are
+ * dropped when the number of tracked keys exceeds the configured maximum.
+ * The IP bucket is sized for a class signing in together behind one NAT
+ * address; the account bucket is what slows down password guessing.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Buckets ipBuckets;
+    private final Buckets accountBuckets;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new LoginRateLimiter with required dependencies.
+     *
+     * @param meterRegistry          Registry for rejection metrics
+     * @param ipCapacity             Burst size per client IP
+     * @param ipRefillPerMinute      Sustained requests per minute per client IP
+     * @param accountCapacity        Burst size per account
+     * @param accountRefillPerMinute Sustained login attempts per minute per account
+     * @param maxKeys                Tracked keys per bucket map before idle ones are dropped
+     */
+    @Autowired
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+            @Value("${app.security.rate-limit.ip.capacity:1000}") int ipCapacity,
+            @Value("${app.security.rate-limit.ip.refill-per-minute:600}") int ipRefillPerMinute,
+            @Value("${app.security.rate-limit.account.capacity:5}") int accountCapacity,
+            @Value("${app.security.rate-limit.account.refill-per-minute:5}") int accountRefillPerMinute,
+            @Value("${app.security.rate-limit.max-keys:100000}") int maxKeys) {
+        this(meterRegistry, ipCapacity, ipRefillPerMinute, accountCapacity, accountRefillPerMinute, maxKeys,
+                System::nanoTime);
+    }
+
+    LoginRateLimiter(MeterRegistry meterRegistry, int ipCapacity, int ipRefillPerMinute, int accountCapacity,
+            int accountRefillPerMinute, int maxKeys, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.ipBuckets = new Buckets(ipCapacity, ipRefillPerMinute, maxKeys, clock);
+        this.accountBuckets = new Buckets(accountCapacity, accountRefillPerMinute, maxKeys, clock);
+    }
+
+    /**
+     * Takes a token for a request from a client IP.
+     *
+     * @param ip The client address
+     * @return true if the request may proceed
+     */
+    public boolean tryAcquireIp(String ip) {
+        boolean allowed = ipBuckets.tryConsume(ip == null ? "" : ip);
+        if (!allowed) {
+            recordRejection("ip_rate_limit");
+        }
+        return allowed;
+    }
+
+    /**
+     * Takes a token for a login attempt on an account.
+     *
+     * @param emailOrUsername The login name as sent by the client
+     * @return true if the attempt may proceed
+     */
+    public boolean tryAcquireAccount(String emailOrUsername) {
+        String key = emailOrUsername == null ? "" : emailOrUsername.trim().toLowerCase(Locale.ROOT);
+        boolean allowed = accountBuckets.tryConsume(key);
+        if (!allowed) {
+            recordRejection("account_rate_limit");
+        }
+        return allowed;
+    }
+
+    /**
+     * @return Seconds until a client IP bucket gains a token
+     */
+    public long getIpRetryAfterSeconds() {
+        return ipBuckets.secondsPerToken();
+    }
+
+    /**
+     * @return Seconds until an account bucket gains a token
+     */
+    public long getAccountRetryAfterSeconds() {
+        return accountBuckets.secondsPerToken();
+    }
+
+    /**
+     * Counts a rejected authentication attempt.
+     *
+     * @param reason The rejection reason, used as metric tag
+     */
+    public void recordRejection(String reason) {
+        meterRegistry.counter("auth.login.rejected", "reason", reason).increment();
+    }
+
+    /**
+     * Token buckets keyed by client IP or account.
+     */
+    private static final class Buckets {
+        private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+        private final int capacity;
+        private final double tokensPerNano;
+        private final int maxKeys;
+        private final LongSupplier clock;
+
+        private Buckets(int capacity, int refillPerMinute, int maxKeys, LongSupplier clock) {
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.maxKeys = maxKeys;
+            this.clock = clock;
+        }
+
+        private boolean tryConsume(String key) {
+            long now = clock.getAsLong();
+            if (buckets.size() >= maxKeys) {
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            return buckets.computeIfAbsent(key, k -> new Bucket(capacity, now)).tryConsume(now);
+        }
+
+        private long secondsPerToken() {
+            return Math.max(1, (long) Math.ceil(1 / (tokensPerNano * TimeUnit.SECONDS.toNanos(1))));
+        }
+
+        private final class Bucket {
+            private double tokens;
+            private long refilledAt;
+
+            private Bucket(double tokens, long now) {
+                this.tokens = tokens;
+                this.refilledAt = now;
+            }
+
+            private synchronized boolean tryConsume(long now) {
+                refill(now);
+                if (tokens < 1) {
+                    return false;
+                }
+                tokens--;
+                return true;
+            }
+
+            private synchronized boolean isFull(long now) {
+                refill(now);
+                return tokens >= capacity;
+            }
+
+            private void refill(long now) {
+                if (now > refilledAt) {
+                    tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                    refilledAt = now;
+                }
+            }
+        }
+    }
+}
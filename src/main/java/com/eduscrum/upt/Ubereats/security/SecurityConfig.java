@@ -1,33 +1,45 @@
 package com.eduscrum.upt.Ubereats.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.function.BiPredicate;
+
 /**
  * Main security configuration class for Spring Security.
- * Configures JWT authentication, password encoding, and endpoint security.
+ * Configures JWT authentication, password encoding, rate limiting of the
+ * authentication endpoints, and endpoint security.
+ *
+ * Method security is not enabled: access rules, including those that depend
+ * on IDs in the path, are declared here.
  *
  * @author Joao
  * @author Ana
- * @version 0.9.1
+ * @version 0.15.0 (2026-10-18)
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
         /**
-         * Creates the DAO authentication provider.
+         * Creates the DAO authentication provider. Passwords hashed with a lower
+         * BCrypt cost than configured are rehashed on successful login.
          *
          * @param customUserDetailsService Service for loading user details
          * @param passwordEncoder          Encoder for password verification
@@ -38,6 +50,7 @@ public class SecurityConfig {
                         PasswordEncoder passwordEncoder) {
                 DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(customUserDetailsService);
                 authProvider.setPasswordEncoder(passwordEncoder);
+                authProvider.setUserDetailsPasswordService(customUserDetailsService);
                 return authProvider;
         }
 
@@ -47,14 +60,18 @@ public class SecurityConfig {
          *
          * @param http                    The HttpSecurity to configure
          * @param jwtAuthenticationFilter The JWT authentication filter
+         * @param authRateLimitFilter     The rate limit filter for /api/auth
          * @param authenticationProvider  The authentication provider
+         * @param accessChecker           Cached course access decisions
          * @return Configured SecurityFilterChain
          * @throws Exception if configuration fails
          */
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http,
                         JwtAuthenticationFilter jwtAuthenticationFilter,
-                        DaoAuthenticationProvider authenticationProvider) throws Exception {
+                        AuthRateLimitFilter authRateLimitFilter,
+                        DaoAuthenticationProvider authenticationProvider,
+                        AccessChecker accessChecker) throws Exception {
 
                 http
                                 // Enable CORS with defaults (uses CorsConfigurationSource bean)
@@ -68,6 +85,24 @@ public class SecurityConfig {
 
                                                 // 2. Public access for authentication
                                                 .requestMatchers("/api/auth/**", "/error").permitAll()
+                                                .requestMatchers("/actuator/health").permitAll()
+
+                                                // 2.5 Operational metrics for teachers only
+                                                .requestMatchers("/actuator/**").hasAuthority("ROLE_TEACHER")
+
+                                                // 2.6 Student imports only by the teacher of the course
+                                                .requestMatchers(HttpMethod.POST,
+                                                                "/api/courses/{courseId}/students/import")
+                                                .access(courseAccess((courseId, auth) -> accessChecker
+                                                                .isCourseTeacher(courseId, auth.getName())))
+
+                                                // 2.7 Leaderboards for teachers and students of the course
+                                                .requestMatchers(HttpMethod.GET,
+                                                                "/api/courses/{courseId}/leaderboard/**")
+                                                .access(courseAccess((courseId, auth) -> hasAuthority(auth,
+                                                                "ROLE_TEACHER")
+                                                                || accessChecker.isStudentEnrolled(courseId,
+                                                                                auth.getName())))
 
                                                 // 3. Teacher-only access for management tasks
                                                 .requestMatchers(HttpMethod.POST, "/api/courses/**", "/api/projects/**",
@@ -81,6 +116,14 @@ public class SecurityConfig {
                                                                 "/api/teams/**")
                                                 .hasAuthority("ROLE_TEACHER")
 
+                                                // 3.2 Only teachers deactivate accounts
+                                                .requestMatchers(HttpMethod.PUT, "/api/users/*/deactivate")
+                                                .hasAuthority("ROLE_TEACHER")
+
+                                                // 3.3 Change feeds only for their own user or a teacher
+                                                .requestMatchers(HttpMethod.GET, "/api/sync/user/{userId}")
+                                                .access(teacherOrSelf())
+
                                                 // 3.5 Sprint management - allow both teachers and students
                                                 .requestMatchers(HttpMethod.POST, "/api/sprints/**")
                                                 .hasAnyAuthority("ROLE_TEACHER", "ROLE_STUDENT")
@@ -112,15 +155,62 @@ public class SecurityConfig {
                                                 // Fallback for any other request
                                                 .anyRequest().authenticated())
                                 .authenticationProvider(authenticationProvider)
+                                .addFilterBefore(authRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
                 return http.build();
         }
 
         /**
-         * Creates the password encoder bean.
+         * Grants access to teachers and to the user whose ID is the
+         * {@code userId} path variable.
          *
-         * @return BCryptPasswordEncoder instance
+         * @return The authorization manager
+         */
+        private static AuthorizationManager<RequestAuthorizationContext> teacherOrSelf() {
+                return (authentication, context) -> {
+                        Authentication auth = authentication.get();
+                        boolean self = auth.getPrincipal() instanceof CustomUserDetails user
+                                        && String.valueOf(user.getId()).equals(context.getVariables().get("userId"));
+                        return new AuthorizationDecision(self || hasAuthority(auth, "ROLE_TEACHER"));
+                };
+        }
+
+        /**
+         * Grants access when a check passes for the {@code courseId} path
+         * variable and the signed-in user.
+         *
+         * @param check The check on the course ID and the authentication
+         * @return The authorization manager
+         */
+        private static AuthorizationManager<RequestAuthorizationContext> courseAccess(
+                        BiPredicate<Long, Authentication> check) {
+                return (authentication, context) -> {
+                        Authentication auth = authentication.get();
+                        Long courseId = pathId(context, "courseId");
+                        return new AuthorizationDecision(courseId != null
+                                        && auth.getPrincipal() instanceof CustomUserDetails
+                                        && check.test(courseId, auth));
+                };
+        }
+
+        private static Long pathId(RequestAuthorizationContext context, String name) {
+                try {
+                        return Long.valueOf(context.getVariables().get(name));
+                } catch (NumberFormatException e) {
+                        return null;
+                }
+        }
+
+        private static boolean hasAuthority(Authentication authentication, String authority) {
+                return authentication.getAuthorities().stream()
+                                .anyMatch(granted -> authority.equals(granted.getAuthority()));
+        }
+
+        /**
+         * Creates the CORS configuration source.
+         *
+         * @return CORS configuration for the frontend origins
          */
         @Bean
         public org.springframework.web.cors.CorsConfigurationSource corsConfigurationSource() {
@@ -130,8 +220,8 @@ public class SecurityConfig {
                 configuration.setAllowedMethods(
                                 java.util.Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
                 configuration.setAllowedHeaders(java.util.Arrays.asList("Authorization", "Content-Type",
-                                "X-Requested-With", "Accept", "Origin"));
-                configuration.setExposedHeaders(java.util.Arrays.asList("Authorization"));
+                                "X-Requested-With", "Accept", "Origin", "X-Request-Id"));
+                configuration.setExposedHeaders(java.util.Arrays.asList("Authorization", "X-Request-Id"));
                 configuration.setAllowCredentials(true);
                 configuration.setMaxAge(3600L);
 
@@ -140,9 +230,16 @@ public class SecurityConfig {
                 return source;
         }
 
+        /**
+         * Creates the password encoder bean. Raising the strength takes effect
+         * for existing users on their next successful login.
+         *
+         * @param strength The BCrypt cost (log2 rounds)
+         * @return BCryptPasswordEncoder instance
+         */
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+        public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt-strength:10}") int strength) {
+                return new BCryptPasswordEncoder(strength);
         }
 
         /**
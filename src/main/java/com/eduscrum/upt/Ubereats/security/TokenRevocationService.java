@@ -0,0 +1,218 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import com.eduscrum.upt.Ubereats.entity.TokenRevocation;
+import com.eduscrum.upt.Ubereats.repository.TokenRevocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node set of revoked access tokens, checked on every request without a
+ * database lookup. Revocations are written to the {@code token_revocations}
+ * table and every node polls that table to rebuild its in-memory snapshot; a
+ * revocation made on this node takes effect here as soon as its transaction
+ * commits, so a rolled-back revocation never applies.
+ *
+ * <p>
+ * A revocation covers either one token (by its JWT ID) or every token of a
+ * user issued up to the revocation time, compared in milliseconds so a token
+ * issued right after the revocation stays valid. Token IDs are fronted by a
+ * Bloom filter, so the common case of a token that was never revoked is
+ * answered from a few bit lookups. Entries are dropped once the tokens they cover have
+ * expired, which keeps the set as small as the access token lifetime allows.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@Component
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final int expectedEntries;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs a new TokenRevocationService with required dependencies.
+     *
+     * @param tokenRevocationRepository Repository for revocation data access
+     * @param tokenProvider             Provider of the access token lifetime
+     * @param expectedEntries           Revoked tokens the Bloom filter is sized for
+     */
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+            JwtTokenProvider tokenProvider,
+            @Value("${app.jwt.revocation.expected-entries:10000}") int expectedEntries) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenProvider = tokenProvider;
+        this.expectedEntries = expectedEntries;
+        this.snapshot = new Snapshot(expectedEntries);
+    }
+
+    /**
+     * Revokes a single access token until it expires.
+     *
+     * @param tokenId   The JWT ID of the token
+     * @param expiresAt The expiry of the token
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        tokenRevocationRepository.save(new TokenRevocation(tokenId, null, LocalDateTime.now(), toLocal(expiresAt)));
+        afterCommit(() -> snapshot.addToken(tokenId, expiresAt.toEpochMilli()));
+    }
+
+    /**
+     * Revokes every access token of a user issued up to now. The revocation
+     * lasts one access token lifetime, after which no such token is valid.
+     *
+     * @param userId The user ID
+     */
+    public void revokeUser(Long userId) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusSeconds(tokenProvider.getAccessTokenValiditySeconds());
+        tokenRevocationRepository.save(new TokenRevocation(null, userId, toLocal(now), toLocal(expiresAt)));
+        afterCommit(() -> snapshot.addUser(userId, now.toEpochMilli(), expiresAt.toEpochMilli()));
+    }
+
+    /**
+     * Checks whether an access token has been revoked.
+     *
+     * @param tokenId  The JWT ID of the token (may be null for legacy tokens)
+     * @param userId   The user the token was issued to (may be null)
+     * @param issuedAt The issue time of the token
+     * @return true if the token must be rejected
+     */
+    public boolean isRevoked(String tokenId, Long userId, Instant issuedAt) {
+        Snapshot current = snapshot;
+        if (userId != null) {
+            UserCutoff cutoff = current.users.get(userId);
+            if (cutoff != null && issuedAt != null && issuedAt.toEpochMilli() <= cutoff.revokedAt) {
+                return true;
+            }
+        }
+        return tokenId != null && current.filter.mightContain(tokenId) && current.tokens.containsKey(tokenId);
+    }
+
+    /**
+     * Rebuilds the snapshot from the revocations that are still in force,
+     * picking up revocations made on other nodes. Local entries that are not
+     * yet visible in the table are carried over until they expire.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.poll-interval-ms:5000}")
+    public void sync() {
+        long now = Instant.now().toEpochMilli();
+        Snapshot previous = snapshot;
+        Map<String, Long> tokens = new ConcurrentHashMap<>();
+        Map<Long, UserCutoff> users = new ConcurrentHashMap<>();
+        try {
+            for (TokenRevocation revocation : tokenRevocationRepository.findByExpiresAtAfter(LocalDateTime.now())) {
+                long expiresAt = toEpochMilli(revocation.getExpiresAt());
+                if (revocation.getTokenId() != null) {
+                    tokens.put(revocation.getTokenId(), expiresAt);
+                }
+                if (revocation.getUserId() != null) {
+                    users.merge(revocation.getUserId(),
+                            new UserCutoff(toEpochMilli(revocation.getRevokedAt()), expiresAt), UserCutoff::latest);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not refresh token revocations, keeping the current set", e);
+            return;
+        }
+        previous.tokens.forEach((id, expiresAt) -> {
+            if (expiresAt > now) {
+                tokens.putIfAbsent(id, expiresAt);
+            }
+        });
+        previous.users.forEach((id, cutoff) -> {
+            if (cutoff.expiresAt > now) {
+                users.merge(id, cutoff, UserCutoff::latest);
+            }
+        });
+
+        Snapshot next = new Snapshot(Math.max(expectedEntries, tokens.size() * 2));
+        tokens.forEach(next::addToken);
+        next.users.putAll(users);
+        snapshot = next;
+    }
+
+    /**
+     * Deletes revocations whose tokens have all expired.
+     *
+     * @return Number of revocations deleted
+     */
+    public int purgeExpired() {
+        return tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    // Applies a change to the snapshot once the surrounding transaction, if any, commits
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Revocations in force on this node. Entries may be added concurrently;
+     * the whole snapshot is replaced on every sync.
+     */
+    private static final class Snapshot {
+        private final BloomFilter filter;
+        private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+        private final Map<Long, UserCutoff> users = new ConcurrentHashMap<>();
+
+        private Snapshot(int expectedEntries) {
+            this.filter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+        }
+
+        private void addToken(String tokenId, long expiresAt) {
+            tokens.put(tokenId, expiresAt);
+            filter.put(tokenId);
+        }
+
+        private void addUser(Long userId, long revokedAt, long expiresAt) {
+            users.merge(userId, new UserCutoff(revokedAt, expiresAt), UserCutoff::latest);
+        }
+    }
+
+    /**
+     * Tokens of a user issued up to {@code revokedAt} are revoked until
+     * {@code expiresAt}, both in epoch milliseconds.
+     */
+    private record UserCutoff(long revokedAt, long expiresAt) {
+        private static UserCutoff latest(UserCutoff a, UserCutoff b) {
+            return new UserCutoff(Math.max(a.revokedAt, b.revokedAt), Math.max(a.expiresAt, b.expiresAt));
+        }
+    }
+}
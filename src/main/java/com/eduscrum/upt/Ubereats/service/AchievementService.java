@@ -3,10 +3,15 @@ package com.eduscrum.upt.Ubereats.service;
 import com.eduscrum.upt.Ubereats.config.AppConstants;
 
 import com.eduscrum.upt.Ubereats.dto.request.AchievementRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.response.AchievementResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.SyncEntityType;
 import com.eduscrum.upt.Ubereats.repository.AchievementRepository;
 import com.eduscrum.upt.Ubereats.repository.ProjectRepository;
+import com.eduscrum.upt.Ubereats.repository.SyncTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,12 +28,14 @@ import java.util.Objects;
  *
  * @author Ana
  * @author Yeswanth Kumar
- * @version 0.2.1 (2025-10-22)
+ * @version 0.8.0 (2026-10-18)
  */
 @Service
 @Transactional
 public class AchievementService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AchievementService.class);
+
     private final AchievementRepository achievementRepository;
     private final BadgeService badgeService;
     private final UserService userService;
@@ -36,17 +43,23 @@ public class AchievementService {
     private final ProjectRepository projectRepository;
     private final SprintService sprintService;
     private final UserStoryService userStoryService;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final AggregateVersionService aggregateVersionService;
+    private final LeaderboardService leaderboardService;
 
     /**
      * Constructs a new AchievementService with required dependencies.
      *
-     * @param achievementRepository Repository for achievement data access
-     * @param badgeService          Service for badge operations
-     * @param userService           Service for user operations
-     * @param teamService           Service for team operations
-     * @param projectRepository     Repository for project data access
-     * @param sprintService         Service for sprint operations
-     * @param userStoryService      Service for user story operations
+     * @param achievementRepository   Repository for achievement data access
+     * @param badgeService            Service for badge operations
+     * @param userService             Service for user operations
+     * @param teamService             Service for team operations
+     * @param projectRepository       Repository for project data access
+     * @param sprintService           Service for sprint operations
+     * @param userStoryService        Service for user story operations
+     * @param tombstoneRepository     Repository for deletion records of the change feed
+     * @param aggregateVersionService Service for the ETag version counters
+     * @param leaderboardService      Service for the course leaderboards
      */
     public AchievementService(AchievementRepository achievementRepository,
             BadgeService badgeService,
@@ -54,7 +67,10 @@ public class AchievementService {
             TeamService teamService,
             ProjectRepository projectRepository,
             SprintService sprintService,
-            UserStoryService userStoryService) {
+            UserStoryService userStoryService,
+            SyncTombstoneRepository tombstoneRepository,
+            AggregateVersionService aggregateVersionService,
+            LeaderboardService leaderboardService) {
         this.achievementRepository = achievementRepository;
         this.badgeService = badgeService;
         this.userService = userService;
@@ -62,6 +78,9 @@ public class AchievementService {
         this.projectRepository = projectRepository;
         this.sprintService = sprintService;
         this.userStoryService = userStoryService;
+        this.tombstoneRepository = tombstoneRepository;
+        this.aggregateVersionService = aggregateVersionService;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -103,6 +122,12 @@ public class AchievementService {
         }
 
         Achievement savedAchievement = achievementRepository.save(achievement);
+        if (savedAchievement.getAwardedToTeam() != null) {
+            aggregateVersionService.teamsChanged(List.of(savedAchievement.getAwardedToTeam().getId()));
+            leaderboardService.teamsChanged(List.of(savedAchievement.getAwardedToTeam().getId()));
+        } else {
+            leaderboardService.usersChanged(List.of(savedAchievement.getAwardedToUser().getId()));
+        }
         return convertToDTO(savedAchievement);
     }
 
@@ -113,8 +138,20 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<AchievementResponseDTO> getAllAchievements() {
+        return getAllAchievements(FieldSelection.ALL);
+    }
+
+    /**
+     * Retrieves all achievements in the system, computing only the
+     * selected fields.
+     *
+     * @param fields The sparse fieldset
+     * @return List of achievements as response DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<AchievementResponseDTO> getAllAchievements(FieldSelection fields) {
         return achievementRepository.findAll().stream()
-                .map(this::convertToDTO)
+                .map(achievement -> convertToDTO(achievement, fields))
                 .collect(Collectors.toList());
     }
 
@@ -138,8 +175,21 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<AchievementResponseDTO> getUserAchievements(Long userId) {
+        return getUserAchievements(userId, FieldSelection.ALL);
+    }
+
+    /**
+     * Retrieves all achievements for a specific user, computing only the
+     * selected fields.
+     *
+     * @param userId The ID of the user
+     * @param fields The sparse fieldset
+     * @return List of achievements as response DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<AchievementResponseDTO> getUserAchievements(Long userId, FieldSelection fields) {
         return achievementRepository.findByAwardedToUserId(userId).stream()
-                .map(this::convertToDTO)
+                .map(achievement -> convertToDTO(achievement, fields))
                 .collect(Collectors.toList());
     }
 
@@ -151,8 +201,21 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<AchievementResponseDTO> getTeamAchievements(Long teamId) {
+        return getTeamAchievements(teamId, FieldSelection.ALL);
+    }
+
+    /**
+     * Retrieves all achievements for a specific team, computing only the
+     * selected fields.
+     *
+     * @param teamId The ID of the team
+     * @param fields The sparse fieldset
+     * @return List of achievements as response DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<AchievementResponseDTO> getTeamAchievements(Long teamId, FieldSelection fields) {
         return achievementRepository.findByAwardedToTeamId(teamId).stream()
-                .map(this::convertToDTO)
+                .map(achievement -> convertToDTO(achievement, fields))
                 .collect(Collectors.toList());
     }
 
@@ -164,8 +227,21 @@ public class AchievementService {
      */
     @Transactional(readOnly = true)
     public List<AchievementResponseDTO> getProjectAchievements(Long projectId) {
+        return getProjectAchievements(projectId, FieldSelection.ALL);
+    }
+
+    /**
+     * Retrieves all achievements for a specific project, computing only the
+     * selected fields.
+     *
+     * @param projectId The ID of the project
+     * @param fields    The sparse fieldset
+     * @return List of achievements as response DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<AchievementResponseDTO> getProjectAchievements(Long projectId, FieldSelection fields) {
         return achievementRepository.findByProjectId(projectId).stream()
-                .map(this::convertToDTO)
+                .map(achievement -> convertToDTO(achievement, fields))
                 .collect(Collectors.toList());
     }
 
@@ -242,10 +318,18 @@ public class AchievementService {
      * @throws IllegalArgumentException if achievement not found
      */
     public void deleteAchievement(Long id) {
-        if (!achievementRepository.existsById(id)) {
-            throw new IllegalArgumentException("Achievement not found with id: " + id);
+        Achievement achievement = achievementRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Achievement not found with id: " + id));
+        Long teamId = achievement.getAwardedToTeam() != null ? achievement.getAwardedToTeam().getId() : null;
+        achievementRepository.delete(achievement);
+        tombstoneRepository.save(new SyncTombstone(SyncEntityType.ACHIEVEMENT, id, teamId,
+                achievement.getAwardedToUser() != null ? achievement.getAwardedToUser().getId() : null));
+        if (teamId != null) {
+            aggregateVersionService.teamsChanged(List.of(teamId));
+            leaderboardService.teamsChanged(List.of(teamId));
+        } else if (achievement.getAwardedToUser() != null) {
+            leaderboardService.usersChanged(List.of(achievement.getAwardedToUser().getId()));
         }
-        achievementRepository.deleteById(id);
     }
 
     // region ACHIEVEMENT CHECK METHODS
@@ -338,44 +422,67 @@ public class AchievementService {
     }
 
     // region CONVERSION METHODS
-    private AchievementResponseDTO convertToDTO(Achievement achievement) {
+    AchievementResponseDTO convertToDTO(Achievement achievement) {
+        return convertToDTO(achievement, FieldSelection.ALL);
+    }
+
+    /**
+     * Converts an achievement, computing only the selected fields. Names of
+     * the badge, recipient, project and sprint are only loaded when selected.
+     */
+    AchievementResponseDTO convertToDTO(Achievement achievement, FieldSelection fields) {
         AchievementResponseDTO dto = new AchievementResponseDTO();
         dto.setId(achievement.getId());
-        dto.setReason(achievement.getReason());
-        dto.setAwardedAt(achievement.getAwardedAt());
-        dto.setPoints(achievement.getPoints());
-        dto.setRecipientName(achievement.getRecipientName());
-        dto.setAwardedByName(achievement.getAwardedByName());
-        dto.setTeamAchievement(achievement.isTeamAchievement());
-        dto.setIndividualAchievement(achievement.isIndividualAchievement());
-        dto.setAutomaticAward(achievement.isAutomaticAward());
+        if (fields.includes("reason"))
+            dto.setReason(achievement.getReason());
+        if (fields.includes("awardedAt"))
+            dto.setAwardedAt(achievement.getAwardedAt());
+        if (fields.includes("points"))
+            dto.setPoints(achievement.getPoints());
+        if (fields.includes("recipientName"))
+            dto.setRecipientName(achievement.getRecipientName());
+        if (fields.includes("awardedByName"))
+            dto.setAwardedByName(achievement.getAwardedByName());
+        if (fields.includes("teamAchievement"))
+            dto.setTeamAchievement(achievement.isTeamAchievement());
+        if (fields.includes("individualAchievement"))
+            dto.setIndividualAchievement(achievement.isIndividualAchievement());
+        if (fields.includes("automaticAward"))
+            dto.setAutomaticAward(achievement.isAutomaticAward());
 
         // Set related entity IDs and names
         if (achievement.getBadge() != null) {
-            dto.setBadgeId(achievement.getBadge().getId());
-            dto.setBadgeName(achievement.getBadge().getName());
-            dto.setBadgeIcon(achievement.getBadge().getIcon());
+            if (fields.includes("badgeId"))
+                dto.setBadgeId(achievement.getBadge().getId());
+            if (fields.includes("badgeName"))
+                dto.setBadgeName(achievement.getBadge().getName());
+            if (fields.includes("badgeIcon"))
+                dto.setBadgeIcon(achievement.getBadge().getIcon());
         }
 
-        if (achievement.getAwardedToUser() != null) {
+        if (achievement.getAwardedToUser() != null && fields.includes("awardedToUserId")) {
             dto.setAwardedToUserId(achievement.getAwardedToUser().getId());
         }
 
-        if (achievement.getAwardedToTeam() != null) {
+        if (achievement.getAwardedToTeam() != null && fields.includes("awardedToTeamId")) {
             dto.setAwardedToTeamId(achievement.getAwardedToTeam().getId());
         }
 
         if (achievement.getProject() != null) {
-            dto.setProjectId(achievement.getProject().getId());
-            dto.setProjectName(achievement.getProject().getName());
+            if (fields.includes("projectId"))
+                dto.setProjectId(achievement.getProject().getId());
+            if (fields.includes("projectName"))
+                dto.setProjectName(achievement.getProject().getName());
         }
 
         if (achievement.getSprint() != null) {
-            dto.setSprintId(achievement.getSprint().getId());
-            dto.setSprintName(achievement.getSprint().getName());
+            if (fields.includes("sprintId"))
+                dto.setSprintId(achievement.getSprint().getId());
+            if (fields.includes("sprintName"))
+                dto.setSprintName(achievement.getSprint().getName());
         }
 
-        if (achievement.getAwardedBy() != null) {
+        if (achievement.getAwardedBy() != null && fields.includes("awardedById")) {
             dto.setAwardedById(achievement.getAwardedBy().getId());
         }
 
@@ -429,8 +536,7 @@ public class AchievementService {
                 createAchievement(request);
             } catch (IllegalArgumentException e) {
                 if (!e.getMessage().contains("already has this badge")) {
-                    System.err.println(
-                            "Error awarding Sprint Master to Team " + team.getName() + ": " + e.getMessage());
+                    logger.warn("Error awarding Sprint Master to Team {}: {}", team.getName(), e.getMessage());
                 }
             }
         }
@@ -509,7 +615,7 @@ public class AchievementService {
                     createAchievement(request);
                 } catch (IllegalArgumentException e) {
                     if (!e.getMessage().contains("already has this badge")) {
-                        System.err.println("Error awarding High-Impact Dev to User " + userId + ": " + e.getMessage());
+                        logger.warn("Error awarding High-Impact Dev to User {}: {}", userId, e.getMessage());
                     }
                 }
             }
@@ -591,8 +697,8 @@ public class AchievementService {
                     createAchievement(request);
                 } catch (IllegalArgumentException e) {
                     if (!e.getMessage().contains("already has this badge")) {
-                        System.err.println("Error awarding Consistent Contributor to User " + student.getFullName()
-                                + ": " + e.getMessage());
+                        logger.warn("Error awarding Consistent Contributor to User {}: {}", student.getFullName(),
+                                e.getMessage());
                     }
                 }
             }
@@ -629,8 +735,8 @@ public class AchievementService {
                         createAchievement(request);
                     } catch (IllegalArgumentException e) {
                         if (!e.getMessage().contains("already has this badge")) {
-                            System.err.println(
-                                    "Error awarding On-Time Legend to Team " + team.getName() + ": " + e.getMessage());
+                            logger.warn("Error awarding On-Time Legend to Team {}: {}", team.getName(),
+                                    e.getMessage());
                         }
                     }
                 }
@@ -672,9 +778,8 @@ public class AchievementService {
                         createAchievement(request);
                     } catch (IllegalArgumentException e) {
                         if (!e.getMessage().contains("already has this badge")) {
-                            System.err.println(
-                                    "Error awarding Project Multiplier to Team " + team.getName() + ": "
-                                            + e.getMessage());
+                            logger.warn("Error awarding Project Multiplier to Team {}: {}", team.getName(),
+                                    e.getMessage());
                         }
                     }
                 }
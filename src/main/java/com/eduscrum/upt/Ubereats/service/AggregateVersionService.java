@@ -0,0 +1,227 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.repository.AchievementRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseRepository;
+import com.eduscrum.upt.Ubereats.repository.ProjectRepository;
+import com.eduscrum.upt.Ubereats.repository.SprintRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service class for the version counters of the sprint, project, team,
+ * course and user aggregates, and the weak ETags derived from them.
+ *
+ * <p>
+ * Each counter is bumped by the service writes that change a response built
+ * from the aggregate, including responses that embed related data: a team
+ * shows its members' names and its projects, a course the score of its teams.
+ * The sprint counter is the sprint's board version. An ETag is read with a
+ * single scalar query, so a matching conditional GET is answered without
+ * loading the aggregate. The ETag is read before the response is built: a
+ * concurrent write can only make it older than the body, and the client then
+ * fetches again on its next request. Team bumps also refresh the stored team
+ * summaries once the change commits.
+ * </p>
+ *
+ * <p>
+ * Every bump locks the rows it updates in the same order: courses, projects,
+ * teams, sprints, then users. Two writes bumping overlapping aggregates then
+ * wait for each other instead of deadlocking.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.3.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class AggregateVersionService {
+
+    private final SprintRepository sprintRepository;
+    private final ProjectRepository projectRepository;
+    private final TeamRepository teamRepository;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final AchievementRepository achievementRepository;
+    private final TeamSummaryService teamSummaryService;
+
+    /**
+     * Constructs a new AggregateVersionService with required dependencies.
+     *
+     * @param sprintRepository      Repository for sprint data access
+     * @param projectRepository     Repository for project data access
+     * @param teamRepository        Repository for team data access
+     * @param courseRepository      Repository for course data access
+     * @param userRepository        Repository for user data access
+     * @param achievementRepository Repository for achievement data access
+     * @param teamSummaryService    Service for the team summary read model
+     */
+    public AggregateVersionService(SprintRepository sprintRepository,
+            ProjectRepository projectRepository,
+            TeamRepository teamRepository,
+            CourseRepository courseRepository,
+            UserRepository userRepository,
+            AchievementRepository achievementRepository,
+            TeamSummaryService teamSummaryService) {
+        this.sprintRepository = sprintRepository;
+        this.projectRepository = projectRepository;
+        this.teamRepository = teamRepository;
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+        this.achievementRepository = achievementRepository;
+        this.teamSummaryService = teamSummaryService;
+    }
+
+    // region VERSION BUMPS
+
+    /**
+     * Records a change to teams: their members, roles, projects, achievements
+     * or analytics. Also bumps the courses they work in, whose responses hold
+     * the average team score.
+     *
+     * @param teamIds The IDs of the changed teams
+     */
+    public void teamsChanged(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return;
+        }
+        courseRepository.incrementAggregateVersionsByTeamIds(teamIds);
+        teamRepository.incrementAggregateVersions(teamIds);
+        teamSummaryService.teamsChanged(teamIds);
+    }
+
+    /**
+     * Records a change to projects, e.g. a new name or team. Also bumps their
+     * courses, their teams and their sprints, which show the project.
+     *
+     * @param projectIds The IDs of the changed projects
+     */
+    public void projectsChanged(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        courseRepository.incrementAggregateVersionsByProjectIds(projectIds);
+        projectRepository.incrementAggregateVersions(projectIds);
+        teamRepository.incrementAggregateVersionsByProjectIds(projectIds);
+        sprintRepository.incrementBoardVersionsByProjectIds(projectIds);
+        teamSummaryService.teamsChanged(projectRepository.findTeamIdsByIdIn(projectIds));
+    }
+
+    /**
+     * Records a change to a course or its enrollments. Also bumps its
+     * projects, which show the course name.
+     *
+     * @param courseId The ID of the changed course
+     */
+    public void courseChanged(Long courseId) {
+        courseRepository.incrementAggregateVersions(List.of(courseId));
+        projectRepository.incrementAggregateVersionsByCourseId(courseId);
+    }
+
+    /**
+     * Records a change to a user's profile. Also bumps the teams the user
+     * belongs to or teaches, their sprints, whose stories show the names of
+     * their people, and the courses the user teaches.
+     *
+     * @param userId The ID of the changed user
+     */
+    public void userChanged(Long userId) {
+        Set<Long> teamIds = new LinkedHashSet<>(teamRepository.findActiveTeamIdsByUserId(userId));
+        teamIds.addAll(teamRepository.findTeamIdsByCourseTeacherId(userId));
+        courseRepository.incrementAggregateVersionsByTeacherId(userId);
+        if (!teamIds.isEmpty()) {
+            teamsChanged(teamIds);
+            sprintRepository.incrementBoardVersionsByTeamIds(teamIds);
+        }
+        userRepository.incrementAggregateVersion(userId);
+    }
+
+    /**
+     * Records a change to a badge's points, which count towards the score of
+     * the teams holding it.
+     *
+     * @param badgeId The ID of the changed badge
+     */
+    public void badgeChanged(Long badgeId) {
+        teamsChanged(achievementRepository.findTeamIdsByBadgeId(badgeId));
+    }
+
+    // region ETAGS
+
+    /**
+     * Computes the ETag of the responses built from a sprint: the sprint,
+     * its board and its stories. Includes the date, since sprint responses
+     * hold date-dependent values such as the days remaining.
+     *
+     * @param sprintId The ID of the sprint
+     * @return The weak ETag, empty if the sprint does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> sprintETag(Long sprintId) {
+        return sprintRepository.findBoardVersionById(sprintId)
+                .map(version -> weakETag("sprint", sprintId, version + "-" + LocalDate.now()));
+    }
+
+    /**
+     * Computes the ETag of the responses built from a team.
+     *
+     * @param teamId The ID of the team
+     * @return The weak ETag, empty if the team does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> teamETag(Long teamId) {
+        return teamRepository.findAggregateVersionById(teamId)
+                .map(version -> weakETag("team", teamId, version.toString()));
+    }
+
+    /**
+     * Computes the ETag of the responses built from a project.
+     *
+     * @param projectId The ID of the project
+     * @return The weak ETag, empty if the project does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> projectETag(Long projectId) {
+        return projectRepository.findAggregateVersionById(projectId)
+                .map(version -> weakETag("project", projectId, version.toString()));
+    }
+
+    /**
+     * Computes the ETag of the responses built from a course.
+     *
+     * @param courseId The ID of the course
+     * @return The weak ETag, empty if the course does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> courseETag(Long courseId) {
+        return courseRepository.findAggregateVersionById(courseId)
+                .map(version -> weakETag("course", courseId, version.toString()));
+    }
+
+    /**
+     * Computes the ETag of the responses built from a user.
+     *
+     * @param userId The ID of the user
+     * @return The weak ETag, empty if the user does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> userETag(Long userId) {
+        return userRepository.findAggregateVersionById(userId)
+                .map(version -> weakETag("user", userId, version.toString()));
+    }
+
+    // region UTILITY METHODS
+
+    private static String weakETag(String aggregate, Long id, String version) {
+        return "W/\"" + aggregate + "-" + id + "-" + version + "\"";
+    }
+}
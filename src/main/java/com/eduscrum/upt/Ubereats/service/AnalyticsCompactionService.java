@@ -0,0 +1,120 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.Analytic;
+import com.eduscrum.upt.Ubereats.entity.BurnDownSeries;
+import com.eduscrum.upt.Ubereats.repository.AnalyticRepository;
+import com.eduscrum.upt.Ubereats.repository.SprintRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for analytics retention.
+ * Once a completed sprint is past the grace period, its daily analytics are
+ * collapsed into one summary row per team that keeps the final totals, the
+ * snapshot-weighted velocity and the whole burn-down as an encoded series.
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.3.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class AnalyticsCompactionService {
+
+    private final AnalyticRepository analyticRepository;
+    private final SprintRepository sprintRepository;
+    private final AggregateVersionService aggregateVersionService;
+    private final int graceDays;
+
+    /**
+     * Constructs a new AnalyticsCompactionService with required dependencies.
+     *
+     * @param analyticRepository      Repository for analytic data access
+     * @param sprintRepository        Repository for sprint data access
+     * @param aggregateVersionService Service for the ETag version counters
+     * @param graceDays               Days after completion before a sprint is compacted
+     */
+    public AnalyticsCompactionService(AnalyticRepository analyticRepository,
+            SprintRepository sprintRepository,
+            AggregateVersionService aggregateVersionService,
+            @Value("${app.analytics.compaction.grace-days:14}") int graceDays) {
+        this.analyticRepository = analyticRepository;
+        this.sprintRepository = sprintRepository;
+        this.aggregateVersionService = aggregateVersionService;
+        this.graceDays = graceDays;
+    }
+
+    /**
+     * Finds completed sprints whose grace period has elapsed and that still
+     * have daily analytics rows.
+     *
+     * @param today The reference date
+     * @return List of sprint IDs to compact
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findSprintsToCompact(LocalDate today) {
+        return sprintRepository.findSprintIdsToCompact(today.minusDays(graceDays));
+    }
+
+    /**
+     * Compacts the analytics of one sprint into a summary row per team.
+     * Runs in its own transaction so a scheduler can process sprints one by
+     * one.
+     *
+     * @param sprintId The sprint ID
+     * @return Number of rows removed
+     */
+    public int compactSprint(Long sprintId) {
+        Map<Long, List<Analytic>> byTeam = new LinkedHashMap<>();
+        for (Analytic analytic : analyticRepository.findBySprintIdOrderByTeamAndDate(sprintId)) {
+            byTeam.computeIfAbsent(analytic.getTeam().getId(), id -> new ArrayList<>()).add(analytic);
+        }
+
+        List<Long> obsolete = new ArrayList<>();
+        for (List<Analytic> rows : byTeam.values()) {
+            Analytic summary = rows.get(rows.size() - 1);
+            LocalDate sprintStart = summary.getSprint().getStartDate();
+
+            BurnDownSeries series = BurnDownSeries.EMPTY;
+            BigDecimal velocityTotal = BigDecimal.ZERO;
+            int samples = 0;
+            for (Analytic row : rows) {
+                BurnDownSeries rowSeries = row.getBurnDownSeries();
+                for (int i = 0; i < rowSeries.size(); i++) {
+                    series = series.with(rowSeries.getDayOffset(i), rowSeries.getValue(i));
+                }
+                if (sprintStart != null) {
+                    int dayOffset = (int) ChronoUnit.DAYS.between(sprintStart, row.getRecordedDate());
+                    series = series.with(dayOffset, row.getRemainingStoryPoints().intValue());
+                }
+                velocityTotal = velocityTotal.add(row.getVelocity().multiply(BigDecimal.valueOf(row.getSampleCount())));
+                samples += row.getSampleCount();
+                if (row != summary) {
+                    obsolete.add(row.getId());
+                }
+            }
+
+            summary.setBurnDownSeries(series);
+            summary.setVelocity(velocityTotal.divide(BigDecimal.valueOf(samples), 2, RoundingMode.HALF_UP));
+            summary.setSampleCount(samples);
+            summary.setCompacted(true);
+            analyticRepository.save(summary);
+        }
+        if (!byTeam.isEmpty()) {
+            sprintRepository.incrementBoardVersions(List.of(sprintId));
+            aggregateVersionService.teamsChanged(byTeam.keySet());
+        }
+
+        return obsolete.isEmpty() ? 0 : analyticRepository.deleteByIdIn(obsolete);
+    }
+}
@@ -0,0 +1,282 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.response.SprintRollupResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.WeeklyRollupResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.Analytic;
+import com.eduscrum.upt.Ubereats.entity.Sprint;
+import com.eduscrum.upt.Ubereats.entity.SprintRollup;
+import com.eduscrum.upt.Ubereats.entity.WeeklyRollup;
+import com.eduscrum.upt.Ubereats.entity.enums.RollupScope;
+import com.eduscrum.upt.Ubereats.repository.AnalyticRepository;
+import com.eduscrum.upt.Ubereats.repository.SprintRollupRepository;
+import com.eduscrum.upt.Ubereats.repository.UserStoryRepository;
+import com.eduscrum.upt.Ubereats.repository.WeeklyRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for pre-aggregated analytics rollups.
+ * Maintains per-sprint, per-project-week and per-course-week totals whenever
+ * a daily analytic is upserted or a sprint is completed, so overview charts
+ * read a handful of rollup rows instead of every daily snapshot.
+ *
+ * <p>
+ * A rollup row is locked before it is refreshed. A missing row is first
+ * inserted and committed in its own transaction; if another transaction
+ * inserted it first, the unique key rejects the duplicate and the existing
+ * row is used.
+ * </p>
+ *
+ * @author Yeswanth Kumar
+ * @author Bruna
+ * @version 0.2.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class AnalyticsRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsRollupService.class);
+
+    private final SprintRollupRepository sprintRollupRepository;
+    private final WeeklyRollupRepository weeklyRollupRepository;
+    private final AnalyticRepository analyticRepository;
+    private final UserStoryRepository userStoryRepository;
+    private final TransactionTemplate insertTransaction;
+
+    /**
+     * Constructs a new AnalyticsRollupService with required dependencies.
+     *
+     * @param sprintRollupRepository Repository for sprint rollup data access
+     * @param weeklyRollupRepository Repository for weekly rollup data access
+     * @param analyticRepository     Repository for analytic data access
+     * @param userStoryRepository    Repository for user story data access
+     * @param transactionManager     Transaction manager for inserting missing rollups
+     */
+    public AnalyticsRollupService(SprintRollupRepository sprintRollupRepository,
+            WeeklyRollupRepository weeklyRollupRepository,
+            AnalyticRepository analyticRepository,
+            UserStoryRepository userStoryRepository,
+            PlatformTransactionManager transactionManager) {
+        this.sprintRollupRepository = sprintRollupRepository;
+        this.weeklyRollupRepository = weeklyRollupRepository;
+        this.analyticRepository = analyticRepository;
+        this.userStoryRepository = userStoryRepository;
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // region MAINTENANCE
+
+    /**
+     * Refreshes the rollups touched by an upserted daily analytic: the sprint
+     * rollup (unless already final), the project week and the course week.
+     *
+     * @param analytic The persisted analytic
+     */
+    public void onAnalyticUpserted(Analytic analytic) {
+        Sprint sprint = analytic.getSprint();
+        Long projectId = sprint.getProject().getId();
+        Long courseId = sprint.getProject().getCourse() != null ? sprint.getProject().getCourse().getId() : null;
+
+        SprintRollup sprintRollup = getOrCreateSprintRollup(sprint);
+        if (!sprintRollup.getFinalized()) {
+            applyTotals(sprintRollup, firstRow(analyticRepository.aggregateLatestBySprint(sprint.getId())));
+            sprintRollupRepository.save(sprintRollup);
+        }
+
+        LocalDate weekStart = weekStart(analytic.getRecordedDate());
+        refreshProjectWeek(projectId, courseId, weekStart);
+        if (courseId != null) {
+            refreshCourseWeek(courseId, weekStart);
+        }
+    }
+
+    /**
+     * Freezes the rollup of a completed sprint with the final totals taken from
+     * its user stories.
+     *
+     * @param sprint The completed sprint
+     */
+    public void finalizeSprint(Sprint sprint) {
+        SprintRollup rollup = getOrCreateSprintRollup(sprint);
+        rollup.setSprintName(sprint.getName());
+        rollup.setSprintNumber(sprint.getSprintNumber());
+        rollup.setEndDate(sprint.getEndDate());
+        rollup.setTotalTasks(userStoryRepository.countBySprint(sprint.getId()));
+        rollup.setCompletedTasks(userStoryRepository.countCompletedBySprint(sprint.getId()));
+        rollup.setTotalStoryPoints(userStoryRepository.sumStoryPointsBySprint(sprint.getId()));
+        rollup.setCompletedStoryPoints(userStoryRepository.sumCompletedStoryPointsBySprint(sprint.getId()));
+        rollup.finalizeRollup(sprint.getCompletedAt() != null ? sprint.getCompletedAt() : LocalDate.now());
+        sprintRollupRepository.save(rollup);
+    }
+
+    private SprintRollup getOrCreateSprintRollup(Sprint sprint) {
+        return sprintRollupRepository.findBySprintIdForUpdate(sprint.getId()).orElseGet(() -> {
+            insertIfAbsent(sprintRollupRepository::saveAndFlush, new SprintRollup(sprint));
+            return sprintRollupRepository.findBySprintIdForUpdate(sprint.getId()).orElseThrow();
+        });
+    }
+
+    private WeeklyRollup getOrCreateWeeklyRollup(RollupScope scope, Long scopeId, Long courseId,
+            LocalDate weekStart) {
+        return weeklyRollupRepository.findForUpdate(scope, scopeId, weekStart).orElseGet(() -> {
+            insertIfAbsent(weeklyRollupRepository::saveAndFlush,
+                    new WeeklyRollup(scope, scopeId, courseId, weekStart));
+            return weeklyRollupRepository.findForUpdate(scope, scopeId, weekStart).orElseThrow();
+        });
+    }
+
+    /**
+     * Inserts a missing rollup row in its own transaction, so the caller can
+     * lock it once committed. A conflict means another transaction inserted
+     * the same row first, which serves just as well.
+     */
+    private <T> void insertIfAbsent(Consumer<T> insert, T rollup) {
+        try {
+            insertTransaction.executeWithoutResult(status -> insert.accept(rollup));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Rollup row was created concurrently, using the existing one");
+        }
+    }
+
+    private void refreshProjectWeek(Long projectId, Long courseId, LocalDate weekStart) {
+        WeeklyRollup rollup = getOrCreateWeeklyRollup(RollupScope.PROJECT, projectId, courseId, weekStart);
+        applyTotals(rollup, firstRow(analyticRepository.aggregateLatestByProjectBetween(projectId, weekStart,
+                weekStart.plusDays(6))));
+        weeklyRollupRepository.save(rollup);
+    }
+
+    private void refreshCourseWeek(Long courseId, LocalDate weekStart) {
+        WeeklyRollup rollup = getOrCreateWeeklyRollup(RollupScope.COURSE, courseId, courseId, weekStart);
+        applyTotals(rollup, firstRow(weeklyRollupRepository.aggregateProjectsOfCourse(courseId, weekStart)));
+        weeklyRollupRepository.save(rollup);
+    }
+
+    // region RETRIEVAL
+
+    /**
+     * Retrieves the sprint rollups of a project.
+     *
+     * @param projectId The project ID
+     * @return List of sprint rollup DTOs ordered by sprint number
+     */
+    @Transactional(readOnly = true)
+    public List<SprintRollupResponseDTO> getSprintRollupsByProject(Long projectId) {
+        return sprintRollupRepository.findByProjectIdOrderBySprintNumberAsc(projectId).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves the sprint rollups of every project in a course.
+     *
+     * @param courseId The course ID
+     * @return List of sprint rollup DTOs ordered by project and sprint number
+     */
+    @Transactional(readOnly = true)
+    public List<SprintRollupResponseDTO> getSprintRollupsByCourse(Long courseId) {
+        return sprintRollupRepository.findByCourseIdOrderByProjectIdAscSprintNumberAsc(courseId).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves the weekly rollups of a project or course.
+     *
+     * @param scope   The rollup scope
+     * @param scopeId The project or course ID
+     * @param from    The first day of the range (optional, defaults to 12 weeks ago)
+     * @param to      The last day of the range (optional, defaults to today)
+     * @return List of weekly rollup DTOs ordered by week
+     */
+    @Transactional(readOnly = true)
+    public List<WeeklyRollupResponseDTO> getWeeklyRollups(RollupScope scope, Long scopeId, LocalDate from,
+            LocalDate to) {
+        LocalDate end = weekStart(to != null ? to : LocalDate.now());
+        LocalDate start = weekStart(from != null ? from : end.minusWeeks(12));
+        return weeklyRollupRepository
+                .findByScopeAndScopeIdAndWeekStartBetweenOrderByWeekStartAsc(scope, scopeId, start, end).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    // region UTILITY METHODS
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static Object[] firstRow(List<Object[]> rows) {
+        return rows.isEmpty() ? new Object[] { 0, 0, 0, 0, 0, 0 } : rows.get(0);
+    }
+
+    private static void applyTotals(SprintRollup rollup, Object[] row) {
+        rollup.setTotalTasks(toInt(row[0]));
+        rollup.setCompletedTasks(toInt(row[1]));
+        rollup.setTotalStoryPoints(toInt(row[2]));
+        rollup.setCompletedStoryPoints(toInt(row[3]));
+    }
+
+    private static void applyTotals(WeeklyRollup rollup, Object[] row) {
+        rollup.setTotalTasks(toInt(row[0]));
+        rollup.setCompletedTasks(toInt(row[1]));
+        rollup.setTotalStoryPoints(toInt(row[2]));
+        rollup.setCompletedStoryPoints(toInt(row[3]));
+        rollup.setVelocitySum(row[4] instanceof BigDecimal ? (BigDecimal) row[4]
+                : BigDecimal.valueOf(((Number) row[4]).doubleValue()));
+        rollup.setSnapshotCount(toInt(row[5]));
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).intValue() : ((Number) value).intValue();
+    }
+
+    // region CONVERSION METHODS
+
+    private SprintRollupResponseDTO convertToDTO(SprintRollup rollup) {
+        SprintRollupResponseDTO dto = new SprintRollupResponseDTO();
+        dto.setSprintId(rollup.getSprintId());
+        dto.setSprintNumber(rollup.getSprintNumber());
+        dto.setSprintName(rollup.getSprintName());
+        dto.setProjectId(rollup.getProjectId());
+        dto.setCourseId(rollup.getCourseId());
+        dto.setTotalTasks(rollup.getTotalTasks());
+        dto.setCompletedTasks(rollup.getCompletedTasks());
+        dto.setTotalStoryPoints(rollup.getTotalStoryPoints());
+        dto.setCompletedStoryPoints(rollup.getCompletedStoryPoints());
+        dto.setCompletionPercentage(rollup.getCompletionPercentage());
+        dto.setFinalized(Boolean.TRUE.equals(rollup.getFinalized()));
+        dto.setOnTime(rollup.getOnTime());
+        dto.setCompletedAt(rollup.getCompletedAt());
+        return dto;
+    }
+
+    private WeeklyRollupResponseDTO convertToDTO(WeeklyRollup rollup) {
+        WeeklyRollupResponseDTO dto = new WeeklyRollupResponseDTO();
+        dto.setScope(rollup.getScope());
+        dto.setScopeId(rollup.getScopeId());
+        dto.setWeekStart(rollup.getWeekStart());
+        dto.setTotalTasks(rollup.getTotalTasks());
+        dto.setCompletedTasks(rollup.getCompletedTasks());
+        dto.setTotalStoryPoints(rollup.getTotalStoryPoints());
+        dto.setCompletedStoryPoints(rollup.getCompletedStoryPoints());
+        dto.setAverageVelocity(rollup.getAverageVelocity());
+        dto.setCompletionPercentage(rollup.getCompletionPercentage());
+        dto.setSnapshotCount(rollup.getSnapshotCount());
+        return dto;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,7 +24,7 @@ import java.util.stream.Collectors;
  *
  * @author Yeswanth Kumar
  * @author Bruna
- * @version 0.5.0 (2025-11-05)
+ * @version 0.8.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -33,23 +34,31 @@ public class AnalyticsService {
     private final SprintService sprintService;
     private final TeamService teamService;
     private final UserStoryRepository userStoryRepository;
+    private final AnalyticsRollupService analyticsRollupService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new AnalyticsService with required dependencies.
      *
-     * @param analyticRepository  Repository for analytic data access
-     * @param sprintService       Service for sprint operations
-     * @param teamService         Service for team operations
-     * @param userStoryRepository Repository for user story data access
+     * @param analyticRepository      Repository for analytic data access
+     * @param sprintService           Service for sprint operations
+     * @param teamService             Service for team operations
+     * @param userStoryRepository     Repository for user story data access
+     * @param analyticsRollupService  Service for analytics rollups
+     * @param aggregateVersionService Service for the ETag version counters
      */
     public AnalyticsService(AnalyticRepository analyticRepository,
             SprintService sprintService,
             TeamService teamService,
-            UserStoryRepository userStoryRepository) {
+            UserStoryRepository userStoryRepository,
+            AnalyticsRollupService analyticsRollupService,
+            AggregateVersionService aggregateVersionService) {
         this.analyticRepository = analyticRepository;
         this.sprintService = sprintService;
         this.teamService = teamService;
         this.userStoryRepository = userStoryRepository;
+        this.analyticsRollupService = analyticsRollupService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
@@ -125,6 +134,13 @@ public class AnalyticsService {
             Sprint sprint = sprintService.getSprintEntity(sprintId);
             Team team = teamService.getTeamById(teamId);
             analytic = new Analytic(sprint, team, today);
+
+            // Carry the burn-down series forward from the previous snapshot
+            Optional<Analytic> previous = analyticRepository
+                    .findFirstByTeamIdAndSprintIdOrderByRecordedDateDesc(teamId, sprintId);
+            if (previous.isPresent()) {
+                analytic.setBurnDownSeries(previous.get().getBurnDownSeries());
+            }
         }
 
         // Update Calculated Stats
@@ -142,7 +158,18 @@ public class AnalyticsService {
         // Trigger Velocity Calculation (internal entity logic)
         analytic.updateStoryPointsCompletion(completedPoints);
 
-        return analyticRepository.save(analytic);
+        // Record today's remaining points in the burn-down series
+        LocalDate sprintStart = analytic.getSprint().getStartDate();
+        if (sprintStart != null) {
+            int dayOffset = (int) ChronoUnit.DAYS.between(sprintStart, today);
+            analytic.recordBurnDown(dayOffset, totalPoints.subtract(completedPoints).intValue());
+        }
+
+        Analytic saved = analyticRepository.save(analytic);
+        analyticsRollupService.onAnalyticUpserted(saved);
+        sprintService.markBoardChanged(sprintId);
+        aggregateVersionService.teamsChanged(List.of(teamId));
+        return saved;
     }
 
     /**
@@ -174,7 +201,7 @@ public class AnalyticsService {
                 .collect(Collectors.toList());
     }
 
-    private AnalyticsResponseDTO convertToDTO(Analytic analytic) {
+    AnalyticsResponseDTO convertToDTO(Analytic analytic) {
         AnalyticsResponseDTO dto = new AnalyticsResponseDTO();
         dto.setId(analytic.getId());
         dto.setCompletedTasks(analytic.getCompletedTasks());
@@ -195,7 +222,7 @@ public class AnalyticsService {
         dto.setStoryPointsCompletion(analytic.getStoryPointsCompletion());
         dto.setRemainingStoryPoints(analytic.getRemainingStoryPoints());
         dto.setOnTrack(analytic.isOnTrack());
-        dto.setBurnDownDataMap(analytic.getBurnDownDataMap());
+        dto.setBurnDownSeries(analytic.getBurnDownSeries());
         dto.setAllTasksCompleted(analytic.isAllTasksCompleted());
         dto.setAllStoryPointsCompleted(analytic.isAllStoryPointsCompleted());
         dto.setCompletionPercentage(analytic.getCompletionPercentage());
@@ -2,10 +2,12 @@ package com.eduscrum.upt.Ubereats.service;
 
 import com.eduscrum.upt.Ubereats.dto.request.BadgeRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.response.BadgeResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.Badge;
 import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.entity.enums.BadgeType;
 import com.eduscrum.upt.Ubereats.entity.enums.RecipientType;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
 import com.eduscrum.upt.Ubereats.repository.BadgeRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +23,7 @@ import java.util.stream.Collectors;
  *
  * @author Joao Pacheco
  * @author Bruna
- * @version 0.6.1 (2025-11-12)
+ * @version 0.9.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -29,16 +31,23 @@ public class BadgeService {
 
     private final BadgeRepository badgeRepository;
     private final UserService userService;
+    private final AggregateVersionService aggregateVersionService;
+    private final LeaderboardService leaderboardService;
 
     /**
      * Constructs a new BadgeService with required dependencies.
      *
-     * @param badgeRepository Repository for badge data access
-     * @param userService     Service for user operations
+     * @param badgeRepository         Repository for badge data access
+     * @param userService             Service for user operations
+     * @param aggregateVersionService Service for the ETag version counters
+     * @param leaderboardService      Service for the course leaderboards
      */
-    public BadgeService(BadgeRepository badgeRepository, UserService userService) {
+    public BadgeService(BadgeRepository badgeRepository, UserService userService,
+            AggregateVersionService aggregateVersionService, LeaderboardService leaderboardService) {
         this.badgeRepository = badgeRepository;
         this.userService = userService;
+        this.aggregateVersionService = aggregateVersionService;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -174,6 +183,19 @@ public class BadgeService {
                 .map(this::convertToDTO);
     }
 
+    /**
+     * Finds several badges with a single query.
+     *
+     * @param ids The IDs of the badges to find
+     * @return The badges in request order and the IDs not found
+     * @throws BusinessLogicException if too many IDs are requested
+     */
+    @Transactional(readOnly = true)
+    public BatchResponseDTO<BadgeResponseDTO> getBadgesByIds(List<Long> ids) {
+        return BatchLookup.resolve(ids, badgeRepository::findWithAchievementsByIdIn, Badge::getId,
+                this::convertToDTO);
+    }
+
     /**
      * Finds a badge by its name.
      *
@@ -295,6 +317,9 @@ public class BadgeService {
         }
 
         Badge updatedBadge = badgeRepository.save(badge);
+        // Teams holding the badge show its name and count its points
+        aggregateVersionService.badgeChanged(id);
+        leaderboardService.badgeChanged(id);
         return convertToDTO(updatedBadge);
     }
 
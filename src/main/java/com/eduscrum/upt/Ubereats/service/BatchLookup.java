@@ -0,0 +1,73 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.AppConstants;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolves a list of IDs with a single loader call and puts the results back
+ * in request order. Duplicate and null IDs are dropped; IDs the loader does
+ * not return are reported as missing.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+final class BatchLookup {
+
+    private BatchLookup() {
+    }
+
+    /**
+     * Loads the entities with the given IDs and maps them to responses.
+     *
+     * @param ids    The requested IDs
+     * @param loader Loads the entities with the distinct IDs, in any order
+     * @param idOf   Extracts an entity's ID
+     * @param mapper Maps an entity to its response
+     * @param <E>    The entity type
+     * @param <D>    The response type
+     * @return The responses in request order and the missing IDs
+     * @throws BusinessLogicException if more than {@link AppConstants#MAX_BATCH_IDS} IDs are requested
+     */
+    static <E, D> BatchResponseDTO<D> resolve(List<Long> ids, Function<Collection<Long>, List<E>> loader,
+            Function<E, Long> idOf, Function<E, D> mapper) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+        if (distinct.size() > AppConstants.MAX_BATCH_IDS) {
+            throw new BusinessLogicException("At most " + AppConstants.MAX_BATCH_IDS
+                    + " ids can be requested at once, got " + distinct.size());
+        }
+        if (distinct.isEmpty()) {
+            return new BatchResponseDTO<>();
+        }
+
+        Map<Long, E> byId = new HashMap<>();
+        for (E entity : loader.apply(distinct)) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        List<D> items = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinct) {
+            E entity = byId.get(id);
+            if (entity == null) {
+                missingIds.add(id);
+            } else {
+                items.add(mapper.apply(entity));
+            }
+        }
+        return new BatchResponseDTO<>(items, missingIds);
+    }
+}
@@ -0,0 +1,242 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.response.SyncChangesResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.Achievement;
+import com.eduscrum.upt.Ubereats.entity.Sprint;
+import com.eduscrum.upt.Ubereats.entity.Team;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.UserStory;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.AchievementRepository;
+import com.eduscrum.upt.Ubereats.repository.SprintRepository;
+import com.eduscrum.upt.Ubereats.repository.SyncTombstoneRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.repository.UserStoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for the change feed that keeps frontend caches in sync.
+ * Returns the teams, sprints, user stories and achievements of a user's
+ * scope that changed since a change token, plus tombstones for those deleted
+ * or moved out of the scope.
+ *
+ * <p>
+ * The scope is the user's active teams and, for a teacher, the teams working
+ * on projects of their courses. Changes are found by {@code updatedAt} (or
+ * {@code awardedAt}) on indexed columns. A team that itself changed, e.g.
+ * because the user just joined it, is sent with all its sprints, stories and
+ * achievements, since they may be new to the user.
+ * </p>
+ *
+ * <p>
+ * The token is the read time minus an overlap covering transactions that
+ * were still open at that time, so an entity may be sent again in the next
+ * response; clients upsert by ID. A token older than the tombstone retention
+ * gets the whole scope with {@code fullResync} set.
+ * </p>
+ *
+ * <p>
+ * Timestamps are taken when an entity is changed, not when its transaction
+ * commits. A change committed more than the overlap after its timestamp,
+ * or stamped on a node whose clock lags by more than the overlap, is missed
+ * until the entity changes again or the client resyncs. The overlap must
+ * therefore exceed the longest write transaction plus the clock skew
+ * between nodes.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class ChangeFeedService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final SprintRepository sprintRepository;
+    private final UserStoryRepository userStoryRepository;
+    private final AchievementRepository achievementRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final SprintService sprintService;
+    private final UserStoryService userStoryService;
+    private final AchievementService achievementService;
+    private final TeamSummaryService teamSummaryService;
+    private final long overlapMs;
+    private final int retentionDays;
+
+    /**
+     * Constructs a new ChangeFeedService with required dependencies.
+     *
+     * @param userRepository        Repository for user data access
+     * @param teamRepository        Repository for team data access
+     * @param sprintRepository      Repository for sprint data access
+     * @param userStoryRepository   Repository for user story data access
+     * @param achievementRepository Repository for achievement data access
+     * @param tombstoneRepository   Repository for deletion records
+     * @param sprintService         Service converting sprints
+     * @param userStoryService      Service converting user stories
+     * @param achievementService    Service converting achievements
+     * @param teamSummaryService    Service providing team responses
+     * @param overlapMs             How far back each token reaches before its read time
+     * @param retentionDays         How long deletions are kept for clients
+     */
+    public ChangeFeedService(UserRepository userRepository,
+            TeamRepository teamRepository,
+            SprintRepository sprintRepository,
+            UserStoryRepository userStoryRepository,
+            AchievementRepository achievementRepository,
+            SyncTombstoneRepository tombstoneRepository,
+            SprintService sprintService,
+            UserStoryService userStoryService,
+            AchievementService achievementService,
+            TeamSummaryService teamSummaryService,
+            @Value("${app.sync.overlap-ms:120000}") long overlapMs,
+            @Value("${app.sync.tombstone-retention-days:30}") int retentionDays) {
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.sprintRepository = sprintRepository;
+        this.userStoryRepository = userStoryRepository;
+        this.achievementRepository = achievementRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.sprintService = sprintService;
+        this.userStoryService = userStoryService;
+        this.achievementService = achievementService;
+        this.teamSummaryService = teamSummaryService;
+        this.overlapMs = overlapMs;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Retrieves the changes in a user's scope since a change token.
+     *
+     * @param userId      The ID of the user
+     * @param changeToken The token of the previous response, or null for the whole scope
+     * @return The changes and the next token
+     * @throws ResourceNotFoundException if the user is not found
+     * @throws BusinessLogicException    if the token is malformed
+     */
+    @Transactional(readOnly = true)
+    public SyncChangesResponseDTO getChanges(Long userId, String changeToken) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = parseToken(changeToken);
+        SyncChangesResponseDTO changes = new SyncChangesResponseDTO();
+        changes.setChangeToken(formatToken(now.minusNanos(overlapMs * 1_000_000L)));
+        if (since == null || since.isBefore(now.minusDays(retentionDays))) {
+            changes.setFullResync(true);
+            since = BEGINNING;
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        Set<Long> teamIds = new LinkedHashSet<>(teamRepository.findActiveTeamIdsByUserId(userId));
+        if (user.getRole() == UserRole.TEACHER) {
+            teamIds.addAll(teamRepository.findTeamIdsByCourseTeacherId(userId));
+        }
+
+        // Teams that changed are sent whole: their content may be new to the user
+        Set<Long> fullTeamIds = new LinkedHashSet<>();
+        for (Team team : teamRepository.findAllById(teamIds)) {
+            if (!team.getUpdatedAt().isBefore(since)) {
+                fullTeamIds.add(team.getId());
+            }
+        }
+        Set<Long> deltaTeamIds = new LinkedHashSet<>(teamIds);
+        deltaTeamIds.removeAll(fullTeamIds);
+
+        changes.setTeams(new ArrayList<>(teamSummaryService.getTeamSummaries(fullTeamIds)));
+        changes.setSprints(changedSprints(fullTeamIds, deltaTeamIds, since).stream()
+                .map(sprintService::convertToDTO)
+                .collect(Collectors.toList()));
+        changes.setUserStories(changedStories(fullTeamIds, deltaTeamIds, since).stream()
+                .map(userStoryService::convertToDTO)
+                .collect(Collectors.toList()));
+        changes.setAchievements(newAchievements(userId, fullTeamIds, deltaTeamIds, since).stream()
+                .map(achievementService::convertToDTO)
+                .collect(Collectors.toList()));
+        if (!changes.isFullResync()) {
+            changes.setDeleted(tombstoneRepository.findForUserSince(userId, teamIds, since).stream()
+                    .map(tombstone -> new SyncChangesResponseDTO.DeletedEntity(tombstone.getEntityType(),
+                            tombstone.getEntityId(), tombstone.getDeletedAt()))
+                    .collect(Collectors.toList()));
+        }
+        return changes;
+    }
+
+    /**
+     * Deletes tombstones older than the retention period. Clients with an
+     * older token get a full resync instead.
+     *
+     * @return Number of tombstones deleted
+     */
+    public int purgeExpiredTombstones() {
+        return tombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    // region UTILITY METHODS
+
+    private List<Sprint> changedSprints(Set<Long> fullTeamIds, Set<Long> deltaTeamIds, LocalDateTime since) {
+        List<Sprint> sprints = new ArrayList<>();
+        if (!fullTeamIds.isEmpty())
+            sprints.addAll(sprintRepository.findByTeamIdsUpdatedSince(fullTeamIds, BEGINNING));
+        if (!deltaTeamIds.isEmpty())
+            sprints.addAll(sprintRepository.findByTeamIdsUpdatedSince(deltaTeamIds, since));
+        return sprints;
+    }
+
+    private List<UserStory> changedStories(Set<Long> fullTeamIds, Set<Long> deltaTeamIds, LocalDateTime since) {
+        List<UserStory> stories = new ArrayList<>();
+        if (!fullTeamIds.isEmpty())
+            stories.addAll(userStoryRepository.findByTeamIdsUpdatedSince(fullTeamIds, BEGINNING));
+        if (!deltaTeamIds.isEmpty())
+            stories.addAll(userStoryRepository.findByTeamIdsUpdatedSince(deltaTeamIds, since));
+        return stories;
+    }
+
+    private List<Achievement> newAchievements(Long userId, Set<Long> fullTeamIds, Set<Long> deltaTeamIds,
+            LocalDateTime since) {
+        Map<Long, Achievement> achievements = new LinkedHashMap<>();
+        for (Achievement achievement : achievementRepository.findAwardedSince(userId, deltaTeamIds, since)) {
+            achievements.put(achievement.getId(), achievement);
+        }
+        if (!fullTeamIds.isEmpty()) {
+            for (Achievement achievement : achievementRepository.findAwardedSince(userId, fullTeamIds, BEGINNING)) {
+                achievements.putIfAbsent(achievement.getId(), achievement);
+            }
+        }
+        return new ArrayList<>(achievements.values());
+    }
+
+    private static String formatToken(LocalDateTime time) {
+        return Long.toString(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), 36);
+    }
+
+    private static LocalDateTime parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(token, 36)), ZoneId.systemDefault());
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException("Invalid change token: " + token);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.repository.CourseEnrollmentRepository;
 import com.eduscrum.upt.Ubereats.repository.CourseRepository;
 import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.security.AccessChecker;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +20,7 @@ import java.util.stream.Collectors;
  *
  * @author Joao Pacheco
  * @author Bruna
- * @version 0.8.0 (2025-11-20)
+ * @version 0.11.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -28,20 +29,32 @@ public class CourseEnrollmentService {
     private final CourseEnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
+    private final AccessChecker accessChecker;
+    private final AggregateVersionService aggregateVersionService;
+    private final LeaderboardService leaderboardService;
 
     /**
      * Constructs a new CourseEnrollmentService with required dependencies.
      *
-     * @param enrollmentRepository Repository for enrollment data access
-     * @param courseRepository     Repository for course data access
-     * @param userRepository       Repository for user data access
+     * @param enrollmentRepository    Repository for enrollment data access
+     * @param courseRepository        Repository for course data access
+     * @param userRepository          Repository for user data access
+     * @param accessChecker           Cache of access decisions to invalidate
+     * @param aggregateVersionService Service for the ETag version counters
+     * @param leaderboardService      Service for the course leaderboards
      */
     public CourseEnrollmentService(CourseEnrollmentRepository enrollmentRepository,
             CourseRepository courseRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            AccessChecker accessChecker,
+            AggregateVersionService aggregateVersionService,
+            LeaderboardService leaderboardService) {
         this.enrollmentRepository = enrollmentRepository;
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
+        this.accessChecker = accessChecker;
+        this.aggregateVersionService = aggregateVersionService;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -73,6 +86,9 @@ public class CourseEnrollmentService {
         // 3. Create and save enrollment
         CourseEnrollment enrollment = new CourseEnrollment(course, student);
         CourseEnrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        accessChecker.invalidateCourse(courseId);
+        aggregateVersionService.courseChanged(courseId);
+        leaderboardService.usersChanged(List.of(studentId));
         return convertToDTO(savedEnrollment);
     }
 
@@ -8,13 +8,13 @@ import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.entity.enums.Semester;
 import com.eduscrum.upt.Ubereats.repository.CourseRepository;
 import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.security.AccessChecker;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -23,7 +23,7 @@ import java.util.stream.Collectors;
  *
  * @author Francisco
  * @author Ana
- * @version 0.9.1 (2025-11-28)
+ * @version 0.11.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -31,20 +31,23 @@ public class CourseService {
 
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
-    private final CourseEnrollmentService enrollmentService;
+    private final AccessChecker accessChecker;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new CourseService with required dependencies.
      *
-     * @param courseRepository  Repository for course data access
-     * @param userRepository    Repository for user data access
-     * @param enrollmentService Service for enrollment operations
+     * @param courseRepository        Repository for course data access
+     * @param userRepository          Repository for user data access
+     * @param accessChecker           Cached course access checks
+     * @param aggregateVersionService Service for the ETag version counters
      */
     public CourseService(CourseRepository courseRepository, UserRepository userRepository,
-            CourseEnrollmentService enrollmentService) {
+            AccessChecker accessChecker, AggregateVersionService aggregateVersionService) {
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
-        this.enrollmentService = enrollmentService;
+        this.accessChecker = accessChecker;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
@@ -162,6 +165,8 @@ public class CourseService {
         }
 
         Course updatedCourse = courseRepository.save(course);
+        accessChecker.invalidateCourse(courseId);
+        aggregateVersionService.courseChanged(courseId);
         return convertToResponse(updatedCourse);
     }
 
@@ -179,10 +184,13 @@ public class CourseService {
         // Soft delete - deactivate
         course.setIsActive(false);
         courseRepository.save(course);
+        accessChecker.invalidateCourse(courseId);
+        aggregateVersionService.courseChanged(courseId);
     }
 
     /**
      * Checks if a user is the teacher of a specific course.
+     * Decisions are cached briefly by the {@link AccessChecker}.
      *
      * @param courseId     The ID of the course
      * @param teacherEmail The email of the teacher to check
@@ -190,7 +198,7 @@ public class CourseService {
      */
     @Transactional(readOnly = true)
     public boolean isCourseTeacher(Long courseId, String teacherEmail) {
-        return courseRepository.isCourseTeacher(courseId, teacherEmail);
+        return accessChecker.isCourseTeacher(courseId, teacherEmail);
     }
 
     /**
@@ -203,15 +211,7 @@ public class CourseService {
      */
     @Transactional(readOnly = true)
     public boolean isStudentEnrolled(Long courseId, String studentEmail) {
-        // 1. Find student by email
-        Optional<User> studentOpt = userRepository.findByEmail(studentEmail);
-
-        if (studentOpt.isEmpty()) {
-            return false; // User does not exist, cannot be enrolled
-        }
-
-        // 2. Delegate the check to the CourseEnrollmentService
-        return enrollmentService.isStudentEnrolled(courseId, studentOpt.get().getId());
+        return accessChecker.isStudentEnrolled(courseId, studentEmail);
     }
 
     /**
@@ -0,0 +1,684 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.enums.BadgeType;
+import com.eduscrum.upt.Ubereats.entity.enums.ProjectStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.RecipientType;
+import com.eduscrum.upt.Ubereats.entity.enums.ScrumRole;
+import com.eduscrum.upt.Ubereats.entity.enums.Semester;
+import com.eduscrum.upt.Ubereats.entity.enums.SprintStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryPriority;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.TeamMood;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class that populates the database with a synthetic, seeded dataset
+ * for load and capacity testing.
+ *
+ * <p>
+ * Scale factor 1 produces 5 courses, 500 students, 80 teams, about 400
+ * sprints and 20,000 user stories, plus enrollments, badges, achievements and
+ * daily analytics; other scale factors grow every count linearly. The same
+ * seed, prefix and anchor date always produce the same rows. Story points,
+ * priorities and statuses follow fixed distributions, and statuses follow the
+ * sprint timeline: completed sprints are mostly done, planned sprints are
+ * still to do.
+ * </p>
+ *
+ * <p>
+ * Rows are written with JDBC batches, one transaction per batch. Generated
+ * keys are read back as the ids above the table's previous maximum, so the
+ * generator expects to be the only writer while it runs.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Service
+public class DatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    static final int COURSES_PER_SCALE = 5;
+    static final int STUDENTS_PER_SCALE = 500;
+    static final int TEAMS_PER_SCALE = 80;
+    private static final int COURSES_PER_TEACHER = 5;
+    private static final int SPRINT_DAYS = 14;
+
+    private static final int[] STORY_POINTS = { 1, 2, 3, 5, 8, 13 };
+    private static final int[] STORY_POINT_WEIGHTS = { 10, 20, 30, 22, 13, 5 };
+    private static final StoryPriority[] PRIORITIES = StoryPriority.values();
+    private static final int[] PRIORITY_WEIGHTS = { 25, 50, 25 };
+    private static final int[] MOOD_WEIGHTS = { 5, 10, 30, 35, 20 };
+
+    private static final String[] SUBJECTS = { "Software Engineering", "Databases", "Distributed Systems",
+            "Web Development", "Human-Computer Interaction", "Operating Systems", "Computer Networks",
+            "Mobile Development", "Information Security", "Data Science" };
+    private static final String[] FIRST_NAMES = { "Ana", "Joao", "Maria", "Pedro", "Ines", "Tiago", "Beatriz",
+            "Rui", "Carolina", "Miguel", "Sofia", "Diogo", "Marta", "Bruno", "Rita", "Andre" };
+    private static final String[] LAST_NAMES = { "Silva", "Santos", "Ferreira", "Pereira", "Oliveira", "Costa",
+            "Rodrigues", "Martins", "Sousa", "Fernandes", "Goncalves", "Gomes", "Lopes", "Marques" };
+    private static final String[] STORY_ACTORS = { "student", "teacher", "product owner", "team member",
+            "visitor" };
+    private static final String[] STORY_ACTIONS = { "log in with my email", "see my sprint board",
+            "export the backlog", "reset my password", "filter stories by priority", "upload an avatar",
+            "receive a badge notification", "see the burndown chart", "invite a team member",
+            "search the course catalogue", "comment on a story", "track my velocity" };
+    private static final String[][] BADGES = {
+            { "Sprint Finisher", "TEAM" }, { "On Target", "TEAM" }, { "Happy Team", "TEAM" },
+            { "Bug Hunter", "INDIVIDUAL" }, { "Story Closer", "INDIVIDUAL" }, { "Helping Hand", "INDIVIDUAL" },
+            { "Estimator", "INDIVIDUAL" }, { "Early Bird", "INDIVIDUAL" } };
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users (username, email, password, role, first_name, "
+            + "last_name, student_number, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COURSE_SQL = "INSERT INTO courses (name, code, description, semester, "
+            + "academic_year, is_active, created_at, updated_at, teacher_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ENROLLMENT_SQL = "INSERT INTO course_enrollments (course_id, student_id, "
+            + "enrolled_at) VALUES (?, ?, ?)";
+    private static final String INSERT_TEAM_SQL = "INSERT INTO teams (name, created_at, updated_at) "
+            + "VALUES (?, ?, ?)";
+    private static final String INSERT_MEMBER_SQL = "INSERT INTO team_members (role, joined_at, is_active, "
+            + "team_id, user_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_PROJECT_SQL = "INSERT INTO projects (name, description, start_date, "
+            + "end_date, completed_at, max_score, progress, status, created_at, updated_at, course_id, team_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SPRINT_SQL = "INSERT INTO sprints (sprint_number, name, goal, start_date, "
+            + "end_date, completed_at, team_mood, status, created_at, updated_at, project_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_STORY_SQL = "INSERT INTO user_stories (title, description, story_points, "
+            + "status, priority, created_at, updated_at, sprint_id, team_id, assigned_to, created_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BADGE_SQL = "INSERT INTO badges (name, description, points, badge_type, "
+            + "recipient_type, icon, color, is_active, created_at, updated_at, created_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ACHIEVEMENT_SQL = "INSERT INTO achievements (reason, awarded_at, badge_id, "
+            + "awarded_to_user_id, awarded_to_team_id, project_id, sprint_id, awarded_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ANALYTIC_SQL = "INSERT INTO analytics (completed_tasks, total_tasks, "
+            + "story_points_completed, total_story_points, velocity, team_mood, recorded_date, sample_count, "
+            + "compacted, created_at, sprint_id, team_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PROGRESS_SQL = "UPDATE projects SET progress = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final int batchSize;
+
+    /**
+     * Constructs a new DatasetGenerator with required dependencies.
+     *
+     * @param jdbcTemplate       Template for batched inserts
+     * @param transactionManager Transaction manager for one transaction per batch
+     * @param passwordEncoder    Encoder for the shared password of generated users
+     * @param batchSize          Rows per JDBC batch
+     */
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder, @Value("${app.datagen.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * What to generate.
+     *
+     * @param scaleFactor Multiplier of the base counts (1 = 500 students)
+     * @param seed        Seed of the random generator
+     * @param prefix      Lowercase prefix of usernames, codes and names, unique per dataset
+     * @param anchorDate  Day the generated timeline treats as today
+     * @param password    Password of every generated user
+     */
+    public record Options(double scaleFactor, long seed, String prefix, LocalDate anchorDate, String password) {
+
+        /**
+         * Options with prefix {@code ds<seed>} and today as anchor date.
+         *
+         * @param scaleFactor Multiplier of the base counts
+         * @param seed        Seed of the random generator
+         * @param password    Password of every generated user
+         * @return The options
+         */
+        public static Options of(double scaleFactor, long seed, String password) {
+            return new Options(scaleFactor, seed, "ds" + seed, LocalDate.now(), password);
+        }
+    }
+
+    /**
+     * What was generated.
+     *
+     * @param rows          Rows inserted per table, in insertion order
+     * @param elapsedMillis Wall-clock duration of the run
+     */
+    public record Summary(Map<String, Long> rows, long elapsedMillis) {
+    }
+
+    // region GENERATION
+
+    /**
+     * Generates a dataset.
+     *
+     * @param options What to generate
+     * @return Rows inserted per table
+     * @throws BusinessLogicException if the options are invalid or the prefix is already used
+     */
+    public Summary generate(Options options) {
+        validate(options);
+        long started = System.nanoTime();
+        Run run = new Run(options);
+        run.users();
+        run.courses();
+        run.enrollments();
+        run.teams();
+        run.projects();
+        run.sprints();
+        run.badges();
+        run.stories();
+        run.analyticsAndAchievements();
+        Summary summary = new Summary(run.rows,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        logger.info("Generated dataset '{}' (scale factor {}, seed {}) in {} ms: {}", options.prefix(),
+                options.scaleFactor(), options.seed(), summary.elapsedMillis(), summary.rows());
+        return summary;
+    }
+
+    private void validate(Options options) {
+        if (options.scaleFactor() <= 0) {
+            throw new BusinessLogicException("Scale factor must be positive");
+        }
+        if (options.prefix() == null || !options.prefix().matches("[a-z0-9]{1,12}")) {
+            throw new BusinessLogicException("Dataset prefix must be 1-12 lowercase letters or digits");
+        }
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM courses WHERE code LIKE ?",
+                Integer.class, options.prefix().toUpperCase() + "-%");
+        if (existing != null && existing > 0) {
+            throw new BusinessLogicException("A dataset with prefix '" + options.prefix() + "' already exists");
+        }
+    }
+
+    // endregion
+
+    /**
+     * State of one generation run. Keeps only ids and per-sprint aggregates
+     * in memory; stories, members and analytics are streamed to the database.
+     */
+    private final class Run {
+        private final String prefix;
+        private final String codePrefix;
+        private final LocalDate anchor;
+        private final SplittableRandom random;
+        private final String passwordHash;
+        private final int courseCount;
+        private final int studentCount;
+        private final int teamCount;
+        private final int teacherCount;
+        private final Map<String, Long> rows = new LinkedHashMap<>();
+
+        private List<Long> teacherIds;
+        private List<Long> studentIds;
+        private List<Long> courseIds;
+        private List<List<Integer>> courseStudents;
+        private List<Long> teamIds;
+        private int[] teamCourse;
+        private long[][] teamMembers;
+        private List<Long> projectIds;
+        private int[] teamSprintCount;
+        private int[] teamCurrentSprint;
+        private LocalDate[] projectStart;
+        private List<Long> sprintIds;
+        private int[] sprintTeam;
+        private int[] sprintNumber;
+        private int[] sprintMood;
+        private List<Long> teamBadgeIds;
+        private List<Long> individualBadgeIds;
+        private int[] sprintStories;
+        private int[] sprintDoneStories;
+        private int[] sprintPoints;
+        private int[] sprintDonePoints;
+
+        private Run(Options options) {
+            this.prefix = options.prefix();
+            this.codePrefix = options.prefix().toUpperCase();
+            this.anchor = options.anchorDate();
+            this.random = new SplittableRandom(options.seed());
+            this.passwordHash = passwordEncoder.encode(options.password());
+            this.courseCount = scaled(COURSES_PER_SCALE, options.scaleFactor());
+            this.studentCount = Math.max(scaled(STUDENTS_PER_SCALE, options.scaleFactor()), 4 * courseCount);
+            this.teamCount = Math.max(scaled(TEAMS_PER_SCALE, options.scaleFactor()), courseCount);
+            this.teacherCount = (courseCount + COURSES_PER_TEACHER - 1) / COURSES_PER_TEACHER;
+        }
+
+        private void users() {
+            LocalDateTime createdAt = anchor.minusYears(1).atTime(9, 0);
+            List<Object[]> teachers = new ArrayList<>(teacherCount);
+            for (int i = 0; i < teacherCount; i++) {
+                teachers.add(userRow(prefix + "_t" + i, UserRole.TEACHER, null, createdAt));
+            }
+            teacherIds = insertReturningIds("users", INSERT_USER_SQL, teachers);
+
+            List<Object[]> students = new ArrayList<>(studentCount);
+            for (int i = 0; i < studentCount; i++) {
+                students.add(userRow(prefix + "_s" + i, UserRole.STUDENT, codePrefix + String.format("%07d", i),
+                        createdAt.plusMinutes(random.nextInt(60 * 24 * 180))));
+            }
+            studentIds = insertReturningIds("users", INSERT_USER_SQL, students);
+            rows.put("users", (long) (teacherCount + studentCount));
+        }
+
+        private Object[] userRow(String username, UserRole role, String studentNumber, LocalDateTime createdAt) {
+            Timestamp timestamp = Timestamp.valueOf(createdAt);
+            return new Object[] { username, username.replace('_', '.') + "@datagen.local", passwordHash,
+                    role.name(), pick(FIRST_NAMES), pick(LAST_NAMES), studentNumber, true, timestamp, timestamp };
+        }
+
+        private void courses() {
+            int startYear = anchor.getMonthValue() >= 9 ? anchor.getYear() : anchor.getYear() - 1;
+            String academicYear = startYear + "/" + (startYear + 1);
+            Timestamp createdAt = Timestamp.valueOf(anchor.minusMonths(6).atTime(9, 0));
+            List<Object[]> courses = new ArrayList<>(courseCount);
+            for (int c = 0; c < courseCount; c++) {
+                String subject = SUBJECTS[c % SUBJECTS.length];
+                courses.add(new Object[] { subject + " " + (c / SUBJECTS.length + 1), codePrefix + "-C" + c,
+                        "Generated course on " + subject.toLowerCase(), (c % 2 == 0 ? Semester.FIRST
+                                : Semester.SECOND).name(),
+                        academicYear, true, createdAt, createdAt, teacherIds.get(c / COURSES_PER_TEACHER) });
+            }
+            courseIds = insertReturningIds("courses", INSERT_COURSE_SQL, courses);
+            rows.put("courses", (long) courseCount);
+        }
+
+        /**
+         * Every student has a home course, skewed so early courses are larger,
+         * and a third of the students also take a second course.
+         */
+        private void enrollments() {
+            courseStudents = new ArrayList<>(courseCount);
+            for (int c = 0; c < courseCount; c++) {
+                courseStudents.add(new ArrayList<>());
+            }
+            for (int s = 0; s < courseCount; s++) {
+                courseStudents.get(s).add(s);
+            }
+            for (int s = courseCount; s < studentCount; s++) {
+                courseStudents.get((int) (courseCount * Math.pow(random.nextDouble(), 1.5))).add(s);
+            }
+
+            RowWriter writer = new RowWriter(INSERT_ENROLLMENT_SQL);
+            for (int c = 0; c < courseCount; c++) {
+                for (int s : courseStudents.get(c)) {
+                    writer.add(courseIds.get(c), studentIds.get(s), enrolledAt());
+                    if (courseCount > 1 && random.nextInt(3) == 0) {
+                        int other = (c + 1 + random.nextInt(courseCount - 1)) % courseCount;
+                        writer.add(courseIds.get(other), studentIds.get(s), enrolledAt());
+                    }
+                }
+            }
+            rows.put("course_enrollments", writer.finish());
+        }
+
+        private Timestamp enrolledAt() {
+            return Timestamp.valueOf(anchor.minusDays(120 + random.nextInt(60)).atTime(10, 0));
+        }
+
+        /**
+         * Splits the teams over the courses in proportion to their home
+         * students, then fills each team with four to six of them.
+         */
+        private void teams() {
+            teamCourse = new int[teamCount];
+            int assigned = 0;
+            for (int c = 0; c < courseCount; c++) {
+                int share = c == courseCount - 1 ? teamCount - assigned
+                        : Math.max(1, (int) ((long) teamCount * courseStudents.get(c).size() / studentCount));
+                share = Math.min(share, teamCount - assigned - (courseCount - 1 - c));
+                for (int i = 0; i < share; i++) {
+                    teamCourse[assigned++] = c;
+                }
+            }
+
+            Timestamp createdAt = Timestamp.valueOf(anchor.minusDays(100).atTime(9, 0));
+            List<Object[]> teams = new ArrayList<>(teamCount);
+            for (int t = 0; t < teamCount; t++) {
+                teams.add(new Object[] { codePrefix + " Team " + t, createdAt, createdAt });
+            }
+            teamIds = insertReturningIds("teams", INSERT_TEAM_SQL, teams);
+            rows.put("teams", (long) teamCount);
+
+            RowWriter writer = new RowWriter(INSERT_MEMBER_SQL);
+            teamMembers = new long[teamCount][];
+            int[] cursor = new int[courseCount];
+            for (int t = 0; t < teamCount; t++) {
+                List<Integer> candidates = courseStudents.get(teamCourse[t]);
+                int size = Math.min(4 + random.nextInt(3), candidates.size());
+                teamMembers[t] = new long[size];
+                for (int m = 0; m < size; m++) {
+                    int c = teamCourse[t];
+                    teamMembers[t][m] = studentIds.get(candidates.get(cursor[c]++ % candidates.size()));
+                    ScrumRole role = m == 0 ? ScrumRole.SCRUM_MASTER
+                            : m == 1 ? ScrumRole.PRODUCT_OWNER : ScrumRole.DEVELOPER;
+                    writer.add(role.name(), createdAt, true, teamIds.get(t), teamMembers[t][m]);
+                }
+            }
+            rows.put("team_members", writer.finish());
+        }
+
+        /**
+         * One project per team. Each team runs three to seven two-week
+         * sprints; the anchor date falls in a random one, or after the last.
+         */
+        private void projects() {
+            teamSprintCount = new int[teamCount];
+            teamCurrentSprint = new int[teamCount];
+            projectStart = new LocalDate[teamCount];
+            List<Object[]> projects = new ArrayList<>(teamCount);
+            for (int t = 0; t < teamCount; t++) {
+                int sprints = 3 + random.nextInt(5);
+                int current = random.nextInt(sprints + 1);
+                LocalDate start = anchor.minusDays((long) SPRINT_DAYS * current + random.nextInt(SPRINT_DAYS));
+                LocalDate end = start.plusDays((long) SPRINT_DAYS * sprints - 1);
+                boolean completed = current == sprints;
+                teamSprintCount[t] = sprints;
+                teamCurrentSprint[t] = current;
+                projectStart[t] = start;
+                Timestamp createdAt = Timestamp.valueOf(start.minusDays(7).atTime(9, 0));
+                projects.add(new Object[] { codePrefix + " Team " + t + " Project", "Generated project",
+                        Date.valueOf(start), Date.valueOf(end), completed ? Date.valueOf(end) : null,
+                        new BigDecimal("100.00"), 0.0,
+                        (completed ? ProjectStatus.COMPLETED : ProjectStatus.ACTIVE).name(), createdAt, createdAt,
+                        courseIds.get(teamCourse[t]), teamIds.get(t) });
+            }
+            projectIds = insertReturningIds("projects", INSERT_PROJECT_SQL, projects);
+            rows.put("projects", (long) teamCount);
+        }
+
+        private void sprints() {
+            List<Object[]> sprints = new ArrayList<>();
+            List<Integer> teams = new ArrayList<>();
+            for (int t = 0; t < teamCount; t++) {
+                for (int n = 0; n < teamSprintCount[t]; n++) {
+                    SprintStatus status = sprintStatus(t, n);
+                    LocalDate start = sprintStart(t, n);
+                    LocalDate end = start.plusDays(SPRINT_DAYS - 1);
+                    boolean completed = status == SprintStatus.COMPLETED;
+                    Integer mood = completed ? 1 + weighted(MOOD_WEIGHTS) : null;
+                    Timestamp createdAt = Timestamp.valueOf(projectStart[t].minusDays(3).atTime(9, 0));
+                    sprints.add(new Object[] { n + 1, "Sprint " + (n + 1), "Deliver increment " + (n + 1),
+                            Date.valueOf(start), Date.valueOf(end), completed ? Date.valueOf(end) : null, mood,
+                            status.name(), createdAt, createdAt, projectIds.get(t) });
+                    teams.add(t);
+                }
+            }
+            sprintIds = insertReturningIds("sprints", INSERT_SPRINT_SQL, sprints);
+            sprintTeam = new int[sprintIds.size()];
+            sprintNumber = new int[sprintIds.size()];
+            sprintMood = new int[sprintIds.size()];
+            for (int i = 0; i < sprintTeam.length; i++) {
+                sprintTeam[i] = teams.get(i);
+                sprintNumber[i] = (Integer) sprints.get(i)[0] - 1;
+                sprintMood[i] = sprints.get(i)[6] == null ? 0 : (Integer) sprints.get(i)[6];
+            }
+            rows.put("sprints", (long) sprintIds.size());
+        }
+
+        private SprintStatus sprintStatus(int team, int number) {
+            if (number < teamCurrentSprint[team]) {
+                return SprintStatus.COMPLETED;
+            }
+            return number == teamCurrentSprint[team] ? SprintStatus.IN_PROGRESS : SprintStatus.PLANNED;
+        }
+
+        private LocalDate sprintStart(int team, int number) {
+            return projectStart[team].plusDays((long) SPRINT_DAYS * number);
+        }
+
+        private void badges() {
+            Timestamp createdAt = Timestamp.valueOf(anchor.minusMonths(6).atTime(9, 0));
+            List<Object[]> badges = new ArrayList<>(BADGES.length);
+            for (int b = 0; b < BADGES.length; b++) {
+                badges.add(new Object[] { codePrefix + " " + BADGES[b][0], "Generated badge", 10 * (1 + b % 5),
+                        (b % 3 == 0 ? BadgeType.AUTOMATIC : BadgeType.MANUAL).name(), BADGES[b][1], "🏆",
+                        "#FF5733", true, createdAt, createdAt, teacherIds.get(0) });
+            }
+            List<Long> badgeIds = insertReturningIds("badges", INSERT_BADGE_SQL, badges);
+            teamBadgeIds = new ArrayList<>();
+            individualBadgeIds = new ArrayList<>();
+            for (int b = 0; b < BADGES.length; b++) {
+                (RecipientType.TEAM.name().equals(BADGES[b][1]) ? teamBadgeIds : individualBadgeIds)
+                        .add(badgeIds.get(b));
+            }
+            rows.put("badges", (long) BADGES.length);
+        }
+
+        /**
+         * Streams about fifty stories per sprint and keeps the per-sprint
+         * totals that analytics and project progress are derived from.
+         */
+        private void stories() {
+            int sprints = sprintIds.size();
+            sprintStories = new int[sprints];
+            sprintDoneStories = new int[sprints];
+            sprintPoints = new int[sprints];
+            sprintDonePoints = new int[sprints];
+            RowWriter writer = new RowWriter(INSERT_STORY_SQL);
+            for (int s = 0; s < sprints; s++) {
+                int team = sprintTeam[s];
+                long[] members = teamMembers[team];
+                SprintStatus sprintStatus = sprintStatus(team, sprintNumber[s]);
+                LocalDate start = sprintStart(team, sprintNumber[s]);
+                long daysIn = Math.max(0, ChronoUnit.DAYS.between(start, anchor) + 1);
+                double elapsed = Math.min(1.0, daysIn / (double) SPRINT_DAYS);
+                int count = 30 + random.nextInt(41);
+                for (int i = 0; i < count; i++) {
+                    int points = STORY_POINTS[weighted(STORY_POINT_WEIGHTS)];
+                    StoryStatus status = storyStatus(sprintStatus, elapsed);
+                    Long assignee = status == StoryStatus.TODO && random.nextInt(5) < 2 ? null
+                            : members[random.nextInt(members.length)];
+                    Timestamp createdAt = Timestamp.valueOf(start.minusDays(random.nextInt(10)).atTime(
+                            8 + random.nextInt(10), random.nextInt(60)));
+                    writer.add("As a " + pick(STORY_ACTORS) + ", I want to " + pick(STORY_ACTIONS),
+                            random.nextInt(4) == 0 ? null : "Generated story " + (i + 1) + " of sprint " + (s + 1),
+                            points, status.name(), PRIORITIES[weighted(PRIORITY_WEIGHTS)].name(), createdAt,
+                            createdAt, sprintIds.get(s), teamIds.get(team), assignee,
+                            members[Math.min(1, members.length - 1)]);
+                    sprintStories[s]++;
+                    sprintPoints[s] += points;
+                    if (status == StoryStatus.DONE) {
+                        sprintDoneStories[s]++;
+                        sprintDonePoints[s] += points;
+                    }
+                }
+            }
+            rows.put("user_stories", writer.finish());
+
+            List<Object[]> progress = new ArrayList<>(teamCount);
+            int[] teamPoints = new int[teamCount];
+            int[] teamDonePoints = new int[teamCount];
+            for (int s = 0; s < sprints; s++) {
+                teamPoints[sprintTeam[s]] += sprintPoints[s];
+                teamDonePoints[sprintTeam[s]] += sprintDonePoints[s];
+            }
+            for (int t = 0; t < teamCount; t++) {
+                progress.add(new Object[] { teamPoints[t] > 0 ? teamDonePoints[t] * 100.0 / teamPoints[t] : 0.0,
+                        projectIds.get(t) });
+            }
+            batchUpdate(UPDATE_PROGRESS_SQL, progress);
+        }
+
+        private StoryStatus storyStatus(SprintStatus sprintStatus, double elapsed) {
+            int roll = random.nextInt(100);
+            switch (sprintStatus) {
+                case COMPLETED:
+                    return roll < 85 ? StoryStatus.DONE
+                            : roll < 90 ? StoryStatus.IN_REVIEW
+                                    : roll < 95 ? StoryStatus.IN_PROGRESS : StoryStatus.TODO;
+                case IN_PROGRESS:
+                    int done = (int) (80 * elapsed);
+                    return roll < done ? StoryStatus.DONE
+                            : roll < done + 10 ? StoryStatus.IN_REVIEW
+                                    : roll < done + 35 ? StoryStatus.IN_PROGRESS : StoryStatus.TODO;
+                default:
+                    return StoryStatus.TODO;
+            }
+        }
+
+        /**
+         * Writes one analytics row per elapsed sprint day along an S-shaped
+         * burn-up, and awards badges to teams and members of completed sprints.
+         */
+        private void analyticsAndAchievements() {
+            RowWriter analytics = new RowWriter(INSERT_ANALYTIC_SQL);
+            RowWriter achievements = new RowWriter(INSERT_ACHIEVEMENT_SQL);
+            for (int s = 0; s < sprintIds.size(); s++) {
+                int team = sprintTeam[s];
+                SprintStatus status = sprintStatus(team, sprintNumber[s]);
+                if (status == SprintStatus.PLANNED) {
+                    continue;
+                }
+                LocalDate start = sprintStart(team, sprintNumber[s]);
+                int days = status == SprintStatus.COMPLETED ? SPRINT_DAYS
+                        : (int) Math.min(SPRINT_DAYS, ChronoUnit.DAYS.between(start, anchor) + 1);
+                TeamMood mood = sprintMood[s] == 0 ? null : TeamMood.values()[5 - sprintMood[s]];
+                for (int d = 1; d <= days; d++) {
+                    double share = (double) d / days;
+                    double curve = share * share * (3 - 2 * share);
+                    int points = (int) Math.round(sprintDonePoints[s] * curve);
+                    BigDecimal done = BigDecimal.valueOf(points).setScale(2, RoundingMode.HALF_UP);
+                    LocalDate recorded = start.plusDays(d - 1);
+                    analytics.add((int) Math.round(sprintDoneStories[s] * curve), sprintStories[s], done,
+                            BigDecimal.valueOf(sprintPoints[s]).setScale(2, RoundingMode.HALF_UP), done,
+                            mood == null ? null : mood.name(), Date.valueOf(recorded), 1, false,
+                            Timestamp.valueOf(recorded.atTime(23, 0)), sprintIds.get(s), teamIds.get(team));
+                }
+
+                if (status == SprintStatus.COMPLETED) {
+                    Timestamp awardedAt = Timestamp.valueOf(start.plusDays(SPRINT_DAYS).atTime(12, 0));
+                    Long teacher = teacherIds.get(teamCourse[team] / COURSES_PER_TEACHER);
+                    if (random.nextInt(100) < 40) {
+                        achievements.add("Sprint " + (sprintNumber[s] + 1) + " delivered", awardedAt,
+                                pick(teamBadgeIds), null, teamIds.get(team), projectIds.get(team), sprintIds.get(s),
+                                teacher);
+                    }
+                    for (long member : teamMembers[team]) {
+                        if (random.nextInt(100) < 15) {
+                            achievements.add("Outstanding work in sprint " + (sprintNumber[s] + 1), awardedAt,
+                                    pick(individualBadgeIds), member, null, projectIds.get(team),
+                                    sprintIds.get(s), teacher);
+                        }
+                    }
+                }
+            }
+            rows.put("analytics", analytics.finish());
+            rows.put("achievements", achievements.finish());
+        }
+
+        // region RANDOM HELPERS
+
+        private int weighted(int[] weights) {
+            int total = 0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            int roll = random.nextInt(total);
+            for (int i = 0; i < weights.length; i++) {
+                roll -= weights[i];
+                if (roll < 0) {
+                    return i;
+                }
+            }
+            return weights.length - 1;
+        }
+
+        private String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private Long pick(List<Long> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+
+        // endregion
+    }
+
+    // region JDBC HELPERS
+
+    /**
+     * Collects rows for one INSERT statement and writes them in batches.
+     */
+    private final class RowWriter {
+        private final String sql;
+        private final List<Object[]> pending = new ArrayList<>();
+        private long written;
+
+        private RowWriter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            pending.add(row);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private long finish() {
+            flush();
+            return written;
+        }
+
+        private void flush() {
+            if (!pending.isEmpty()) {
+                batchUpdate(sql, pending);
+                written += pending.size();
+                pending.clear();
+            }
+        }
+    }
+
+    private List<Long> insertReturningIds(String table, String sql, List<Object[]> rows) {
+        Long before = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id > ? ORDER BY id",
+                Long.class, before);
+        if (ids.size() != rows.size()) {
+            throw new IllegalStateException("Expected " + rows.size() + " new rows in " + table + " but found "
+                    + ids.size() + "; was another client writing?");
+        }
+        return ids;
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+    }
+
+    private static int scaled(int base, double scaleFactor) {
+        return Math.max(1, (int) Math.round(base * scaleFactor));
+    }
+
+    // endregion
+}
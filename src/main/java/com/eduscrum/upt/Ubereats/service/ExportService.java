@@ -14,7 +14,7 @@ import java.util.List;
  *
  * @author Ana
  * @author Francisco
- * @version 1.1.0 (2025-12-08)
+ * @version 1.2.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -68,7 +68,7 @@ public class ExportService {
      * @param value The value to escape
      * @return The escaped value safe for CSV format
      */
-    private String escapeCsv(String value) {
+    String escapeCsv(String value) {
         if (value == null)
             return "";
         if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
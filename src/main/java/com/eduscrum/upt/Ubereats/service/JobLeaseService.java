@@ -0,0 +1,221 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.JobLease;
+import com.eduscrum.upt.Ubereats.repository.JobLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service class for database-backed job leases.
+ * Elects one node per scheduled job without any external coordination
+ * service: the lease row is taken over with a conditional UPDATE, renewed
+ * while the job runs, and expires on its own if the holder dies. Expiry is
+ * always judged against the database clock.
+ *
+ * <p>
+ * A scheduled run names its trigger slot (the fire time it is for). Releasing
+ * the lease after a successful run records the slot, so a node whose trigger
+ * fires a little later cannot acquire the lease for the same slot again.
+ * </p>
+ *
+ * <p>
+ * Methods are deliberately not transactional: each lease operation commits on
+ * its own so other nodes see it immediately. {@link #lockIfHeld} is the
+ * exception; it joins the caller's transaction to fence the job's writes.
+ * </p>
+ *
+ * @author Ana
+ * @author Yeswanth Kumar
+ * @version 0.2.0 (2026-10-18)
+ */
+@Service
+public class JobLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseService.class);
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String nodeId;
+    private final long leaseSeconds;
+
+    /**
+     * Constructs a new JobLeaseService with required dependencies.
+     *
+     * @param jobLeaseRepository Repository for job lease data access
+     * @param nodeId             Identifier of this node (generated when blank)
+     * @param leaseSeconds       Lease duration before it must be renewed
+     */
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository,
+            @Value("${app.scheduling.node-id:}") String nodeId,
+            @Value("${app.scheduling.lease-seconds:300}") long leaseSeconds) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? generateNodeId() : nodeId;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * Returns the identifier this node uses as lease owner.
+     *
+     * @return The node ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Tries to acquire the lease of a job for this node.
+     *
+     * @param jobName The job name
+     * @return The fencing token, or empty if another node holds the lease
+     */
+    public Optional<Long> tryAcquire(String jobName) {
+        return tryAcquire(jobName, nodeId, null);
+    }
+
+    /**
+     * Tries to acquire the lease of a scheduled run for this node.
+     *
+     * @param jobName The job name
+     * @param slot    The scheduled fire time of the run
+     * @return The fencing token, or empty if another node holds the lease or already completed the slot
+     */
+    public Optional<Long> tryAcquire(String jobName, LocalDateTime slot) {
+        return tryAcquire(jobName, nodeId, slot);
+    }
+
+    /**
+     * Tries to acquire the lease of a job for the given owner.
+     *
+     * @param jobName The job name
+     * @param owner   The acquiring node
+     * @return The fencing token, or empty if another node holds the lease
+     */
+    public Optional<Long> tryAcquire(String jobName, String owner) {
+        return tryAcquire(jobName, owner, null);
+    }
+
+    /**
+     * Tries to acquire the lease of a job for the given owner.
+     *
+     * @param jobName The job name
+     * @param owner   The acquiring node
+     * @param slot    The scheduled fire time of the run, or null for an on-demand run
+     * @return The fencing token, or empty if another node holds the lease or already completed the slot
+     */
+    public Optional<Long> tryAcquire(String jobName, String owner, LocalDateTime slot) {
+        if (!jobLeaseRepository.existsById(jobName)) {
+            try {
+                jobLeaseRepository.saveAndFlush(new JobLease(jobName));
+            } catch (DataIntegrityViolationException e) {
+                logger.debug("Lease row for job {} was created concurrently", jobName);
+            }
+        }
+
+        if (jobLeaseRepository.tryAcquire(jobName, owner, leaseSeconds, slot) == 0) {
+            return Optional.empty();
+        }
+        return jobLeaseRepository.findById(jobName)
+                .filter(lease -> owner.equals(lease.getOwner()))
+                .map(JobLease::getFencingToken);
+    }
+
+    /**
+     * Extends the lease of a job held by this node.
+     *
+     * @param jobName The job name
+     * @param token   The fencing token received on acquisition
+     * @return true if the lease is still held, false if it was lost
+     */
+    public boolean renew(String jobName, long token) {
+        return renew(jobName, nodeId, token);
+    }
+
+    /**
+     * Extends the lease of a job held by the given owner.
+     *
+     * @param jobName The job name
+     * @param owner   The holding node
+     * @param token   The fencing token received on acquisition
+     * @return true if the lease is still held, false if it was lost
+     */
+    public boolean renew(String jobName, String owner, long token) {
+        return jobLeaseRepository.renew(jobName, owner, token, leaseSeconds) == 1;
+    }
+
+    /**
+     * Locks the lease of a job held by this node until the caller's
+     * transaction ends. Run inside the transaction of a job's writes, it
+     * fences them: they only commit while the token is still current.
+     *
+     * @param jobName The job name
+     * @param token   The fencing token received on acquisition
+     * @return true if the lease is still held, false if it was lost
+     */
+    public boolean lockIfHeld(String jobName, long token) {
+        return jobLeaseRepository.findHeldForUpdate(jobName, nodeId, token).isPresent();
+    }
+
+    /**
+     * Releases the lease of a job held by this node.
+     *
+     * @param jobName The job name
+     * @param token   The fencing token received on acquisition
+     */
+    public void release(String jobName, long token) {
+        release(jobName, nodeId, token, null);
+    }
+
+    /**
+     * Releases the lease of a job held by this node after a run.
+     *
+     * @param jobName       The job name
+     * @param token         The fencing token received on acquisition
+     * @param completedSlot The scheduled fire time the run completed, or null if none
+     */
+    public void release(String jobName, long token, LocalDateTime completedSlot) {
+        release(jobName, nodeId, token, completedSlot);
+    }
+
+    /**
+     * Releases the lease of a job held by the given owner.
+     *
+     * @param jobName The job name
+     * @param owner   The holding node
+     * @param token   The fencing token received on acquisition
+     */
+    public void release(String jobName, String owner, long token) {
+        release(jobName, owner, token, null);
+    }
+
+    /**
+     * Releases the lease of a job held by the given owner.
+     *
+     * @param jobName       The job name
+     * @param owner         The holding node
+     * @param token         The fencing token received on acquisition
+     * @param completedSlot The scheduled fire time the run completed, or null if none
+     */
+    public void release(String jobName, String owner, long token, LocalDateTime completedSlot) {
+        if (jobLeaseRepository.release(jobName, owner, token, completedSlot) == 0) {
+            logger.warn("Lease of job {} with token {} was already taken over", jobName, token);
+        }
+    }
+
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,545 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.AppConstants;
+import com.eduscrum.upt.Ubereats.dto.response.LeaderboardEntryDTO;
+import com.eduscrum.upt.Ubereats.dto.response.LeaderboardPageDTO;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.AchievementRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseEnrollmentRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseRepository;
+import com.eduscrum.upt.Ubereats.repository.ProjectRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamMemberRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.repository.UserStoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Service class for the per-course leaderboards of students and teams.
+ *
+ * <p>
+ * Scores are those of {@link UserService#calculateGlobalScore(Long)},
+ * restricted to the course: a student earns the points of their individual
+ * achievements in the course's projects, an equal share of the course points
+ * of each active team they belong to, and 25 plus 5 per story point for every
+ * completed story assigned to them in the course's sprints. A team earns the
+ * points of its achievements in the course's projects. Students are those
+ * enrolled in the course or active in one of its project teams.
+ * </p>
+ *
+ * <p>
+ * Each course's rankings are kept in memory in {@link RankedScores}, so a
+ * page or a rank is read without a query. Boards are built from the database
+ * at startup, or on first use for courses created later. Services report the
+ * users and teams whose scores may have changed, both immediately and again
+ * when their transaction completes, and each loaded board keeps them pending;
+ * the next read of a course recomputes just those entries with a few grouped
+ * queries. Each board is locked on its own, so a read never waits for work
+ * on another course, and pending changes that fail to apply stay pending.
+ * Boards are rebuilt periodically, which bounds staleness for changes made on
+ * other nodes.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    // Mirror the story score of UserService#calculateGlobalScore
+    private static final int COMPLETED_STORY_POINTS = 25;
+    private static final int POINTS_PER_STORY_POINT = 5;
+
+    private final CourseRepository courseRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ProjectRepository projectRepository;
+    private final AchievementRepository achievementRepository;
+    private final UserStoryRepository userStoryRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final Map<Long, CourseBoard> boards = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new LeaderboardService with required dependencies.
+     *
+     * @param courseRepository      Repository for course data access
+     * @param enrollmentRepository  Repository for enrollment data access
+     * @param teamMemberRepository  Repository for team member data access
+     * @param projectRepository     Repository for project data access
+     * @param achievementRepository Repository for achievement data access
+     * @param userStoryRepository   Repository for user story data access
+     * @param userRepository        Repository for user data access
+     * @param teamRepository        Repository for team data access
+     */
+    public LeaderboardService(CourseRepository courseRepository,
+            CourseEnrollmentRepository enrollmentRepository,
+            TeamMemberRepository teamMemberRepository,
+            ProjectRepository projectRepository,
+            AchievementRepository achievementRepository,
+            UserStoryRepository userStoryRepository,
+            UserRepository userRepository,
+            TeamRepository teamRepository) {
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.projectRepository = projectRepository;
+        this.achievementRepository = achievementRepository;
+        this.userStoryRepository = userStoryRepository;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+    }
+
+    // region CHANGE NOTIFICATIONS
+
+    /**
+     * Marks the scores, names or course memberships of users as changed.
+     *
+     * @param userIds The IDs of the changed users
+     */
+    public void usersChanged(Collection<Long> userIds) {
+        markPending(board -> board.pendingUsers, userIds);
+    }
+
+    /**
+     * Marks teams as changed: their achievements, their members or the
+     * projects they work on. Current and former members are recomputed too.
+     *
+     * @param teamIds The IDs of the changed teams
+     */
+    public void teamsChanged(Collection<Long> teamIds) {
+        markPending(board -> board.pendingTeams, teamIds);
+    }
+
+    /**
+     * Drops the board of a course; it is rebuilt on its next use.
+     *
+     * @param courseId The ID of the changed course
+     */
+    public void courseChanged(Long courseId) {
+        boards.remove(courseId);
+        afterCompletion(() -> boards.remove(courseId));
+    }
+
+    /**
+     * Drops the boards of the courses where a badge was awarded, after its
+     * points changed.
+     *
+     * @param badgeId The ID of the changed badge
+     */
+    public void badgeChanged(Long badgeId) {
+        achievementRepository.findCourseIdsByBadgeId(badgeId).forEach(this::courseChanged);
+    }
+
+    // region QUERIES
+
+    /**
+     * Gets a page of a course's student leaderboard.
+     *
+     * @param courseId The course ID
+     * @param offset   The 0-based position of the first entry
+     * @param limit    Maximum number of entries
+     * @return The page in ranking order
+     * @throws ResourceNotFoundException if the course is not found
+     * @throws BusinessLogicException    if offset or limit are out of range
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardPageDTO getStudentPage(Long courseId, int offset, int limit) {
+        validatePage(offset, limit);
+        CourseBoard board = getBoard(courseId);
+        synchronized (board) {
+            return slice(courseId, board.students, offset, limit);
+        }
+    }
+
+    /**
+     * Gets a page of a course's team leaderboard.
+     *
+     * @param courseId The course ID
+     * @param offset   The 0-based position of the first entry
+     * @param limit    Maximum number of entries
+     * @return The page in ranking order
+     * @throws ResourceNotFoundException if the course is not found
+     * @throws BusinessLogicException    if offset or limit are out of range
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardPageDTO getTeamPage(Long courseId, int offset, int limit) {
+        validatePage(offset, limit);
+        CourseBoard board = getBoard(courseId);
+        synchronized (board) {
+            return slice(courseId, board.teams, offset, limit);
+        }
+    }
+
+    /**
+     * Gets a student's entry on a course leaderboard with the entries ranked
+     * just above and below.
+     *
+     * @param courseId   The course ID
+     * @param userId     The student's user ID
+     * @param neighbours Entries to include on each side
+     * @return The neighbourhood in ranking order
+     * @throws ResourceNotFoundException if the course is not found or the student is not ranked in it
+     * @throws BusinessLogicException    if neighbours is out of range
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardPageDTO getStudentNeighbourhood(Long courseId, Long userId, int neighbours) {
+        validateNeighbours(neighbours);
+        CourseBoard board = getBoard(courseId);
+        synchronized (board) {
+            return neighbourhood(courseId, board.students, userId, neighbours, "Student");
+        }
+    }
+
+    /**
+     * Gets a team's entry on a course leaderboard with the entries ranked
+     * just above and below.
+     *
+     * @param courseId   The course ID
+     * @param teamId     The team ID
+     * @param neighbours Entries to include on each side
+     * @return The neighbourhood in ranking order
+     * @throws ResourceNotFoundException if the course is not found or the team is not ranked in it
+     * @throws BusinessLogicException    if neighbours is out of range
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardPageDTO getTeamNeighbourhood(Long courseId, Long teamId, int neighbours) {
+        validateNeighbours(neighbours);
+        CourseBoard board = getBoard(courseId);
+        synchronized (board) {
+            return neighbourhood(courseId, board.teams, teamId, neighbours, "Team");
+        }
+    }
+
+    // region REBUILD
+
+    /**
+     * Rebuilds the boards of the active courses and of every course with a
+     * loaded board, picking up changes made on other nodes. Boards of courses
+     * that no longer exist are dropped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.leaderboard.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.leaderboard.rebuild-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void rebuildAll() {
+        Set<Long> courseIds = new LinkedHashSet<>(courseRepository.findActiveIds());
+        courseIds.addAll(boards.keySet());
+        for (Long courseId : courseIds) {
+            CourseBoard board = boards.computeIfAbsent(courseId, id -> new CourseBoard());
+            try {
+                synchronized (board) {
+                    if (!rebuild(courseId, board)) {
+                        boards.remove(courseId, board);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Could not rebuild the leaderboard of course {}, keeping the current one", courseId, e);
+            }
+        }
+    }
+
+    // region INTERNAL METHODS
+
+    /**
+     * Gets the board of a course, built on first use, with its pending
+     * changes applied. Only the course's own board is locked.
+     */
+    private CourseBoard getBoard(Long courseId) {
+        CourseBoard board = boards.computeIfAbsent(courseId, id -> new CourseBoard());
+        synchronized (board) {
+            if (!board.built && !rebuild(courseId, board)) {
+                boards.remove(courseId, board);
+                throw new ResourceNotFoundException("Course not found with id: " + courseId);
+            }
+            applyPendingChanges(courseId, board);
+        }
+        return board;
+    }
+
+    /**
+     * Rebuilds a board from the database. Changes pending on it are covered
+     * by the rebuild; if it fails they stay pending and the current rankings
+     * are kept. Called with the board's lock held.
+     *
+     * @return false if the course does not exist
+     */
+    private boolean rebuild(Long courseId, CourseBoard board) {
+        Set<Long> teamIds = drain(board.pendingTeams);
+        Set<Long> userIds = drain(board.pendingUsers);
+        try {
+            if (!courseRepository.existsById(courseId)) {
+                return false;
+            }
+            Map<Long, List<Long>> teamsByUser = groupPairs(
+                    teamMemberRepository.findActiveMembershipsByCourseId(courseId));
+            Set<Long> studentIds = new HashSet<>(enrollmentRepository.findStudentIdsByCourseId(courseId));
+            studentIds.addAll(teamsByUser.keySet());
+            Set<Long> courseTeamIds = new HashSet<>(projectRepository.findTeamIdsByCourseId(courseId));
+
+            RankedScores students = new RankedScores();
+            RankedScores teams = new RankedScores();
+            CourseBoard.apply(students, studentIds, scoreStudents(courseId, studentIds, teamsByUser));
+            CourseBoard.apply(teams, courseTeamIds, scoreTeams(courseId, courseTeamIds));
+            board.students = students;
+            board.teams = teams;
+            board.built = true;
+            return true;
+        } catch (RuntimeException e) {
+            board.pendingTeams.addAll(teamIds);
+            board.pendingUsers.addAll(userIds);
+            throw e;
+        }
+    }
+
+    /**
+     * Recomputes the users and teams pending on a board. Changes to a team
+     * also recompute its current and former members, whose share of its
+     * points changed. If a query fails the changes stay pending for the next
+     * read. Called with the board's lock held.
+     */
+    private void applyPendingChanges(Long courseId, CourseBoard board) {
+        if (board.pendingUsers.isEmpty() && board.pendingTeams.isEmpty()) {
+            return;
+        }
+        Set<Long> teamIds = drain(board.pendingTeams);
+        Set<Long> userIds = drain(board.pendingUsers);
+        try {
+            Set<Long> students = new HashSet<>(userIds);
+            if (!teamIds.isEmpty()) {
+                students.addAll(teamMemberRepository.findUserIdsByTeamIds(teamIds));
+                refreshTeams(courseId, board, teamIds);
+            }
+            if (!students.isEmpty()) {
+                refreshStudents(courseId, board, students);
+            }
+        } catch (RuntimeException e) {
+            board.pendingTeams.addAll(teamIds);
+            board.pendingUsers.addAll(userIds);
+            throw e;
+        }
+    }
+
+    private void refreshStudents(Long courseId, CourseBoard board, Set<Long> userIds) {
+        Map<Long, List<Long>> teamsByUser = groupPairs(
+                teamMemberRepository.findActiveCourseMemberships(courseId, userIds));
+        Set<Long> roster = new HashSet<>(enrollmentRepository.findEnrolledStudentIds(courseId, userIds));
+        roster.addAll(teamsByUser.keySet());
+        // Entries that may have left the course are recomputed too
+        Set<Long> changed = new HashSet<>(roster);
+        userIds.stream().filter(id -> board.students.get(id) != null).forEach(changed::add);
+        if (!changed.isEmpty()) {
+            CourseBoard.apply(board.students, changed, scoreStudents(courseId, roster, teamsByUser));
+        }
+    }
+
+    private void refreshTeams(Long courseId, CourseBoard board, Set<Long> teamIds) {
+        Set<Long> roster = new HashSet<>(projectRepository.findTeamIdsByCourseId(courseId));
+        roster.retainAll(teamIds);
+        Set<Long> changed = new HashSet<>(roster);
+        teamIds.stream().filter(id -> board.teams.get(id) != null).forEach(changed::add);
+        if (!changed.isEmpty()) {
+            CourseBoard.apply(board.teams, changed, scoreTeams(courseId, roster));
+        }
+    }
+
+    private Map<Long, RankedScores.Entry> scoreStudents(Long courseId, Set<Long> userIds,
+            Map<Long, List<Long>> teamsByUser) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Object[] row : achievementRepository.sumUserPointsInCourse(courseId, userIds)) {
+            scores.merge((Long) row[0], toInt(row[1]), Integer::sum);
+        }
+
+        Set<Long> teamIds = new HashSet<>();
+        teamsByUser.values().forEach(teamIds::addAll);
+        if (!teamIds.isEmpty()) {
+            Map<Long, Integer> teamPoints = toMap(achievementRepository.sumTeamPointsInCourse(courseId, teamIds));
+            Map<Long, Integer> memberCounts = toMap(teamMemberRepository.countActiveMembersByTeamIds(teamIds));
+            teamsByUser.forEach((userId, teams) -> {
+                for (Long teamId : teams) {
+                    int members = memberCounts.getOrDefault(teamId, 0);
+                    if (members > 0) {
+                        scores.merge(userId, teamPoints.getOrDefault(teamId, 0) / members, Integer::sum);
+                    }
+                }
+            });
+        }
+
+        for (Object[] row : userStoryRepository.sumCompletedStoriesByAssigneeInCourse(courseId, userIds)) {
+            int storyScore = toInt(row[1]) * COMPLETED_STORY_POINTS + toInt(row[2]) * POINTS_PER_STORY_POINT;
+            scores.merge((Long) row[0], storyScore, Integer::sum);
+        }
+
+        Map<Long, RankedScores.Entry> entries = new HashMap<>();
+        for (Object[] row : userRepository.findNamesByIdIn(userIds)) {
+            Long id = (Long) row[0];
+            entries.put(id, new RankedScores.Entry(id, row[1] + " " + row[2], scores.getOrDefault(id, 0)));
+        }
+        return entries;
+    }
+
+    private Map<Long, RankedScores.Entry> scoreTeams(Long courseId, Set<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> points = toMap(achievementRepository.sumTeamPointsInCourse(courseId, teamIds));
+        Map<Long, RankedScores.Entry> entries = new HashMap<>();
+        for (Object[] row : teamRepository.findNamesByIdIn(teamIds)) {
+            Long id = (Long) row[0];
+            entries.put(id, new RankedScores.Entry(id, (String) row[1], points.getOrDefault(id, 0)));
+        }
+        return entries;
+    }
+
+    private static LeaderboardPageDTO slice(Long courseId, RankedScores scores, int offset, int limit) {
+        List<RankedScores.Entry> entries = scores.range(offset, limit);
+        List<LeaderboardEntryDTO> dtos = new ArrayList<>(entries.size());
+        int rank = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            RankedScores.Entry entry = entries.get(i);
+            if (i == 0) {
+                rank = scores.rankOf(entry.score());
+            } else if (entry.score() != entries.get(i - 1).score()) {
+                // Every entry before this one has a higher score
+                rank = offset + i + 1;
+            }
+            dtos.add(new LeaderboardEntryDTO(entry.id(), entry.name(), entry.score(), rank));
+        }
+        return new LeaderboardPageDTO(courseId, scores.size(), offset, dtos);
+    }
+
+    private static LeaderboardPageDTO neighbourhood(Long courseId, RankedScores scores, Long id, int neighbours,
+            String kind) {
+        int position = scores.positionOf(id);
+        if (position < 0) {
+            throw new ResourceNotFoundException(
+                    kind + " " + id + " is not on the leaderboard of course " + courseId);
+        }
+        int offset = Math.max(0, position - neighbours);
+        return slice(courseId, scores, offset, position - offset + neighbours + 1);
+    }
+
+    private static void validatePage(int offset, int limit) {
+        if (offset < 0) {
+            throw new BusinessLogicException("Offset must not be negative");
+        }
+        if (limit < 1 || limit > AppConstants.MAX_LEADERBOARD_PAGE_SIZE) {
+            throw new BusinessLogicException(
+                    "Limit must be between 1 and " + AppConstants.MAX_LEADERBOARD_PAGE_SIZE);
+        }
+    }
+
+    private static void validateNeighbours(int neighbours) {
+        int max = AppConstants.MAX_LEADERBOARD_PAGE_SIZE / 2;
+        if (neighbours < 0 || neighbours > max) {
+            throw new BusinessLogicException("Neighbours must be between 0 and " + max);
+        }
+    }
+
+    private void markPending(Function<CourseBoard, Set<Long>> pending, Collection<Long> ids) {
+        List<Long> changed = ids.stream().filter(Objects::nonNull).toList();
+        if (changed.isEmpty()) {
+            return;
+        }
+        Runnable mark = () -> boards.values().forEach(board -> pending.apply(board).addAll(changed));
+        mark.run();
+        // A read between the change and its commit recomputes from the old
+        // rows, so the entries are marked again once the change is visible
+        afterCompletion(mark);
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Long id : List.copyOf(pending)) {
+            if (pending.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    private static Map<Long, List<Long>> groupPairs(List<Object[]> rows) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((Long) row[1]);
+        }
+        return grouped;
+    }
+
+    private static Map<Long, Integer> toMap(List<Object[]> rows) {
+        Map<Long, Integer> values = new HashMap<>();
+        for (Object[] row : rows) {
+            values.put((Long) row[0], toInt(row[1]));
+        }
+        return values;
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    /**
+     * The student and team rankings of one course, and the users and teams
+     * whose entries are pending. Access to the rankings is synchronized on
+     * the board.
+     */
+    private static final class CourseBoard {
+        private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+        private final Set<Long> pendingTeams = ConcurrentHashMap.newKeySet();
+        private RankedScores students = new RankedScores();
+        private RankedScores teams = new RankedScores();
+        private boolean built;
+
+        // Entries not in the recomputed set have left the course
+        private static void apply(RankedScores scores, Collection<Long> ids,
+                Map<Long, RankedScores.Entry> entries) {
+            for (Long id : ids) {
+                RankedScores.Entry entry = entries.get(id);
+                if (entry == null) {
+                    scores.remove(id);
+                } else {
+                    scores.put(entry);
+                }
+            }
+        }
+    }
+}
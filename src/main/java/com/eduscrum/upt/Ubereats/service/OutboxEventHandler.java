@@ -0,0 +1,81 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.OutboxEvent;
+import com.eduscrum.upt.Ubereats.repository.OutboxEventRepository;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Service class that applies outbox events to the in-process handlers.
+ * Every handler recomputes its result from current state (progress, daily
+ * analytic upsert, rollup finalization, badge checks that skip badges already
+ * awarded), so redelivery after a crash or retry is harmless.
+ *
+ * @author Joao Pacheco
+ * @author Francisco
+ * @version 0.1.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class OutboxEventHandler {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserStoryService userStoryService;
+    private final SprintService sprintService;
+    private final AnalyticsService analyticsService;
+    private final AnalyticsRollupService analyticsRollupService;
+    private final AchievementService achievementService;
+
+    /**
+     * Constructs a new OutboxEventHandler with required dependencies.
+     *
+     * @param outboxEventRepository  Repository for outbox event data access
+     * @param userStoryService       Service for user story operations
+     * @param sprintService          Service for sprint operations
+     * @param analyticsService       Service for analytics operations
+     * @param analyticsRollupService Service for analytics rollups
+     * @param achievementService     Service for achievement operations
+     */
+    public OutboxEventHandler(OutboxEventRepository outboxEventRepository,
+            @Lazy UserStoryService userStoryService,
+            @Lazy SprintService sprintService,
+            @Lazy AnalyticsService analyticsService,
+            AnalyticsRollupService analyticsRollupService,
+            @Lazy AchievementService achievementService) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.userStoryService = userStoryService;
+        this.sprintService = sprintService;
+        this.analyticsService = analyticsService;
+        this.analyticsRollupService = analyticsRollupService;
+        this.achievementService = achievementService;
+    }
+
+    /**
+     * Applies one event and deletes it, together with the events coalesced
+     * into it, in a single transaction.
+     *
+     * @param event     The event to apply
+     * @param storyDone Whether any coalesced STORY_CHANGED event reached DONE
+     * @param eventIds  IDs of all events covered by this delivery
+     */
+    public void handle(OutboxEvent event, boolean storyDone, Collection<Long> eventIds) {
+        switch (event.getType()) {
+            case STORY_CHANGED -> {
+                userStoryService.recalculateProjectProgress(event.getProjectId());
+                analyticsService.updateDailyAnalytic(event.getSprintId(), event.getTeamId());
+                if (storyDone) {
+                    achievementService.checkAutomaticTeamBadgesOnSprintCompletion(event.getSprintId());
+                }
+            }
+            case SPRINT_COMPLETED -> {
+                analyticsRollupService.finalizeSprint(sprintService.getSprintEntity(event.getSprintId()));
+                achievementService.checkAutomaticTeamBadgesOnSprintCompletion(event.getSprintId());
+            }
+            case PROJECT_COMPLETED -> achievementService.checkAutomaticBadgesOnProjectCompletion(event.getProjectId());
+        }
+        outboxEventRepository.deleteByIdIn(eventIds);
+    }
+}
@@ -0,0 +1,151 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.AppConstants;
+import com.eduscrum.upt.Ubereats.entity.OutboxEvent;
+import com.eduscrum.upt.Ubereats.entity.enums.OutboxStatus;
+import com.eduscrum.upt.Ubereats.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service class that drains the transactional outbox.
+ * Pending events are read in batches; events with the same effect (e.g. many
+ * changes to stories of one sprint/team) are coalesced into a single handler
+ * call, and each delivery runs in its own short transaction. Failed
+ * deliveries are retried with exponential backoff and dead-lettered after
+ * {@code app.outbox.max-attempts}. Only the node holding the relay lease
+ * drains at any time.
+ *
+ * <p>
+ * The pending backlog and the dead-letter count are published as the
+ * {@code outbox.backlog} and {@code outbox.failed} gauges. Every node
+ * recounts them on each relay tick, lease or not, so they never freeze on a
+ * node that does not drain.
+ * </p>
+ *
+ * @author Joao Pacheco
+ * @author Francisco
+ * @version 0.2.0 (2026-10-18)
+ */
+@Service
+public class OutboxRelayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayService.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventHandler outboxEventHandler;
+    private final JobLeaseService jobLeaseService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Constructs a new OutboxRelayService with required dependencies.
+     *
+     * @param outboxEventRepository Repository for outbox event data access
+     * @param outboxEventHandler    Applies events to the in-process handlers
+     * @param jobLeaseService       Service for cluster-wide job leases
+     * @param meterRegistry         Registry for the backlog gauges
+     * @param batchSize             Events read per batch
+     * @param maxAttempts           Delivery attempts before an event is dead-lettered
+     */
+    public OutboxRelayService(OutboxEventRepository outboxEventRepository, OutboxEventHandler outboxEventHandler,
+            JobLeaseService jobLeaseService, MeterRegistry meterRegistry,
+            @Value("${app.outbox.batch-size:100}") int batchSize,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventHandler = outboxEventHandler;
+        this.jobLeaseService = jobLeaseService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        Gauge.builder("outbox.backlog", backlog, AtomicLong::get)
+                .description("Pending outbox events")
+                .register(meterRegistry);
+        Gauge.builder("outbox.failed", failed, AtomicLong::get)
+                .description("Dead-lettered outbox events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled relay loop: drains full batches while this node holds the
+     * relay lease, then refreshes the backlog gauges. Without the lease, only
+     * the gauges are refreshed.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        Optional<Long> token = jobLeaseService.tryAcquire(AppConstants.JOB_OUTBOX_RELAY);
+        if (token.isEmpty()) {
+            refreshMetrics();
+            return;
+        }
+        try {
+            while (drain() >= batchSize && jobLeaseService.renew(AppConstants.JOB_OUTBOX_RELAY, token.get())) {
+                // keep draining full batches
+            }
+        } finally {
+            jobLeaseService.release(AppConstants.JOB_OUTBOX_RELAY, token.get());
+            refreshMetrics();
+        }
+    }
+
+    /**
+     * Delivers one batch of due events.
+     *
+     * @return Number of events read in the batch
+     */
+    public int drain() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findDue(now, PageRequest.of(0, batchSize));
+
+        Map<String, List<OutboxEvent>> groups = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            groups.computeIfAbsent(event.getCoalescingKey(), key -> new ArrayList<>()).add(event);
+        }
+
+        for (List<OutboxEvent> group : groups.values()) {
+            boolean storyDone = group.stream().anyMatch(event -> Boolean.TRUE.equals(event.getStoryDone()));
+            List<Long> ids = group.stream().map(OutboxEvent::getId).toList();
+            try {
+                outboxEventHandler.handle(group.get(0), storyDone, ids);
+            } catch (RuntimeException e) {
+                logger.warn("Outbox delivery failed for {} (events {}): {}", group.get(0), ids, e.getMessage());
+                group.forEach(event -> event.recordFailure(e.getMessage(), now, maxAttempts));
+                outboxEventRepository.saveAll(group);
+            }
+        }
+        return events.size();
+    }
+
+    /**
+     * Returns the pending backlog as of the last relay run.
+     *
+     * @return Number of pending events
+     */
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * Recounts pending and dead-lettered events for the gauges. Both counts
+     * are served by the index on the event status.
+     */
+    public void refreshMetrics() {
+        backlog.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+        failed.set(outboxEventRepository.countByStatus(OutboxStatus.FAILED));
+    }
+}
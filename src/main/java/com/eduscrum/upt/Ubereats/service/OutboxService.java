@@ -0,0 +1,69 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.OutboxEvent;
+import com.eduscrum.upt.Ubereats.entity.enums.OutboxEventType;
+import com.eduscrum.upt.Ubereats.repository.OutboxEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for appending side-effect events to the transactional outbox.
+ * Domain services call it inside their own write transaction, so an event is
+ * stored if and only if the write commits; {@link OutboxRelayService}
+ * delivers it afterwards.
+ *
+ * @author Joao Pacheco
+ * @author Francisco
+ * @version 0.1.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Constructs a new OutboxService with required dependencies.
+     *
+     * @param outboxEventRepository Repository for outbox event data access
+     */
+    public OutboxService(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    /**
+     * Records that a user story was created, changed or deleted. Delivery
+     * refreshes the project progress and the daily analytic of the sprint/team,
+     * and checks sprint badges when the story reached DONE.
+     *
+     * @param sprintId  The sprint of the story
+     * @param teamId    The team of the story
+     * @param projectId The project of the sprint
+     * @param storyDone Whether the story moved to DONE
+     */
+    public void storyChanged(Long sprintId, Long teamId, Long projectId, boolean storyDone) {
+        OutboxEvent event = new OutboxEvent(OutboxEventType.STORY_CHANGED, sprintId, teamId, projectId);
+        event.setStoryDone(storyDone);
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * Records that a sprint was completed. Delivery finalizes the sprint rollup
+     * and checks the automatic team badges.
+     *
+     * @param sprintId The completed sprint
+     */
+    public void sprintCompleted(Long sprintId) {
+        outboxEventRepository.save(new OutboxEvent(OutboxEventType.SPRINT_COMPLETED, sprintId, null, null));
+    }
+
+    /**
+     * Records that a project was completed. Delivery checks the automatic
+     * project badges.
+     *
+     * @param projectId The completed project
+     */
+    public void projectCompleted(Long projectId) {
+        outboxEventRepository.save(new OutboxEvent(OutboxEventType.PROJECT_COMPLETED, null, null, projectId));
+    }
+}
@@ -0,0 +1,191 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.SqlStatementRecorder;
+import com.eduscrum.upt.Ubereats.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Service class for hashing and verifying passwords on a bounded worker pool.
+ * BCrypt is deliberately CPU-bound, so it runs on a fixed number of threads
+ * instead of on servlet threads: a burst of logins queues here and never
+ * starves the rest of the API.
+ *
+ * <p>
+ * The queue is bounded. When it is full, or when a task waited longer than
+ * the timeout before starting, the task is rejected with a
+ * {@link ServiceOverloadedException} instead of doing work whose caller has
+ * probably given up.
+ * </p>
+ *
+ * <p>
+ * Bulk hashing, e.g. for an import, runs on a second, smaller pool with one
+ * task per password, so a large file never holds the sign-in threads.
+ * </p>
+ *
+ * @author Bruna Silva
+ * @author Francisco Costa
+ * @version 0.4.0 (2026-10-18)
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final long RETRY_AFTER_SECONDS = 2;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashPool;
+    private final ThreadPoolExecutor bulkPool;
+    private final long timeoutNanos;
+    private final Timer hashTimer;
+    private final Timer queueTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    /**
+     * Constructs a new PasswordHashingService with required dependencies.
+     *
+     * @param passwordEncoder Encoder for password hashing
+     * @param meterRegistry   Registry for hashing metrics
+     * @param threads         Size of the hashing pool (0 for one per CPU)
+     * @param bulkThreads     Size of the bulk hashing pool (0 for half the CPUs)
+     * @param queueCapacity   Tasks that may wait for a hashing thread
+     * @param timeoutMs       Longest a task may wait before it is rejected
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            @Value("${app.security.hash-threads:0}") int threads,
+            @Value("${app.security.bulk-hash-threads:0}") int bulkThreads,
+            @Value("${app.security.hash-queue-capacity:200}") int queueCapacity,
+            @Value("${app.security.hash-timeout-ms:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        AtomicInteger counter = new AtomicInteger();
+        this.hashPool = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        int bulkSize = bulkThreads > 0 ? bulkThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger bulkCounter = new AtomicInteger();
+        this.bulkPool = new ThreadPoolExecutor(bulkSize, bulkSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "password-bulk-hash-" + bulkCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("Time spent hashing or verifying passwords on the hashing pool")
+                .register(meterRegistry);
+        this.queueTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time password tasks waited for a hashing thread")
+                .register(meterRegistry);
+        this.queueFullRejections = Counter.builder("auth.password.rejected").tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder("auth.password.rejected").tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue", hashPool, pool -> pool.getQueue().size())
+                .description("Password tasks waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a task that hashes or verifies a password on the hashing pool.
+     * The returned future fails with {@link ServiceOverloadedException} if
+     * the pool is saturated.
+     *
+     * @param task The task, typically an authentication attempt
+     * @param <T>  The task result type
+     * @return Future completed with the task result
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        Map<String, String> logContext = MDC.getCopyOfContextMap();
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.current();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long waited = System.nanoTime() - queuedAt;
+                queueTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > timeoutNanos) {
+                    timeoutRejections.increment();
+                    throw overloaded();
+                }
+                // Keep the caller's correlation id and SQL recording while the task runs here
+                if (logContext != null) {
+                    MDC.setContextMap(logContext);
+                }
+                SqlStatementRecorder.resume(recording);
+                try {
+                    return hashTimer.record(task);
+                } finally {
+                    MDC.clear();
+                    SqlStatementRecorder.resume(null);
+                }
+            }, hashPool);
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            return CompletableFuture.failedFuture(overloaded());
+        }
+    }
+
+    /**
+     * Hashes passwords in parallel on the bulk hashing pool, one task per
+     * password, so sign-ins queued on the hashing pool are never held behind
+     * a whole slice of a bulk operation.
+     *
+     * @param rawPasswords The raw passwords
+     * @return The hashes, in the same order
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> parts = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            parts.add(CompletableFuture.supplyAsync(
+                    () -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)), bulkPool));
+        }
+
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CompletableFuture<String> part : parts) {
+                hashes.add(part.join());
+            }
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return hashes;
+    }
+
+    /**
+     * Stops the hashing pools when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdownNow();
+        bulkPool.shutdownNow();
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Too many concurrent sign-ins, please retry shortly",
+                RETRY_AFTER_SECONDS);
+    }
+}
@@ -23,7 +23,7 @@ import java.util.stream.Collectors;
  *
  * @author Yeswanth Kumar
  * @author Joao Pacheco
- * @version 1.2.0 (2025-12-10)
+ * @version 1.4.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -31,23 +31,27 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final CourseRepository courseRepository;
-    private final AchievementService achievementService;
+    private final OutboxService outboxService;
     private final TeamService teamService;
+    private final AggregateVersionService aggregateVersionService;
 
     /**
      * Constructs a new ProjectService with required dependencies.
      *
-     * @param projectRepository  Repository for project data access
-     * @param courseRepository   Repository for course data access
-     * @param achievementService Service for achievement operations
-     * @param teamService        Service for team operations
+     * @param projectRepository       Repository for project data access
+     * @param courseRepository        Repository for course data access
+     * @param outboxService           Service for side-effect events
+     * @param teamService             Service for team operations
+     * @param aggregateVersionService Service for the ETag version counters
      */
     public ProjectService(ProjectRepository projectRepository, CourseRepository courseRepository,
-            @Lazy AchievementService achievementService, @Lazy TeamService teamService) {
+            OutboxService outboxService, @Lazy TeamService teamService,
+            AggregateVersionService aggregateVersionService) {
         this.projectRepository = projectRepository;
         this.courseRepository = courseRepository;
-        this.achievementService = achievementService;
+        this.outboxService = outboxService;
         this.teamService = teamService;
+        this.aggregateVersionService = aggregateVersionService;
     }
 
     /**
@@ -70,6 +74,7 @@ public class ProjectService {
                 course);
 
         Project saved = projectRepository.save(project);
+        aggregateVersionService.projectsChanged(List.of(saved.getId()));
         return mapToResponse(saved);
     }
 
@@ -136,7 +141,9 @@ public class ProjectService {
         if (req.getEndDate() != null)
             project.setEndDate(req.getEndDate());
 
-        return mapToResponse(projectRepository.save(project));
+        Project saved = projectRepository.save(project);
+        aggregateVersionService.projectsChanged(List.of(id));
+        return mapToResponse(saved);
     }
 
     /**
@@ -151,6 +158,7 @@ public class ProjectService {
 
         project.setStatus(ProjectStatus.ARCHIVED);
         projectRepository.save(project);
+        aggregateVersionService.projectsChanged(List.of(id));
     }
 
     /**
@@ -173,13 +181,17 @@ public class ProjectService {
         project.setStatus(ProjectStatus.COMPLETED);
         Project updatedProject = projectRepository.save(project);
 
-        // Close team memberships if team is assigned
+        // Close team memberships if team is assigned; the bulk update clears the
+        // persistence context, so the project is re-read for the response
         if (project.getTeam() != null) {
             teamService.closeTeamMemberships(project.getTeam().getId());
+            updatedProject = projectRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Project not found: " + id));
         }
 
-        // Trigger automatic badge checks for project completion
-        achievementService.checkAutomaticBadgesOnProjectCompletion(id);
+        // Automatic badge checks for project completion run in the outbox relay
+        outboxService.projectCompleted(id);
+        aggregateVersionService.projectsChanged(List.of(id));
 
         return mapToResponse(updatedProject);
     }
@@ -0,0 +1,233 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores kept in ranking order: highest score first, ties by ascending ID.
+ * Backed by a treap whose nodes count their subtree, so inserting, removing,
+ * ranking an entry and finding the entry at a position all take O(log n).
+ * Node priorities are a hash of the ID, which keeps the tree balanced without
+ * a random source and makes its shape reproducible.
+ *
+ * <p>
+ * Not thread-safe; callers synchronize.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+final class RankedScores {
+
+    /**
+     * A ranked entry.
+     *
+     * @param id    The ID of the student or team
+     * @param name  The display name
+     * @param score The score
+     */
+    record Entry(long id, String name, int score) {
+    }
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private Node root;
+
+    /**
+     * Adds an entry, replacing the one with the same ID.
+     *
+     * @param entry The entry
+     */
+    void put(Entry entry) {
+        remove(entry.id());
+        Node node = new Node(entry);
+        nodes.put(entry.id(), node);
+        Node[] parts = split(root, entry.score(), entry.id());
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Removes the entry with the given ID, if present.
+     *
+     * @param id The ID
+     */
+    void remove(long id) {
+        Node node = nodes.remove(id);
+        if (node != null) {
+            root = delete(root, node.entry.score(), id);
+        }
+    }
+
+    /**
+     * @param id The ID
+     * @return The entry with the given ID, or null
+     */
+    Entry get(long id) {
+        Node node = nodes.get(id);
+        return node == null ? null : node.entry;
+    }
+
+    /** @return Number of entries */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Competition rank of a score: one more than the number of entries with a
+     * strictly higher score, so tied entries share a rank.
+     *
+     * @param score The score
+     * @return The 1-based rank
+     */
+    int rankOf(int score) {
+        return countBefore(score, Long.MIN_VALUE) + 1;
+    }
+
+    /**
+     * Position of an entry in ranking order.
+     *
+     * @param id The ID
+     * @return The 0-based position, or -1 if absent
+     */
+    int positionOf(long id) {
+        Node node = nodes.get(id);
+        return node == null ? -1 : countBefore(node.entry.score(), id);
+    }
+
+    /**
+     * Entries in ranking order from a position.
+     *
+     * @param offset The 0-based position of the first entry
+     * @param limit  Maximum number of entries
+     * @return The entries, empty past the end
+     */
+    List<Entry> range(int offset, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        for (int position = offset; position < offset + limit && position < size(); position++) {
+            entries.add(select(position));
+        }
+        return entries;
+    }
+
+    /** @return Snapshot of the IDs of all entries */
+    List<Long> ids() {
+        return new ArrayList<>(nodes.keySet());
+    }
+
+    private Entry select(int position) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position == leftSize) {
+                return node.entry;
+            } else {
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("No entry at position " + position);
+    }
+
+    // Entries ordered before the key (score, id)
+    private int countBefore(int score, long id) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (before(node.entry, score, id)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static boolean before(Entry entry, int score, long id) {
+        return entry.score() > score || (entry.score() == score && entry.id() < id);
+    }
+
+    // Splits into the nodes ordered before the key and the rest
+    private static Node[] split(Node node, int score, long id) {
+        if (node == null) {
+            return new Node[] { null, null };
+        }
+        if (before(node.entry, score, id)) {
+            Node[] parts = split(node.right, score, id);
+            node.right = parts[0];
+            node.update();
+            return new Node[] { node, parts[1] };
+        }
+        Node[] parts = split(node.left, score, id);
+        node.left = parts[1];
+        node.update();
+        return new Node[] { parts[0], node };
+    }
+
+    // Joins two treaps where every node of the first is ordered before the second
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    private static Node delete(Node node, int score, long id) {
+        if (node == null) {
+            return null;
+        }
+        if (node.entry.id() == id) {
+            return merge(node.left, node.right);
+        }
+        if (before(node.entry, score, id)) {
+            node.right = delete(node.right, score, id);
+        } else {
+            node.left = delete(node.left, score, id);
+        }
+        node.update();
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final Entry entry;
+        private final long priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(Entry entry) {
+            this.entry = entry;
+            this.priority = mix(entry.id());
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+
+        // SplitMix64 finalizer
+        private static long mix(long value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.RefreshToken;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service class for refresh token operations.
+ * Refresh tokens are opaque random values of which only the SHA-256 hash is
+ * stored. Each refresh rotates the token within its family; presenting a
+ * token that was already rotated revokes the whole family, since either the
+ * client or an attacker holds a stolen copy.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long validityDays;
+
+    /**
+     * Constructs a new RefreshTokenService with required dependencies.
+     *
+     * @param refreshTokenRepository Repository for refresh token data access
+     * @param validityDays           Lifetime of a refresh token in days
+     */
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            @Value("${app.jwt.refresh-expiration-days:14}") long validityDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.validityDays = validityDays;
+    }
+
+    /**
+     * Issues a refresh token in a new family, e.g. on login.
+     *
+     * @param user The user the token is issued to
+     * @return The raw token value to hand to the client
+     */
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family.
+     *
+     * @param rawToken The refresh token presented by the client
+     * @return The user and the new refresh token
+     * @throws BadCredentialsException if the token is unknown, expired or
+     *                                 was already used
+     * @throws DisabledException       if the user has been deactivated
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.getRevokedAt() != null) {
+            // Reuse of a rotated token: the family is compromised
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            throw new BadCredentialsException("Refresh token has already been used");
+        }
+        if (!token.isUsableAt(now)) {
+            throw new BadCredentialsException("Refresh token has expired");
+        }
+
+        User user = token.getUser();
+        if (Boolean.FALSE.equals(user.getIsActive())) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            throw new DisabledException("Account is deactivated");
+        }
+
+        if (refreshTokenRepository.markRotated(token.getId(), now) == 0) {
+            throw new BadCredentialsException("Refresh token has already been used");
+        }
+        return new Rotation(user, issue(user, token.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of a refresh token, e.g. on logout. Unknown tokens
+     * are ignored.
+     *
+     * @param rawToken The refresh token presented by the client
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * Revokes every refresh token of a user.
+     *
+     * @param userId The user ID
+     * @return Number of tokens revoked
+     */
+    public int revokeAllForUser(Long userId) {
+        return refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+    }
+
+    /**
+     * Deletes refresh tokens that have expired.
+     *
+     * @return Number of tokens deleted
+     */
+    public int purgeExpired() {
+        return refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(new RefreshToken(user, hash(rawToken), familyId, now, now.plusDays(validityDays)));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        if (rawToken == null) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Result of a refresh token rotation.
+     *
+     * @param user         The user the token belongs to
+     * @param refreshToken The new raw refresh token
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -1,25 +1,48 @@
 package com.eduscrum.upt.Ubereats.service;
 
 import com.eduscrum.upt.Ubereats.config.AppConstants;
+import com.eduscrum.upt.Ubereats.entity.JobRun;
 import com.eduscrum.upt.Ubereats.entity.Sprint;
-import com.eduscrum.upt.Ubereats.entity.enums.SprintStatus;
+import com.eduscrum.upt.Ubereats.repository.JobRunRepository;
 import com.eduscrum.upt.Ubereats.repository.SprintRepository;
+import com.eduscrum.upt.Ubereats.security.TokenRevocationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 /**
  * Service class for scheduled tasks in the EduScrum platform.
- * Handles automated operations like checking for overdue sprints.
+ * Drives the sprint lifecycle (auto-complete, auto-start, overdue detection),
+ * the compaction of old sprint analytics, and the purge of expired tokens and
+ * sync tombstones. The cron triggers are declared in SchedulingConfig.
+ *
+ * <p>
+ * Every job works in bounded chunks with one short transaction per chunk, and
+ * each run is recorded as a {@link JobRun} with its duration and row counts.
+ * </p>
+ *
+ * <p>
+ * Only the node holding a job's lease (see {@link JobLeaseService}) runs it.
+ * A node whose trigger fires after the run is done skips it. Each chunk locks
+ * the lease at the start of its transaction, so a node that lost the lease
+ * cannot commit.
+ * </p>
  *
  * @author Ana
  * @author Yeswanth Kumar
- * @version 0.1.0 (2025-10-15)
+ * @version 0.8.0 (2026-10-18)
  */
 @Service
 public class SchedulerService {
@@ -27,34 +50,287 @@ public class SchedulerService {
     private static final Logger logger = LoggerFactory.getLogger(SchedulerService.class);
 
     private final SprintRepository sprintRepository;
+    private final SprintService sprintService;
+    private final AnalyticsCompactionService analyticsCompactionService;
+    private final JobRunRepository jobRunRepository;
+    private final JobLeaseService jobLeaseService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ChangeFeedService changeFeedService;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
 
     /**
      * Constructs a new SchedulerService with required dependencies.
      *
-     * @param sprintRepository Repository for sprint data access
+     * @param sprintRepository           Repository for sprint data access
+     * @param sprintService              Service for sprint operations
+     * @param analyticsCompactionService Service for analytics retention
+     * @param jobRunRepository           Repository for job run history
+     * @param jobLeaseService            Service for cluster-wide job leases
+     * @param refreshTokenService        Service for refresh token operations
+     * @param tokenRevocationService     Service for access token revocation
+     * @param changeFeedService          Service for the change feed
+     * @param transactionManager         Transaction manager for the fenced chunks
+     * @param chunkSize                  Maximum rows handled per transaction
      */
-    public SchedulerService(SprintRepository sprintRepository) {
+    public SchedulerService(SprintRepository sprintRepository, SprintService sprintService,
+            AnalyticsCompactionService analyticsCompactionService, JobRunRepository jobRunRepository,
+            JobLeaseService jobLeaseService, RefreshTokenService refreshTokenService,
+            TokenRevocationService tokenRevocationService, ChangeFeedService changeFeedService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.scheduling.chunk-size:200}") int chunkSize) {
         this.sprintRepository = sprintRepository;
+        this.sprintService = sprintService;
+        this.analyticsCompactionService = analyticsCompactionService;
+        this.jobRunRepository = jobRunRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.changeFeedService = changeFeedService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
     }
 
+    // region SPRINT LIFECYCLE
+
     /**
-     * Daily scheduled task to check for overdue sprints.
-     * Runs at midnight and logs any sprints that have passed their end date
-     * while still being in progress.
+     * Daily scheduled task driving the sprint lifecycle.
+     * Runs at midnight: first completes sprints that reached their end date,
+     * then starts sprints that reached their start date, then reports the
+     * sprints that are still overdue.
      */
-    @Scheduled(cron = AppConstants.CRON_DAILY_MIDNIGHT)
-    @Transactional
-    public void checkOverdueSprints() {
-        logger.info("Running daily scheduled task: checkOverdueSprints");
+    public void runSprintLifecycle() {
+        logger.info("Running daily scheduled task: runSprintLifecycle");
+        LocalDateTime slot = triggerSlot(AppConstants.CRON_DAILY_MIDNIGHT, LocalDateTime.now());
+        completeReadySprints(slot);
+        startReadySprints(slot);
+        checkOverdueSprints(slot);
+    }
+
+    /**
+     * Completes every in-progress sprint whose end date has been reached,
+     * one chunk per transaction.
+     *
+     * @return Number of sprints completed
+     */
+    public int completeReadySprints() {
+        return completeReadySprints(null);
+    }
 
+    private int completeReadySprints(LocalDateTime slot) {
         LocalDate today = LocalDate.now();
-        List<Sprint> activeSprints = sprintRepository.findByStatus(SprintStatus.IN_PROGRESS);
+        return runChunked(AppConstants.JOB_SPRINT_AUTO_COMPLETE, slot,
+                () -> sprintService.completeReadySprintsChunk(today, chunkSize));
+    }
+
+    /**
+     * Starts every planned sprint whose start date has been reached, one bulk
+     * UPDATE per chunk.
+     *
+     * @return Number of sprints started
+     */
+    public int startReadySprints() {
+        return startReadySprints(null);
+    }
+
+    private int startReadySprints(LocalDateTime slot) {
+        LocalDate today = LocalDate.now();
+        return runChunked(AppConstants.JOB_SPRINT_AUTO_START, slot,
+                () -> sprintService.startReadySprintsChunk(today, chunkSize));
+    }
 
-        for (Sprint sprint : activeSprints) {
-            if (sprint.getEndDate().isBefore(today)) {
+    /**
+     * Logs any sprints that have passed their end date while still being in
+     * progress. Sprints are read in ID order, one chunk at a time, so the scan
+     * never holds a long transaction on the sprints table.
+     */
+    public void checkOverdueSprints() {
+        checkOverdueSprints(null);
+    }
+
+    private void checkOverdueSprints(LocalDateTime slot) {
+        LocalDate today = LocalDate.now();
+        long[] lastId = { 0L };
+        runChunked(AppConstants.JOB_SPRINT_OVERDUE_CHECK, slot, () -> {
+            List<Sprint> overdue = sprintRepository.findOverdueSprintsAfter(today, lastId[0],
+                    PageRequest.of(0, chunkSize));
+            for (Sprint sprint : overdue) {
                 logger.warn("Sprint overdue detected: ID={}, Name={}, EndDate={}",
                         sprint.getId(), sprint.getName(), sprint.getEndDate());
+                lastId[0] = sprint.getId();
+            }
+            return overdue.size();
+        });
+    }
+
+    // region ANALYTICS RETENTION
+
+    /**
+     * Daily scheduled task to compact the analytics of completed sprints.
+     * Each sprint is compacted in its own transaction so a failure only rolls
+     * back that sprint and the next run picks it up again.
+     */
+    public void compactCompletedSprintAnalytics() {
+        logger.info("Running daily scheduled task: compactCompletedSprintAnalytics");
+        LocalDateTime slot = triggerSlot(AppConstants.CRON_DAILY_ANALYTICS_COMPACTION, LocalDateTime.now());
+        runLeased(AppConstants.JOB_ANALYTICS_COMPACTION, slot, execution -> {
+            for (Long sprintId : analyticsCompactionService.findSprintsToCompact(LocalDate.now())) {
+                execution.checkLease();
+                try {
+                    execution.chunkDone(execution.fenced(() -> analyticsCompactionService.compactSprint(sprintId)));
+                } catch (RuntimeException e) {
+                    logger.error("Analytics compaction failed for sprint ID={}", sprintId, e);
+                    execution.failure = e;
+                }
+            }
+        });
+    }
+
+    // region TOKEN RETENTION
+
+    /**
+     * Daily scheduled task to delete refresh tokens and token revocations
+     * whose tokens have expired.
+     *
+     * @return Number of rows deleted
+     */
+    public int purgeExpiredTokens() {
+        logger.info("Running daily scheduled task: purgeExpiredTokens");
+        LocalDateTime slot = triggerSlot(AppConstants.CRON_DAILY_TOKEN_CLEANUP, LocalDateTime.now());
+        return runLeased(AppConstants.JOB_TOKEN_CLEANUP, slot, execution -> {
+            execution.chunkDone(execution.fenced(refreshTokenService::purgeExpired));
+            execution.chunkDone(execution.fenced(tokenRevocationService::purgeExpired));
+        });
+    }
+
+    // region SYNC TOMBSTONE RETENTION
+
+    /**
+     * Daily scheduled task to delete change feed tombstones past their
+     * retention period.
+     *
+     * @return Number of tombstones deleted
+     */
+    public int purgeExpiredSyncTombstones() {
+        logger.info("Running daily scheduled task: purgeExpiredSyncTombstones");
+        LocalDateTime slot = triggerSlot(AppConstants.CRON_DAILY_SYNC_TOMBSTONE_CLEANUP, LocalDateTime.now());
+        return runLeased(AppConstants.JOB_SYNC_TOMBSTONE_CLEANUP, slot,
+                execution -> execution.chunkDone(execution.fenced(changeFeedService::purgeExpiredTombstones)));
+    }
+
+    // region UTILITY METHODS
+
+    /**
+     * Runs a chunk callback until it handles fewer rows than the chunk size.
+     * A failing chunk stops the job; chunks already committed stay committed
+     * and the next run resumes from there.
+     */
+    private int runChunked(String jobName, LocalDateTime slot, IntSupplier chunk) {
+        return runLeased(jobName, slot, execution -> {
+            int processed;
+            do {
+                execution.checkLease();
+                processed = execution.fenced(chunk);
+                execution.chunkDone(processed);
+            } while (processed >= chunkSize);
+        });
+    }
+
+    /**
+     * Runs a job only if this node acquires its lease, renewing the lease
+     * between chunks and releasing it at the end. A successful run marks its
+     * trigger slot as done, so a node firing the same slot later skips it. The
+     * run is recorded with the fencing token it ran under.
+     */
+    private int runLeased(String jobName, LocalDateTime slot, Consumer<JobExecution> body) {
+        Optional<Long> token = jobLeaseService.tryAcquire(jobName, slot);
+        if (token.isEmpty()) {
+            logger.info("Skipping scheduled job {}: lease held by another node or run for {} already done",
+                    jobName, slot);
+            return 0;
+        }
+
+        JobExecution execution = new JobExecution(jobName, token.get());
+        try {
+            body.accept(execution);
+        } catch (RuntimeException e) {
+            logger.error("Scheduled job {} failed after {} rows", jobName, execution.rows, e);
+            execution.failure = e;
+        } finally {
+            jobLeaseService.release(jobName, token.get(), execution.failure == null ? slot : null);
+        }
+
+        JobRun run = execution.run;
+        run.finish((System.nanoTime() - execution.startNanos) / 1_000_000, execution.rows, execution.chunks,
+                execution.failure);
+        jobRunRepository.save(run);
+        logger.info("Scheduled job {} finished: status={}, rows={}, chunks={}, durationMs={}, token={}",
+                jobName, run.getStatus(), execution.rows, execution.chunks, run.getDurationMs(), token.get());
+        return execution.rows;
+    }
+
+    /**
+     * Finds the fire time of a cron trigger that is due at the given time:
+     * the latest one at or before it, looking back one day.
+     *
+     * @param cron The cron expression
+     * @param now  The reference time
+     * @return The trigger slot, or null if the cron did not fire in the last day
+     */
+    static LocalDateTime triggerSlot(String cron, LocalDateTime now) {
+        CronExpression expression = CronExpression.parse(cron);
+        LocalDateTime slot = null;
+        for (LocalDateTime fire = expression.next(now.minusDays(1)); fire != null && !fire.isAfter(now);
+                fire = expression.next(fire)) {
+            slot = fire;
+        }
+        return slot;
+    }
+
+    /**
+     * Progress of one leased job run.
+     */
+    private final class JobExecution {
+        private final JobRun run;
+        private final long startNanos = System.nanoTime();
+        private int rows;
+        private int chunks;
+        private RuntimeException failure;
+
+        private JobExecution(String jobName, long token) {
+            this.run = new JobRun(jobName, LocalDateTime.now(), jobLeaseService.getNodeId(), token);
+        }
+
+        /**
+         * Renews the lease before the next chunk, aborting the run if another
+         * node has taken it over in the meantime.
+         */
+        private void checkLease() {
+            if (chunks > 0 && !jobLeaseService.renew(run.getJobName(), run.getFencingToken())) {
+                throw new IllegalStateException("Lease of job " + run.getJobName() + " with token "
+                        + run.getFencingToken() + " was lost");
             }
         }
+
+        /**
+         * Runs a unit of work in a transaction that first locks the lease, so
+         * its writes only commit while this run's token is still current.
+         */
+        private int fenced(IntSupplier work) {
+            Integer processed = chunkTransaction.execute(status -> {
+                if (!jobLeaseService.lockIfHeld(run.getJobName(), run.getFencingToken())) {
+                    throw new IllegalStateException("Lease of job " + run.getJobName() + " with token "
+                            + run.getFencingToken() + " was lost");
+                }
+                return work.getAsInt();
+            });
+            return processed != null ? processed : 0;
+        }
+
+        private void chunkDone(int processed) {
+            rows += processed;
+            chunks++;
+        }
     }
 }
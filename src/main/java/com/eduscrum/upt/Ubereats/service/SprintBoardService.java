@@ -0,0 +1,194 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.response.SprintBoardResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.TeamMemberResponse;
+import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.Sprint;
+import com.eduscrum.upt.Ubereats.entity.Team;
+import com.eduscrum.upt.Ubereats.entity.UserStory;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.AnalyticRepository;
+import com.eduscrum.upt.Ubereats.repository.SprintRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamMemberRepository;
+import com.eduscrum.upt.Ubereats.repository.UserStoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for the sprint board read model: the sprint header, its
+ * stories grouped by status, the team members, story statistics and the
+ * latest analytics in a single response.
+ *
+ * <p>
+ * A board is built from four set-based queries (sprint with project and
+ * team, stories with their people, active members with their users, latest
+ * analytics) and cached per sprint. Every write that shows on the board bumps
+ * the sprint's board version, so a cached board is reused for as long as the
+ * version read at the start of the request still matches it; a change on
+ * another node is seen on the next read. Boards are also rebuilt once a day,
+ * since the sprint header holds date-dependent values such as the days
+ * remaining.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class SprintBoardService {
+
+    private final SprintRepository sprintRepository;
+    private final UserStoryRepository userStoryRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final AnalyticRepository analyticRepository;
+    private final SprintService sprintService;
+    private final UserStoryService userStoryService;
+    private final AnalyticsService analyticsService;
+    private final Map<Long, CachedBoard> boards = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs a new SprintBoardService with required dependencies.
+     *
+     * @param sprintRepository     Repository for sprint data access
+     * @param userStoryRepository  Repository for user story data access
+     * @param teamMemberRepository Repository for team member data access
+     * @param analyticRepository   Repository for analytic data access
+     * @param sprintService        Service converting sprints
+     * @param userStoryService     Service converting user stories
+     * @param analyticsService     Service converting analytics
+     * @param meterRegistry        Registry for cache metrics
+     * @param maxEntries           Cached boards before the cache is emptied
+     */
+    public SprintBoardService(SprintRepository sprintRepository,
+            UserStoryRepository userStoryRepository,
+            TeamMemberRepository teamMemberRepository,
+            AnalyticRepository analyticRepository,
+            SprintService sprintService,
+            UserStoryService userStoryService,
+            AnalyticsService analyticsService,
+            MeterRegistry meterRegistry,
+            @Value("${app.board-cache.max-entries:1000}") int maxEntries) {
+        this.sprintRepository = sprintRepository;
+        this.userStoryRepository = userStoryRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.analyticRepository = analyticRepository;
+        this.sprintService = sprintService;
+        this.userStoryService = userStoryService;
+        this.analyticsService = analyticsService;
+        this.maxEntries = maxEntries;
+
+        this.hits = Counter.builder("sprint.board.cache").tag("result", "hit")
+                .description("Sprint boards answered from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("sprint.board.cache").tag("result", "miss")
+                .description("Sprint boards built from the database")
+                .register(meterRegistry);
+        Gauge.builder("sprint.board.cache.size", boards, Map::size)
+                .description("Cached sprint boards")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the board of a sprint, from the cache when the sprint has
+     * not changed since it was built.
+     *
+     * @param sprintId The ID of the sprint
+     * @return The sprint board
+     * @throws ResourceNotFoundException if the sprint is not found
+     */
+    @Transactional(readOnly = true)
+    public SprintBoardResponseDTO getBoard(Long sprintId) {
+        // Read the version first: a board built afterwards is at least as new as it
+        long version = sprintRepository.findBoardVersionById(sprintId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint not found with id: " + sprintId));
+        LocalDate today = LocalDate.now();
+        CachedBoard cached = boards.get(sprintId);
+        if (cached != null && cached.board.getVersion() == version && cached.builtOn.equals(today)) {
+            hits.increment();
+            return cached.board;
+        }
+
+        misses.increment();
+        SprintBoardResponseDTO board = buildBoard(sprintId, version);
+        if (boards.size() >= maxEntries) {
+            boards.clear();
+        }
+        // A concurrent request may have cached a newer version meanwhile
+        boards.merge(sprintId, new CachedBoard(board, today),
+                (current, built) -> current.board.getVersion() > version ? current : built);
+        return board;
+    }
+
+    /**
+     * Drops every cached board.
+     */
+    public void evictAll() {
+        boards.clear();
+    }
+
+    // region UTILITY METHODS
+
+    private SprintBoardResponseDTO buildBoard(Long sprintId, long version) {
+        Sprint sprint = sprintRepository.findWithProjectAndTeamById(sprintId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint not found with id: " + sprintId));
+        List<UserStory> stories = userStoryRepository.findWithPeopleBySprintId(sprintId);
+
+        SprintBoardResponseDTO board = new SprintBoardResponseDTO();
+        board.setVersion(version);
+        board.setSprint(sprintService.convertToDTO(sprint));
+
+        Map<StoryStatus, List<UserStoryResponseDTO>> columns = new EnumMap<>(StoryStatus.class);
+        Map<StoryStatus, Integer> storiesByStatus = new EnumMap<>(StoryStatus.class);
+        Map<StoryStatus, Integer> pointsByStatus = new EnumMap<>(StoryStatus.class);
+        for (StoryStatus status : StoryStatus.values()) {
+            columns.put(status, new ArrayList<>());
+            storiesByStatus.put(status, 0);
+            pointsByStatus.put(status, 0);
+        }
+        int totalPoints = 0;
+        int unassigned = 0;
+        for (UserStory story : stories) {
+            int points = story.getStoryPoints() != null ? story.getStoryPoints() : 0;
+            columns.get(story.getStatus()).add(userStoryService.convertToDTO(story));
+            storiesByStatus.merge(story.getStatus(), 1, Integer::sum);
+            pointsByStatus.merge(story.getStatus(), points, Integer::sum);
+            totalPoints += points;
+            if (!story.isAssigned())
+                unassigned++;
+        }
+        board.setColumns(columns);
+        board.setStats(new SprintBoardResponseDTO.BoardStats(stories.size(), storiesByStatus.get(StoryStatus.DONE),
+                unassigned, totalPoints, pointsByStatus.get(StoryStatus.DONE), storiesByStatus, pointsByStatus));
+
+        Team team = sprint.getProject().getTeam();
+        if (team != null) {
+            board.setMembers(teamMemberRepository.findActiveWithUserByTeamId(team.getId()).stream()
+                    .map(TeamMemberResponse::new)
+                    .collect(Collectors.toList()));
+            analyticRepository.findFirstByTeamIdAndSprintIdOrderByRecordedDateDesc(team.getId(), sprintId)
+                    .map(analyticsService::convertToDTO)
+                    .ifPresent(board::setLatestAnalytics);
+        }
+        return board;
+    }
+
+    private record CachedBoard(SprintBoardResponseDTO board, LocalDate builtOn) {
+    }
+}
@@ -1,19 +1,27 @@
 package com.eduscrum.upt.Ubereats.service;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.request.SprintRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
 import com.eduscrum.upt.Ubereats.dto.response.SprintResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.Sprint;
 import com.eduscrum.upt.Ubereats.entity.Project;
+import com.eduscrum.upt.Ubereats.entity.SyncTombstone;
+import com.eduscrum.upt.Ubereats.entity.Team;
 import com.eduscrum.upt.Ubereats.entity.enums.SprintStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.SyncEntityType;
 import com.eduscrum.upt.Ubereats.repository.SprintRepository;
+import com.eduscrum.upt.Ubereats.repository.SyncTombstoneRepository;
 import com.eduscrum.upt.Ubereats.repository.ProjectRepository;
 import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
 import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,7 +32,7 @@ import java.util.stream.Collectors;
  *
  * @author Francisco
  * @author Yeswanth Kumar
- * @version 0.2.1 (2025-10-22)
+ * @version 0.7.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -32,24 +40,27 @@ public class SprintService {
 
     private final SprintRepository sprintRepository;
     private final ProjectRepository projectRepository;
-    private final AchievementService achievementService;
     private final com.eduscrum.upt.Ubereats.repository.UserStoryRepository userStoryRepository;
+    private final OutboxService outboxService;
+    private final SyncTombstoneRepository tombstoneRepository;
 
     /**
      * Constructs a new SprintService with required dependencies.
      *
      * @param sprintRepository    Repository for sprint data access
      * @param projectRepository   Repository for project data access
-     * @param achievementService  Service for achievement operations
      * @param userStoryRepository Repository for user story data access
+     * @param outboxService       Service for side-effect events
+     * @param tombstoneRepository Repository for deletion records of the change feed
      */
     public SprintService(SprintRepository sprintRepository, ProjectRepository projectRepository,
-            @Lazy AchievementService achievementService,
-            com.eduscrum.upt.Ubereats.repository.UserStoryRepository userStoryRepository) {
+            com.eduscrum.upt.Ubereats.repository.UserStoryRepository userStoryRepository,
+            OutboxService outboxService, SyncTombstoneRepository tombstoneRepository) {
         this.sprintRepository = sprintRepository;
         this.projectRepository = projectRepository;
-        this.achievementService = achievementService;
         this.userStoryRepository = userStoryRepository;
+        this.outboxService = outboxService;
+        this.tombstoneRepository = tombstoneRepository;
     }
 
     /**
@@ -164,8 +175,19 @@ public class SprintService {
      */
     @Transactional(readOnly = true)
     public List<SprintResponseDTO> getAllSprints() {
+        return getAllSprints(FieldSelection.ALL);
+    }
+
+    /**
+     * Finds all sprints in the system, computing only the selected fields.
+     *
+     * @param fields The sparse fieldset
+     * @return List of all sprints as response DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<SprintResponseDTO> getAllSprints(FieldSelection fields) {
         return sprintRepository.findAll().stream()
-                .map(this::convertToDTO)
+                .map(sprint -> convertToDTO(sprint, fields))
                 .collect(Collectors.toList());
     }
 
@@ -183,6 +205,18 @@ public class SprintService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sprint not found with id: " + id));
     }
 
+    /**
+     * Finds several sprints with a single query.
+     *
+     * @param ids The IDs of the sprints to find
+     * @return The sprints in request order and the IDs not found
+     * @throws BusinessLogicException if too many IDs are requested
+     */
+    @Transactional(readOnly = true)
+    public BatchResponseDTO<SprintResponseDTO> getSprintsByIds(List<Long> ids) {
+        return BatchLookup.resolve(ids, sprintRepository::findWithProjectByIdIn, Sprint::getId, this::convertToDTO);
+    }
+
     /**
      * Finds all sprints for a specific project.
      *
@@ -191,8 +225,20 @@ public class SprintService {
      */
     @Transactional(readOnly = true)
     public List<SprintResponseDTO> getSprintsByProject(Long projectId) {
+        return getSprintsByProject(projectId, FieldSelection.ALL);
+    }
+
+    /**
+     * Finds all sprints for a specific project, computing only the selected fields.
+     *
+     * @param projectId The ID of the project
+     * @param fields    The sparse fieldset
+     * @return List of sprints in the project
+     */
+    @Transactional(readOnly = true)
+    public List<SprintResponseDTO> getSprintsByProject(Long projectId, FieldSelection fields) {
         return sprintRepository.findByProjectId(projectId).stream()
-                .map(this::convertToDTO)
+                .map(sprint -> convertToDTO(sprint, fields))
                 .collect(Collectors.toList());
     }
 
@@ -204,8 +250,20 @@ public class SprintService {
      */
     @Transactional(readOnly = true)
     public List<SprintResponseDTO> getSprintsByStatus(SprintStatus status) {
+        return getSprintsByStatus(status, FieldSelection.ALL);
+    }
+
+    /**
+     * Finds all sprints with a specific status, computing only the selected fields.
+     *
+     * @param status The status to filter by
+     * @param fields The sparse fieldset
+     * @return List of sprints with the specified status
+     */
+    @Transactional(readOnly = true)
+    public List<SprintResponseDTO> getSprintsByStatus(SprintStatus status, FieldSelection fields) {
         return sprintRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
+                .map(sprint -> convertToDTO(sprint, fields))
                 .collect(Collectors.toList());
     }
 
@@ -302,11 +360,18 @@ public class SprintService {
 
         // Update project if different
         if (!sprint.getProject().getId().equals(requestDTO.getProjectId())) {
+            Team previousTeam = sprint.getProject().getTeam();
             Project newProject = getProjectEntity(requestDTO.getProjectId());
             sprint.setProject(newProject);
+            if (previousTeam != null
+                    && (newProject.getTeam() == null || !previousTeam.getId().equals(newProject.getTeam().getId()))) {
+                // The sprint left the previous team's change feed
+                tombstoneRepository.save(new SyncTombstone(SyncEntityType.SPRINT, id, previousTeam.getId(), null));
+            }
         }
 
         Sprint updatedSprint = sprintRepository.save(sprint);
+        markBoardChanged(id);
         return convertToDTO(updatedSprint);
     }
 
@@ -327,6 +392,7 @@ public class SprintService {
 
         sprint.setStatus(SprintStatus.IN_PROGRESS);
         Sprint updatedSprint = sprintRepository.save(sprint);
+        markBoardChanged(id);
         return convertToDTO(updatedSprint);
     }
 
@@ -358,9 +424,10 @@ public class SprintService {
         }
 
         Sprint updatedSprint = sprintRepository.save(sprint);
+        markBoardChanged(id);
 
-        // Trigger automatic badge checks for sprint completion
-        achievementService.checkAutomaticTeamBadgesOnSprintCompletion(id);
+        // Rollup finalization and automatic badge checks run in the outbox relay
+        outboxService.sprintCompleted(id);
 
         return convertToDTO(updatedSprint);
     }
@@ -383,6 +450,7 @@ public class SprintService {
 
         sprint.setStatus(SprintStatus.CANCELLED);
         Sprint updatedSprint = sprintRepository.save(sprint);
+        markBoardChanged(id);
         return convertToDTO(updatedSprint);
     }
 
@@ -401,6 +469,10 @@ public class SprintService {
         }
 
         sprintRepository.delete(sprint);
+        Team team = sprint.getProject().getTeam();
+        if (team != null) {
+            tombstoneRepository.save(new SyncTombstone(SyncEntityType.SPRINT, id, team.getId(), null));
+        }
     }
 
     // region AUTOMATIC SPRINT MANAGEMENT
@@ -412,10 +484,14 @@ public class SprintService {
      * @return List of sprints that were started
      */
     public List<SprintResponseDTO> startReadySprints() {
-        List<Sprint> readySprints = sprintRepository.findSprintsReadyToStart(LocalDate.now());
-        readySprints.forEach(sprint -> sprint.setStatus(SprintStatus.IN_PROGRESS));
-        List<Sprint> updatedSprints = sprintRepository.saveAll(readySprints);
-        return updatedSprints.stream()
+        List<Long> ids = sprintRepository.findSprintIdsReadyToStart(LocalDate.now(), Pageable.unpaged());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Bulk UPDATE clears the persistence context; re-read the started sprints
+        sprintRepository.startSprints(ids, LocalDateTime.now());
+        sprintRepository.incrementBoardVersions(ids);
+        return sprintRepository.findAllById(ids).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -429,16 +505,68 @@ public class SprintService {
      */
     public List<SprintResponseDTO> completeReadySprints() {
         List<Sprint> readySprints = sprintRepository.findSprintsReadyToComplete(LocalDate.now());
-        readySprints.forEach(sprint -> {
-            sprint.setStatus(SprintStatus.COMPLETED);
-            achievementService.checkAutomaticTeamBadgesOnSprintCompletion(sprint.getId());
-        });
+        readySprints.forEach(sprint -> sprint.setStatus(SprintStatus.COMPLETED));
         List<Sprint> updatedSprints = sprintRepository.saveAll(readySprints);
+        updatedSprints.forEach(sprint -> outboxService.sprintCompleted(sprint.getId()));
+        if (!updatedSprints.isEmpty()) {
+            sprintRepository.incrementBoardVersions(updatedSprints.stream().map(Sprint::getId).toList());
+        }
         return updatedSprints.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Starts one chunk of sprints whose start date has been reached, using a
+     * single bulk UPDATE since starting a sprint has no per-entity side effects.
+     *
+     * @param today     The reference date
+     * @param chunkSize Maximum number of sprints to start
+     * @return Number of sprints started
+     */
+    public int startReadySprintsChunk(LocalDate today, int chunkSize) {
+        List<Long> ids = sprintRepository.findSprintIdsReadyToStart(today, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int started = sprintRepository.startSprints(ids, LocalDateTime.now());
+        sprintRepository.incrementBoardVersions(ids);
+        return started;
+    }
+
+    /**
+     * Completes one chunk of sprints whose end date has been reached with a
+     * single bulk UPDATE, closing each sprint on its planned end date. Rollup
+     * finalization and badge checks are queued in the outbox.
+     *
+     * @param today     The reference date
+     * @param chunkSize Maximum number of sprints to complete
+     * @return Number of sprints completed
+     */
+    public int completeReadySprintsChunk(LocalDate today, int chunkSize) {
+        List<Long> ids = sprintRepository.findSprintIdsReadyToComplete(today, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int completed = sprintRepository.completeSprintsOnEndDate(ids, LocalDateTime.now());
+        sprintRepository.incrementBoardVersions(ids);
+        ids.forEach(outboxService::sprintCompleted);
+        return completed;
+    }
+
+    // region SPRINT BOARD VERSION
+
+    /**
+     * Marks a sprint board as changed, so that a cached board of the sprint
+     * is rebuilt on its next read. Called by every write that shows on the
+     * board: the sprint itself, its stories, its team members and analytics.
+     *
+     * @param sprintId The ID of the sprint
+     */
+    public void markBoardChanged(Long sprintId) {
+        sprintRepository.incrementBoardVersions(List.of(sprintId));
+    }
+
     // region BUSINESS LOGIC FOR AWARDS
 
     /**
@@ -546,35 +674,62 @@ public class SprintService {
     /**
      * Converts Sprint entity to SprintResponseDTO
      */
-    private SprintResponseDTO convertToDTO(Sprint sprint) {
+    SprintResponseDTO convertToDTO(Sprint sprint) {
+        return convertToDTO(sprint, FieldSelection.ALL);
+    }
+
+    /**
+     * Converts Sprint entity to SprintResponseDTO, computing only the selected
+     * fields. Leaving out projectName avoids loading the project.
+     */
+    private SprintResponseDTO convertToDTO(Sprint sprint, FieldSelection fields) {
         SprintResponseDTO dto = new SprintResponseDTO();
         dto.setId(sprint.getId());
-        dto.setSprintNumber(sprint.getSprintNumber());
-        dto.setName(sprint.getName());
-        dto.setGoal(sprint.getGoal());
-        dto.setStartDate(sprint.getStartDate());
-        dto.setEndDate(sprint.getEndDate());
-        dto.setStatus(sprint.getStatus());
-        dto.setCreatedAt(sprint.getCreatedAt());
-        dto.setUpdatedAt(sprint.getUpdatedAt());
+        if (fields.includes("sprintNumber"))
+            dto.setSprintNumber(sprint.getSprintNumber());
+        if (fields.includes("name"))
+            dto.setName(sprint.getName());
+        if (fields.includes("goal"))
+            dto.setGoal(sprint.getGoal());
+        if (fields.includes("startDate"))
+            dto.setStartDate(sprint.getStartDate());
+        if (fields.includes("endDate"))
+            dto.setEndDate(sprint.getEndDate());
+        if (fields.includes("status"))
+            dto.setStatus(sprint.getStatus());
+        if (fields.includes("createdAt"))
+            dto.setCreatedAt(sprint.getCreatedAt());
+        if (fields.includes("updatedAt"))
+            dto.setUpdatedAt(sprint.getUpdatedAt());
 
         // Calculate dynamic properties
-        dto.setDurationDays(sprint.getDurationDays());
-        dto.setDaysRemaining(sprint.getDaysRemaining());
-        dto.setTimeProgressPercentage(sprint.getTimeProgressPercentage());
-        dto.setOverdue(sprint.isOverdue());
-        dto.setActive(sprint.isActive());
-        dto.setCompleted(sprint.isCompleted());
-        dto.setStatusDescription(sprint.getStatusDescription());
-        dto.setDisplayName(sprint.getDisplayName());
+        if (fields.includes("durationDays"))
+            dto.setDurationDays(sprint.getDurationDays());
+        if (fields.includes("daysRemaining"))
+            dto.setDaysRemaining(sprint.getDaysRemaining());
+        if (fields.includes("timeProgressPercentage"))
+            dto.setTimeProgressPercentage(sprint.getTimeProgressPercentage());
+        if (fields.includes("overdue"))
+            dto.setOverdue(sprint.isOverdue());
+        if (fields.includes("active"))
+            dto.setActive(sprint.isActive());
+        if (fields.includes("completed"))
+            dto.setCompleted(sprint.isCompleted());
+        if (fields.includes("statusDescription"))
+            dto.setStatusDescription(sprint.getStatusDescription());
+        if (fields.includes("displayName"))
+            dto.setDisplayName(sprint.getDisplayName());
 
         // Set related entity info
         if (sprint.getProject() != null) {
-            dto.setProjectId(sprint.getProject().getId());
-            dto.setProjectName(sprint.getProject().getName());
+            if (fields.includes("projectId"))
+                dto.setProjectId(sprint.getProject().getId());
+            if (fields.includes("projectName"))
+                dto.setProjectName(sprint.getProject().getName());
         }
 
-        dto.setTeamMood(sprint.getTeamMood());
+        if (fields.includes("teamMood"))
+            dto.setTeamMood(sprint.getTeamMood());
 
         return dto;
     }
@@ -0,0 +1,363 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.AppConstants;
+import com.eduscrum.upt.Ubereats.dto.response.SprintFlowResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.SprintFlowResponseDTO.FlowPoint;
+import com.eduscrum.upt.Ubereats.entity.StoryTransition;
+import com.eduscrum.upt.Ubereats.entity.UserStory;
+import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import com.eduscrum.upt.Ubereats.repository.StoryTransitionRepository;
+import com.eduscrum.upt.Ubereats.repository.UserStoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service class for the user story transition log.
+ * Appends an entry for every status or story point change and folds the log
+ * incrementally into burndown, burnup and cumulative flow series, cached per
+ * sprint and team.
+ *
+ * <p>
+ * Stories that predate the log are seeded with their state before their first
+ * logged change, or by a backfill at startup if they are never written. Both
+ * lock the story row and re-check the log first, so a story is seeded once.
+ * Reads never write to the log.
+ * </p>
+ *
+ * @author Ana
+ * @author Joao Pacheco
+ * @version 0.2.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class StoryFlowService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoryFlowService.class);
+
+    private static final int MAX_CACHED_SERIES = 256;
+
+    private static final Comparator<StoryTransition> TIME_ORDER = Comparator
+            .comparing(StoryTransition::getOccurredAt).thenComparing(StoryTransition::getId);
+
+    private final StoryTransitionRepository transitionRepository;
+    private final UserStoryRepository userStoryRepository;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    private final Map<FlowKey, FlowState> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<FlowKey, FlowState> eldest) {
+                    return size() > MAX_CACHED_SERIES;
+                }
+            });
+
+    /**
+     * Constructs a new StoryFlowService with required dependencies.
+     *
+     * @param transitionRepository Repository for transition log access
+     * @param userStoryRepository  Repository for user story data access
+     * @param jobLeaseService      Service for cluster-wide job leases
+     * @param transactionManager   Transaction manager for the backfill chunks
+     * @param chunkSize            Maximum stories seeded per backfill transaction
+     */
+    public StoryFlowService(StoryTransitionRepository transitionRepository,
+            UserStoryRepository userStoryRepository, JobLeaseService jobLeaseService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.scheduling.chunk-size:200}") int chunkSize) {
+        this.transitionRepository = transitionRepository;
+        this.userStoryRepository = userStoryRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    // region RECORDING
+
+    /**
+     * Records a user story entering its sprint and team (creation).
+     *
+     * @param story The persisted user story
+     */
+    public void recordCreated(UserStory story) {
+        append(story.getId(), story.getSprint().getId(), story.getTeam().getId(),
+                null, 0, story.getStatus(), story.getStoryPoints());
+    }
+
+    /**
+     * Records the change of a user story against its previous state.
+     * Moving a story to another sprint or team is recorded as an exit from the
+     * old series and an entry into the new one. A story without log entries is
+     * first seeded with its previous state.
+     *
+     * @param story          The persisted user story
+     * @param previousStatus The status before the change
+     * @param previousPoints The story points before the change
+     * @param previousSprint The sprint ID before the change
+     * @param previousTeam   The team ID before the change
+     */
+    public void recordChanged(UserStory story, StoryStatus previousStatus, Integer previousPoints,
+            Long previousSprint, Long previousTeam) {
+        Long sprintId = story.getSprint().getId();
+        Long teamId = story.getTeam().getId();
+        boolean moved = !sprintId.equals(previousSprint) || !teamId.equals(previousTeam);
+        if (!moved && previousStatus == story.getStatus()
+                && points(previousPoints) == points(story.getStoryPoints())) {
+            return;
+        }
+
+        seedIfUnlogged(story, previousSprint, previousTeam, previousStatus, previousPoints);
+        if (moved) {
+            append(story.getId(), previousSprint, previousTeam, previousStatus, previousPoints, null, 0);
+            append(story.getId(), sprintId, teamId, null, 0, story.getStatus(), story.getStoryPoints());
+            return;
+        }
+
+        append(story.getId(), sprintId, teamId, previousStatus, previousPoints, story.getStatus(),
+                story.getStoryPoints());
+    }
+
+    /**
+     * Records a user story leaving its sprint and team (deletion).
+     *
+     * @param story The user story about to be deleted
+     */
+    public void recordDeleted(UserStory story) {
+        seedIfUnlogged(story, story.getSprint().getId(), story.getTeam().getId(), story.getStatus(),
+                story.getStoryPoints());
+        append(story.getId(), story.getSprint().getId(), story.getTeam().getId(),
+                story.getStatus(), story.getStoryPoints(), null, 0);
+    }
+
+    private void append(Long storyId, Long sprintId, Long teamId, StoryStatus fromStatus, Integer fromPoints,
+            StoryStatus toStatus, Integer toPoints) {
+        transitionRepository.save(new StoryTransition(storyId, sprintId, teamId, fromStatus, fromPoints,
+                toStatus, toPoints, LocalDateTime.now()));
+    }
+
+    /**
+     * Seeds the log with the state a story had before the change being
+     * recorded, if the story predates the log.
+     */
+    private void seedIfUnlogged(UserStory story, Long sprintId, Long teamId, StoryStatus status, Integer points) {
+        // Read before the lock query flushes the change and moves the update timestamp
+        LocalDateTime updatedAt = story.getUpdatedAt();
+        if (transitionRepository.existsByStoryId(story.getId())) {
+            return;
+        }
+        userStoryRepository.findForUpdateById(story.getId());
+        if (transitionRepository.findFirstByStoryId(story.getId()).isEmpty()) {
+            transitionRepository.saveAll(seedTransitions(story.getId(), sprintId, teamId, status, points,
+                    story.getCreatedAt(), updatedAt));
+        }
+    }
+
+    // region BACKFILL
+
+    /**
+     * Seeds the log for stories that predate it and have not been written
+     * since, once per deployment. Only the node holding the job's lease runs
+     * it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void backfillOnStartup() {
+        Optional<Long> token = jobLeaseService.tryAcquire(AppConstants.JOB_STORY_FLOW_BACKFILL);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            int seeded = backfillUnloggedStories();
+            if (seeded > 0) {
+                logger.info("Seeded the transition log of {} user stories", seeded);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Transition log backfill failed", e);
+        } finally {
+            jobLeaseService.release(AppConstants.JOB_STORY_FLOW_BACKFILL, token.get());
+        }
+    }
+
+    /**
+     * Seeds the log of every user story that has no entry yet from its
+     * current state, one chunk of stories per transaction.
+     *
+     * @return Number of stories seeded
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int backfillUnloggedStories() {
+        int seeded = 0;
+        long afterId = 0;
+        List<Long> storyIds;
+        while (!(storyIds = userStoryRepository.findUnloggedIdsAfter(afterId, PageRequest.of(0, chunkSize)))
+                .isEmpty()) {
+            List<Long> chunk = storyIds;
+            Integer chunkSeeded = chunkTransaction.execute(status -> {
+                int count = 0;
+                for (Long storyId : chunk) {
+                    if (seedIfUnlogged(storyId)) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+            seeded += chunkSeeded != null ? chunkSeeded : 0;
+            afterId = storyIds.get(storyIds.size() - 1);
+        }
+        return seeded;
+    }
+
+    private boolean seedIfUnlogged(Long storyId) {
+        Optional<UserStory> locked = userStoryRepository.findForUpdateById(storyId);
+        if (locked.isEmpty() || transitionRepository.findFirstByStoryId(storyId).isPresent()) {
+            return false;
+        }
+        UserStory story = locked.get();
+        transitionRepository.saveAll(seedTransitions(storyId, story.getSprint().getId(), story.getTeam().getId(),
+                story.getStatus(), story.getStoryPoints(), story.getCreatedAt(), story.getUpdatedAt()));
+        return true;
+    }
+
+    /**
+     * Builds the entries of a story that predates the log: its entry into the
+     * sprint at creation, and its move out of TODO at its last update.
+     */
+    private static List<StoryTransition> seedTransitions(Long storyId, Long sprintId, Long teamId,
+            StoryStatus status, Integer points, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        LocalDateTime created = createdAt != null ? createdAt : LocalDateTime.now();
+        if (status == StoryStatus.TODO || updatedAt == null) {
+            return List.of(new StoryTransition(storyId, sprintId, teamId, null, 0, status, points, created));
+        }
+        LocalDateTime moved = updatedAt.isBefore(created) ? created : updatedAt;
+        return List.of(
+                new StoryTransition(storyId, sprintId, teamId, null, 0, StoryStatus.TODO, points, created),
+                new StoryTransition(storyId, sprintId, teamId, StoryStatus.TODO, points, status, points, moved));
+    }
+
+    // region FLOW SERIES
+
+    /**
+     * Gets the burndown, burnup and cumulative flow series of a sprint.
+     * Only transitions appended since the last call are read from the log.
+     *
+     * @param sprintId The sprint ID
+     * @param teamId   The team ID (optional, null for the whole sprint)
+     * @return The flow series
+     */
+    @Transactional(readOnly = true)
+    public SprintFlowResponseDTO getSprintFlow(Long sprintId, Long teamId) {
+        FlowKey key = new FlowKey(sprintId, teamId);
+        FlowState state = cache.computeIfAbsent(key, k -> new FlowState());
+
+        synchronized (state) {
+            List<StoryTransition> added = state.foldedCount == 0
+                    ? transitionRepository.findAllInTimeOrder(sprintId, teamId)
+                    : new ArrayList<>(transitionRepository.findAfter(sprintId, teamId, state.lastId));
+            if (state.foldedCount > 0
+                    && (transitionRepository.countUpTo(sprintId, teamId, state.lastId) != state.foldedCount
+                            || state.precedesLastFold(added))) {
+                // An entry with a lower ID committed after the last fold, or a
+                // seed dated before it was appended: rebuild in time order
+                state.reset();
+                added = transitionRepository.findAllInTimeOrder(sprintId, teamId);
+            } else {
+                added.sort(TIME_ORDER);
+            }
+            for (StoryTransition transition : added) {
+                state.fold(transition);
+            }
+            return state.toDTO(sprintId, teamId);
+        }
+    }
+
+    private static int points(Integer points) {
+        return points != null ? points : 0;
+    }
+
+    // region CACHE STATE
+
+    private record FlowKey(Long sprintId, Long teamId) {
+    }
+
+    /**
+     * Running totals of one series plus the points derived so far.
+     */
+    private static final class FlowState {
+        private long lastId;
+        private LocalDateTime lastOccurredAt;
+        private long foldedCount;
+        private int scope;
+        private int completed;
+        private final EnumMap<StoryStatus, Integer> byStatus = new EnumMap<>(StoryStatus.class);
+        private final List<FlowPoint> points = new ArrayList<>();
+
+        private void reset() {
+            lastId = 0;
+            lastOccurredAt = null;
+            foldedCount = 0;
+            scope = 0;
+            completed = 0;
+            byStatus.clear();
+            points.clear();
+        }
+
+        private boolean precedesLastFold(List<StoryTransition> transitions) {
+            return lastOccurredAt != null
+                    && transitions.stream().anyMatch(t -> t.getOccurredAt().isBefore(lastOccurredAt));
+        }
+
+        private void fold(StoryTransition transition) {
+            lastId = Math.max(lastId, transition.getId());
+            lastOccurredAt = transition.getOccurredAt();
+            foldedCount++;
+            scope += transition.getScopeDelta();
+            completed += transition.getCompletedDelta();
+            if (transition.getFromStatus() != null) {
+                byStatus.merge(transition.getFromStatus(), -transition.getFromPoints(), Integer::sum);
+            }
+            if (transition.getToStatus() != null) {
+                byStatus.merge(transition.getToStatus(), transition.getToPoints(), Integer::sum);
+            }
+
+            FlowPoint point = new FlowPoint(transition.getOccurredAt(), scope, completed,
+                    Collections.unmodifiableMap(new EnumMap<>(byStatus)));
+            // Changes sharing a timestamp collapse into one point
+            if (!points.isEmpty() && points.get(points.size() - 1).getTimestamp().equals(point.getTimestamp())) {
+                points.set(points.size() - 1, point);
+            } else {
+                points.add(point);
+            }
+        }
+
+        private SprintFlowResponseDTO toDTO(Long sprintId, Long teamId) {
+            SprintFlowResponseDTO dto = new SprintFlowResponseDTO();
+            dto.setSprintId(sprintId);
+            dto.setTeamId(teamId);
+            dto.setScopePoints(scope);
+            dto.setCompletedPoints(completed);
+            dto.setRemainingPoints(scope - completed);
+            dto.setPoints(new ArrayList<>(points));
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,515 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.request.StudentImportRow;
+import com.eduscrum.upt.Ubereats.dto.response.StudentImportReportDTO;
+import com.eduscrum.upt.Ubereats.dto.response.StudentImportRowResultDTO;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.enums.ImportRowStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.CourseEnrollmentRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.security.AccessChecker;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk student registration and course enrollment.
+ * Imports a CSV or JSON file of students into a course: new students are
+ * registered and enrolled, existing students are enrolled.
+ *
+ * <p>
+ * The file is read as a stream and processed in batches. For each batch,
+ * uniqueness is checked with set queries instead of one lookup per row,
+ * passwords are hashed on the {@link PasswordHashingService} pool before the
+ * write transaction opens, and users and enrollments are inserted with JDBC
+ * batches. Every row gets a result in
+ * the report; a dry run produces the same report without writing anything.
+ * </p>
+ *
+ * <p>
+ * Each batch commits in its own transaction, so a large file never holds its
+ * locks or undo log for the whole import. If the import fails part way, the
+ * batches before the failure stay imported; importing the file again reports
+ * those rows as already enrolled. If a batch collides with a concurrent
+ * registration or enrollment, it is rolled back and its rows are checked and
+ * written again one at a time, so each row still gets its own result.
+ * </p>
+ *
+ * @author Joao Pacheco
+ * @author Bruna
+ * @version 0.6.0 (2026-10-18)
+ */
+@Service
+public class StudentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportService.class);
+
+    private static final List<String> CSV_COLUMNS = List.of("username", "email", "password", "firstname",
+            "lastname");
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users (username, email, password, role, first_name, "
+            + "last_name, student_number, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ENROLLMENT_SQL = "INSERT INTO course_enrollments (course_id, student_id, "
+            + "enrolled_at) VALUES (?, ?, ?)";
+
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final UserService userService;
+    private final StudentNumberAllocator studentNumberAllocator;
+    private final PasswordHashingService passwordHashingService;
+    private final AccessChecker accessChecker;
+    private final AggregateVersionService aggregateVersionService;
+    private final LeaderboardService leaderboardService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+
+    /**
+     * Constructs a new StudentImportService with required dependencies.
+     *
+     * @param courseRepository        Repository for course data access
+     * @param userRepository          Repository for user data access
+     * @param enrollmentRepository    Repository for enrollment data access
+     * @param userService             Service for registration rules
+     * @param studentNumberAllocator  Allocator for student numbers
+     * @param passwordHashingService  Service for parallel password hashing
+     * @param accessChecker           Cache of access decisions to invalidate
+     * @param aggregateVersionService Service for the ETag version counters
+     * @param leaderboardService      Service for the course leaderboards
+     * @param jdbcTemplate            Template for batched inserts
+     * @param objectMapper            Mapper for JSON imports
+     * @param transactionManager      Transaction manager for the batches
+     * @param batchSize               Rows checked and inserted per batch
+     */
+    public StudentImportService(CourseRepository courseRepository, UserRepository userRepository,
+            CourseEnrollmentRepository enrollmentRepository, UserService userService,
+            StudentNumberAllocator studentNumberAllocator, PasswordHashingService passwordHashingService,
+            AccessChecker accessChecker, AggregateVersionService aggregateVersionService,
+            LeaderboardService leaderboardService,
+            JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            @Value("${app.import.batch-size:500}") int batchSize) {
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.userService = userService;
+        this.studentNumberAllocator = studentNumberAllocator;
+        this.passwordHashingService = passwordHashingService;
+        this.accessChecker = accessChecker;
+        this.aggregateVersionService = aggregateVersionService;
+        this.leaderboardService = leaderboardService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    // region IMPORT
+
+    /**
+     * Imports students from a CSV file with a header row containing the
+     * columns username, email, password, firstName and lastName (in any order).
+     *
+     * @param courseId The course to enroll the students in
+     * @param input    The CSV content
+     * @param dryRun   true to only validate and report
+     * @return The import report
+     * @throws ResourceNotFoundException if the course does not exist
+     * @throws BusinessLogicException    if the file cannot be read
+     */
+    public StudentImportReportDTO importCsv(Long courseId, InputStream input, boolean dryRun) {
+        ImportRun run = new ImportRun(courseId, dryRun);
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String header = reader.readLine();
+            if (header == null) {
+                throw new BusinessLogicException("The import file is empty");
+            }
+            int[] columns = mapCsvColumns(parseCsvLine(header.replace("\uFEFF", "")));
+            int width = Arrays.stream(columns).max().orElse(0) + 1;
+
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                number++;
+                List<String> values = parseCsvLine(line);
+                if (values.size() < width) {
+                    run.reject(number, "Expected " + width + " columns but found " + values.size());
+                    continue;
+                }
+                run.add(number, new StudentImportRow(values.get(columns[0]), values.get(columns[1]),
+                        values.get(columns[2]), values.get(columns[3]), values.get(columns[4])));
+            }
+        } catch (IOException e) {
+            throw new BusinessLogicException("Could not read the import file", e);
+        }
+        return run.finish();
+    }
+
+    /**
+     * Imports students from a JSON array of objects with the fields username,
+     * email, password, firstName and lastName.
+     *
+     * @param courseId The course to enroll the students in
+     * @param input    The JSON content
+     * @param dryRun   true to only validate and report
+     * @return The import report
+     * @throws ResourceNotFoundException if the course does not exist
+     * @throws BusinessLogicException    if the file is not valid JSON
+     */
+    public StudentImportReportDTO importJson(Long courseId, InputStream input, boolean dryRun) {
+        ImportRun run = new ImportRun(courseId, dryRun);
+        try (MappingIterator<StudentImportRow> rows = objectMapper.readerFor(StudentImportRow.class)
+                .readValues(input)) {
+            int number = 0;
+            while (rows.hasNextValue()) {
+                number++;
+                run.add(number, rows.nextValue());
+            }
+        } catch (IOException e) {
+            throw new BusinessLogicException("Invalid JSON import file: " + e.getMessage(), e);
+        }
+        return run.finish();
+    }
+
+    // region UTILITY METHODS
+
+    /**
+     * Maps the expected columns to their position in the CSV header.
+     */
+    private int[] mapCsvColumns(List<String> header) {
+        List<String> normalized = header.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT).replace("_", "").replace(" ", ""))
+                .collect(Collectors.toList());
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = normalized.indexOf(CSV_COLUMNS.get(i));
+            if (columns[i] < 0) {
+                throw new BusinessLogicException("Missing CSV column: " + CSV_COLUMNS.get(i));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Splits one CSV line into trimmed values, honouring double-quoted values
+     * with escaped quotes (the format written by ExportService).
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString().trim());
+        return values;
+    }
+
+    /**
+     * Returns why a row cannot be registered, or null if it is valid.
+     */
+    private String validate(StudentImportRow row) {
+        try {
+            userService.validateRegistrationInput(row.getUsername(), row.getEmail(), row.getPassword(),
+                    row.getFirstName(), row.getLastName(), UserRole.STUDENT);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        if (row.getUsername().length() > 50) {
+            return "Username cannot be longer than 50 characters";
+        }
+        if (row.getEmail().length() > 100) {
+            return "Email cannot be longer than 100 characters";
+        }
+        if (row.getFirstName().length() > 100 || row.getLastName().length() > 100) {
+            return "Names cannot be longer than 100 characters";
+        }
+        return null;
+    }
+
+    /**
+     * State of one import: rows waiting for the next batch, the usernames and
+     * emails already seen in the file, and the report.
+     */
+    private final class ImportRun {
+        private final Long courseId;
+        private final boolean dryRun;
+        private final StudentImportReportDTO report;
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<PendingRow> pending = new ArrayList<>();
+
+        private ImportRun(Long courseId, boolean dryRun) {
+            if (!courseRepository.existsById(courseId)) {
+                throw new ResourceNotFoundException("Course not found with id: " + courseId);
+            }
+            this.courseId = courseId;
+            this.dryRun = dryRun;
+            this.report = new StudentImportReportDTO(courseId, dryRun);
+        }
+
+        private void add(int number, StudentImportRow row) {
+            PendingRow pendingRow = new PendingRow(number, row);
+            String error = validate(row);
+            if (error == null && !seenUsernames.add(row.getUsername())) {
+                error = "Duplicate username '" + row.getUsername() + "' in file";
+            }
+            if (error == null && !seenEmails.add(row.getEmail())) {
+                error = "Duplicate email '" + row.getEmail() + "' in file";
+            }
+            if (error != null) {
+                pendingRow.reject(error);
+            }
+            enqueue(pendingRow);
+        }
+
+        private void reject(int number, String error) {
+            PendingRow pendingRow = new PendingRow(number, null);
+            pendingRow.reject(error);
+            enqueue(pendingRow);
+        }
+
+        private void enqueue(PendingRow pendingRow) {
+            pending.add(pendingRow);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private StudentImportReportDTO finish() {
+            flush();
+            logger.info("Student import into course {} (dryRun={}): rows={}, created={}, enrolled={}, "
+                    + "alreadyEnrolled={}, rejected={}", courseId, dryRun, report.getTotalRows(),
+                    report.getCreated(), report.getEnrolled(), report.getAlreadyEnrolled(), report.getRejected());
+            return report;
+        }
+
+        /**
+         * Checks the pending rows against existing users and enrollments with
+         * set queries, hashes the passwords of the new users, then writes the
+         * new users and enrollments in batches, in one transaction per batch.
+         */
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingRow> candidates = pending.stream()
+                    .filter(pendingRow -> pendingRow.result.getStatus() == null)
+                    .collect(Collectors.toList());
+
+            if (!candidates.isEmpty()) {
+                classify(candidates);
+                if (!dryRun) {
+                    hashPasswords(candidates);
+                    try {
+                        batchTransaction.executeWithoutResult(status -> write(candidates));
+                    } catch (DuplicateKeyException e) {
+                        logger.info("Import batch into course {} collided with a concurrent change, retrying {} rows "
+                                + "one at a time", courseId, candidates.size());
+                        candidates.forEach(this::writeAlone);
+                    }
+                }
+            }
+
+            pending.forEach(pendingRow -> report.addRow(pendingRow.result));
+            pending.clear();
+        }
+
+        /**
+         * Checks and writes one row in its own transaction. If it still
+         * collides, it is checked again against the row it collided with.
+         */
+        private void writeAlone(PendingRow pendingRow) {
+            List<PendingRow> single = List.of(pendingRow);
+            pendingRow.reset();
+            classify(single);
+            hashPasswords(single);
+            try {
+                batchTransaction.executeWithoutResult(status -> write(single));
+            } catch (DuplicateKeyException e) {
+                pendingRow.reset();
+                classify(single);
+                ImportRowStatus status = pendingRow.result.getStatus();
+                if (status == ImportRowStatus.CREATED || status == ImportRowStatus.ENROLLED) {
+                    pendingRow.reject("Conflicts with a concurrent registration");
+                }
+            }
+        }
+
+        private void classify(List<PendingRow> candidates) {
+            Map<String, User> byUsername = userRepository.findByUsernameIn(candidates.stream()
+                    .map(pendingRow -> pendingRow.row.getUsername()).collect(Collectors.toSet()))
+                    .stream().collect(Collectors.toMap(User::getUsername, Function.identity()));
+            Map<String, User> byEmail = userRepository.findByEmailIn(candidates.stream()
+                    .map(pendingRow -> pendingRow.row.getEmail()).collect(Collectors.toSet()))
+                    .stream().collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+            List<PendingRow> existing = new ArrayList<>();
+            for (PendingRow pendingRow : candidates) {
+                User withUsername = byUsername.get(pendingRow.row.getUsername());
+                User withEmail = byEmail.get(pendingRow.row.getEmail());
+                if (withUsername == null && withEmail == null) {
+                    pendingRow.result.setStatus(ImportRowStatus.CREATED);
+                } else if (withEmail != null && !withEmail.equals(withUsername)) {
+                    pendingRow.reject("Email '" + pendingRow.row.getEmail() + "' is already registered");
+                } else if (withEmail == null) {
+                    pendingRow.reject("Username '" + pendingRow.row.getUsername() + "' is already taken");
+                } else if (!withEmail.isStudent()) {
+                    pendingRow.reject("User '" + pendingRow.row.getUsername() + "' is not a student");
+                } else {
+                    pendingRow.result.setUserId(withEmail.getId());
+                    existing.add(pendingRow);
+                }
+            }
+
+            if (existing.isEmpty()) {
+                return;
+            }
+            Set<Long> enrolled = new HashSet<>(enrollmentRepository.findEnrolledStudentIds(courseId,
+                    existing.stream().map(pendingRow -> pendingRow.result.getUserId()).collect(Collectors.toSet())));
+            for (PendingRow pendingRow : existing) {
+                pendingRow.result.setStatus(enrolled.contains(pendingRow.result.getUserId())
+                        ? ImportRowStatus.ALREADY_ENROLLED
+                        : ImportRowStatus.ENROLLED);
+            }
+        }
+
+        private void write(List<PendingRow> candidates) {
+            List<PendingRow> created = candidates.stream()
+                    .filter(pendingRow -> pendingRow.result.getStatus() == ImportRowStatus.CREATED)
+                    .collect(Collectors.toList());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            if (!created.isEmpty()) {
+                for (PendingRow pendingRow : created) {
+                    pendingRow.result.setStudentNumber(studentNumberAllocator.nextStudentNumber());
+                }
+
+                jdbcTemplate.batchUpdate(INSERT_USER_SQL, created, created.size(), (ps, pendingRow) -> {
+                    StudentImportRow row = pendingRow.row;
+                    ps.setString(1, row.getUsername());
+                    ps.setString(2, row.getEmail());
+                    ps.setString(3, pendingRow.passwordHash);
+                    ps.setString(4, UserRole.STUDENT.name());
+                    ps.setString(5, row.getFirstName());
+                    ps.setString(6, row.getLastName());
+                    ps.setString(7, pendingRow.result.getStudentNumber());
+                    ps.setBoolean(8, true);
+                    ps.setTimestamp(9, now);
+                    ps.setTimestamp(10, now);
+                });
+
+                Map<String, Long> ids = userRepository.findByUsernameIn(created.stream()
+                        .map(pendingRow -> pendingRow.row.getUsername()).collect(Collectors.toSet()))
+                        .stream().collect(Collectors.toMap(User::getUsername, User::getId));
+                created.forEach(pendingRow -> pendingRow.result.setUserId(ids.get(pendingRow.row.getUsername())));
+            }
+
+            List<Long> toEnroll = candidates.stream()
+                    .filter(pendingRow -> pendingRow.result.getStatus() == ImportRowStatus.CREATED
+                            || pendingRow.result.getStatus() == ImportRowStatus.ENROLLED)
+                    .map(pendingRow -> pendingRow.result.getUserId())
+                    .collect(Collectors.toList());
+            jdbcTemplate.batchUpdate(INSERT_ENROLLMENT_SQL, toEnroll, toEnroll.size(), (ps, studentId) -> {
+                ps.setLong(1, courseId);
+                ps.setLong(2, studentId);
+                ps.setTimestamp(3, now);
+            });
+            if (!toEnroll.isEmpty()) {
+                accessChecker.invalidateCourse(courseId);
+                aggregateVersionService.courseChanged(courseId);
+                leaderboardService.courseChanged(courseId);
+            }
+        }
+
+        // BCrypt is slow, so new users' passwords are hashed outside the write transaction
+        private void hashPasswords(List<PendingRow> candidates) {
+            List<PendingRow> unhashed = candidates.stream()
+                    .filter(pendingRow -> pendingRow.result.getStatus() == ImportRowStatus.CREATED
+                            && pendingRow.passwordHash == null)
+                    .collect(Collectors.toList());
+            if (unhashed.isEmpty()) {
+                return;
+            }
+            List<String> hashes = passwordHashingService.hashAll(unhashed.stream()
+                    .map(pendingRow -> pendingRow.row.getPassword()).collect(Collectors.toList()));
+            for (int i = 0; i < unhashed.size(); i++) {
+                unhashed.get(i).passwordHash = hashes.get(i);
+            }
+        }
+    }
+
+    /**
+     * One row of the file together with its result.
+     */
+    private static final class PendingRow {
+        private final StudentImportRow row;
+        private final StudentImportRowResultDTO result;
+        private String passwordHash;
+
+        private PendingRow(int number, StudentImportRow row) {
+            this.row = row;
+            this.result = row == null
+                    ? new StudentImportRowResultDTO(number, null, null, null, null)
+                    : new StudentImportRowResultDTO(number, row.getUsername(), row.getEmail(), null, null);
+        }
+
+        private void reject(String message) {
+            result.setStatus(ImportRowStatus.REJECTED);
+            result.setMessage(message);
+        }
+
+        // Clears the outcome of a write that was rolled back; the password hash is kept
+        private void reset() {
+            result.setStatus(null);
+            result.setMessage(null);
+            result.setUserId(null);
+            result.setStudentNumber(null);
+        }
+    }
+}
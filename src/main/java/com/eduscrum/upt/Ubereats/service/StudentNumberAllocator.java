@@ -0,0 +1,133 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.NumberSequence;
+import com.eduscrum.upt.Ubereats.repository.NumberSequenceRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Service class allocating student numbers.
+ * Format: YYNNNNN (2-digit year + 5-digit sequential number).
+ *
+ * <p>
+ * Each node reserves a block of sequential numbers from a counter row in
+ * {@code number_sequences} (one row per year) and hands them out from memory,
+ * so registrations neither scan the users table nor contend on the counter.
+ * Reservations commit in their own short transaction: two nodes never get
+ * overlapping blocks, and numbers left in a block when a node stops are
+ * skipped rather than reused.
+ * </p>
+ *
+ * @author Bruna Silva
+ * @author Francisco Costa
+ * @version 0.1.0 (2026-10-18)
+ */
+@Service
+public class StudentNumberAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentNumberAllocator.class);
+
+    static final String SEQUENCE_PREFIX = "student-number-";
+    private static final long MAX_SEQUENCE = 99_999L;
+
+    private final NumberSequenceRepository numberSequenceRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate reservationTransaction;
+    private final int blockSize;
+
+    private String blockYear;
+    private long nextInBlock;
+    private long blockEnd;
+
+    /**
+     * Constructs a new StudentNumberAllocator with required dependencies.
+     *
+     * @param numberSequenceRepository Repository for sequence counters
+     * @param userRepository           Repository for user data access
+     * @param transactionManager       Transaction manager for block reservations
+     * @param blockSize                Numbers reserved per round-trip to the counter
+     */
+    public StudentNumberAllocator(NumberSequenceRepository numberSequenceRepository, UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.student-number.block-size:50}") int blockSize) {
+        this.numberSequenceRepository = numberSequenceRepository;
+        this.userRepository = userRepository;
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns the next unused student number for the current year.
+     *
+     * @return The student number
+     * @throws IllegalStateException if all numbers of the year are used
+     */
+    public synchronized String nextStudentNumber() {
+        String year = String.format("%02d", LocalDate.now().getYear() % 100);
+        if (!year.equals(blockYear) || nextInBlock >= blockEnd) {
+            reserveBlock(year);
+        }
+        return year + String.format("%05d", nextInBlock++);
+    }
+
+    // region UTILITY METHODS
+
+    /**
+     * Reserves the next block of the year's sequence. A conflict means another
+     * node created the year's counter row at the same time, so the reservation
+     * is retried against that row.
+     */
+    private void reserveBlock(String year) {
+        Long start;
+        try {
+            start = reservationTransaction.execute(status -> reserve(year));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Student number sequence for year {} was created concurrently", year);
+            start = reservationTransaction.execute(status -> reserve(year));
+        }
+
+        if (start == null || start > MAX_SEQUENCE) {
+            throw new IllegalStateException("No student numbers left for year " + year);
+        }
+        blockYear = year;
+        nextInBlock = start;
+        blockEnd = Math.min(start + blockSize, MAX_SEQUENCE + 1);
+        logger.debug("Reserved student numbers {}{} to {}{}", year, String.format("%05d", start),
+                year, String.format("%05d", blockEnd - 1));
+    }
+
+    private long reserve(String year) {
+        String name = SEQUENCE_PREFIX + year;
+        NumberSequence sequence = numberSequenceRepository.findByNameForUpdate(name)
+                .orElseGet(() -> numberSequenceRepository.saveAndFlush(new NumberSequence(name, seed(year))));
+        return sequence.reserve(blockSize);
+    }
+
+    /**
+     * First sequence value of a new year's counter: one past the highest
+     * number already assigned with that year, so numbers issued before the
+     * counter existed are never handed out again.
+     */
+    private long seed(String year) {
+        return userRepository.findMaxStudentNumberWithPrefix(year)
+                .filter(max -> max.length() >= 5)
+                .map(max -> {
+                    try {
+                        return Long.parseLong(max.substring(max.length() - 5)) + 1;
+                    } catch (NumberFormatException e) {
+                        return 1L;
+                    }
+                })
+                .orElse(1L);
+    }
+}
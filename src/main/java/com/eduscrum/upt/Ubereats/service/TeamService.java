@@ -7,16 +7,23 @@ import com.eduscrum.upt.Ubereats.entity.Team;
 import com.eduscrum.upt.Ubereats.entity.TeamMember;
 import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.entity.Project;
+import com.eduscrum.upt.Ubereats.entity.SyncTombstone;
 import com.eduscrum.upt.Ubereats.entity.enums.ScrumRole;
+import com.eduscrum.upt.Ubereats.entity.enums.SyncEntityType;
 import com.eduscrum.upt.Ubereats.repository.TeamRepository;
 import com.eduscrum.upt.Ubereats.repository.TeamMemberRepository;
 import com.eduscrum.upt.Ubereats.repository.ProjectRepository;
+import com.eduscrum.upt.Ubereats.repository.SprintRepository;
+import com.eduscrum.upt.Ubereats.repository.SyncTombstoneRepository;
 import com.eduscrum.upt.Ubereats.repository.UserRepository;
 import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
 import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.security.AccessChecker;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,7 +34,7 @@ import java.util.List;
  *
  * @author Bruna
  * @author Ana
- * @version 0.5.0 (2025-11-05)
+ * @version 0.13.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -37,23 +44,43 @@ public class TeamService {
     private final TeamMemberRepository teamMemberRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final SprintRepository sprintRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final AggregateVersionService aggregateVersionService;
+    private final AccessChecker accessChecker;
+    private final LeaderboardService leaderboardService;
 
     /**
      * Constructs a new TeamService with required dependencies.
      *
-     * @param teamRepository       Repository for team data access
-     * @param teamMemberRepository Repository for team member data access
-     * @param projectRepository    Repository for project data access
-     * @param userRepository       Repository for user data access
+     * @param teamRepository          Repository for team data access
+     * @param teamMemberRepository    Repository for team member data access
+     * @param projectRepository       Repository for project data access
+     * @param userRepository          Repository for user data access
+     * @param sprintRepository        Repository for sprint data access
+     * @param tombstoneRepository     Repository for deletion records of the change feed
+     * @param aggregateVersionService Service for the ETag version counters
+     * @param accessChecker           Cache of access decisions to invalidate
+     * @param leaderboardService      Service for the course leaderboards
      */
     public TeamService(TeamRepository teamRepository,
             TeamMemberRepository teamMemberRepository,
             ProjectRepository projectRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            SprintRepository sprintRepository,
+            SyncTombstoneRepository tombstoneRepository,
+            AggregateVersionService aggregateVersionService,
+            AccessChecker accessChecker,
+            LeaderboardService leaderboardService) {
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.sprintRepository = sprintRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.aggregateVersionService = aggregateVersionService;
+        this.accessChecker = accessChecker;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -85,6 +112,8 @@ public class TeamService {
 
             project.setTeam(savedTeam);
             projectRepository.save(project);
+            aggregateVersionService.projectsChanged(List.of(project.getId()));
+            leaderboardService.teamsChanged(List.of(savedTeam.getId()));
         }
 
         return savedTeam;
@@ -114,6 +143,8 @@ public class TeamService {
 
         project.setTeam(team);
         projectRepository.save(project);
+        aggregateVersionService.projectsChanged(List.of(projectId));
+        markTeamsChanged(List.of(teamId));
         return team;
     }
 
@@ -144,6 +175,8 @@ public class TeamService {
         }
 
         TeamMember member = new TeamMember(team, user, request.getRole());
+        accessChecker.invalidateTeam(teamId);
+        markTeamsChanged(List.of(teamId));
         return teamMemberRepository.save(member);
     }
 
@@ -175,6 +208,9 @@ public class TeamService {
 
         member.leaveTeam();
         teamMemberRepository.save(member);
+        tombstoneRepository.save(new SyncTombstone(SyncEntityType.TEAM, teamId, null, userId));
+        accessChecker.invalidateTeam(teamId);
+        markTeamsChanged(List.of(teamId));
     }
 
     /**
@@ -203,6 +239,8 @@ public class TeamService {
         }
 
         member.setRole(request.getRole());
+        accessChecker.invalidateTeam(teamId);
+        markTeamsChanged(List.of(teamId));
         return teamMemberRepository.save(member);
     }
 
@@ -235,11 +273,12 @@ public class TeamService {
      * @throws ResourceNotFoundException if the team is not found
      */
     public void deleteTeam(Long teamId) {
-        Team team = getTeamById(teamId);
-        List<TeamMember> members = teamMemberRepository.findByTeamIdAndIsActiveTrue(teamId);
-
-        members.forEach(TeamMember::leaveTeam);
-        teamMemberRepository.saveAll(members);
+        getTeamById(teamId);
+        LocalDateTime now = LocalDateTime.now();
+        tombstoneRepository.insertTeamTombstonesForActiveMembers(List.of(teamId), now);
+        teamMemberRepository.deactivateActiveMembersByTeamIds(List.of(teamId), now);
+        accessChecker.invalidateTeam(teamId);
+        markTeamsChanged(List.of(teamId));
     }
 
     /**
@@ -248,9 +287,27 @@ public class TeamService {
      * @param teamId The ID of the team
      */
     public void closeTeamMemberships(Long teamId) {
-        List<TeamMember> members = teamMemberRepository.findByTeamIdAndIsActiveTrue(teamId);
-        members.forEach(TeamMember::leaveTeam);
-        teamMemberRepository.saveAll(members);
+        closeTeamMemberships(List.of(teamId));
+    }
+
+    /**
+     * Closes all memberships of several teams with a single bulk UPDATE,
+     * e.g. for term-end closure. The persistence context is cleared by the
+     * update, so callers must re-read entities they loaded before.
+     *
+     * @param teamIds The IDs of the teams
+     * @return Number of memberships closed
+     */
+    public int closeTeamMemberships(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        tombstoneRepository.insertTeamTombstonesForActiveMembers(teamIds, now);
+        int closed = teamMemberRepository.deactivateActiveMembersByTeamIds(teamIds, now);
+        accessChecker.invalidateTeams(teamIds);
+        markTeamsChanged(teamIds);
+        return closed;
     }
 
     /**
@@ -264,4 +321,19 @@ public class TeamService {
     public Long countCompletedProjectsByTeamInCourse(Long teamId, Long courseId) {
         return teamRepository.countCompletedProjectsByTeamInCourse(teamId, courseId);
     }
+
+    /**
+     * Bumps the board version of the teams' sprints, their version counters
+     * and their update time, so cached boards are rebuilt, ETags change and
+     * the change feed sends the teams again. The teams' leaderboard entries
+     * and those of their members are recomputed on the next read.
+     *
+     * @param teamIds The IDs of the changed teams
+     */
+    private void markTeamsChanged(Collection<Long> teamIds) {
+        sprintRepository.incrementBoardVersionsByTeamIds(teamIds);
+        aggregateVersionService.teamsChanged(teamIds);
+        leaderboardService.teamsChanged(teamIds);
+        teamRepository.touchTeams(teamIds, LocalDateTime.now());
+    }
 }
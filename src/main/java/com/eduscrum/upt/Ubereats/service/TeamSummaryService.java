@@ -0,0 +1,379 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.TeamResponse;
+import com.eduscrum.upt.Ubereats.entity.Team;
+import com.eduscrum.upt.Ubereats.entity.TeamSummary;
+import com.eduscrum.upt.Ubereats.entity.enums.ScrumRole;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.AchievementRepository;
+import com.eduscrum.upt.Ubereats.repository.AnalyticRepository;
+import com.eduscrum.upt.Ubereats.repository.ProjectRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamMemberRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Service class for the team summary read model behind team responses.
+ *
+ * <p>
+ * Each team has a persisted summary row holding the figures of its response.
+ * Every write that changes those figures (memberships, projects,
+ * achievements, analytics, member names, badge points) already bumps the
+ * team's aggregate version, and a row records the version it was computed
+ * from. A read joins the teams with their rows on that version in one
+ * indexed query.
+ * </p>
+ *
+ * <p>
+ * The rows are recomputed once a change to their teams commits, with a fixed
+ * number of set-based queries whatever the number of teams. A read that still
+ * finds a row missing or older, e.g. for a team not written since the read
+ * model was added, computes it the same way and saves it. Rows are saved in
+ * their own transaction; a row created concurrently for the same team is
+ * updated on a single retry, and an older version never replaces a newer one.
+ * </p>
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.3.0 (2026-10-18)
+ */
+@Service
+@Transactional
+public class TeamSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamSummaryService.class);
+
+    private static final String NOT_ASSIGNED = "Not assigned";
+
+    private final TeamSummaryRepository teamSummaryRepository;
+    private final TeamRepository teamRepository;
+    private final ProjectRepository projectRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final AchievementRepository achievementRepository;
+    private final AnalyticRepository analyticRepository;
+    private final TransactionTemplate summaryTransaction;
+
+    /**
+     * Constructs a new TeamSummaryService with required dependencies.
+     *
+     * @param teamSummaryRepository Repository for the team summaries
+     * @param teamRepository        Repository for team data access
+     * @param projectRepository     Repository for project data access
+     * @param teamMemberRepository  Repository for team member data access
+     * @param achievementRepository Repository for achievement data access
+     * @param analyticRepository    Repository for analytics data access
+     * @param transactionManager    Transaction manager for saving the summaries
+     */
+    public TeamSummaryService(TeamSummaryRepository teamSummaryRepository, TeamRepository teamRepository,
+            ProjectRepository projectRepository, TeamMemberRepository teamMemberRepository,
+            AchievementRepository achievementRepository, AnalyticRepository analyticRepository,
+            PlatformTransactionManager transactionManager) {
+        this.teamSummaryRepository = teamSummaryRepository;
+        this.teamRepository = teamRepository;
+        this.projectRepository = projectRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.achievementRepository = achievementRepository;
+        this.analyticRepository = analyticRepository;
+        this.summaryTransaction = new TransactionTemplate(transactionManager);
+        this.summaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // region REFRESH
+
+    /**
+     * Recomputes the summaries of changed teams once the current transaction
+     * commits, so reads find them current. A failure is logged and left to
+     * the next read, which recomputes the rows it finds stale.
+     *
+     * @param teamIds The IDs of the changed teams
+     */
+    public void teamsChanged(Collection<Long> teamIds) {
+        List<Long> changed = teamIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (changed.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshCommitted(changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshCommitted(changed);
+            }
+        });
+    }
+
+    private void refreshCommitted(List<Long> teamIds) {
+        try {
+            save(() -> compute(teamIds).values());
+        } catch (RuntimeException e) {
+            logger.warn("Could not refresh the summaries of teams {}", teamIds, e);
+        }
+    }
+
+    // region READS
+
+    /**
+     * Retrieves the response of a team.
+     *
+     * @param teamId The ID of the team
+     * @return The team response
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    public TeamResponse getTeamSummary(Long teamId) {
+        List<TeamSummary> summaries = currentSummaries(teamSummaryRepository.findCurrentByTeamIds(List.of(teamId)));
+        if (summaries.isEmpty()) {
+            throw new ResourceNotFoundException("Team not found with id: " + teamId);
+        }
+        return new TeamResponse(summaries.get(0));
+    }
+
+    /**
+     * Retrieves the responses of the teams a user is an active member of.
+     *
+     * @param userId The ID of the user
+     * @return List of team responses, in the order the user joined them
+     */
+    public List<TeamResponse> getUserTeamSummaries(Long userId) {
+        return currentSummaries(teamSummaryRepository.findCurrentByUserId(userId)).stream()
+                .map(TeamResponse::new)
+                .toList();
+    }
+
+    /**
+     * Retrieves the responses of the given teams, refreshing stale summaries
+     * in one batch.
+     *
+     * @param teamIds The IDs of the teams
+     * @return List of team responses, for the teams that exist
+     */
+    public List<TeamResponse> getTeamSummaries(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return List.of();
+        }
+        return currentSummaries(teamSummaryRepository.findCurrentByTeamIds(teamIds)).stream()
+                .map(TeamResponse::new)
+                .toList();
+    }
+
+    /**
+     * Retrieves the response of the team assigned to a project.
+     *
+     * @param projectId The ID of the project
+     * @return The team response, or null if the project has no team
+     */
+    public TeamResponse getProjectTeamSummary(Long projectId) {
+        List<TeamSummary> summaries = currentSummaries(teamSummaryRepository.findCurrentByProjectId(projectId));
+        return summaries.isEmpty() ? null : new TeamResponse(summaries.get(0));
+    }
+
+    /**
+     * Retrieves several team responses. A warm read is a single query,
+     * whatever the number of teams.
+     *
+     * @param ids The IDs of the teams to retrieve
+     * @return The teams in request order and the IDs not found
+     * @throws BusinessLogicException if too many IDs are requested
+     */
+    public BatchResponseDTO<TeamResponse> getTeamsByIds(List<Long> ids) {
+        return BatchLookup.resolve(ids,
+                teamIds -> currentSummaries(teamSummaryRepository.findCurrentByTeamIds(teamIds)),
+                TeamSummary::getTeamId, TeamResponse::new);
+    }
+
+    // Takes [teamId, current summary or null] rows and refreshes the missing summaries in one batch
+    private List<TeamSummary> currentSummaries(List<Object[]> rows) {
+        List<Long> staleIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[1] == null) {
+                staleIds.add((Long) row[0]);
+            }
+        }
+        Map<Long, TeamSummary> refreshed = staleIds.isEmpty() ? Map.of() : refresh(staleIds);
+
+        List<TeamSummary> summaries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            TeamSummary summary = row[1] != null ? (TeamSummary) row[1] : refreshed.get((Long) row[0]);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+
+    // Computes the summaries a read found stale from what the read sees, then saves them for the next read
+    private Map<Long, TeamSummary> refresh(Collection<Long> teamIds) {
+        Map<Long, TeamSummary> summaries = compute(teamIds);
+        if (!summaries.isEmpty()) {
+            try {
+                save(summaries::values);
+            } catch (RuntimeException e) {
+                logger.warn("Could not save the summaries of teams {}", summaries.keySet(), e);
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Computes the summaries of the given teams with the same formulas as the
+     * team entity, without saving them.
+     *
+     * @param teamIds The IDs of the teams
+     * @return The summaries by team ID, for the teams that exist
+     */
+    private Map<Long, TeamSummary> compute(Collection<Long> teamIds) {
+        Map<Long, TeamSummary> summaries = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Object[] row : teamRepository.findSummaryFieldsByIdIn(teamIds)) {
+            Long teamId = (Long) row[0];
+            TeamSummary summary = new TeamSummary(teamId);
+            summary.setName((String) row[1]);
+            summary.setCreatedAt((LocalDateTime) row[2]);
+            summary.setTeamVersion(((Number) row[3]).longValue());
+            summary.setRefreshedAt(now);
+            summaries.put(teamId, summary);
+        }
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        Map<Long, List<String>> projectNames = new HashMap<>();
+        for (Object[] row : projectRepository.findNamesByTeamIds(summaries.keySet())) {
+            projectNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        Map<Long, Integer> memberCounts = new HashMap<>();
+        Map<Long, String> scrumMasters = new HashMap<>();
+        Map<Long, String> productOwners = new HashMap<>();
+        for (Object[] row : teamMemberRepository.findActiveRolesByTeamIds(summaries.keySet())) {
+            Long teamId = (Long) row[0];
+            String fullName = row[2] + " " + row[3];
+            memberCounts.merge(teamId, 1, Integer::sum);
+            if (row[1] == ScrumRole.SCRUM_MASTER) {
+                scrumMasters.putIfAbsent(teamId, fullName);
+            } else if (row[1] == ScrumRole.PRODUCT_OWNER) {
+                productOwners.putIfAbsent(teamId, fullName);
+            }
+        }
+
+        Map<Long, Integer> points = new HashMap<>();
+        for (Object[] row : achievementRepository.sumPointsByTeamIds(summaries.keySet())) {
+            points.put((Long) row[0], row[1] != null ? ((Number) row[1]).intValue() : 0);
+        }
+
+        Map<Long, BigDecimal> velocities = new HashMap<>();
+        for (Object[] row : analyticRepository.sumWeightedVelocityByTeamIds(summaries.keySet())) {
+            velocities.put((Long) row[0], Team.averageVelocity(toBigDecimal(row[1]), ((Number) row[2]).longValue()));
+        }
+
+        Map<Long, BigDecimal> progress = new HashMap<>();
+        for (Object[] row : analyticRepository.findLatestTaskCountsByTeamIds(summaries.keySet())) {
+            progress.putIfAbsent((Long) row[0], Team.progress(intValue(row[1]), intValue(row[2])));
+        }
+
+        for (TeamSummary summary : summaries.values()) {
+            Long teamId = summary.getTeamId();
+            List<String> names = projectNames.getOrDefault(teamId, List.of());
+            int totalPoints = points.getOrDefault(teamId, 0);
+            BigDecimal currentProgress = progress.getOrDefault(teamId, BigDecimal.ZERO);
+            summary.setProjectCount(names.size());
+            summary.setProjectNames(names);
+            summary.setMemberCount(memberCounts.getOrDefault(teamId, 0));
+            summary.setScrumMaster(scrumMasters.getOrDefault(teamId, NOT_ASSIGNED));
+            summary.setProductOwner(productOwners.getOrDefault(teamId, NOT_ASSIGNED));
+            summary.setTotalPoints(totalPoints);
+            summary.setCurrentProgress(currentProgress);
+            summary.setPerformanceRating(Team.performanceRating(
+                    velocities.getOrDefault(teamId, BigDecimal.ZERO), totalPoints, currentProgress));
+        }
+        return summaries;
+    }
+
+    /**
+     * Saves computed summaries in a new transaction. A conflict means another
+     * transaction created a row for one of the teams first, so the save is
+     * retried once against the rows now stored.
+     */
+    private void save(Supplier<Collection<TeamSummary>> summaries) {
+        try {
+            summaryTransaction.executeWithoutResult(status -> store(summaries.get()));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Team summary rows were created concurrently, retrying");
+            summaryTransaction.executeWithoutResult(status -> store(summaries.get()));
+        }
+    }
+
+    private void store(Collection<TeamSummary> computed) {
+        if (computed.isEmpty()) {
+            return;
+        }
+        Map<Long, TeamSummary> stored = new HashMap<>();
+        for (TeamSummary summary : teamSummaryRepository
+                .findByTeamIdIn(computed.stream().map(TeamSummary::getTeamId).toList())) {
+            stored.put(summary.getTeamId(), summary);
+        }
+
+        List<TeamSummary> rows = new ArrayList<>(computed.size());
+        for (TeamSummary summary : computed) {
+            TeamSummary row = stored.get(summary.getTeamId());
+            if (row == null) {
+                row = new TeamSummary(summary.getTeamId());
+            } else if (row.getTeamVersion() > summary.getTeamVersion()) {
+                continue;
+            }
+            copy(summary, row);
+            rows.add(row);
+        }
+        teamSummaryRepository.saveAllAndFlush(rows);
+    }
+
+    private static void copy(TeamSummary from, TeamSummary to) {
+        to.setTeamVersion(from.getTeamVersion());
+        to.setName(from.getName());
+        to.setCreatedAt(from.getCreatedAt());
+        to.setRefreshedAt(from.getRefreshedAt());
+        to.setProjectCount(from.getProjectCount());
+        to.setProjectNames(from.getProjectNames());
+        to.setMemberCount(from.getMemberCount());
+        to.setScrumMaster(from.getScrumMaster());
+        to.setProductOwner(from.getProductOwner());
+        to.setTotalPoints(from.getTotalPoints());
+        to.setCurrentProgress(from.getCurrentProgress());
+        to.setPerformanceRating(from.getPerformanceRating());
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static int intValue(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+}
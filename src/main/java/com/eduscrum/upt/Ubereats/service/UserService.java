@@ -1,8 +1,12 @@
 package com.eduscrum.upt.Ubereats.service;
 
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.UserProfileResponse;
 import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
 import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.security.TokenRevocationService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +27,7 @@ import java.util.Optional;
  *
  * @author Bruna Silva
  * @author Francisco Costa
- * @version 0.6.1 (2025-11-12)
+ * @version 0.11.0 (2026-10-18)
  */
 @Service
 @Transactional
@@ -32,19 +36,36 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserStoryRepository userStoryRepository;
+    private final StudentNumberAllocator studentNumberAllocator;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final AggregateVersionService aggregateVersionService;
+    private final LeaderboardService leaderboardService;
 
     /**
      * Constructs a new UserService with required dependencies.
      *
-     * @param userRepository      Repository for user data access
-     * @param passwordEncoder     Encoder for password hashing
-     * @param userStoryRepository Repository for user story data access
+     * @param userRepository          Repository for user data access
+     * @param passwordEncoder         Encoder for password hashing
+     * @param userStoryRepository     Repository for user story data access
+     * @param studentNumberAllocator  Allocator for student numbers
+     * @param refreshTokenService     Service for refresh token operations
+     * @param tokenRevocationService  Service for access token revocation
+     * @param aggregateVersionService Service for the ETag version counters
+     * @param leaderboardService      Service for the course leaderboards
      */
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-            UserStoryRepository userStoryRepository) {
+            UserStoryRepository userStoryRepository, StudentNumberAllocator studentNumberAllocator,
+            RefreshTokenService refreshTokenService, TokenRevocationService tokenRevocationService,
+            AggregateVersionService aggregateVersionService, LeaderboardService leaderboardService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.userStoryRepository = userStoryRepository;
+        this.studentNumberAllocator = studentNumberAllocator;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.aggregateVersionService = aggregateVersionService;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -73,7 +94,7 @@ public class UserService {
         // Auto-generate student number for students
         String finalStudentNumber = null;
         if (role == UserRole.STUDENT) {
-            finalStudentNumber = generateStudentNumber();
+            finalStudentNumber = studentNumberAllocator.nextStudentNumber();
         }
 
         // Create and save new user
@@ -93,7 +114,7 @@ public class UserService {
      * @param studentNumber The student number to validate
      * @throws IllegalArgumentException if any validation fails
      */
-    private void validateRegistrationInput(String username, String email, String password,
+    void validateRegistrationInput(String username, String email, String password,
             String firstName, String lastName, UserRole role) {
         if (username == null || username.trim().isEmpty()) {
             throw new IllegalArgumentException("Username cannot be empty");
@@ -131,35 +152,38 @@ public class UserService {
     }
 
     /**
-     * Generates a unique student number.
-     * Format: YYNNNNN (2-digit year + 5-digit sequential number)
-     * Example: 2400001, 2400002, etc.
+     * Replaces the stored password hash of a user, e.g. when it is rehashed
+     * with a higher BCrypt cost on login.
      *
-     * @return The generated student number
+     * @param userId       The ID of the user
+     * @param passwordHash The new, already encoded password
+     * @return The updated User entity
+     * @throws IllegalArgumentException if user not found
      */
-    private String generateStudentNumber() {
-        int year = java.time.LocalDate.now().getYear() % 100; // Get last 2 digits of year
-        String yearPrefix = String.format("%02d", year);
-
-        // Find the max existing student number
-        java.util.Optional<String> maxNumber = userRepository.findMaxStudentNumber();
-
-        int nextSequence = 1;
-        if (maxNumber.isPresent()) {
-            String max = maxNumber.get();
-            // Extract the sequence part (last 5 digits)
-            if (max.length() >= 5) {
-                try {
-                    int currentSequence = Integer.parseInt(max.substring(max.length() - 5));
-                    nextSequence = currentSequence + 1;
-                } catch (NumberFormatException e) {
-                    // If parsing fails, start from 1
-                    nextSequence = 1;
-                }
-            }
-        }
+    public User updatePasswordHash(Long userId, String passwordHash) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+        user.setPassword(passwordHash);
+        return userRepository.save(user);
+    }
 
-        return yearPrefix + String.format("%05d", nextSequence);
+    /**
+     * Deactivates a user. The user can no longer log in or refresh tokens, and
+     * every access token already issued is revoked on all nodes.
+     *
+     * @param userId The ID of the user
+     * @return The updated User entity
+     * @throws IllegalArgumentException if user not found
+     */
+    public User deactivateUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+        user.setIsActive(false);
+        User saved = userRepository.save(user);
+        refreshTokenService.revokeAllForUser(userId);
+        tokenRevocationService.revokeUser(userId);
+        aggregateVersionService.userChanged(userId);
+        return saved;
     }
 
     /**
@@ -230,7 +254,10 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(password));
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        aggregateVersionService.userChanged(userId);
+        leaderboardService.usersChanged(List.of(userId));
+        return saved;
     }
 
     /**
@@ -294,6 +321,18 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    /**
+     * Finds the profiles of several users with a single query.
+     *
+     * @param ids The IDs of the users to find
+     * @return The profiles in request order and the IDs not found
+     * @throws BusinessLogicException if too many IDs are requested
+     */
+    @Transactional(readOnly = true)
+    public BatchResponseDTO<UserProfileResponse> getUsersByIds(List<Long> ids) {
+        return BatchLookup.resolve(ids, userRepository::findAllById, User::getId, UserProfileResponse::new);
+    }
+
     /**
      * Finds all users with a specific role.
      *
@@ -1,23 +1,29 @@
 package com.eduscrum.upt.Ubereats.service;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.UserStory;
 import com.eduscrum.upt.Ubereats.entity.Sprint;
+import com.eduscrum.upt.Ubereats.entity.SyncTombstone;
 import com.eduscrum.upt.Ubereats.entity.Team;
 import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.entity.enums.StoryStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.SyncEntityType;
+import com.eduscrum.upt.Ubereats.repository.SyncTombstoneRepository;
 import com.eduscrum.upt.Ubereats.repository.UserStoryRepository;
-import com.eduscrum.upt.Ubereats.repository.TeamMemberRepository;
 import com.eduscrum.upt.Ubereats.repository.ProjectRepository;
+import com.eduscrum.upt.Ubereats.security.AccessChecker;
 import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
 import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -27,49 +33,89 @@ import java.util.stream.Collectors;
  *
  * @author Joao Pacheco
  * @author Ana
- * @version 0.8.0 (2025-11-20)
+ * @version 0.16.0 (2026-10-18)
  */
 @Service
 @Transactional
 public class UserStoryService {
 
+    /**
+     * Entity attributes a sparse fieldset loads for each response property.
+     * Computed properties list the attributes they are computed from.
+     */
+    private static final Map<String, List<String>> PROJECTED_ATTRIBUTES = Map.ofEntries(
+            Map.entry("title", List.of("title")),
+            Map.entry("description", List.of("description")),
+            Map.entry("storyPoints", List.of("storyPoints")),
+            Map.entry("status", List.of("status")),
+            Map.entry("priority", List.of("priority")),
+            Map.entry("createdAt", List.of("createdAt")),
+            Map.entry("updatedAt", List.of("updatedAt")),
+            Map.entry("completed", List.of("status")),
+            Map.entry("inProgress", List.of("status")),
+            Map.entry("inReview", List.of("status")),
+            Map.entry("pending", List.of("status")),
+            Map.entry("statusColor", List.of("status")),
+            Map.entry("priorityColor", List.of("priority")),
+            Map.entry("priorityIcon", List.of("priority")),
+            Map.entry("assigned", List.of("assignedTo.id")),
+            Map.entry("assignedUserName", List.of("assignedTo.firstName", "assignedTo.lastName")),
+            Map.entry("effortLevel", List.of("storyPoints")),
+            Map.entry("canMoveToNextStatus", List.of("status")),
+            Map.entry("canMoveToPreviousStatus", List.of("status")),
+            Map.entry("sprintId", List.of("sprint.id")),
+            Map.entry("sprintName", List.of("sprint.name")),
+            Map.entry("teamId", List.of("team.id")),
+            Map.entry("teamName", List.of("team.name")),
+            Map.entry("assignedToUserId", List.of("assignedTo.id")),
+            Map.entry("createdByUserId", List.of("createdBy.id")),
+            Map.entry("createdByName", List.of("createdBy.firstName", "createdBy.lastName")));
+
     private final UserStoryRepository userStoryRepository;
     private final SprintService sprintService;
     private final TeamService teamService;
     private final UserService userService;
-    private final TeamMemberRepository teamMemberRepository;
-    private final AchievementService achievementService;
+    private final AccessChecker accessChecker;
     private final ProjectRepository projectRepository;
-    private final AnalyticsService analyticsService;
+    private final StoryFlowService storyFlowService;
+    private final OutboxService outboxService;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final LeaderboardService leaderboardService;
 
     /**
      * Constructs a new UserStoryService with required dependencies.
      *
-     * @param userStoryRepository  Repository for user story data access
-     * @param sprintService        Service for sprint operations
-     * @param teamService          Service for team operations
-     * @param userService          Service for user operations
-     * @param teamMemberRepository Repository for team member data access
-     * @param achievementService   Service for achievement operations
-     * @param projectRepository    Repository for project data access
-     * @param analyticsService     Service for analytics operations
+     * @param userStoryRepository Repository for user story data access
+     * @param sprintService       Service for sprint operations
+     * @param teamService         Service for team operations
+     * @param userService         Service for user operations
+     * @param accessChecker       Cached team membership checks
+     * @param projectRepository   Repository for project data access
+     * @param storyFlowService    Service for the story transition log
+     * @param outboxService       Service for side-effect events
+     * @param tombstoneRepository Repository for deletion records of the change feed
+     * @param leaderboardService  Service for the course leaderboards
      */
     public UserStoryService(UserStoryRepository userStoryRepository,
             SprintService sprintService,
             TeamService teamService,
             UserService userService,
-            TeamMemberRepository teamMemberRepository,
-            @Lazy AchievementService achievementService,
+            AccessChecker accessChecker,
             ProjectRepository projectRepository,
-            @Lazy AnalyticsService analyticsService) {
+            StoryFlowService storyFlowService,
+            OutboxService outboxService,
+            SyncTombstoneRepository tombstoneRepository,
+            LeaderboardService leaderboardService) {
         this.userStoryRepository = userStoryRepository;
         this.sprintService = sprintService;
         this.teamService = teamService;
         this.userService = userService;
-        this.teamMemberRepository = teamMemberRepository;
-        this.achievementService = achievementService;
+        this.accessChecker = accessChecker;
         this.projectRepository = projectRepository;
-        this.analyticsService = analyticsService;
+        this.storyFlowService = storyFlowService;
+        this.outboxService = outboxService;
+        this.tombstoneRepository = tombstoneRepository;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -89,10 +135,10 @@ public class UserStoryService {
         // Create and save new user story
         UserStory userStory = createUserStoryEntity(requestDTO);
         UserStory savedUserStory = userStoryRepository.save(userStory);
-        updateProjectProgress(savedUserStory.getSprint().getProject().getId());
+        storyFlowService.recordCreated(savedUserStory);
 
-        // Trigger daily analytics update
-        analyticsService.updateDailyAnalytic(savedUserStory.getSprint().getId(), savedUserStory.getTeam().getId());
+        // Project progress and daily analytics are refreshed by the outbox relay
+        publishStoryChanged(savedUserStory, false);
 
         return convertToDTO(savedUserStory);
     }
@@ -206,6 +252,17 @@ public class UserStoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Finds all user stories, loading and computing only the selected fields.
+     *
+     * @param fields The sparse fieldset
+     * @return List of all user stories as DTOs
+     */
+    @Transactional(readOnly = true)
+    public List<UserStoryResponseDTO> getAllUserStories(FieldSelection fields) {
+        return getUserStoriesByCriteria(null, null, null, null, fields);
+    }
+
     /**
      * Finds user story by ID.
      *
@@ -231,6 +288,19 @@ public class UserStoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Finds user stories by sprint, loading and computing only the selected
+     * fields. Board views use this with a handful of card fields.
+     *
+     * @param sprintId The sprint ID to filter by
+     * @param fields   The sparse fieldset
+     * @return List of user stories in the sprint
+     */
+    @Transactional(readOnly = true)
+    public List<UserStoryResponseDTO> getUserStoriesBySprint(Long sprintId, FieldSelection fields) {
+        return getUserStoriesByCriteria(sprintId, null, null, null, fields);
+    }
+
     /**
      * Finds user stories by team.
      *
@@ -287,6 +357,36 @@ public class UserStoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Finds user stories by multiple criteria, loading and computing only the
+     * selected fields. A partial selection reads just the columns those fields
+     * need instead of whole entities.
+     *
+     * @param sprintId     The sprint ID filter (optional)
+     * @param teamId       The team ID filter (optional)
+     * @param status       The status filter (optional)
+     * @param assignedToId The assigned user ID filter (optional)
+     * @param fields       The sparse fieldset
+     * @return List of user stories matching the criteria
+     */
+    @Transactional(readOnly = true)
+    public List<UserStoryResponseDTO> getUserStoriesByCriteria(Long sprintId, Long teamId, StoryStatus status,
+            Long assignedToId, FieldSelection fields) {
+        if (fields.isAll()) {
+            return getUserStoriesByCriteria(sprintId, teamId, status, assignedToId);
+        }
+        Set<String> attributes = new LinkedHashSet<>();
+        PROJECTED_ATTRIBUTES.forEach((field, fieldAttributes) -> {
+            if (fields.includes(field)) {
+                attributes.addAll(fieldAttributes);
+            }
+        });
+        return userStoryRepository.findPartialByCriteria(sprintId, teamId, status, assignedToId, attributes)
+                .stream()
+                .map(userStory -> convertToDTO(userStory, fields))
+                .collect(Collectors.toList());
+    }
+
     // region USER STORY EXISTENCE CHECKS
 
     /**
@@ -319,6 +419,11 @@ public class UserStoryService {
 
         // Get existing user story
         UserStory userStory = getUserStoryEntity(id);
+        StoryStatus previousStatus = userStory.getStatus();
+        Integer previousPoints = userStory.getStoryPoints();
+        Long previousSprintId = userStory.getSprint().getId();
+        Long previousTeamId = userStory.getTeam().getId();
+        User previousAssignee = userStory.getAssignedTo();
 
         // Update user story fields
         userStory.setTitle(requestDTO.getTitle());
@@ -359,10 +464,19 @@ public class UserStoryService {
         }
 
         UserStory updatedUserStory = userStoryRepository.save(userStory);
-        updateProjectProgress(updatedUserStory.getSprint().getProject().getId());
-
-        // Trigger daily analytics update
-        analyticsService.updateDailyAnalytic(updatedUserStory.getSprint().getId(), updatedUserStory.getTeam().getId());
+        storyFlowService.recordChanged(updatedUserStory, previousStatus, previousPoints, previousSprintId,
+                previousTeamId);
+
+        // Project progress and daily analytics are refreshed by the outbox relay
+        publishStoryChanged(updatedUserStory, false);
+        markAssigneeScoreChanged(previousAssignee);
+        if (!previousSprintId.equals(updatedUserStory.getSprint().getId())) {
+            sprintService.markBoardChanged(previousSprintId);
+        }
+        if (!previousTeamId.equals(updatedUserStory.getTeam().getId())) {
+            // The story left the previous team's change feed
+            tombstoneRepository.save(new SyncTombstone(SyncEntityType.USER_STORY, id, previousTeamId, null));
+        }
 
         return convertToDTO(updatedUserStory);
     }
@@ -384,8 +498,14 @@ public class UserStoryService {
             throw new BusinessLogicException("User is not a member of the team");
         }
 
+        User previousAssignee = userStory.getAssignedTo();
         userStory.assignTo(assignedTo);
         UserStory updatedUserStory = userStoryRepository.save(userStory);
+        sprintService.markBoardChanged(updatedUserStory.getSprint().getId());
+        if (updatedUserStory.getStatus() == StoryStatus.DONE) {
+            markAssigneeScoreChanged(previousAssignee);
+            markAssigneeScoreChanged(assignedTo);
+        }
         return convertToDTO(updatedUserStory);
     }
 
@@ -397,8 +517,13 @@ public class UserStoryService {
      */
     public UserStoryResponseDTO unassignUserStory(Long id) {
         UserStory userStory = getUserStoryEntity(id);
+        User previousAssignee = userStory.getAssignedTo();
         userStory.unassign();
         UserStory updatedUserStory = userStoryRepository.save(userStory);
+        sprintService.markBoardChanged(updatedUserStory.getSprint().getId());
+        if (updatedUserStory.getStatus() == StoryStatus.DONE) {
+            markAssigneeScoreChanged(previousAssignee);
+        }
         return convertToDTO(updatedUserStory);
     }
 
@@ -416,18 +541,15 @@ public class UserStoryService {
             throw new BusinessLogicException("User story cannot be moved to next status");
         }
 
+        StoryStatus previousStatus = userStory.getStatus();
         userStory.moveToNextStatus();
         UserStory updatedUserStory = userStoryRepository.save(userStory);
+        storyFlowService.recordChanged(updatedUserStory, previousStatus, updatedUserStory.getStoryPoints(),
+                updatedUserStory.getSprint().getId(), updatedUserStory.getTeam().getId());
 
-        // Check for automatic achievements when a story is completed
-        if (updatedUserStory.getStatus() == StoryStatus.DONE) {
-            achievementService.checkAutomaticTeamBadgesOnSprintCompletion(updatedUserStory.getSprint().getId());
-        }
-
-        updateProjectProgress(updatedUserStory.getSprint().getProject().getId());
-
-        // Trigger daily analytics update
-        analyticsService.updateDailyAnalytic(updatedUserStory.getSprint().getId(), updatedUserStory.getTeam().getId());
+        // Progress, analytics and, for completed stories, automatic achievements
+        // are handled by the outbox relay
+        publishStoryChanged(updatedUserStory, updatedUserStory.getStatus() == StoryStatus.DONE);
 
         return convertToDTO(updatedUserStory);
     }
@@ -446,12 +568,14 @@ public class UserStoryService {
             throw new BusinessLogicException("User story cannot be moved to previous status");
         }
 
+        StoryStatus previousStatus = userStory.getStatus();
         userStory.moveToPreviousStatus();
         UserStory updatedUserStory = userStoryRepository.save(userStory);
-        updateProjectProgress(updatedUserStory.getSprint().getProject().getId());
+        storyFlowService.recordChanged(updatedUserStory, previousStatus, updatedUserStory.getStoryPoints(),
+                updatedUserStory.getSprint().getId(), updatedUserStory.getTeam().getId());
 
-        // Trigger daily analytics update
-        analyticsService.updateDailyAnalytic(updatedUserStory.getSprint().getId(), updatedUserStory.getTeam().getId());
+        // Project progress and daily analytics are refreshed by the outbox relay
+        publishStoryChanged(updatedUserStory, false);
 
         return convertToDTO(updatedUserStory);
     }
@@ -467,11 +591,15 @@ public class UserStoryService {
         Long projectId = userStory.getSprint().getProject().getId();
         Long sprintId = userStory.getSprint().getId();
         Long teamId = userStory.getTeam().getId();
+        User assignee = userStory.getStatus() == StoryStatus.DONE ? userStory.getAssignedTo() : null;
+        storyFlowService.recordDeleted(userStory);
         userStoryRepository.deleteById(id);
-        updateProjectProgress(projectId);
+        tombstoneRepository.save(new SyncTombstone(SyncEntityType.USER_STORY, id, teamId, null));
 
-        // Trigger daily analytics update
-        analyticsService.updateDailyAnalytic(sprintId, teamId);
+        // Project progress and daily analytics are refreshed by the outbox relay
+        outboxService.storyChanged(sprintId, teamId, projectId, false);
+        sprintService.markBoardChanged(sprintId);
+        markAssigneeScoreChanged(assignee);
     }
 
     // region STATISTICS AND ANALYTICS
@@ -559,9 +687,13 @@ public class UserStoryService {
         return userStoryRepository.sumCompletedStoryPointsBySprintIdAndTeamId(sprintId, teamId);
     }
 
-    // === UTILITY METHODS ===
-
-    private void updateProjectProgress(Long projectId) {
+    /**
+     * Recalculates the progress of a project from the story points of all its
+     * sprints. Called by the outbox relay after story writes.
+     *
+     * @param projectId The project ID
+     */
+    public void recalculateProjectProgress(Long projectId) {
         com.eduscrum.upt.Ubereats.entity.Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
 
@@ -586,6 +718,22 @@ public class UserStoryService {
         projectRepository.save(project);
     }
 
+    // === UTILITY METHODS ===
+
+    private void publishStoryChanged(UserStory userStory, boolean storyDone) {
+        outboxService.storyChanged(userStory.getSprint().getId(), userStory.getTeam().getId(),
+                userStory.getSprint().getProject().getId(), storyDone);
+        sprintService.markBoardChanged(userStory.getSprint().getId());
+        markAssigneeScoreChanged(userStory.getAssignedTo());
+    }
+
+    // Completed stories count towards their assignee's leaderboard score
+    private void markAssigneeScoreChanged(User assignee) {
+        if (assignee != null) {
+            leaderboardService.usersChanged(List.of(assignee.getId()));
+        }
+    }
+
     /**
      * Checks if user is a member of the team.
      *
@@ -594,9 +742,7 @@ public class UserStoryService {
      * @return true if user is an active team member
      */
     private boolean isUserMemberOfTeam(Long userId, Long teamId) {
-        return teamMemberRepository.findByUserIdAndTeamId(userId, teamId)
-                .map(teamMember -> teamMember.getIsActive())
-                .orElse(false);
+        return accessChecker.isTeamMember(userId, teamId);
     }
 
     // region INTERNAL ENTITY METHODS
@@ -653,50 +799,88 @@ public class UserStoryService {
      * @param userStory The UserStory entity
      * @return The response DTO
      */
-    private UserStoryResponseDTO convertToDTO(UserStory userStory) {
+    UserStoryResponseDTO convertToDTO(UserStory userStory) {
+        return convertToDTO(userStory, FieldSelection.ALL);
+    }
+
+    /**
+     * Converts UserStory entity to UserStoryResponseDTO, computing only the
+     * selected fields.
+     *
+     * @param userStory The UserStory entity, possibly partially loaded
+     * @param fields    The sparse fieldset
+     * @return The response DTO
+     */
+    UserStoryResponseDTO convertToDTO(UserStory userStory, FieldSelection fields) {
         UserStoryResponseDTO dto = new UserStoryResponseDTO();
         dto.setId(userStory.getId());
-        dto.setTitle(userStory.getTitle());
-        dto.setDescription(userStory.getDescription());
-        dto.setStoryPoints(userStory.getStoryPoints());
-        dto.setStatus(userStory.getStatus());
-        dto.setPriority(userStory.getPriority());
-        dto.setCreatedAt(userStory.getCreatedAt());
-        dto.setUpdatedAt(userStory.getUpdatedAt());
+        if (fields.includes("title"))
+            dto.setTitle(userStory.getTitle());
+        if (fields.includes("description"))
+            dto.setDescription(userStory.getDescription());
+        if (fields.includes("storyPoints"))
+            dto.setStoryPoints(userStory.getStoryPoints());
+        if (fields.includes("status"))
+            dto.setStatus(userStory.getStatus());
+        if (fields.includes("priority"))
+            dto.setPriority(userStory.getPriority());
+        if (fields.includes("createdAt"))
+            dto.setCreatedAt(userStory.getCreatedAt());
+        if (fields.includes("updatedAt"))
+            dto.setUpdatedAt(userStory.getUpdatedAt());
 
         // Calculate dynamic properties
-        dto.setCompleted(userStory.isCompleted());
-        dto.setInProgress(userStory.isInProgress());
-        dto.setInReview(userStory.isInReview());
-        dto.setPending(userStory.isPending());
-        dto.setStatusColor(userStory.getStatusColor());
-        dto.setPriorityColor(userStory.getPriorityColor());
-        dto.setPriorityIcon(userStory.getPriorityIcon());
-        dto.setAssigned(userStory.isAssigned());
-        dto.setAssignedUserName(userStory.getAssignedUserName());
-        dto.setEffortLevel(userStory.getEffortLevel());
-        dto.setBlocked(userStory.isBlocked());
-        dto.setCanMoveToNextStatus(userStory.canMoveToNextStatus());
-        dto.setCanMoveToPreviousStatus(userStory.canMoveToPreviousStatus());
+        if (fields.includes("completed"))
+            dto.setCompleted(userStory.isCompleted());
+        if (fields.includes("inProgress"))
+            dto.setInProgress(userStory.isInProgress());
+        if (fields.includes("inReview"))
+            dto.setInReview(userStory.isInReview());
+        if (fields.includes("pending"))
+            dto.setPending(userStory.isPending());
+        if (fields.includes("statusColor"))
+            dto.setStatusColor(userStory.getStatusColor());
+        if (fields.includes("priorityColor"))
+            dto.setPriorityColor(userStory.getPriorityColor());
+        if (fields.includes("priorityIcon"))
+            dto.setPriorityIcon(userStory.getPriorityIcon());
+        if (fields.includes("assigned"))
+            dto.setAssigned(userStory.isAssigned());
+        if (fields.includes("assignedUserName"))
+            dto.setAssignedUserName(userStory.getAssignedUserName());
+        if (fields.includes("effortLevel"))
+            dto.setEffortLevel(userStory.getEffortLevel());
+        if (fields.includes("blocked"))
+            dto.setBlocked(userStory.isBlocked());
+        if (fields.includes("canMoveToNextStatus"))
+            dto.setCanMoveToNextStatus(userStory.canMoveToNextStatus());
+        if (fields.includes("canMoveToPreviousStatus"))
+            dto.setCanMoveToPreviousStatus(userStory.canMoveToPreviousStatus());
 
         // Set related entity info
         if (userStory.getSprint() != null) {
-            dto.setSprintId(userStory.getSprint().getId());
-            dto.setSprintName(userStory.getSprint().getName());
+            if (fields.includes("sprintId"))
+                dto.setSprintId(userStory.getSprint().getId());
+            if (fields.includes("sprintName"))
+                dto.setSprintName(userStory.getSprint().getName());
         }
 
         if (userStory.getTeam() != null) {
-            dto.setTeamId(userStory.getTeam().getId());
-            dto.setTeamName(userStory.getTeam().getName());
+            if (fields.includes("teamId"))
+                dto.setTeamId(userStory.getTeam().getId());
+            if (fields.includes("teamName"))
+                dto.setTeamName(userStory.getTeam().getName());
         }
 
-        if (userStory.getAssignedTo() != null) {
+        if (userStory.getAssignedTo() != null && fields.includes("assignedToUserId")) {
             dto.setAssignedToUserId(userStory.getAssignedTo().getId());
         }
 
         if (userStory.getCreatedBy() != null) {
-            dto.setCreatedByUserId(userStory.getCreatedBy().getId());
-            dto.setCreatedByName(userStory.getCreatedBy().getFullName());
+            if (fields.includes("createdByUserId"))
+                dto.setCreatedByUserId(userStory.getCreatedBy().getId());
+            if (fields.includes("createdByName"))
+                dto.setCreatedByName(userStory.getCreatedBy().getFullName());
         }
 
         return dto;
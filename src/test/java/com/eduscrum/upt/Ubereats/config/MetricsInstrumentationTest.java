@@ -0,0 +1,133 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.service.UserService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the method timers and per-request SQL metrics.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MetricsInstrumentationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // ===================== METHOD TIMER TESTS =====================
+
+    @Test
+    void serviceCall_IsTimedByClassAndMethod() {
+        long before = count("service", "UserService", "findByUsername", "none");
+
+        userService.findByUsername("nobody");
+
+        assertEquals(before + 1, count("service", "UserService", "findByUsername", "none"));
+    }
+
+    @Test
+    void serviceCall_FailureIsTaggedWithException() {
+        assertThrows(IllegalArgumentException.class, () -> userService.deactivateUser(999999L));
+
+        assertTrue(count("service", "UserService", "deactivateUser", "IllegalArgumentException") >= 1);
+    }
+
+    @Test
+    void repositoryCall_IsTaggedWithRepositoryInterface() {
+        long before = count("repository", "UserRepository", "existsByUsername", "none");
+
+        userRepository.existsByUsername("nobody");
+
+        assertEquals(before + 1, count("repository", "UserRepository", "existsByUsername", "none"));
+    }
+
+    // ===================== SQL RECORDING TESTS =====================
+
+    @Test
+    void recording_CountsStatementsOfCurrentThread() {
+        userRepository.saveAndFlush(new User("metrics", "metrics@test.com", "password", UserRole.STUDENT,
+                "Metrics", "User"));
+
+        SqlStatementRecorder.start();
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        userRepository.existsByUsername("metrics");
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.stop();
+
+        assertEquals(3, recording.getStatements());
+        assertTrue(recording.getNanos() > 0);
+        SqlStatementRecorder.QueryStats dominant = recording.dominantQueries(3).stream()
+                .filter(query -> query.getSql().equals("SELECT COUNT(*) FROM users"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, dominant.getCount());
+    }
+
+    @Test
+    void recording_NotStarted_RecordsNothing() {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+
+        assertEquals(0, SqlStatementRecorder.stop().getStatements());
+    }
+
+    @Test
+    void filter_PublishesStatementsAndJdbcTimePerUriPattern() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestMetricsFilter filter = new RequestMetricsFilter(registry, 0, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/42");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users/{id}");
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM teams", Long.class);
+        });
+
+        DistributionSummary statements = registry.find(RequestMetricsFilter.STATEMENTS_METRIC)
+                .tags("method", "GET", "uri", "/api/users/{id}").summary();
+        Timer jdbcTime = registry.find(RequestMetricsFilter.JDBC_TIME_METRIC)
+                .tags("method", "GET", "uri", "/api/users/{id}").timer();
+        assertNotNull(statements);
+        assertEquals(2, statements.totalAmount());
+        assertNotNull(jdbcTime);
+        assertEquals(1, jdbcTime.count());
+        assertFalse(SqlStatementRecorder.isRecording());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private long count(String layer, String className, String method, String exception) {
+        Timer timer = meterRegistry.find(MethodTimingAspect.METRIC)
+                .tags("layer", layer, "class", className, "method", method, "exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,111 @@
+package com.eduscrum.upt.Ubereats.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for request correlation ids and sampled SQL logging.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@ExtendWith(OutputCaptureExtension.class)
+class RequestLoggingTest {
+
+    private static final String SQL = "SELECT COUNT(*) FROM courses";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementRecorder.setSlowStatementThreshold(0);
+    }
+
+    // ===================== CORRELATION ID TESTS =====================
+
+    @Test
+    void correlationId_Generated_IsInMdcAndResponse() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> duringRequest = new AtomicReference<>();
+
+        new CorrelationIdFilter().doFilter(new MockHttpServletRequest("GET", "/api/courses"), response,
+                (req, res) -> duringRequest.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertNotNull(duringRequest.get());
+        assertEquals(duringRequest.get(), response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void correlationId_FromHeader_IsKeptWhenValid() throws Exception {
+        MockHttpServletRequest valid = new MockHttpServletRequest("GET", "/api/courses");
+        valid.addHeader(CorrelationIdFilter.HEADER, "lb-1234.abc");
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/courses");
+        invalid.addHeader(CorrelationIdFilter.HEADER, "bad id\nforged");
+        MockHttpServletResponse validResponse = new MockHttpServletResponse();
+        MockHttpServletResponse invalidResponse = new MockHttpServletResponse();
+
+        new CorrelationIdFilter().doFilter(valid, validResponse, (req, res) -> {
+        });
+        new CorrelationIdFilter().doFilter(invalid, invalidResponse, (req, res) -> {
+        });
+
+        assertEquals("lb-1234.abc", validResponse.getHeader(CorrelationIdFilter.HEADER));
+        assertNotEquals("bad id\nforged", invalidResponse.getHeader(CorrelationIdFilter.HEADER));
+    }
+
+    // ===================== SQL SAMPLING TESTS =====================
+
+    @Test
+    void sqlSampling_OneInEveryRequests_LogsAllStatements(CapturedOutput output) throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(new SimpleMeterRegistry(), 60000, 2);
+
+        runRequest(filter, "first-request");
+        assertFalse(output.getOut().contains("SQL [sampled]"));
+
+        runRequest(filter, "second-request");
+        assertTrue(output.getOut().contains("SQL [sampled]"));
+        assertTrue(output.getOut().contains(SQL));
+    }
+
+    @Test
+    void sqlSampling_SlowThreshold_LogsSlowStatementsOutsideRequests(CapturedOutput output) {
+        jdbcTemplate.queryForObject(SQL, Long.class);
+        assertFalse(output.getOut().contains("SQL [slow]"));
+
+        SqlStatementRecorder.setSlowStatementThreshold(1);
+        jdbcTemplate.queryForObject("SELECT SUM(X) FROM SYSTEM_RANGE(1, 300000)", Long.class);
+
+        assertTrue(output.getOut().contains("SQL [slow]"));
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private void runRequest(RequestMetricsFilter filter, String requestId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.addHeader(CorrelationIdFilter.HEADER, requestId);
+        new CorrelationIdFilter().doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(req, res, (innerReq, innerRes) -> jdbcTemplate.queryForObject(SQL,
+                        Long.class)));
+    }
+}
@@ -16,7 +16,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Unit tests for Analytic entity.
  *
  * @author UberEats
- * @version 0.7.0
+ * @version 0.8.0
  */
 class AnalyticEntityTest {
 
@@ -367,6 +367,72 @@ class AnalyticEntityTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void recordBurnDown_StoresCompactSeries() {
+        analytic.recordBurnDown(0, 20);
+        analytic.recordBurnDown(2, 12);
+        analytic.recordBurnDown(1, 15);
+
+        Map<String, Integer> result = analytic.getBurnDownDataMap();
+        assertEquals(3, result.size());
+        assertEquals(20, result.get("day0"));
+        assertEquals(15, result.get("day1"));
+        assertEquals(12, result.get("day2"));
+        assertNull(analytic.getBurnDownData());
+    }
+
+    @Test
+    void recordBurnDown_MigratesLegacyJson() {
+        analytic.setBurnDownData("{\"day1\": 10}");
+
+        analytic.recordBurnDown(2, 6);
+
+        assertNull(analytic.getBurnDownData());
+        assertEquals(10, analytic.getBurnDownDataMap().get("day1"));
+        assertEquals(6, analytic.getBurnDownDataMap().get("day2"));
+    }
+
+    @Test
+    void getBurnDownDataMap_LegacyDateKeys_MapsToSprintDays() {
+        LocalDate start = sprint.getStartDate();
+        analytic.setBurnDownData("{\"" + start + "\": 20, \"" + start.plusDays(2) + "T18:00:00\": 14, \"3\": 9}");
+
+        Map<String, Integer> result = analytic.getBurnDownDataMap();
+        assertEquals(3, result.size());
+        assertEquals(20, result.get("day0"));
+        assertEquals(14, result.get("day2"));
+        assertEquals(9, result.get("day3"));
+    }
+
+    @Test
+    void recordBurnDown_UnmappableLegacyKeys_KeepsLegacyJson() {
+        String legacy = "{\"day1\": 10, \"final\": 0}";
+        analytic.setBurnDownData(legacy);
+
+        analytic.recordBurnDown(2, 6);
+
+        assertEquals(legacy, analytic.getBurnDownData());
+        assertEquals(2, analytic.getBurnDownDataMap().size());
+        assertEquals(6, analytic.getBurnDownDataMap().get("day2"));
+    }
+
+    @Test
+    void burnDownSeries_EncodeDecode_RoundTrips() {
+        BurnDownSeries series = BurnDownSeries.EMPTY.with(0, 40).with(3, 25).with(-1, 42).with(9, 0);
+
+        BurnDownSeries decoded = BurnDownSeries.decode(series.encode());
+
+        assertEquals(series, decoded);
+        assertEquals(-1, decoded.getDayOffset(0));
+        assertEquals(0, decoded.getValue(3));
+    }
+
+    @Test
+    void burnDownSeries_DecodeMalformed_ReturnsEmpty() {
+        assertTrue(BurnDownSeries.decode(new byte[] { (byte) 0x85 }).isEmpty());
+        assertTrue(BurnDownSeries.decode(null).isEmpty());
+    }
+
     // ===================== SETTERS NULL HANDLING TESTS =====================
 
     @Test
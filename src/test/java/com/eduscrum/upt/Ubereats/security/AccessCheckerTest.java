@@ -0,0 +1,193 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import com.eduscrum.upt.Ubereats.dto.request.AddMemberRequest;
+import com.eduscrum.upt.Ubereats.entity.Course;
+import com.eduscrum.upt.Ubereats.entity.Team;
+import com.eduscrum.upt.Ubereats.entity.TeamMember;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.enums.ScrumRole;
+import com.eduscrum.upt.Ubereats.entity.enums.Semester;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.repository.CourseEnrollmentRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamMemberRepository;
+import com.eduscrum.upt.Ubereats.repository.TeamRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.service.CourseEnrollmentService;
+import com.eduscrum.upt.Ubereats.service.TeamService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for AccessChecker decision caching and invalidation.
+ *
+ * @author UberEats
+ * @version 0.3.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AccessCheckerTest {
+
+    @Autowired
+    private AccessChecker accessChecker;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private CourseEnrollmentService enrollmentService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User teacher;
+    private User student;
+    private Team team;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(new User("accessprof", "accessprof@test.com", "password", UserRole.TEACHER,
+                "Access", "Prof"));
+        student = userRepository.save(new User("accessstudent", "accessstudent@test.com", "password",
+                UserRole.STUDENT, "Access", "Student", "9922222"));
+        team = teamRepository.save(new Team("Access Team"));
+        course = courseRepository.save(new Course("Access Course", "AC101", "Description", Semester.FIRST, "2024",
+                teacher));
+    }
+
+    // ===================== CACHE TESTS =====================
+
+    @Test
+    void isCourseTeacher_RepeatedCheck_IsServedFromCache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        long[] now = { 0 };
+        AccessChecker checker = newChecker(registry, now);
+
+        assertTrue(checker.isCourseTeacher(course.getId(), "accessprof@test.com"));
+        assertTrue(checker.isCourseTeacher(course.getId(), "accessprof@test.com"));
+        assertFalse(checker.isCourseTeacher(course.getId(), "accessstudent@test.com"));
+
+        assertEquals(1.0, registry.get("auth.access.cache").tag("check", "course_teacher").tag("result", "hit")
+                .counter().count());
+        assertEquals(2.0, registry.get("auth.access.cache").tag("check", "course_teacher").tag("result", "miss")
+                .counter().count());
+    }
+
+    @Test
+    void isTeamMember_AfterTtl_IsCheckedAgain() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        long[] now = { 0 };
+        AccessChecker checker = newChecker(registry, now);
+        assertFalse(checker.isTeamMember(student.getId(), team.getId()));
+
+        teamMemberRepository.save(new TeamMember(team, student, ScrumRole.DEVELOPER));
+        assertFalse(checker.isTeamMember(student.getId(), team.getId()));
+
+        now[0] += TimeUnit.SECONDS.toNanos(31);
+        assertTrue(checker.isTeamMember(student.getId(), team.getId()));
+    }
+
+    @Test
+    void cacheFull_DropsLeastRecentlyUsedDecision() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AccessChecker checker = new AccessChecker(teamMemberRepository, courseRepository, enrollmentRepository,
+                registry, 30000, 2, () -> 0L);
+        checker.isTeamMember(student.getId(), team.getId());
+        checker.isTeamMember(teacher.getId(), team.getId());
+        checker.isTeamMember(student.getId(), team.getId());
+
+        checker.isCourseTeacher(course.getId(), "accessprof@test.com");
+        checker.isTeamMember(student.getId(), team.getId());
+        checker.isTeamMember(teacher.getId(), team.getId());
+
+        assertEquals(2.0, registry.get("auth.access.cache").tag("check", "team_member").tag("result", "hit")
+                .counter().count());
+        assertEquals(3.0, registry.get("auth.access.cache").tag("check", "team_member").tag("result", "miss")
+                .counter().count());
+        assertEquals(2.0, registry.get("auth.access.cache.size").gauge().value());
+    }
+
+    @Test
+    void isTeamMember_MissingArguments_ReturnsFalse() {
+        assertFalse(accessChecker.isTeamMember(null, team.getId()));
+        assertFalse(accessChecker.isCourseTeacher(null, "accessprof@test.com"));
+    }
+
+    // ===================== INVALIDATION TESTS =====================
+
+    @Test
+    void teamMembershipChanges_InvalidateDecisions() {
+        assertFalse(accessChecker.isTeamMember(student.getId(), team.getId()));
+
+        teamService.addMemberToTeam(team.getId(), new AddMemberRequest(student.getId(), ScrumRole.DEVELOPER));
+        assertTrue(accessChecker.isTeamMember(student.getId(), team.getId()));
+
+        teamService.removeMemberFromTeam(team.getId(), student.getId());
+        assertFalse(accessChecker.isTeamMember(student.getId(), team.getId()));
+    }
+
+    @Test
+    void enrollment_InvalidatesCourseDecisions() {
+        assertFalse(accessChecker.isStudentEnrolled(course.getId(), "accessstudent@test.com"));
+
+        enrollmentService.enrollStudent(course.getId(), student.getId());
+
+        assertTrue(accessChecker.isStudentEnrolled(course.getId(), "accessstudent@test.com"));
+    }
+
+    @Test
+    void invalidationDuringQuery_AnswerIsNotCached() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TeamMemberRepository members = mock(TeamMemberRepository.class);
+        AccessChecker checker = new AccessChecker(members, courseRepository, enrollmentRepository, registry, 30000,
+                1000, () -> 0L);
+        // The membership is removed, and the team invalidated, while the first query runs
+        when(members.existsByUserIdAndTeamIdAndIsActiveTrue(student.getId(), team.getId()))
+                .thenAnswer(invocation -> {
+                    checker.invalidateTeam(team.getId());
+                    return true;
+                })
+                .thenReturn(false);
+
+        assertTrue(checker.isTeamMember(student.getId(), team.getId()));
+        assertFalse(checker.isTeamMember(student.getId(), team.getId()));
+        assertFalse(checker.isTeamMember(student.getId(), team.getId()));
+
+        assertEquals(2.0, registry.get("auth.access.cache").tag("check", "team_member").tag("result", "miss")
+                .counter().count());
+        assertEquals(1.0, registry.get("auth.access.cache").tag("check", "team_member").tag("result", "hit")
+                .counter().count());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private AccessChecker newChecker(SimpleMeterRegistry registry, long[] now) {
+        return new AccessChecker(teamMemberRepository, courseRepository, enrollmentRepository, registry, 30000,
+                1000, () -> now[0]);
+    }
+}
@@ -0,0 +1,65 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for CustomUserDetailsService password upgrades.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CustomUserDetailsServiceTest {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // ===================== REHASH TESTS =====================
+
+    @Test
+    void login_WeakerHash_IsRehashedWithConfiguredStrength() {
+        User user = saveUser("weakhash", new BCryptPasswordEncoder(4).encode("secret123"));
+
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("weakhash@test.com", "secret123"));
+
+        String stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertTrue(stored.startsWith("$2a$10$"));
+        assertTrue(new BCryptPasswordEncoder().matches("secret123", stored));
+    }
+
+    @Test
+    void login_WrongPassword_KeepsHash() {
+        String hash = new BCryptPasswordEncoder(4).encode("secret123");
+        User user = saveUser("wrongpass", hash);
+
+        assertThrows(BadCredentialsException.class, () -> authenticationManager
+                .authenticate(new UsernamePasswordAuthenticationToken("wrongpass@test.com", "nope")));
+
+        assertEquals(hash, userRepository.findById(user.getId()).orElseThrow().getPassword());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private User saveUser(String username, String passwordHash) {
+        return userRepository.save(new User(username, username + "@test.com", passwordHash, UserRole.STUDENT,
+                "Test", "User"));
+    }
+}
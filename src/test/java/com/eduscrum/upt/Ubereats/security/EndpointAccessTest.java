@@ -0,0 +1,159 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import com.eduscrum.upt.Ubereats.entity.Course;
+import com.eduscrum.upt.Ubereats.entity.CourseEnrollment;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.enums.Semester;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.repository.CourseEnrollmentRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for the per-endpoint access rules of the security configuration.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.4.0 (2026-10-18)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class EndpointAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private User teacher;
+    private User otherTeacher;
+    private User student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        teacher = userRepository.save(new User("profaccess", "prof@access.com", "password", UserRole.TEACHER,
+                "Prof", "Access"));
+        otherTeacher = userRepository.save(new User("otherprofaccess", "prof2@access.com", "password",
+                UserRole.TEACHER, "Other", "Access"));
+        student = userRepository.save(new User("studentaccess", "s1@access.com", "password", UserRole.STUDENT,
+                "Student", "Access"));
+        course = courseRepository.save(
+                new Course("Access Course", "AC101", "Description", Semester.FIRST, "2024", teacher));
+    }
+
+    // ===================== ACCOUNT TESTS =====================
+
+    @Test
+    void deactivateUser_AsStudent_Returns403() throws Exception {
+        mockMvc.perform(put("/api/users/" + teacher.getId() + "/deactivate")
+                .header("Authorization", bearer(student)))
+                .andExpect(status().isForbidden());
+
+        assertTrue(userRepository.findById(teacher.getId()).orElseThrow().getIsActive());
+    }
+
+    @Test
+    void deactivateUser_AsTeacher_Succeeds() throws Exception {
+        mockMvc.perform(put("/api/users/" + student.getId() + "/deactivate")
+                .header("Authorization", bearer(teacher)))
+                .andExpect(status().isOk());
+    }
+
+    // ===================== CHANGE FEED TESTS =====================
+
+    @Test
+    void getChanges_OtherUsersFeedAsStudent_Returns403() throws Exception {
+        mockMvc.perform(get("/api/sync/user/" + teacher.getId())
+                .header("Authorization", bearer(student)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getChanges_OwnFeedAsStudent_Succeeds() throws Exception {
+        mockMvc.perform(get("/api/sync/user/" + student.getId())
+                .header("Authorization", bearer(student)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getChanges_StudentsFeedAsTeacher_Succeeds() throws Exception {
+        mockMvc.perform(get("/api/sync/user/" + student.getId())
+                .header("Authorization", bearer(teacher)))
+                .andExpect(status().isOk());
+    }
+
+    // ===================== STUDENT IMPORT TESTS =====================
+
+    @Test
+    void importStudents_TeacherOfOtherCourse_Returns403() throws Exception {
+        mockMvc.perform(post("/api/courses/" + course.getId() + "/students/import?dryRun=true")
+                .header("Authorization", bearer(otherTeacher))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void importStudents_CourseTeacher_Succeeds() throws Exception {
+        mockMvc.perform(post("/api/courses/" + course.getId() + "/students/import?dryRun=true")
+                .header("Authorization", bearer(teacher))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isOk());
+    }
+
+    // ===================== LEADERBOARD TESTS =====================
+
+    @Test
+    void getLeaderboard_StudentNotEnrolled_Returns403() throws Exception {
+        mockMvc.perform(get("/api/courses/" + course.getId() + "/leaderboard/students")
+                .header("Authorization", bearer(student)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/courses/" + course.getId() + "/leaderboard/teams")
+                .header("Authorization", bearer(student)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getLeaderboard_EnrolledStudent_Succeeds() throws Exception {
+        enrollmentRepository.save(new CourseEnrollment(course, student));
+
+        mockMvc.perform(get("/api/courses/" + course.getId() + "/leaderboard/students")
+                .header("Authorization", bearer(student)))
+                .andExpect(status().isOk());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private String bearer(User user) {
+        return "Bearer " + jwtTokenProvider.generateToken(CustomUserDetails.build(user));
+    }
+}
@@ -0,0 +1,80 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pure unit tests for LoginRateLimiter token buckets.
+ * Uses a manual clock so refills are deterministic.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private long now;
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = 0L;
+        limiter = new LoginRateLimiter(meterRegistry, 3, 60, 2, 6, 100, () -> now);
+    }
+
+    // ===================== IP BUCKET TESTS =====================
+
+    @Test
+    void tryAcquireIp_BurstThenRejected() {
+        assertTrue(limiter.tryAcquireIp("10.0.0.1"));
+        assertTrue(limiter.tryAcquireIp("10.0.0.1"));
+        assertTrue(limiter.tryAcquireIp("10.0.0.1"));
+
+        assertFalse(limiter.tryAcquireIp("10.0.0.1"));
+        assertTrue(limiter.tryAcquireIp("10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").tag("reason", "ip_rate_limit").counter().count());
+    }
+
+    @Test
+    void tryAcquireIp_RefillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquireIp("10.0.0.1");
+        }
+
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        assertTrue(limiter.tryAcquireIp("10.0.0.1"));
+        assertFalse(limiter.tryAcquireIp("10.0.0.1"));
+        assertEquals(1, limiter.getIpRetryAfterSeconds());
+    }
+
+    // ===================== ACCOUNT BUCKET TESTS =====================
+
+    @Test
+    void tryAcquireAccount_KeyIsCaseInsensitive() {
+        assertTrue(limiter.tryAcquireAccount("Alice@Test.com"));
+        assertTrue(limiter.tryAcquireAccount("alice@test.com "));
+
+        assertFalse(limiter.tryAcquireAccount("ALICE@TEST.COM"));
+        assertTrue(limiter.tryAcquireAccount("bob@test.com"));
+        assertEquals(10, limiter.getAccountRetryAfterSeconds());
+    }
+
+    @Test
+    void tryAcquireAccount_IdleBucketsAreEvicted() {
+        LoginRateLimiter small = new LoginRateLimiter(meterRegistry, 3, 60, 1, 6, 2, () -> now);
+        small.tryAcquireAccount("a");
+        small.tryAcquireAccount("b");
+
+        now += TimeUnit.MINUTES.toNanos(1);
+
+        assertTrue(small.tryAcquireAccount("c"));
+        assertTrue(small.tryAcquireAccount("a"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.eduscrum.upt.Ubereats.security;
+
+import com.eduscrum.upt.Ubereats.entity.TokenRevocation;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for TokenRevocationService and its Bloom filter.
+ *
+ * @author UberEats
+ * @version 0.2.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        inNewTransaction().executeWithoutResult(status -> tokenRevocationRepository.deleteAll());
+    }
+
+    // ===================== REVOCATION TESTS =====================
+
+    @Test
+    void revokeToken_OnlyThatTokenIsRevoked() {
+        String revoked = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+
+        committed(() -> tokenRevocationService.revokeToken(revoked, now.plusSeconds(900)));
+
+        assertTrue(tokenRevocationService.isRevoked(revoked, 1L, now));
+        assertFalse(tokenRevocationService.isRevoked(UUID.randomUUID().toString(), 1L, now));
+    }
+
+    @Test
+    void revokeUser_RevokesTokensIssuedBefore() {
+        Instant issuedBefore = Instant.now().minusSeconds(60);
+
+        committed(() -> tokenRevocationService.revokeUser(4242L));
+
+        assertTrue(tokenRevocationService.isRevoked(UUID.randomUUID().toString(), 4242L, issuedBefore));
+        assertFalse(tokenRevocationService.isRevoked(UUID.randomUUID().toString(), 4242L,
+                Instant.now().plusSeconds(5)));
+        assertFalse(tokenRevocationService.isRevoked(UUID.randomUUID().toString(), 4243L, issuedBefore));
+    }
+
+    @Test
+    void revokeUser_TokenIssuedRightAfter_IsNotRevoked() {
+        Instant issuedBefore = Instant.now();
+
+        committed(() -> tokenRevocationService.revokeUser(4343L));
+        Instant issuedAfter = Instant.now().plusMillis(1);
+
+        assertTrue(tokenRevocationService.isRevoked(null, 4343L, issuedBefore));
+        assertFalse(tokenRevocationService.isRevoked(null, 4343L, issuedAfter));
+    }
+
+    @Test
+    void issuedAt_KeepsMillisecondsOfTheIssueTime() {
+        Instant before = Instant.now();
+        String token = jwtTokenProvider.generateToken(new CustomUserDetails(1L, "revoke@test.com", null,
+                UserRole.STUDENT, List.of(new SimpleGrantedAuthority("ROLE_STUDENT"))));
+
+        Instant issuedAt = jwtTokenProvider.getIssuedAt(jwtTokenProvider.parseClaims(token).orElseThrow());
+
+        assertFalse(issuedAt.isBefore(before.truncatedTo(ChronoUnit.MILLIS)));
+        assertFalse(issuedAt.isAfter(Instant.now()));
+    }
+
+    @Test
+    void revokeUser_RolledBack_IsNotApplied() {
+        inNewTransaction().executeWithoutResult(status -> {
+            tokenRevocationService.revokeUser(4444L);
+            status.setRollbackOnly();
+        });
+
+        assertFalse(tokenRevocationService.isRevoked(null, 4444L, Instant.now().minusSeconds(60)));
+    }
+
+    @Test
+    void sync_PicksUpRevocationsOfOtherNodes() {
+        String tokenId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationRepository.save(new TokenRevocation(tokenId, null, now, now.plusMinutes(15)));
+        tokenRevocationRepository.save(new TokenRevocation(null, 5151L, now, now.plusMinutes(15)));
+        assertFalse(tokenRevocationService.isRevoked(tokenId, null, Instant.now()));
+
+        tokenRevocationService.sync();
+
+        assertTrue(tokenRevocationService.isRevoked(tokenId, null, Instant.now()));
+        assertTrue(tokenRevocationService.isRevoked(null, 5151L, Instant.now().minusSeconds(60)));
+    }
+
+    @Test
+    void sync_KeepsLocalRevocationsAndDropsExpiredRows() {
+        String local = UUID.randomUUID().toString();
+        String expired = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationRepository.save(new TokenRevocation(expired, null, now.minusHours(1), now.minusMinutes(1)));
+        committed(() -> tokenRevocationService.revokeToken(local, Instant.now().plusSeconds(900)));
+
+        tokenRevocationService.sync();
+
+        assertTrue(tokenRevocationService.isRevoked(local, null, Instant.now()));
+        assertFalse(tokenRevocationService.isRevoked(expired, null, Instant.now()));
+        assertEquals(1, tokenRevocationService.purgeExpired());
+    }
+
+    // ===================== BLOOM FILTER TESTS =====================
+
+    @Test
+    void bloomFilter_NoFalseNegativesAndFewFalsePositives() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("token-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("token-" + i));
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 50, "false positives: " + falsePositives);
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    // Revocations reach the snapshot on commit, which the test transaction never does
+    private void committed(Runnable revocation) {
+        inNewTransaction().executeWithoutResult(status -> revocation.run());
+    }
+
+    private TransactionTemplate inNewTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
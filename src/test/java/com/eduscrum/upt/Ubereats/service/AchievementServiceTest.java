@@ -2,6 +2,7 @@ package com.eduscrum.upt.Ubereats.service;
 
 import com.eduscrum.upt.Ubereats.dto.request.AchievementRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.request.BadgeRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.response.AchievementResponseDTO;
 import com.eduscrum.upt.Ubereats.dto.response.BadgeResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.*;
@@ -332,6 +333,22 @@ class AchievementServiceTest {
         assertEquals(2, projectAchievements.size());
     }
 
+    @Test
+    void getProjectAchievements_WithFields_ComputesOnlySelectedFields() {
+        createTestUserAchievement();
+
+        FieldSelection fields = FieldSelection.parse("badgeName,recipientName", AchievementResponseDTO.class);
+        AchievementResponseDTO achievement = achievementService.getProjectAchievements(project.getId(), fields)
+                .get(0);
+
+        assertNotNull(achievement.getId());
+        assertEquals(manualBadge.getName(), achievement.getBadgeName());
+        assertEquals(student.getFullName(), achievement.getRecipientName());
+        assertNull(achievement.getPoints());
+        assertNull(achievement.getProjectName());
+        assertNull(achievement.getAwardedToUserId());
+    }
+
     // ===================== POINTS CALCULATION TESTS =====================
 
     @Test
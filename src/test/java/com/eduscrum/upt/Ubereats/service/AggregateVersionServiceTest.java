@@ -0,0 +1,227 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.SqlStatementRecorder;
+import com.eduscrum.upt.Ubereats.dto.request.AddMemberRequest;
+import com.eduscrum.upt.Ubereats.dto.request.UpdateCourseRequest;
+import com.eduscrum.upt.Ubereats.dto.request.UpdateProjectRequest;
+import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for AggregateVersionService.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AggregateVersionServiceTest {
+
+    @Autowired
+    private AggregateVersionService aggregateVersionService;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SprintFixture sprintFixture;
+
+    private SprintFixture.Scene scene;
+    private User teacher;
+    private User student;
+    private Course course;
+    private Team team;
+    private Project project;
+    private Sprint sprint;
+
+    @BeforeEach
+    void setUp() {
+        scene = sprintFixture.create("ETag");
+        teacher = scene.teacher();
+        student = scene.student();
+        course = scene.course();
+        team = scene.team();
+        project = scene.project();
+        sprint = scene.sprint();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // ===================== ETAG TESTS =====================
+
+    @Test
+    void eTags_WithoutWrites_AreStable() {
+        String sprintETag = aggregateVersionService.sprintETag(sprint.getId()).orElseThrow();
+        String teamETag = aggregateVersionService.teamETag(team.getId()).orElseThrow();
+
+        assertTrue(sprintETag.startsWith("W/\"sprint-" + sprint.getId() + "-"));
+        assertEquals("W/\"team-" + team.getId() + "-0\"", teamETag);
+        assertEquals(sprintETag, aggregateVersionService.sprintETag(sprint.getId()).orElseThrow());
+        assertEquals(teamETag, aggregateVersionService.teamETag(team.getId()).orElseThrow());
+    }
+
+    @Test
+    void eTags_UnknownIds_AreEmpty() {
+        assertEquals(Optional.empty(), aggregateVersionService.sprintETag(999999L));
+        assertEquals(Optional.empty(), aggregateVersionService.teamETag(999999L));
+        assertEquals(Optional.empty(), aggregateVersionService.projectETag(999999L));
+        assertEquals(Optional.empty(), aggregateVersionService.courseETag(999999L));
+        assertEquals(Optional.empty(), aggregateVersionService.userETag(999999L));
+    }
+
+    @Test
+    void eTag_IsReadWithOneStatement() {
+        SqlStatementRecorder.start();
+        aggregateVersionService.teamETag(team.getId());
+        int statements = SqlStatementRecorder.stop().getStatements();
+
+        assertEquals(1, statements);
+    }
+
+    // ===================== VERSION BUMP TESTS =====================
+
+    @Test
+    void sprintETag_AfterStoryMove_Changes() {
+        UserStoryResponseDTO story = userStoryService.createUserStory(scene.storyRequest("Login"));
+        String before = aggregateVersionService.sprintETag(sprint.getId()).orElseThrow();
+
+        userStoryService.moveToNextStatus(story.getId());
+
+        assertNotEquals(before, aggregateVersionService.sprintETag(sprint.getId()).orElseThrow());
+    }
+
+    @Test
+    void teamAndCourseETags_AfterNewMember_Change() {
+        User other = userRepository.save(new User("otheretag", "s2@etag.com", "password", UserRole.STUDENT,
+                "Other", "ETag"));
+        String teamBefore = aggregateVersionService.teamETag(team.getId()).orElseThrow();
+        String courseBefore = aggregateVersionService.courseETag(course.getId()).orElseThrow();
+
+        teamService.addMemberToTeam(team.getId(), new AddMemberRequest(other.getId(), ScrumRole.DEVELOPER));
+
+        assertNotEquals(teamBefore, aggregateVersionService.teamETag(team.getId()).orElseThrow());
+        assertNotEquals(courseBefore, aggregateVersionService.courseETag(course.getId()).orElseThrow());
+    }
+
+    @Test
+    void eTags_AfterProfileUpdate_ChangeForUserTeamAndSprint() {
+        String userBefore = aggregateVersionService.userETag(student.getId()).orElseThrow();
+        String teamBefore = aggregateVersionService.teamETag(team.getId()).orElseThrow();
+        String sprintBefore = aggregateVersionService.sprintETag(sprint.getId()).orElseThrow();
+
+        userService.updateUserProfile(student.getId(), "Renamed", "Student", "s1@etag.com", null);
+
+        assertNotEquals(userBefore, aggregateVersionService.userETag(student.getId()).orElseThrow());
+        assertNotEquals(teamBefore, aggregateVersionService.teamETag(team.getId()).orElseThrow());
+        assertNotEquals(sprintBefore, aggregateVersionService.sprintETag(sprint.getId()).orElseThrow());
+    }
+
+    @Test
+    void eTags_AfterCourseUpdate_ChangeForCourseAndProjects() {
+        String courseBefore = aggregateVersionService.courseETag(course.getId()).orElseThrow();
+        String projectBefore = aggregateVersionService.projectETag(project.getId()).orElseThrow();
+        String teamBefore = aggregateVersionService.teamETag(team.getId()).orElseThrow();
+
+        UpdateCourseRequest request = new UpdateCourseRequest();
+        request.setName("Renamed Course");
+        courseService.updateCourse(course.getId(), request);
+
+        assertNotEquals(courseBefore, aggregateVersionService.courseETag(course.getId()).orElseThrow());
+        assertNotEquals(projectBefore, aggregateVersionService.projectETag(project.getId()).orElseThrow());
+        assertEquals(teamBefore, aggregateVersionService.teamETag(team.getId()).orElseThrow());
+    }
+
+    @Test
+    void eTags_AfterProjectUpdate_ChangeForProjectTeamSprintAndCourse() {
+        String projectBefore = aggregateVersionService.projectETag(project.getId()).orElseThrow();
+        String teamBefore = aggregateVersionService.teamETag(team.getId()).orElseThrow();
+        String sprintBefore = aggregateVersionService.sprintETag(sprint.getId()).orElseThrow();
+        String courseBefore = aggregateVersionService.courseETag(course.getId()).orElseThrow();
+
+        UpdateProjectRequest request = new UpdateProjectRequest();
+        request.setName("Renamed Project");
+        projectService.updateProject(project.getId(), request);
+
+        assertNotEquals(projectBefore, aggregateVersionService.projectETag(project.getId()).orElseThrow());
+        assertNotEquals(teamBefore, aggregateVersionService.teamETag(team.getId()).orElseThrow());
+        assertNotEquals(sprintBefore, aggregateVersionService.sprintETag(sprint.getId()).orElseThrow());
+        assertNotEquals(courseBefore, aggregateVersionService.courseETag(course.getId()).orElseThrow());
+    }
+
+    @Test
+    void teamETag_AfterBadgeChange_ChangesForHolders() {
+        Badge badge = badgeRepository.save(new Badge("ETag Badge", "Description", 10, BadgeType.MANUAL, teacher));
+        achievementRepository.save(new Achievement(badge, teamRepository.findById(team.getId()).orElseThrow(),
+                projectRepository.findById(project.getId()).orElseThrow(), teacher, "Well done"));
+        entityManager.flush();
+        String before = aggregateVersionService.teamETag(team.getId()).orElseThrow();
+
+        aggregateVersionService.badgeChanged(badge.getId());
+
+        assertNotEquals(before, aggregateVersionService.teamETag(team.getId()).orElseThrow());
+    }
+
+    @Test
+    void eTags_AfterWriteElsewhere_AreUnchanged() {
+        Course otherCourse = courseRepository.save(
+                new Course("Other Course", "OC101", "Description", Semester.FIRST, "2024", teacher));
+        String teamBefore = aggregateVersionService.teamETag(team.getId()).orElseThrow();
+        String projectBefore = aggregateVersionService.projectETag(project.getId()).orElseThrow();
+
+        UpdateCourseRequest request = new UpdateCourseRequest();
+        request.setName("Renamed Other Course");
+        courseService.updateCourse(otherCourse.getId(), request);
+
+        assertEquals(teamBefore, aggregateVersionService.teamETag(team.getId()).orElseThrow());
+        assertEquals(projectBefore, aggregateVersionService.projectETag(project.getId()).orElseThrow());
+    }
+}
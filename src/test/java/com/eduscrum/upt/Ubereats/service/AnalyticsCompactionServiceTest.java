@@ -0,0 +1,175 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for AnalyticsCompactionService.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AnalyticsCompactionServiceTest {
+
+    @Autowired
+    private AnalyticsCompactionService analyticsCompactionService;
+
+    @Autowired
+    private AnalyticRepository analyticRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private Project project;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        User teacher = new User();
+        teacher.setFirstName("Prof");
+        teacher.setLastName("Compact");
+        teacher.setEmail("prof@compact.com");
+        teacher.setUsername("profcompact");
+        teacher.setPassword("password");
+        teacher.setRole(UserRole.TEACHER);
+        teacher = userRepository.save(teacher);
+
+        Course course = courseRepository.save(
+                new Course("Compact Course", "CC101", "Description", Semester.FIRST, "2024", teacher));
+
+        project = projectRepository.save(new Project("Compact Project", "Description",
+                LocalDate.now().minusMonths(3), LocalDate.now().plusMonths(3), course));
+
+        team = new Team("Compact Team");
+        team.getProjects().add(project);
+        team = teamRepository.save(team);
+    }
+
+    // ===================== SELECTION TESTS =====================
+
+    @Test
+    void findSprintsToCompact_OnlyCompletedPastGracePeriod() {
+        Sprint old = createSprint(1, SprintStatus.COMPLETED, LocalDate.now().minusDays(60),
+                LocalDate.now().minusDays(30));
+        Sprint recent = createSprint(2, SprintStatus.COMPLETED, LocalDate.now().minusDays(20),
+                LocalDate.now().minusDays(5));
+        Sprint active = createSprint(3, SprintStatus.IN_PROGRESS, LocalDate.now().minusDays(40), null);
+        createAnalytic(old, 1, 10, 5);
+        createAnalytic(recent, 1, 10, 5);
+        createAnalytic(active, 1, 10, 5);
+
+        List<Long> ids = analyticsCompactionService.findSprintsToCompact(LocalDate.now());
+
+        assertEquals(List.of(old.getId()), ids);
+    }
+
+    // ===================== COMPACTION TESTS =====================
+
+    @Test
+    void compactSprint_CollapsesRowsIntoWeightedSummary() {
+        Sprint sprint = createSprint(1, SprintStatus.COMPLETED, LocalDate.now().minusDays(60),
+                LocalDate.now().minusDays(30));
+        createAnalytic(sprint, 1, 10, 2);
+        createAnalytic(sprint, 2, 20, 6);
+        createAnalytic(sprint, 3, 30, 9);
+
+        int removed = analyticsCompactionService.compactSprint(sprint.getId());
+
+        assertEquals(2, removed);
+        List<Analytic> rows = analyticRepository.findBySprintIdOrderByTeamAndDate(sprint.getId());
+        assertEquals(1, rows.size());
+        Analytic summary = rows.get(0);
+        assertTrue(summary.isCompacted());
+        assertEquals(3, summary.getSampleCount());
+        assertEquals(0, new BigDecimal("20").compareTo(summary.getVelocity()));
+        assertEquals(sprint.getStartDate().plusDays(3), summary.getRecordedDate());
+        assertEquals(3, summary.getBurnDownSeries().size());
+        assertEquals(Integer.valueOf(8), summary.getBurnDownDataMap().get("day1"));
+        assertEquals(Integer.valueOf(1), summary.getBurnDownDataMap().get("day3"));
+        assertTrue(analyticsCompactionService.findSprintsToCompact(LocalDate.now()).isEmpty());
+    }
+
+    @Test
+    void compactSprint_KeepsTeamAverageVelocity() {
+        Sprint sprint = createSprint(1, SprintStatus.COMPLETED, LocalDate.now().minusDays(60),
+                LocalDate.now().minusDays(30));
+        createAnalytic(sprint, 1, 10, 2);
+        createAnalytic(sprint, 2, 20, 6);
+        createAnalytic(sprint, 3, 30, 9);
+        Sprint other = createSprint(2, SprintStatus.COMPLETED, LocalDate.now().minusDays(29),
+                LocalDate.now().minusDays(20));
+        createAnalytic(other, 1, 40, 4);
+
+        analyticsCompactionService.compactSprint(sprint.getId());
+
+        Team reloaded = teamRepository.findById(team.getId()).orElseThrow();
+        assertEquals(2, reloaded.getAnalytics().size());
+        assertEquals(0, new BigDecimal("25").compareTo(reloaded.getAverageVelocity()));
+    }
+
+    @Test
+    void compactSprint_AlreadyCompacted_IsIdempotent() {
+        Sprint sprint = createSprint(1, SprintStatus.COMPLETED, LocalDate.now().minusDays(60),
+                LocalDate.now().minusDays(30));
+        createAnalytic(sprint, 1, 10, 2);
+        createAnalytic(sprint, 2, 20, 6);
+
+        analyticsCompactionService.compactSprint(sprint.getId());
+        int removed = analyticsCompactionService.compactSprint(sprint.getId());
+
+        assertEquals(0, removed);
+        Analytic summary = analyticRepository.findBySprintIdOrderByTeamAndDate(sprint.getId()).get(0);
+        assertEquals(2, summary.getSampleCount());
+        assertEquals(0, new BigDecimal("15").compareTo(summary.getVelocity()));
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private Sprint createSprint(int number, SprintStatus status, LocalDate startDate, LocalDate completedAt) {
+        Sprint sprint = new Sprint();
+        sprint.setSprintNumber(number);
+        sprint.setName("Sprint " + number);
+        sprint.setStartDate(startDate);
+        sprint.setEndDate(startDate.plusDays(14));
+        sprint.setStatus(status);
+        sprint.setCompletedAt(completedAt);
+        sprint.setProject(project);
+        return sprintRepository.save(sprint);
+    }
+
+    private void createAnalytic(Sprint sprint, int day, int velocity, int completedPoints) {
+        Analytic analytic = new Analytic(sprint, team, sprint.getStartDate().plusDays(day));
+        analytic.setTotalStoryPoints(BigDecimal.TEN);
+        analytic.setStoryPointsCompleted(BigDecimal.valueOf(completedPoints));
+        analytic.setVelocity(BigDecimal.valueOf(velocity));
+        sprint.getAnalytics().add(analyticRepository.save(analytic));
+    }
+}
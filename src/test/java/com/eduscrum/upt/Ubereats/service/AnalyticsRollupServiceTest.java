@@ -0,0 +1,207 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.response.SprintRollupResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.WeeklyRollupResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for AnalyticsRollupService.
+ *
+ * @author UberEats
+ * @version 0.2.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AnalyticsRollupServiceTest {
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+
+    @Autowired
+    private SprintRollupRepository sprintRollupRepository;
+
+    @Autowired
+    private WeeklyRollupRepository weeklyRollupRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private User teacher;
+    private Course course;
+    private Project project;
+    private Sprint sprint;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        sprintRollupRepository.deleteAll();
+        weeklyRollupRepository.deleteAll();
+
+        teacher = new User();
+        teacher.setFirstName("Prof");
+        teacher.setLastName("Rollup");
+        teacher.setEmail("prof@rollup.com");
+        teacher.setUsername("profrollup");
+        teacher.setPassword("password");
+        teacher.setRole(UserRole.TEACHER);
+        teacher = userRepository.save(teacher);
+
+        course = courseRepository.save(
+                new Course("Rollup Course", "RC101", "Description", Semester.FIRST, "2024", teacher));
+
+        project = projectRepository.save(new Project("Rollup Project", "Description", LocalDate.now(),
+                LocalDate.now().plusMonths(3), course));
+
+        sprint = createSprint(project, 1);
+
+        team = new Team("Rollup Team");
+        team.getProjects().add(project);
+        team = teamRepository.save(team);
+    }
+
+    // ===================== MAINTENANCE TESTS =====================
+
+    @Test
+    void updateDailyAnalytic_RefreshesSprintAndWeeklyRollups() {
+        createStory(sprint, "Open", 5, StoryStatus.TODO);
+        createStory(sprint, "Done", 3, StoryStatus.DONE);
+
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+
+        List<SprintRollupResponseDTO> sprints = analyticsRollupService.getSprintRollupsByProject(project.getId());
+        assertEquals(1, sprints.size());
+        assertEquals(8, sprints.get(0).getTotalStoryPoints());
+        assertEquals(3, sprints.get(0).getCompletedStoryPoints());
+        assertFalse(sprints.get(0).isFinalized());
+
+        List<WeeklyRollupResponseDTO> projectWeeks = analyticsRollupService
+                .getWeeklyRollups(RollupScope.PROJECT, project.getId(), null, null);
+        assertEquals(1, projectWeeks.size());
+        assertEquals(8, projectWeeks.get(0).getTotalStoryPoints());
+        assertEquals(1, projectWeeks.get(0).getSnapshotCount());
+
+        List<WeeklyRollupResponseDTO> courseWeeks = analyticsRollupService
+                .getWeeklyRollups(RollupScope.COURSE, course.getId(), null, null);
+        assertEquals(1, courseWeeks.size());
+        assertEquals(3, courseWeeks.get(0).getCompletedStoryPoints());
+    }
+
+    @Test
+    void updateDailyAnalytic_SameDayTwice_DoesNotDoubleCount() {
+        createStory(sprint, "Story", 5, StoryStatus.TODO);
+
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+
+        List<WeeklyRollupResponseDTO> projectWeeks = analyticsRollupService
+                .getWeeklyRollups(RollupScope.PROJECT, project.getId(), null, null);
+        assertEquals(5, projectWeeks.get(0).getTotalStoryPoints());
+    }
+
+    @Test
+    void courseWeek_SumsAllProjectsOfCourse() {
+        Project otherProject = projectRepository.save(new Project("Other Rollup Project", "Description",
+                LocalDate.now(), LocalDate.now().plusMonths(3), course));
+        Sprint otherSprint = createSprint(otherProject, 1);
+        createStory(sprint, "First", 5, StoryStatus.TODO);
+        createStory(otherSprint, "Second", 8, StoryStatus.DONE);
+
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+        analyticsService.updateDailyAnalytic(otherSprint.getId(), team.getId());
+
+        List<WeeklyRollupResponseDTO> courseWeeks = analyticsRollupService
+                .getWeeklyRollups(RollupScope.COURSE, course.getId(), null, null);
+        assertEquals(1, courseWeeks.size());
+        assertEquals(13, courseWeeks.get(0).getTotalStoryPoints());
+        assertEquals(8, courseWeeks.get(0).getCompletedStoryPoints());
+        assertEquals(2, courseWeeks.get(0).getSnapshotCount());
+        assertEquals(2, analyticsRollupService.getSprintRollupsByCourse(course.getId()).size());
+    }
+
+    @Test
+    void completeSprint_FinalizesRollup() {
+        createStory(sprint, "Done", 4, StoryStatus.DONE);
+        createStory(sprint, "Open", 2, StoryStatus.IN_PROGRESS);
+
+        sprintService.completeSprint(sprint.getId(), LocalDate.now(), null);
+        outboxRelayService.drain();
+
+        SprintRollup rollup = sprintRollupRepository.findBySprintId(sprint.getId()).orElseThrow();
+        assertTrue(rollup.getFinalized());
+        assertTrue(rollup.getOnTime());
+        assertEquals(6, rollup.getTotalStoryPoints());
+        assertEquals(4, rollup.getCompletedStoryPoints());
+        assertEquals(2, rollup.getTotalTasks());
+        assertEquals(1, rollup.getCompletedTasks());
+    }
+
+    @Test
+    void finalizedRollup_IsNotChangedByLaterAnalytics() {
+        createStory(sprint, "Done", 4, StoryStatus.DONE);
+        sprintService.completeSprint(sprint.getId(), LocalDate.now(), null);
+        outboxRelayService.drain();
+
+        createStory(sprint, "Late", 10, StoryStatus.TODO);
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+
+        SprintRollup rollup = sprintRollupRepository.findBySprintId(sprint.getId()).orElseThrow();
+        assertEquals(4, rollup.getTotalStoryPoints());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private Sprint createSprint(Project sprintProject, int number) {
+        Sprint newSprint = new Sprint();
+        newSprint.setSprintNumber(number);
+        newSprint.setName("Sprint " + number);
+        newSprint.setStartDate(LocalDate.now());
+        newSprint.setEndDate(LocalDate.now().plusDays(14));
+        newSprint.setStatus(SprintStatus.IN_PROGRESS);
+        newSprint.setProject(sprintProject);
+        return sprintRepository.save(newSprint);
+    }
+
+    private void createStory(Sprint storySprint, String title, int points, StoryStatus status) {
+        UserStory story = new UserStory(title, "Description", points, storySprint, team, teacher);
+        story.setStatus(status);
+        userStoryRepository.save(story);
+    }
+}
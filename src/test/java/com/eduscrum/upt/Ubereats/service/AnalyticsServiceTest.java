@@ -141,6 +141,17 @@ class AnalyticsServiceTest {
         assertDoesNotThrow(() -> analyticsService.updateDailyAnalytic(sprint.getId(), team.getId()));
     }
 
+    @Test
+    void updateDailyAnalytic_RecordsBurnDownForToday() {
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+
+        List<AnalyticsResponseDTO> analytics = analyticsService.getAnalyticsBySprintAndTeam(sprint.getId(),
+                team.getId());
+
+        assertEquals(1, analytics.size());
+        assertEquals(0, analytics.get(0).getBurnDownDataMap().get("day0"));
+    }
+
     // ===================== GET ANALYTICS TESTS =====================
 
     @Test
@@ -2,6 +2,7 @@ package com.eduscrum.upt.Ubereats.service;
 
 import com.eduscrum.upt.Ubereats.dto.request.BadgeRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.response.BadgeResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.Badge;
 import com.eduscrum.upt.Ubereats.entity.User;
 import com.eduscrum.upt.Ubereats.entity.enums.BadgeType;
@@ -24,7 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Integration tests for BadgeService.
  *
  * @author UberEats
- * @version 1.0.0
+ * @version 1.1.0 (2026-10-18)
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -499,6 +500,32 @@ class BadgeServiceTest {
         assertEquals(0, count);
     }
 
+    // ===================== BATCH LOOKUP TESTS =====================
+
+    @Test
+    void getBadgesByIds_KeepsRequestOrderAndReportsMissing() {
+        BadgeResponseDTO first = createTestBadge("Batch One", 10);
+        BadgeResponseDTO second = createTestBadge("Batch Two", 20);
+
+        BatchResponseDTO<BadgeResponseDTO> batch = badgeService.getBadgesByIds(
+                List.of(999999L, second.getId(), first.getId()));
+
+        assertEquals(2, batch.getItems().size());
+        assertEquals("Batch Two", batch.getItems().get(0).getName());
+        assertEquals("Batch One", batch.getItems().get(1).getName());
+        assertEquals(0, batch.getItems().get(0).getAwardCount());
+        assertEquals("Prof Badge", batch.getItems().get(0).getCreatedByName());
+        assertEquals(List.of(999999L), batch.getMissingIds());
+    }
+
+    @Test
+    void getBadgesByIds_NoIds_ReturnsEmpty() {
+        BatchResponseDTO<BadgeResponseDTO> batch = badgeService.getBadgesByIds(List.of());
+
+        assertTrue(batch.getItems().isEmpty());
+        assertTrue(batch.getMissingIds().isEmpty());
+    }
+
     // ===================== HELPER METHODS =====================
 
     private BadgeResponseDTO createTestBadge(String name, int points) {
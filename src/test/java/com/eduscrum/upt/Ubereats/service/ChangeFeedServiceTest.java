@@ -0,0 +1,303 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.SqlStatementRecorder;
+import com.eduscrum.upt.Ubereats.dto.request.AddMemberRequest;
+import com.eduscrum.upt.Ubereats.dto.response.SyncChangesResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ChangeFeedService.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ChangeFeedServiceTest {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SprintFixture sprintFixture;
+
+    private SprintFixture.Scene scene;
+    private User teacher;
+    private User student;
+    private User outsider;
+    private Team team;
+    private Project project;
+    private Sprint sprint;
+
+    @BeforeEach
+    void setUp() {
+        scene = sprintFixture.create("Sync");
+        teacher = scene.teacher();
+        student = scene.student();
+        team = scene.team();
+        project = scene.project();
+        sprint = scene.sprint();
+        outsider = sprintFixture.createStudent("Outsider", "Sync");
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // ===================== FULL SNAPSHOT TESTS =====================
+
+    @Test
+    void getChanges_NoToken_ReturnsWholeScope() {
+        userStoryService.createUserStory(scene.storyRequest("Login"));
+        userStoryService.createUserStory(scene.storyRequest("Logout"));
+
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), null);
+
+        assertTrue(changes.isFullResync());
+        assertNotNull(changes.getChangeToken());
+        assertEquals(1, changes.getTeams().size());
+        assertEquals(team.getId(), changes.getTeams().get(0).getId());
+        assertEquals(1, changes.getSprints().size());
+        assertEquals(2, changes.getUserStories().size());
+        assertTrue(changes.getDeleted().isEmpty());
+    }
+
+    @Test
+    void getChanges_Teacher_ReturnsTeamsOfTheirCourses() {
+        userStoryService.createUserStory(scene.storyRequest("Login"));
+
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(teacher.getId(), null);
+
+        assertEquals(1, changes.getTeams().size());
+        assertEquals(1, changes.getUserStories().size());
+    }
+
+    @Test
+    void getChanges_UserWithoutTeams_ReturnsNothing() {
+        userStoryService.createUserStory(scene.storyRequest("Login"));
+
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(outsider.getId(), null);
+
+        assertTrue(changes.getTeams().isEmpty());
+        assertTrue(changes.getSprints().isEmpty());
+        assertTrue(changes.getUserStories().isEmpty());
+        assertTrue(changes.getAchievements().isEmpty());
+    }
+
+    @Test
+    void getChanges_ExpiredToken_ReturnsWholeScope() {
+        String oldToken = Long.toString(LocalDateTime.now().minusDays(60)
+                .atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli(), 36);
+
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), oldToken);
+
+        assertTrue(changes.isFullResync());
+        assertEquals(1, changes.getTeams().size());
+    }
+
+    @Test
+    void getChanges_InvalidToken_ThrowsException() {
+        assertThrows(BusinessLogicException.class,
+                () -> changeFeedService.getChanges(student.getId(), "not a token"));
+    }
+
+    @Test
+    void getChanges_UnknownUser_ThrowsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> changeFeedService.getChanges(999999L, null));
+    }
+
+    // ===================== DELTA TESTS =====================
+
+    @Test
+    void getChanges_AfterStoryUpdate_ReturnsOnlyThatStory() {
+        UserStoryResponseDTO login = userStoryService.createUserStory(scene.storyRequest("Login"));
+        userStoryService.createUserStory(scene.storyRequest("Logout"));
+        String token = tokenNow(student);
+
+        userStoryService.moveToNextStatus(login.getId());
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), token);
+
+        assertFalse(changes.isFullResync());
+        assertTrue(changes.getTeams().isEmpty());
+        assertTrue(changes.getSprints().isEmpty());
+        assertEquals(1, changes.getUserStories().size());
+        assertEquals(login.getId(), changes.getUserStories().get(0).getId());
+        assertEquals(StoryStatus.IN_PROGRESS, changes.getUserStories().get(0).getStatus());
+    }
+
+    @Test
+    void getChanges_NothingChanged_ReturnsEmptyDelta() {
+        userStoryService.createUserStory(scene.storyRequest("Login"));
+        String token = tokenNow(student);
+
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), token);
+
+        assertTrue(changes.getTeams().isEmpty());
+        assertTrue(changes.getSprints().isEmpty());
+        assertTrue(changes.getUserStories().isEmpty());
+        assertTrue(changes.getDeleted().isEmpty());
+    }
+
+    @Test
+    void getChanges_AfterTeamAchievement_ReturnsIt() {
+        String token = tokenNow(student);
+
+        Badge badge = badgeRepository.save(new Badge("Sync Badge", "Description", 10, BadgeType.MANUAL, teacher));
+        Achievement achievement = achievementRepository.save(new Achievement(badge,
+                teamRepository.findById(team.getId()).orElseThrow(),
+                projectRepository.findById(project.getId()).orElseThrow(), teacher, "Well done"));
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), token);
+
+        assertEquals(1, changes.getAchievements().size());
+        assertEquals(achievement.getId(), changes.getAchievements().get(0).getId());
+    }
+
+    @Test
+    void getChanges_AfterJoiningTeam_ReturnsTeamWithItsContent() {
+        userStoryService.createUserStory(scene.storyRequest("Login"));
+        String token = tokenNow(outsider);
+
+        teamService.addMemberToTeam(team.getId(), new AddMemberRequest(outsider.getId(), ScrumRole.DEVELOPER));
+        entityManager.flush();
+        entityManager.clear();
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(outsider.getId(), token);
+
+        assertEquals(1, changes.getTeams().size());
+        assertEquals(1, changes.getSprints().size());
+        assertEquals(1, changes.getUserStories().size());
+    }
+
+    @Test
+    void getChanges_Delta_FromFewQueries() {
+        List<Long> storyIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            storyIds.add(userStoryService.createUserStory(scene.storyRequest("Story " + i)).getId());
+        }
+        String token = tokenNow(student);
+        storyIds.forEach(userStoryService::moveToNextStatus);
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementRecorder.start();
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), token);
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.stop();
+
+        assertEquals(5, changes.getUserStories().size());
+        // User, team IDs, teams, sprints, stories, achievements, tombstones
+        assertTrue(recording.getStatements() <= 7, "statements: " + recording.getStatements());
+    }
+
+    // ===================== TOMBSTONE TESTS =====================
+
+    @Test
+    void getChanges_AfterStoryDeleted_ReturnsTombstone() {
+        UserStoryResponseDTO story = userStoryService.createUserStory(scene.storyRequest("Login"));
+        String token = tokenNow(student);
+
+        userStoryService.deleteUserStory(story.getId());
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), token);
+
+        assertTrue(changes.getUserStories().isEmpty());
+        assertEquals(1, changes.getDeleted().size());
+        assertEquals(SyncEntityType.USER_STORY, changes.getDeleted().get(0).getType());
+        assertEquals(story.getId(), changes.getDeleted().get(0).getId());
+    }
+
+    @Test
+    void getChanges_AfterMemberRemoved_ReturnsTeamTombstone() {
+        String token = tokenNow(student);
+
+        teamService.removeMemberFromTeam(team.getId(), student.getId());
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), token);
+
+        assertTrue(changes.getTeams().isEmpty());
+        assertEquals(1, changes.getDeleted().size());
+        assertEquals(SyncEntityType.TEAM, changes.getDeleted().get(0).getType());
+        assertEquals(team.getId(), changes.getDeleted().get(0).getId());
+    }
+
+    @Test
+    void getChanges_AfterTeamClosed_ReturnsTeamTombstoneForEachMember() {
+        String token = tokenNow(student);
+
+        teamService.closeTeamMemberships(team.getId());
+        SyncChangesResponseDTO changes = changeFeedService.getChanges(student.getId(), token);
+
+        assertEquals(1, changes.getDeleted().size());
+        assertEquals(SyncEntityType.TEAM, changes.getDeleted().get(0).getType());
+    }
+
+    @Test
+    void purgeExpiredTombstones_DeletesOnlyOldTombstones() {
+        SyncTombstone old = new SyncTombstone(SyncEntityType.USER_STORY, 1L, team.getId(), null);
+        old.setDeletedAt(LocalDateTime.now().minusDays(60));
+        tombstoneRepository.save(old);
+        tombstoneRepository.save(new SyncTombstone(SyncEntityType.USER_STORY, 2L, team.getId(), null));
+
+        int purged = changeFeedService.purgeExpiredTombstones();
+
+        assertEquals(1, purged);
+        assertEquals(1, tombstoneRepository.count());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    /**
+     * Returns a change token issued after everything saved so far.
+     */
+    private String tokenNow(User user) {
+        entityManager.flush();
+        entityManager.clear();
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String token = changeFeedService.getChanges(user.getId(), null).getChangeToken();
+        entityManager.clear();
+        return token;
+    }
+}
@@ -0,0 +1,118 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for DatasetGenerator.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DatasetGeneratorTest {
+
+    private static final LocalDate ANCHOR = LocalDate.of(2026, 3, 18);
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    // ===================== GENERATION TESTS =====================
+
+    @Test
+    void generate_SmallScale_ProducesScaledCounts() {
+        DatasetGenerator.Summary summary = datasetGenerator.generate(options("gen", 7));
+
+        Map<String, Long> rows = summary.rows();
+        assertEquals(1 + 50, rows.get("users"));
+        assertEquals(1, rows.get("courses"));
+        assertEquals(8, rows.get("teams"));
+        assertEquals(8, rows.get("projects"));
+        assertTrue(rows.get("course_enrollments") >= 50);
+        assertTrue(rows.get("sprints") >= 8 * 3 && rows.get("sprints") <= 8 * 7);
+        assertTrue(rows.get("user_stories") >= rows.get("sprints") * 30);
+        assertTrue(rows.get("user_stories") <= rows.get("sprints") * 70);
+        assertTrue(rows.get("analytics") > 0);
+        assertEquals(rows.get("user_stories"), count("SELECT COUNT(*) FROM user_stories us JOIN teams t "
+                + "ON us.team_id = t.id WHERE t.name LIKE 'GEN %'"));
+
+        String hash = jdbcTemplate.queryForObject("SELECT password FROM users WHERE username = 'gen_s0'",
+                String.class);
+        assertTrue(passwordEncoder.matches("secret123", hash));
+    }
+
+    @Test
+    void generate_SameSeed_ProducesSameRows() {
+        datasetGenerator.generate(options("runa", 11));
+        datasetGenerator.generate(options("runb", 11));
+
+        assertEquals(stories("RUNA"), stories("RUNB"));
+        assertFalse(stories("RUNA").isEmpty());
+    }
+
+    @Test
+    void generate_StoryStatusesFollowSprintTimeline() {
+        datasetGenerator.generate(options("flow", 3));
+
+        assertEquals(0, count("SELECT COUNT(*) FROM user_stories us JOIN sprints s ON us.sprint_id = s.id "
+                + "WHERE s.status = 'PLANNED' AND us.status <> 'TODO'"));
+        long completed = count("SELECT COUNT(*) FROM user_stories us JOIN sprints s ON us.sprint_id = s.id "
+                + "WHERE s.status = 'COMPLETED'");
+        long done = count("SELECT COUNT(*) FROM user_stories us JOIN sprints s ON us.sprint_id = s.id "
+                + "WHERE s.status = 'COMPLETED' AND us.status = 'DONE'");
+        assertTrue(completed == 0 || done > completed * 7 / 10);
+        assertEquals(0, count("SELECT COUNT(*) FROM analytics a JOIN sprints s ON a.sprint_id = s.id "
+                + "WHERE s.status = 'PLANNED'"));
+    }
+
+    @Test
+    void generate_PrefixAlreadyUsed_ThrowsException() {
+        datasetGenerator.generate(options("dup", 1));
+
+        assertThrows(BusinessLogicException.class, () -> datasetGenerator.generate(options("dup", 2)));
+    }
+
+    @Test
+    void generate_InvalidOptions_ThrowsException() {
+        assertThrows(BusinessLogicException.class,
+                () -> datasetGenerator.generate(new DatasetGenerator.Options(0, 1, "zero", ANCHOR, "secret123")));
+        assertThrows(BusinessLogicException.class,
+                () -> datasetGenerator.generate(new DatasetGenerator.Options(1, 1, "Bad-Prefix", ANCHOR, "x")));
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private DatasetGenerator.Options options(String prefix, long seed) {
+        return new DatasetGenerator.Options(0.1, seed, prefix, ANCHOR, "secret123");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private List<Map<String, Object>> stories(String teamPrefix) {
+        return jdbcTemplate.queryForList("SELECT us.title, us.story_points, us.status, us.priority "
+                + "FROM user_stories us JOIN teams t ON us.team_id = t.id WHERE t.name LIKE ? ORDER BY us.id",
+                teamPrefix + " %");
+    }
+}
@@ -0,0 +1,160 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.JobLease;
+import com.eduscrum.upt.Ubereats.repository.JobLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for JobLeaseService.
+ *
+ * @author UberEats
+ * @version 0.2.0 (2026-10-18)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class JobLeaseServiceTest {
+
+    private static final String JOB = "test-job";
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    // ===================== ACQUIRE TESTS =====================
+
+    @Test
+    void tryAcquire_FreshJob_ReturnsFirstToken() {
+        Optional<Long> token = jobLeaseService.tryAcquire(JOB, "node-a");
+
+        assertEquals(Optional.of(1L), token);
+        JobLease lease = jobLeaseRepository.findById(JOB).orElseThrow();
+        assertEquals("node-a", lease.getOwner());
+        assertTrue(lease.isHeldAt(LocalDateTime.now()));
+    }
+
+    @Test
+    void tryAcquire_HeldByOtherNode_ReturnsEmpty() {
+        jobLeaseService.tryAcquire(JOB, "node-a");
+
+        assertTrue(jobLeaseService.tryAcquire(JOB, "node-b").isEmpty());
+    }
+
+    @Test
+    void tryAcquire_ExpiredLease_FailsOverWithHigherToken() {
+        long first = jobLeaseService.tryAcquire(JOB, "node-a").orElseThrow();
+        expire();
+
+        long second = jobLeaseService.tryAcquire(JOB, "node-b").orElseThrow();
+
+        assertTrue(second > first);
+        assertEquals("node-b", jobLeaseRepository.findById(JOB).orElseThrow().getOwner());
+    }
+
+    // ===================== RENEW & RELEASE TESTS =====================
+
+    @Test
+    void renew_StaleToken_IsRejected() {
+        long first = jobLeaseService.tryAcquire(JOB, "node-a").orElseThrow();
+        expire();
+        long second = jobLeaseService.tryAcquire(JOB, "node-b").orElseThrow();
+
+        assertFalse(jobLeaseService.renew(JOB, "node-a", first));
+        assertTrue(jobLeaseService.renew(JOB, "node-b", second));
+    }
+
+    @Test
+    void release_AllowsAnotherNodeToAcquire() {
+        long token = jobLeaseService.tryAcquire(JOB, "node-a").orElseThrow();
+
+        jobLeaseService.release(JOB, "node-a", token);
+
+        assertEquals(Optional.of(token + 1), jobLeaseService.tryAcquire(JOB, "node-b"));
+    }
+
+    @Test
+    void release_StaleToken_DoesNotReleaseNewHolder() {
+        long first = jobLeaseService.tryAcquire(JOB, "node-a").orElseThrow();
+        expire();
+        jobLeaseService.tryAcquire(JOB, "node-b");
+
+        jobLeaseService.release(JOB, "node-a", first);
+
+        assertTrue(jobLeaseService.tryAcquire(JOB, "node-c").isEmpty());
+    }
+
+    // ===================== TRIGGER SLOT TESTS =====================
+
+    @Test
+    void tryAcquire_SlotAlreadyCompleted_IsSkipped() {
+        LocalDateTime slot = LocalDateTime.now().withNano(0);
+        long token = jobLeaseService.tryAcquire(JOB, "node-a", slot).orElseThrow();
+        jobLeaseService.release(JOB, "node-a", token, slot);
+
+        assertTrue(jobLeaseService.tryAcquire(JOB, "node-b", slot).isEmpty());
+        assertTrue(jobLeaseService.tryAcquire(JOB, "node-b", slot.plusDays(1)).isPresent());
+    }
+
+    @Test
+    void tryAcquire_SlotOfFailedRun_CanBeRetried() {
+        LocalDateTime slot = LocalDateTime.now().withNano(0);
+        long token = jobLeaseService.tryAcquire(JOB, "node-a", slot).orElseThrow();
+        jobLeaseService.release(JOB, "node-a", token, null);
+
+        assertTrue(jobLeaseService.tryAcquire(JOB, "node-b", slot).isPresent());
+    }
+
+    @Test
+    void tryAcquire_OnDemandRun_IgnoresCompletedSlot() {
+        LocalDateTime slot = LocalDateTime.now().withNano(0);
+        long token = jobLeaseService.tryAcquire(JOB, "node-a", slot).orElseThrow();
+        jobLeaseService.release(JOB, "node-a", token, slot);
+
+        assertTrue(jobLeaseService.tryAcquire(JOB, "node-b").isPresent());
+    }
+
+    // ===================== FENCING TESTS =====================
+
+    @Test
+    void lockIfHeld_CurrentToken_ReturnsTrue() {
+        long token = jobLeaseService.tryAcquire(JOB).orElseThrow();
+
+        assertTrue(jobLeaseService.lockIfHeld(JOB, token));
+    }
+
+    @Test
+    void lockIfHeld_AfterTakeover_ReturnsFalse() {
+        long token = jobLeaseService.tryAcquire(JOB).orElseThrow();
+        expire();
+        jobLeaseService.tryAcquire(JOB, "node-b");
+
+        assertFalse(jobLeaseService.lockIfHeld(JOB, token));
+    }
+
+    @Test
+    void lockIfHeld_ExpiredLease_ReturnsFalse() {
+        long token = jobLeaseService.tryAcquire(JOB).orElseThrow();
+        expire();
+
+        assertFalse(jobLeaseService.lockIfHeld(JOB, token));
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private void expire() {
+        JobLease lease = jobLeaseRepository.findById(JOB).orElseThrow();
+        lease.setLeasedUntil(LocalDateTime.now().minusSeconds(1));
+        jobLeaseRepository.saveAndFlush(lease);
+    }
+}
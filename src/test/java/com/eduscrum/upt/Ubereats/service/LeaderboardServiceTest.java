@@ -0,0 +1,341 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.SqlStatementRecorder;
+import com.eduscrum.upt.Ubereats.dto.request.AchievementRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.response.LeaderboardEntryDTO;
+import com.eduscrum.upt.Ubereats.dto.response.LeaderboardPageDTO;
+import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for LeaderboardService.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.3.0 (2026-10-18)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private AchievementService achievementService;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CourseEnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SprintFixture sprintFixture;
+
+    private SprintFixture.Scene scene;
+    private User teacher;
+    private User alice;
+    private User bob;
+    private User carol;
+    private Course course;
+    private Team team;
+    private Project project;
+    private Sprint sprint;
+    private Badge badge;
+
+    @BeforeEach
+    void setUp() {
+        scene = sprintFixture.create("Rank", "Alice");
+        teacher = scene.teacher();
+        alice = scene.student();
+        course = scene.course();
+        team = scene.team();
+        project = scene.project();
+        sprint = scene.sprint();
+        bob = sprintFixture.createStudent("Bob", "Rank");
+        carol = sprintFixture.createStudent("Carol", "Rank");
+        badge = badgeRepository.save(new Badge("Rank Badge", "Description", 10, BadgeType.MANUAL, teacher));
+
+        sprintFixture.addDeveloper(team, bob);
+        enrollmentRepository.save(new CourseEnrollment(course, carol));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // ===================== SCORE TESTS =====================
+
+    @Test
+    void getStudentPage_RanksStudentsByCourseScore() {
+        awardToUser(alice, badge);
+        awardToTeam(badgeRepository.save(new Badge("Team Badge", "Description", 30, BadgeType.MANUAL, teacher)));
+        completeStory("Login", bob, 3);
+
+        LeaderboardPageDTO page = leaderboardService.getStudentPage(course.getId(), 0, 10);
+
+        assertEquals(3, page.getTotal());
+        // Bob: 15 team share + 25 + 3 * 5; Alice: 10 + 15 team share; Carol is enrolled only
+        assertEntry(page.getEntries().get(0), bob, 55, 1);
+        assertEntry(page.getEntries().get(1), alice, 25, 2);
+        assertEntry(page.getEntries().get(2), carol, 0, 3);
+    }
+
+    @Test
+    void getStudentPage_ScoreMatchesGlobalScoreForSingleCourse() {
+        awardToUser(alice, badge);
+        awardToTeam(badgeRepository.save(new Badge("Team Badge", "Description", 30, BadgeType.MANUAL, teacher)));
+        completeStory("Login", alice, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        LeaderboardEntryDTO entry = leaderboardService.getStudentNeighbourhood(course.getId(), alice.getId(), 0)
+                .getEntries().get(0);
+
+        assertEquals(userService.calculateGlobalScore(alice.getId()), entry.getScore());
+    }
+
+    @Test
+    void getStudentPage_AchievementsInOtherCourses_AreNotCounted() {
+        Course otherCourse = courseRepository.save(
+                new Course("Other Course", "OC101", "Description", Semester.FIRST, "2024", teacher));
+        Project otherProject = projectRepository.save(new Project("Other Project", "Elsewhere", LocalDate.now(),
+                LocalDate.now().plusMonths(3), otherCourse));
+        achievementService.createAchievement(new AchievementRequestDTO("Elsewhere", badge.getId(), alice.getId(),
+                null, otherProject.getId(), null, teacher.getId()));
+
+        LeaderboardPageDTO page = leaderboardService.getStudentNeighbourhood(course.getId(), alice.getId(), 0);
+
+        assertEquals(0, page.getEntries().get(0).getScore());
+    }
+
+    @Test
+    void getStudentPage_TiedScores_ShareRank() {
+        awardToUser(alice, badge);
+
+        List<LeaderboardEntryDTO> entries = leaderboardService.getStudentPage(course.getId(), 0, 10).getEntries();
+
+        assertEquals(List.of(1, 2, 2), entries.stream().map(LeaderboardEntryDTO::getRank).toList());
+        // Ties are ordered by ID
+        assertEquals(bob.getId(), entries.get(1).getId());
+        assertEquals(carol.getId(), entries.get(2).getId());
+    }
+
+    @Test
+    void getTeamPage_RanksTeamsByCourseAchievements() {
+        Team otherTeam = teamRepository.save(new Team("Other Rank Team"));
+        Project otherProject = new Project("Second Project", "Second", LocalDate.now(),
+                LocalDate.now().plusMonths(3), course);
+        otherProject.setTeam(otherTeam);
+        projectRepository.save(otherProject);
+        awardToTeam(badge);
+
+        LeaderboardPageDTO page = leaderboardService.getTeamPage(course.getId(), 0, 10);
+
+        assertEquals(2, page.getTotal());
+        assertEquals(team.getId(), page.getEntries().get(0).getId());
+        assertEquals("Rank Team", page.getEntries().get(0).getName());
+        assertEquals(10, page.getEntries().get(0).getScore());
+        assertEquals(otherTeam.getId(), page.getEntries().get(1).getId());
+    }
+
+    // ===================== INCREMENTAL UPDATE TESTS =====================
+
+    @Test
+    void getStudentPage_AfterAchievement_UpdatesLoadedBoard() {
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+
+        awardToUser(carol, badge);
+
+        LeaderboardEntryDTO top = leaderboardService.getStudentPage(course.getId(), 0, 1).getEntries().get(0);
+        assertEntry(top, carol, 10, 1);
+    }
+
+    @Test
+    void getStudentPage_AfterStoryCompletion_UpdatesLoadedBoard() {
+        UserStoryResponseDTO story = userStoryService.createUserStory(createStoryRequest("Login", bob, 2));
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+
+        userStoryService.moveToNextStatus(story.getId());
+        userStoryService.moveToNextStatus(story.getId());
+        userStoryService.moveToNextStatus(story.getId());
+
+        LeaderboardEntryDTO top = leaderboardService.getStudentPage(course.getId(), 0, 1).getEntries().get(0);
+        assertEntry(top, bob, 35, 1);
+    }
+
+    @Test
+    void getStudentPage_AfterMemberLeaves_RecomputesTeamShares() {
+        awardToTeam(badgeRepository.save(new Badge("Team Badge", "Description", 30, BadgeType.MANUAL, teacher)));
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+
+        teamService.removeMemberFromTeam(team.getId(), bob.getId());
+
+        LeaderboardPageDTO page = leaderboardService.getStudentPage(course.getId(), 0, 10);
+        assertEquals(2, page.getTotal());
+        assertEntry(page.getEntries().get(0), alice, 30, 1);
+        assertThrows(ResourceNotFoundException.class,
+                () -> leaderboardService.getStudentNeighbourhood(course.getId(), bob.getId(), 1));
+    }
+
+    @Test
+    void getStudentPage_AfterEnrollment_AddsStudent() {
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+        User dave = sprintFixture.createStudent("Dave", "Rank");
+
+        enrollmentService.enrollStudent(course.getId(), dave.getId());
+
+        assertEquals(4, leaderboardService.getStudentPage(course.getId(), 0, 10).getTotal());
+    }
+
+    @Test
+    void getStudentPage_AfterBadgeChange_RebuildsBoard() {
+        awardToUser(alice, badge);
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+        Badge changed = badgeRepository.findById(badge.getId()).orElseThrow();
+        changed.setPoints(40);
+        entityManager.flush();
+
+        leaderboardService.badgeChanged(badge.getId());
+
+        LeaderboardEntryDTO top = leaderboardService.getStudentPage(course.getId(), 0, 1).getEntries().get(0);
+        assertEntry(top, alice, 40, 1);
+    }
+
+    @Test
+    void getStudentPage_ReadOfOtherCourse_KeepsChangesPending() {
+        Course other = courseRepository.save(
+                new Course("Other Rank Course", "RC102", "Description", Semester.FIRST, "2024", teacher));
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+        leaderboardService.getStudentPage(other.getId(), 0, 10);
+
+        awardToUser(carol, badge);
+        assertEquals(0, leaderboardService.getStudentPage(other.getId(), 0, 10).getTotal());
+
+        LeaderboardEntryDTO top = leaderboardService.getStudentPage(course.getId(), 0, 1).getEntries().get(0);
+        assertEntry(top, carol, 10, 1);
+    }
+
+    @Test
+    void getStudentPage_WithoutChanges_RunsNoStatements() {
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+
+        SqlStatementRecorder.start();
+        leaderboardService.getStudentPage(course.getId(), 0, 10);
+        leaderboardService.getStudentNeighbourhood(course.getId(), alice.getId(), 1);
+        int statements = SqlStatementRecorder.stop().getStatements();
+
+        assertEquals(0, statements);
+    }
+
+    // ===================== NEIGHBOURHOOD AND PAGING TESTS =====================
+
+    @Test
+    void getStudentNeighbourhood_ReturnsEntriesAroundStudent() {
+        completeStory("Login", bob, 1);
+        awardToUser(alice, badge);
+
+        LeaderboardPageDTO page = leaderboardService.getStudentNeighbourhood(course.getId(), alice.getId(), 1);
+
+        assertEquals(0, page.getOffset());
+        assertEquals(List.of(bob.getId(), alice.getId(), carol.getId()),
+                page.getEntries().stream().map(LeaderboardEntryDTO::getId).toList());
+        assertEquals(2, page.getEntries().get(1).getRank());
+    }
+
+    @Test
+    void getStudentPage_SecondPage_KeepsRanks() {
+        completeStory("Login", bob, 1);
+        awardToUser(alice, badge);
+
+        LeaderboardPageDTO page = leaderboardService.getStudentPage(course.getId(), 1, 1);
+
+        assertEquals(1, page.getOffset());
+        assertEntry(page.getEntries().get(0), alice, 10, 2);
+    }
+
+    @Test
+    void getStudentPage_UnknownCourse_ThrowsException() {
+        assertThrows(ResourceNotFoundException.class, () -> leaderboardService.getStudentPage(999999L, 0, 10));
+    }
+
+    @Test
+    void getStudentPage_LimitOutOfRange_ThrowsException() {
+        assertThrows(BusinessLogicException.class, () -> leaderboardService.getStudentPage(course.getId(), 0, 0));
+        assertThrows(BusinessLogicException.class, () -> leaderboardService.getStudentPage(course.getId(), 0, 101));
+        assertThrows(BusinessLogicException.class, () -> leaderboardService.getStudentPage(course.getId(), -1, 10));
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private void awardToUser(User user, Badge awarded) {
+        achievementService.createAchievement(new AchievementRequestDTO("Well done", awarded.getId(), user.getId(),
+                null, project.getId(), null, teacher.getId()));
+    }
+
+    private void awardToTeam(Badge awarded) {
+        achievementService.createAchievement(new AchievementRequestDTO("Well done", awarded.getId(), null,
+                team.getId(), project.getId(), null, teacher.getId()));
+    }
+
+    private void completeStory(String title, User assignee, int storyPoints) {
+        UserStoryRequestDTO request = createStoryRequest(title, assignee, storyPoints);
+        request.setStatus(StoryStatus.DONE);
+        userStoryService.createUserStory(request);
+    }
+
+    private UserStoryRequestDTO createStoryRequest(String title, User assignee, int storyPoints) {
+        UserStoryRequestDTO request = scene.storyRequest(title, storyPoints);
+        request.setAssignedToUserId(assignee.getId());
+        return request;
+    }
+
+    private static void assertEntry(LeaderboardEntryDTO entry, User user, int score, int rank) {
+        assertEquals(user.getId(), entry.getId());
+        assertEquals(user.getFirstName() + " Rank", entry.getName());
+        assertEquals(score, entry.getScore());
+        assertEquals(rank, entry.getRank());
+    }
+}
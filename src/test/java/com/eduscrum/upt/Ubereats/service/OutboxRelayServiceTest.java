@@ -0,0 +1,223 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.AppConstants;
+import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the transactional outbox (OutboxService,
+ * OutboxRelayService and OutboxEventHandler).
+ *
+ * @author UberEats
+ * @version 0.2.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OutboxRelayServiceTest {
+
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private AnalyticRepository analyticRepository;
+
+    @Autowired
+    private SprintRollupRepository sprintRollupRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    private User teacher;
+    private Project project;
+    private Sprint sprint;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+
+        teacher = new User();
+        teacher.setFirstName("Prof");
+        teacher.setLastName("Outbox");
+        teacher.setEmail("prof@outbox.com");
+        teacher.setUsername("profoutbox");
+        teacher.setPassword("password");
+        teacher.setRole(UserRole.TEACHER);
+        teacher = userRepository.save(teacher);
+
+        Course course = courseRepository.save(
+                new Course("Outbox Course", "OC101", "Description", Semester.FIRST, "2024", teacher));
+
+        project = projectRepository.save(new Project("Outbox Project", "Description", LocalDate.now(),
+                LocalDate.now().plusMonths(3), course));
+
+        sprint = new Sprint();
+        sprint.setSprintNumber(1);
+        sprint.setName("Sprint 1");
+        sprint.setStartDate(LocalDate.now());
+        sprint.setEndDate(LocalDate.now().plusDays(14));
+        sprint.setStatus(SprintStatus.IN_PROGRESS);
+        sprint.setProject(project);
+        sprint = sprintRepository.save(sprint);
+
+        team = new Team("Outbox Team");
+        team.getProjects().add(project);
+        team = teamRepository.save(team);
+    }
+
+    // ===================== APPEND TESTS =====================
+
+    @Test
+    void createUserStory_AppendsEventInsteadOfUpdatingAnalytics() {
+        createStory("Story", 5);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(1, events.size());
+        assertEquals(OutboxEventType.STORY_CHANGED, events.get(0).getType());
+        assertEquals(sprint.getId(), events.get(0).getSprintId());
+        assertTrue(analyticRepository.findLatestByTeamAndSprint(team.getId(), sprint.getId()).isEmpty());
+    }
+
+    @Test
+    void completeSprint_AppendsSprintCompletedEvent() {
+        sprintService.completeSprint(sprint.getId(), LocalDate.now(), null);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(1, events.size());
+        assertEquals(OutboxEventType.SPRINT_COMPLETED, events.get(0).getType());
+    }
+
+    // ===================== RELAY TESTS =====================
+
+    @Test
+    void drain_AppliesHandlersAndDeletesEvents() {
+        createStory("Story", 5);
+
+        assertEquals(1, outboxRelayService.drain());
+
+        assertTrue(outboxEventRepository.findAll().isEmpty());
+        assertFalse(analyticRepository.findLatestByTeamAndSprint(team.getId(), sprint.getId()).isEmpty());
+    }
+
+    @Test
+    void drain_CoalescesEventsWithSameEffect() {
+        createStory("First", 3);
+        createStory("Second", 5);
+        createStory("Third", 8);
+
+        assertEquals(3, outboxRelayService.drain());
+
+        assertTrue(outboxEventRepository.findAll().isEmpty());
+        Analytic analytic = analyticRepository.findLatestByTeamAndSprint(team.getId(), sprint.getId()).get(0);
+        assertEquals(16, analytic.getTotalStoryPoints().intValue());
+    }
+
+    @Test
+    void drain_SprintCompleted_FinalizesRollup() {
+        sprintService.completeSprint(sprint.getId(), LocalDate.now(), null);
+
+        outboxRelayService.drain();
+
+        assertTrue(sprintRollupRepository.findBySprintId(sprint.getId()).orElseThrow().getFinalized());
+    }
+
+    @Test
+    void refreshMetrics_PublishesBacklogGauge() {
+        createStory("First", 3);
+        createStory("Second", 5);
+
+        outboxRelayService.refreshMetrics();
+
+        assertEquals(2, outboxRelayService.getBacklog());
+        assertEquals(2.0, meterRegistry.get("outbox.backlog").gauge().value());
+    }
+
+    @Test
+    void relay_WithoutLease_StillRefreshesGauges() {
+        assertTrue(jobLeaseService.tryAcquire(AppConstants.JOB_OUTBOX_RELAY, "other-node").isPresent());
+        createStory("First", 3);
+
+        outboxRelayService.relay();
+
+        assertEquals(1, outboxRelayService.getBacklog());
+        assertEquals(1.0, meterRegistry.get("outbox.backlog").gauge().value());
+    }
+
+    // ===================== RETRY TESTS =====================
+
+    @Test
+    void recordFailure_BacksOffThenDeadLetters() {
+        OutboxEvent event = new OutboxEvent(OutboxEventType.PROJECT_COMPLETED, null, null, project.getId());
+        LocalDateTime now = LocalDateTime.now();
+
+        event.recordFailure("boom", now, 3);
+        assertEquals(OutboxStatus.PENDING, event.getStatus());
+        assertEquals(now.plusSeconds(2), event.getAvailableAt());
+
+        event.recordFailure("boom", now, 3);
+        assertEquals(now.plusSeconds(4), event.getAvailableAt());
+
+        event.recordFailure("boom", now, 3);
+        assertEquals(OutboxStatus.FAILED, event.getStatus());
+        assertEquals(3, event.getAttempts());
+        assertEquals("boom", event.getLastError());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private void createStory(String title, int points) {
+        UserStoryRequestDTO request = new UserStoryRequestDTO();
+        request.setSprintId(sprint.getId());
+        request.setTeamId(team.getId());
+        request.setCreatedByUserId(teacher.getId());
+        request.setTitle(title);
+        request.setDescription("Description for " + title);
+        request.setStoryPoints(points);
+        request.setStatus(StoryStatus.TODO);
+        request.setPriority(StoryPriority.MEDIUM);
+        userStoryService.createUserStory(request);
+    }
+}
@@ -0,0 +1,113 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pure unit tests for PasswordHashingService.
+ * Uses a low BCrypt cost and a small pool to exercise the bounds.
+ *
+ * @author UberEats
+ * @version 0.2.0
+ */
+class PasswordHashingServiceTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    // ===================== HASHING TESTS =====================
+
+    @Test
+    void hashAll_KeepsOrder() {
+        service = new PasswordHashingService(encoder, meterRegistry, 3, 2, 10, 5000);
+        List<String> raw = List.of("one111", "two222", "three3", "four44", "five55");
+
+        List<String> hashes = service.hashAll(raw);
+
+        assertEquals(5, hashes.size());
+        for (int i = 0; i < raw.size(); i++) {
+            assertTrue(encoder.matches(raw.get(i), hashes.get(i)));
+        }
+    }
+
+    @Test
+    void hashAll_SignInPoolSaturated_StillHashes() {
+        service = new PasswordHashingService(encoder, meterRegistry, 1, 1, 1, 5000);
+        service.submit(this::block);
+        service.submit(this::block);
+
+        List<String> hashes = service.hashAll(List.of("secret123"));
+
+        assertTrue(encoder.matches("secret123", hashes.get(0)));
+    }
+
+    @Test
+    void submit_RunsTaskAndRecordsLatency() {
+        service = new PasswordHashingService(encoder, meterRegistry, 2, 1, 10, 5000);
+        String hash = encoder.encode("secret123");
+
+        assertTrue(service.submit(() -> encoder.matches("secret123", hash)).join());
+        assertEquals(1, meterRegistry.get("auth.password.hash").timer().count());
+    }
+
+    // ===================== BOUNDS TESTS =====================
+
+    @Test
+    void submit_QueueFull_FailsWithOverloaded() {
+        service = new PasswordHashingService(encoder, meterRegistry, 1, 1, 1, 5000);
+        service.submit(this::block);
+        service.submit(this::block);
+
+        CompletableFuture<Boolean> rejected = service.submit(() -> true);
+
+        CompletionException error = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(ServiceOverloadedException.class, error.getCause());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    void submit_WaitedPastTimeout_IsNotRun() throws Exception {
+        service = new PasswordHashingService(encoder, meterRegistry, 1, 1, 5, 20);
+        service.submit(this::block);
+        CompletableFuture<Boolean> stale = service.submit(() -> true);
+
+        Thread.sleep(60);
+        release.countDown();
+
+        CompletionException error = assertThrows(CompletionException.class, stale::join);
+        assertInstanceOf(ServiceOverloadedException.class, error.getCause());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").tag("reason", "timeout").counter().count());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private Boolean block() {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.repository.RefreshTokenRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RefreshTokenService.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("refresher", "refresher@test.com", "password", UserRole.STUDENT,
+                "Re", "Fresher", "9911111"));
+    }
+
+    // ===================== ROTATION TESTS =====================
+
+    @Test
+    void issue_StoresOnlyTheHash() {
+        String token = refreshTokenService.issue(user);
+
+        assertEquals(1, refreshTokenRepository.count());
+        assertNotEquals(token, refreshTokenRepository.findAll().get(0).getTokenHash());
+    }
+
+    @Test
+    void rotate_ReturnsNewTokenForSameUser() {
+        String token = refreshTokenService.issue(user);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(token);
+
+        assertEquals(user.getId(), rotation.user().getId());
+        assertNotEquals(token, rotation.refreshToken());
+        assertDoesNotThrow(() -> refreshTokenService.rotate(rotation.refreshToken()));
+    }
+
+    @Test
+    void rotate_ReusedToken_RevokesFamily() {
+        String token = refreshTokenService.issue(user);
+        String next = refreshTokenService.rotate(token).refreshToken();
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(token));
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(next));
+    }
+
+    @Test
+    void rotate_UnknownToken_ThrowsException() {
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate("not-a-token"));
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(null));
+    }
+
+    @Test
+    void rotate_DeactivatedUser_ThrowsException() {
+        String token = refreshTokenService.issue(user);
+        user.setIsActive(false);
+        userRepository.saveAndFlush(user);
+
+        assertThrows(DisabledException.class, () -> refreshTokenService.rotate(token));
+    }
+
+    @Test
+    void revoke_TokenCanNoLongerBeUsed() {
+        String token = refreshTokenService.issue(user);
+
+        refreshTokenService.revoke(token);
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(token));
+    }
+}
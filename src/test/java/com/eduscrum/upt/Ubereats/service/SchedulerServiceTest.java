@@ -1,5 +1,6 @@
 package com.eduscrum.upt.Ubereats.service;
 
+import com.eduscrum.upt.Ubereats.config.AppConstants;
 import com.eduscrum.upt.Ubereats.entity.*;
 import com.eduscrum.upt.Ubereats.entity.enums.*;
 import com.eduscrum.upt.Ubereats.repository.*;
@@ -11,6 +12,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,7 +21,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Uses H2 in-memory database for testing.
  *
  * @author UberEats
- * @version 1.1.0
+ * @version 1.3.0 (2026-10-18)
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -41,6 +43,15 @@ class SchedulerServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
     private User teacher;
     private Course course;
     private Project project;
@@ -151,4 +162,117 @@ class SchedulerServiceTest {
 
         assertDoesNotThrow(() -> schedulerService.checkOverdueSprints());
     }
+
+    @Test
+    void checkOverdueSprints_RecordsJobRun() {
+        createSprint("Overdue Sprint", LocalDate.now().minusDays(20), LocalDate.now().minusDays(1),
+                SprintStatus.IN_PROGRESS);
+
+        schedulerService.checkOverdueSprints();
+
+        JobRun run = jobRunRepository.findFirstByJobNameOrderByIdDesc("sprint-overdue-check").orElseThrow();
+        assertEquals(JobRunStatus.SUCCESS, run.getStatus());
+        assertEquals(1, run.getRowsProcessed());
+        assertEquals(1, run.getChunks());
+    }
+
+    // ===================== SPRINT LIFECYCLE TESTS =====================
+
+    @Test
+    void startReadySprints_StartsPlannedSprintsWhoseStartDateArrived() {
+        Sprint ready = createSprint("Ready Sprint", LocalDate.now(), LocalDate.now().plusDays(14),
+                SprintStatus.PLANNED);
+        Sprint future = createSprint("Future Sprint", LocalDate.now().plusDays(15), LocalDate.now().plusDays(29),
+                SprintStatus.PLANNED);
+
+        int started = schedulerService.startReadySprints();
+
+        assertEquals(1, started);
+        assertEquals(SprintStatus.IN_PROGRESS, sprintRepository.findById(ready.getId()).orElseThrow().getStatus());
+        assertEquals(SprintStatus.PLANNED, sprintRepository.findById(future.getId()).orElseThrow().getStatus());
+        JobRun run = jobRunRepository.findFirstByJobNameOrderByIdDesc("sprint-auto-start").orElseThrow();
+        assertEquals(1, run.getRowsProcessed());
+    }
+
+    @Test
+    void startReadySprintsChunk_IsBoundedByChunkSize() {
+        createSprint("Ready 1", LocalDate.now().minusDays(2), LocalDate.now().plusDays(12), SprintStatus.PLANNED);
+        createSprint("Ready 2", LocalDate.now().minusDays(1), LocalDate.now().plusDays(13), SprintStatus.PLANNED);
+        createSprint("Ready 3", LocalDate.now(), LocalDate.now().plusDays(14), SprintStatus.PLANNED);
+
+        assertEquals(2, sprintService.startReadySprintsChunk(LocalDate.now(), 2));
+        assertEquals(1, sprintService.startReadySprintsChunk(LocalDate.now(), 2));
+        assertEquals(0, sprintService.startReadySprintsChunk(LocalDate.now(), 2));
+        assertEquals(3, sprintRepository.findByStatus(SprintStatus.IN_PROGRESS).size());
+    }
+
+    @Test
+    void completeReadySprints_CompletesSprintsOnTheirEndDate() {
+        Sprint ending = createSprint("Ending Sprint", LocalDate.now().minusDays(14), LocalDate.now().minusDays(1),
+                SprintStatus.IN_PROGRESS);
+        Sprint running = createSprint("Running Sprint", LocalDate.now().minusDays(5), LocalDate.now().plusDays(9),
+                SprintStatus.IN_PROGRESS);
+
+        int completed = schedulerService.completeReadySprints();
+
+        assertEquals(1, completed);
+        Sprint reloaded = sprintRepository.findById(ending.getId()).orElseThrow();
+        assertEquals(SprintStatus.COMPLETED, reloaded.getStatus());
+        assertEquals(ending.getEndDate(), reloaded.getCompletedAt());
+        assertEquals(SprintStatus.IN_PROGRESS, sprintRepository.findById(running.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void runSprintLifecycle_RecordsEveryJob() {
+        schedulerService.runSprintLifecycle();
+
+        assertTrue(jobRunRepository.findFirstByJobNameOrderByIdDesc("sprint-auto-complete").isPresent());
+        assertTrue(jobRunRepository.findFirstByJobNameOrderByIdDesc("sprint-auto-start").isPresent());
+        assertTrue(jobRunRepository.findFirstByJobNameOrderByIdDesc("sprint-overdue-check").isPresent());
+    }
+
+    // ===================== LEASE TESTS =====================
+
+    @Test
+    void startReadySprints_LeaseHeldByOtherNode_Skips() {
+        Sprint ready = createSprint("Ready Sprint", LocalDate.now(), LocalDate.now().plusDays(14),
+                SprintStatus.PLANNED);
+        jobLeaseService.tryAcquire("sprint-auto-start", "other-node");
+
+        assertEquals(0, schedulerService.startReadySprints());
+        assertEquals(SprintStatus.PLANNED, sprintRepository.findById(ready.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void completeReadySprints_RecordsNodeAndToken_AndReleasesLease() {
+        schedulerService.completeReadySprints();
+
+        JobRun run = jobRunRepository.findFirstByJobNameOrderByIdDesc("sprint-auto-complete").orElseThrow();
+        assertEquals(jobLeaseService.getNodeId(), run.getNodeId());
+        assertNotNull(run.getFencingToken());
+        assertTrue(jobLeaseService.tryAcquire("sprint-auto-complete", "other-node").isPresent());
+    }
+
+    @Test
+    void runSprintLifecycle_SlotAlreadyRunByAnotherNode_Skips() {
+        schedulerService.runSprintLifecycle();
+        Sprint ready = createSprint("Ready Sprint", LocalDate.now(), LocalDate.now().plusDays(14),
+                SprintStatus.PLANNED);
+
+        schedulerService.runSprintLifecycle();
+
+        assertEquals(SprintStatus.PLANNED, sprintRepository.findById(ready.getId()).orElseThrow().getStatus());
+    }
+
+    // ===================== TRIGGER SLOT TESTS =====================
+
+    @Test
+    void triggerSlot_ReturnsLatestFireTimeAtOrBeforeNow() {
+        LocalDateTime now = LocalDateTime.of(2026, 10, 18, 0, 0, 3);
+
+        assertEquals(LocalDateTime.of(2026, 10, 18, 0, 0),
+                SchedulerService.triggerSlot(AppConstants.CRON_DAILY_MIDNIGHT, now));
+        assertEquals(LocalDateTime.of(2026, 10, 17, 2, 30),
+                SchedulerService.triggerSlot(AppConstants.CRON_DAILY_ANALYTICS_COMPACTION, now));
+    }
 }
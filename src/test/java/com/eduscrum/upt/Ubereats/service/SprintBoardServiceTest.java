@@ -0,0 +1,219 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.SqlStatementRecorder;
+import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.response.SprintBoardResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for SprintBoardService.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.2.0 (2026-10-18)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SprintBoardServiceTest {
+
+    @Autowired
+    private SprintBoardService sprintBoardService;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SprintFixture sprintFixture;
+
+    private SprintFixture.Scene scene;
+    private User student;
+    private Sprint sprint;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        sprintBoardService.evictAll();
+
+        scene = sprintFixture.create("Board");
+        student = scene.student();
+        team = scene.team();
+        sprint = scene.sprint();
+        sprint.setStatus(SprintStatus.IN_PROGRESS);
+        sprint = sprintRepository.save(sprint);
+
+        // Reload the team with its members on first use
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // ===================== BOARD CONTENT TESTS =====================
+
+    @Test
+    void getBoard_GroupsStoriesByStatusWithStats() {
+        UserStoryRequestDTO assigned = scene.storyRequest("Login", 5);
+        assigned.setAssignedToUserId(student.getId());
+        userStoryService.createUserStory(assigned);
+        UserStoryResponseDTO inProgress = userStoryService.createUserStory(scene.storyRequest("Signup", 3));
+        userStoryService.moveToNextStatus(inProgress.getId());
+        UserStoryResponseDTO done = userStoryService.createUserStory(scene.storyRequest("Logout", 2));
+        userStoryService.moveToNextStatus(done.getId());
+        userStoryService.moveToNextStatus(done.getId());
+        userStoryService.moveToNextStatus(done.getId());
+
+        SprintBoardResponseDTO board = sprintBoardService.getBoard(sprint.getId());
+
+        assertEquals("Sprint 1", board.getSprint().getName());
+        assertEquals(StoryStatus.values().length, board.getColumns().size());
+        assertEquals("Login", board.getColumns().get(StoryStatus.TODO).get(0).getTitle());
+        assertEquals("Student Board", board.getColumns().get(StoryStatus.TODO).get(0).getAssignedUserName());
+        assertEquals("Signup", board.getColumns().get(StoryStatus.IN_PROGRESS).get(0).getTitle());
+        assertTrue(board.getColumns().get(StoryStatus.IN_REVIEW).isEmpty());
+        assertEquals("Logout", board.getColumns().get(StoryStatus.DONE).get(0).getTitle());
+
+        SprintBoardResponseDTO.BoardStats stats = board.getStats();
+        assertEquals(3, stats.getTotalStories());
+        assertEquals(1, stats.getCompletedStories());
+        assertEquals(2, stats.getUnassignedStories());
+        assertEquals(10, stats.getTotalStoryPoints());
+        assertEquals(2, stats.getCompletedStoryPoints());
+        assertEquals(8, stats.getRemainingStoryPoints());
+        assertEquals(20.0, stats.getCompletionPercentage(), 0.001);
+        assertEquals(3, stats.getPointsByStatus().get(StoryStatus.IN_PROGRESS));
+
+        assertEquals(1, board.getMembers().size());
+        assertEquals(student.getId(), board.getMembers().get(0).getUserId());
+    }
+
+    @Test
+    void getBoard_IncludesLatestAnalytics() {
+        userStoryService.createUserStory(scene.storyRequest("Login", 5));
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+
+        SprintBoardResponseDTO board = sprintBoardService.getBoard(sprint.getId());
+
+        assertNotNull(board.getLatestAnalytics());
+        assertEquals(1, board.getLatestAnalytics().getTotalTasks());
+        assertEquals(LocalDate.now(), board.getLatestAnalytics().getRecordedDate());
+    }
+
+    @Test
+    void getBoard_NoStories_ReturnsEmptyColumns() {
+        SprintBoardResponseDTO board = sprintBoardService.getBoard(sprint.getId());
+
+        assertTrue(board.getColumns().values().stream().allMatch(List::isEmpty));
+        assertEquals(0, board.getStats().getTotalStories());
+        assertEquals(0.0, board.getStats().getCompletionPercentage());
+        assertNull(board.getLatestAnalytics());
+    }
+
+    @Test
+    void getBoard_UnknownSprint_ThrowsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> sprintBoardService.getBoard(999999L));
+    }
+
+    @Test
+    void getBoard_BuiltFromFewQueries() {
+        for (int i = 0; i < 5; i++) {
+            UserStoryRequestDTO request = scene.storyRequest("Story " + i, i + 1);
+            request.setAssignedToUserId(student.getId());
+            userStoryService.createUserStory(request);
+        }
+        analyticsService.updateDailyAnalytic(sprint.getId(), team.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementRecorder.start();
+        SprintBoardResponseDTO board = sprintBoardService.getBoard(sprint.getId());
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.stop();
+
+        assertEquals(5, board.getStats().getTotalStories());
+        // Version, sprint, stories, members, latest analytics
+        assertTrue(recording.getStatements() <= 5, "statements: " + recording.getStatements());
+    }
+
+    // ===================== CACHE TESTS =====================
+
+    @Test
+    void getBoard_SameVersion_ServedFromCache() {
+        userStoryService.createUserStory(scene.storyRequest("Login", 5));
+        SprintBoardResponseDTO first = sprintBoardService.getBoard(sprint.getId());
+
+        SqlStatementRecorder.start();
+        SprintBoardResponseDTO second = sprintBoardService.getBoard(sprint.getId());
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.stop();
+
+        assertSame(first, second);
+        assertEquals(1, recording.getStatements());
+    }
+
+    @Test
+    void getBoard_AfterStoryMove_IsRebuilt() {
+        UserStoryResponseDTO story = userStoryService.createUserStory(scene.storyRequest("Login", 5));
+        SprintBoardResponseDTO before = sprintBoardService.getBoard(sprint.getId());
+
+        userStoryService.moveToNextStatus(story.getId());
+        SprintBoardResponseDTO after = sprintBoardService.getBoard(sprint.getId());
+
+        assertTrue(after.getVersion() > before.getVersion());
+        assertTrue(after.getColumns().get(StoryStatus.TODO).isEmpty());
+        assertEquals(1, after.getColumns().get(StoryStatus.IN_PROGRESS).size());
+    }
+
+    @Test
+    void getBoard_AfterStoryMovedToOtherSprint_RebuildsBothBoards() {
+        Project project = projectRepository.findById(sprint.getProject().getId()).orElseThrow();
+        Sprint other = sprintRepository.save(new Sprint(2, "Sprint 2", null, LocalDate.now().plusDays(15),
+                LocalDate.now().plusDays(28), project));
+        UserStoryResponseDTO story = userStoryService.createUserStory(scene.storyRequest("Login", 5));
+        sprintBoardService.getBoard(sprint.getId());
+        sprintBoardService.getBoard(other.getId());
+
+        UserStoryRequestDTO move = scene.storyRequest("Login", 5);
+        move.setSprintId(other.getId());
+        userStoryService.updateUserStory(story.getId(), move);
+
+        assertEquals(0, sprintBoardService.getBoard(sprint.getId()).getStats().getTotalStories());
+        assertEquals(1, sprintBoardService.getBoard(other.getId()).getStats().getTotalStories());
+    }
+
+    @Test
+    void getBoard_AfterMemberRemoved_IsRebuilt() {
+        assertEquals(1, sprintBoardService.getBoard(sprint.getId()).getMembers().size());
+
+        teamService.removeMemberFromTeam(team.getId(), student.getId());
+
+        assertTrue(sprintBoardService.getBoard(sprint.getId()).getMembers().isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.repository.*;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Test fixture building the teacher, course, team, project, sprint and
+ * developer that service tests around a sprint start from. Entities are
+ * saved in the caller's test transaction.
+ *
+ * @author Joao
+ * @author Ana
+ * @version 0.1.0 (2026-10-18)
+ */
+@Component
+class SprintFixture {
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final TeamRepository teamRepository;
+    private final ProjectRepository projectRepository;
+    private final SprintRepository sprintRepository;
+    private final TeamMemberRepository teamMemberRepository;
+
+    SprintFixture(UserRepository userRepository, CourseRepository courseRepository, TeamRepository teamRepository,
+            ProjectRepository projectRepository, SprintRepository sprintRepository,
+            TeamMemberRepository teamMemberRepository) {
+        this.userRepository = userRepository;
+        this.courseRepository = courseRepository;
+        this.teamRepository = teamRepository;
+        this.projectRepository = projectRepository;
+        this.sprintRepository = sprintRepository;
+        this.teamMemberRepository = teamMemberRepository;
+    }
+
+    /**
+     * The saved entities of one fixture.
+     *
+     * @param teacher The teacher of the course
+     * @param student The developer of the team
+     * @param course  The course
+     * @param team    The team working on the project
+     * @param project The project of the course
+     * @param sprint  Sprint 1 of the project
+     */
+    record Scene(User teacher, User student, Course course, Team team, Project project, Sprint sprint) {
+
+        /** Builds a request for a 3-point story in the sprint. */
+        UserStoryRequestDTO storyRequest(String title) {
+            return storyRequest(title, 3);
+        }
+
+        /** Builds a request for a story in the sprint, created by the teacher. */
+        UserStoryRequestDTO storyRequest(String title, int points) {
+            UserStoryRequestDTO request = new UserStoryRequestDTO();
+            request.setSprintId(sprint.getId());
+            request.setTeamId(team.getId());
+            request.setCreatedByUserId(teacher.getId());
+            request.setTitle(title);
+            request.setDescription("Description for " + title);
+            request.setStoryPoints(points);
+            request.setPriority(StoryPriority.MEDIUM);
+            return request;
+        }
+    }
+
+    /**
+     * Builds a fixture whose developer is called "Student".
+     *
+     * @param label Name of the fixture, used in every name, e.g. "Board"
+     * @return The saved entities
+     */
+    Scene create(String label) {
+        return create(label, "Student");
+    }
+
+    /**
+     * Builds a fixture. Names derive from the label, e.g. "Board" gives the
+     * teacher "profboard", course "Board Course" (BC101) and team "Board
+     * Team"; the developer is named {@code <firstName> <label>}.
+     *
+     * @param label            Name of the fixture
+     * @param studentFirstName First name of the developer
+     * @return The saved entities
+     */
+    Scene create(String label, String studentFirstName) {
+        User teacher = userRepository.save(new User(username("prof", label), "prof@" + domain(label), "password",
+                UserRole.TEACHER, "Prof", label));
+        User student = createStudent(studentFirstName, label);
+
+        Course course = courseRepository.save(new Course(label + " Course", label.charAt(0) + "C101",
+                "Description", Semester.FIRST, "2024", teacher));
+        Team team = teamRepository.save(new Team(label + " Team"));
+
+        Project project = new Project(label + " Project", "Project for " + label, LocalDate.now(),
+                LocalDate.now().plusMonths(3), course);
+        project.setTeam(team);
+        project = projectRepository.save(project);
+
+        Sprint sprint = sprintRepository.save(new Sprint(1, "Sprint 1", "Sprint of " + label, LocalDate.now(),
+                LocalDate.now().plusDays(14), project));
+
+        addDeveloper(team, student);
+        return new Scene(teacher, student, course, team, project, sprint);
+    }
+
+    /**
+     * Saves a student outside any team.
+     *
+     * @param firstName First name, also the start of the username
+     * @param label     Last name and fixture name
+     * @return The saved student
+     */
+    User createStudent(String firstName, String label) {
+        String username = username(firstName, label);
+        return userRepository.save(new User(username, username + "@" + domain(label), "password", UserRole.STUDENT,
+                firstName, label));
+    }
+
+    /**
+     * Adds a user to a team as a developer.
+     *
+     * @param team The team
+     * @param user The new member
+     */
+    void addDeveloper(Team team, User user) {
+        teamMemberRepository.save(new TeamMember(team, user, ScrumRole.DEVELOPER));
+    }
+
+    private static String username(String prefix, String label) {
+        return (prefix + label).toLowerCase(Locale.ROOT);
+    }
+
+    private static String domain(String label) {
+        return label.toLowerCase(Locale.ROOT) + ".com";
+    }
+}
@@ -1,6 +1,8 @@
 package com.eduscrum.upt.Ubereats.service;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.request.SprintRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
 import com.eduscrum.upt.Ubereats.dto.response.SprintResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.Course;
 import com.eduscrum.upt.Ubereats.entity.Project;
@@ -30,7 +32,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Integration tests for SprintService.
  *
  * @author UberEats
- * @version 1.0.0
+ * @version 1.1.0 (2026-10-18)
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -193,6 +195,20 @@ class SprintServiceTest {
         assertEquals("Find Sprint", found.getName());
     }
 
+    @Test
+    void getSprintsByIds_KeepsRequestOrderAndReportsMissing() {
+        SprintResponseDTO first = createTestSprint(1, "Batch Sprint 1");
+        SprintResponseDTO second = createTestSprint(2, "Batch Sprint 2");
+
+        BatchResponseDTO<SprintResponseDTO> batch = sprintService.getSprintsByIds(
+                List.of(second.getId(), first.getId(), 999999L));
+
+        assertEquals(List.of(second.getId(), first.getId()),
+                batch.getItems().stream().map(SprintResponseDTO::getId).toList());
+        assertEquals("Sprint Project", batch.getItems().get(0).getProjectName());
+        assertEquals(List.of(999999L), batch.getMissingIds());
+    }
+
     @Test
     void getSprintById_NotFound_ThrowsException() {
         assertThrows(ResourceNotFoundException.class, () -> {
@@ -231,6 +247,22 @@ class SprintServiceTest {
         assertEquals(SprintStatus.PLANNED, plannedSprints.get(0).getStatus());
     }
 
+    @Test
+    void getSprintsByProject_WithFields_ComputesOnlySelectedFields() {
+        createTestSprint(1, "Sprint 1");
+
+        FieldSelection fields = FieldSelection.parse("displayName,daysRemaining", SprintResponseDTO.class);
+        SprintResponseDTO sprint = sprintService.getSprintsByProject(project.getId(), fields).get(0);
+
+        assertNotNull(sprint.getId());
+        assertEquals("Sprint 1: Sprint 1", sprint.getDisplayName());
+        assertNotNull(sprint.getDaysRemaining());
+        assertNull(sprint.getName());
+        assertNull(sprint.getTimeProgressPercentage());
+        assertNull(sprint.getStatusDescription());
+        assertNull(sprint.getProjectName());
+    }
+
     // ===================== EXISTENCE CHECKS =====================
 
     @Test
@@ -545,6 +577,20 @@ class SprintServiceTest {
         assertTrue(started.isEmpty());
     }
 
+    @Test
+    void startReadySprints_ReturnsSprintsInProgress() {
+        SprintRequestDTO request = createSprintRequest(1, "Started Today",
+                LocalDate.now(), LocalDate.now().plusDays(14));
+        SprintResponseDTO created = sprintService.createSprint(request);
+
+        List<SprintResponseDTO> started = sprintService.startReadySprints();
+
+        assertEquals(1, started.size());
+        assertEquals(created.getId(), started.get(0).getId());
+        assertEquals(SprintStatus.IN_PROGRESS, started.get(0).getStatus());
+        assertEquals(SprintStatus.IN_PROGRESS, sprintService.getSprintEntity(created.getId()).getStatus());
+    }
+
     // ===================== COMPLETE READY SPRINTS TESTS =====================
 
     @Test
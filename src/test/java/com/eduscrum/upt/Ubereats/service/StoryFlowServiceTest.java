@@ -0,0 +1,256 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.response.SprintFlowResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for StoryFlowService.
+ *
+ * @author UberEats
+ * @version 0.2.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StoryFlowServiceTest {
+
+    @Autowired
+    private StoryFlowService storyFlowService;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private StoryTransitionRepository storyTransitionRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private User teacher;
+    private Sprint sprint;
+    private Team team;
+    private Team otherTeam;
+
+    @BeforeEach
+    void setUp() {
+        storyTransitionRepository.deleteAll();
+        userStoryRepository.deleteAll();
+
+        teacher = new User();
+        teacher.setFirstName("Prof");
+        teacher.setLastName("Flow");
+        teacher.setEmail("prof@flow.com");
+        teacher.setUsername("profflow");
+        teacher.setPassword("password");
+        teacher.setRole(UserRole.TEACHER);
+        teacher = userRepository.save(teacher);
+
+        Course course = courseRepository.save(
+                new Course("Flow Course", "FC101", "Description", Semester.FIRST, "2024", teacher));
+
+        Project project = projectRepository.save(new Project("Flow Project", "Description", LocalDate.now(),
+                LocalDate.now().plusMonths(3), course));
+
+        sprint = new Sprint();
+        sprint.setSprintNumber(1);
+        sprint.setName("Sprint 1");
+        sprint.setStartDate(LocalDate.now());
+        sprint.setEndDate(LocalDate.now().plusDays(14));
+        sprint.setStatus(SprintStatus.IN_PROGRESS);
+        sprint.setProject(project);
+        sprint = sprintRepository.save(sprint);
+
+        team = new Team("Flow Team");
+        team.getProjects().add(project);
+        team = teamRepository.save(team);
+
+        otherTeam = teamRepository.save(new Team("Other Flow Team"));
+    }
+
+    // ===================== RECORDING TESTS =====================
+
+    @Test
+    void createUserStory_AppendsEntryTransition() {
+        createStory("Entry Story", 5, team);
+
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), null);
+
+        assertEquals(5, flow.getScopePoints());
+        assertEquals(0, flow.getCompletedPoints());
+        assertEquals(5, flow.getRemainingPoints());
+        assertFalse(flow.getPoints().isEmpty());
+    }
+
+    @Test
+    void moveToDone_UpdatesBurnupAndBurndown() {
+        UserStoryResponseDTO done = createStory("Done Story", 5, team);
+        createStory("Open Story", 3, team);
+
+        userStoryService.moveToNextStatus(done.getId());
+        userStoryService.moveToNextStatus(done.getId());
+        userStoryService.moveToNextStatus(done.getId());
+
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), team.getId());
+
+        assertEquals(8, flow.getScopePoints());
+        assertEquals(5, flow.getCompletedPoints());
+        assertEquals(3, flow.getRemainingPoints());
+        SprintFlowResponseDTO.FlowPoint last = flow.getPoints().get(flow.getPoints().size() - 1);
+        assertEquals(5, last.getPointsByStatus().get(StoryStatus.DONE));
+        assertEquals(3, last.getPointsByStatus().get(StoryStatus.TODO));
+    }
+
+    @Test
+    void getSprintFlow_FoldsNewTransitionsIncrementally() {
+        UserStoryResponseDTO story = createStory("Incremental Story", 4, team);
+        assertEquals(4, storyFlowService.getSprintFlow(sprint.getId(), null).getScopePoints());
+
+        UserStoryRequestDTO update = createStoryRequest("Incremental Story", 6, team);
+        update.setStatus(StoryStatus.IN_PROGRESS);
+        userStoryService.updateUserStory(story.getId(), update);
+
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), null);
+        assertEquals(6, flow.getScopePoints());
+        SprintFlowResponseDTO.FlowPoint last = flow.getPoints().get(flow.getPoints().size() - 1);
+        assertEquals(6, last.getPointsByStatus().get(StoryStatus.IN_PROGRESS));
+        assertEquals(0, last.getPointsByStatus().get(StoryStatus.TODO));
+    }
+
+    @Test
+    void deleteUserStory_RemovesScope() {
+        UserStoryResponseDTO story = createStory("Deleted Story", 5, team);
+        createStory("Kept Story", 2, team);
+
+        userStoryService.deleteUserStory(story.getId());
+
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), null);
+        assertEquals(2, flow.getScopePoints());
+    }
+
+    @Test
+    void getSprintFlow_FiltersByTeam() {
+        createStory("Team Story", 5, team);
+        createStory("Other Story", 8, otherTeam);
+
+        assertEquals(5, storyFlowService.getSprintFlow(sprint.getId(), team.getId()).getScopePoints());
+        assertEquals(8, storyFlowService.getSprintFlow(sprint.getId(), otherTeam.getId()).getScopePoints());
+        assertEquals(13, storyFlowService.getSprintFlow(sprint.getId(), null).getScopePoints());
+    }
+
+    @Test
+    void getSprintFlow_DoesNotWriteToLog() {
+        saveLegacyStory("Unread Legacy Story", 7, StoryStatus.DONE);
+
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), null);
+
+        assertEquals(0, flow.getScopePoints());
+        assertFalse(storyTransitionRepository.existsBySprintId(sprint.getId()));
+    }
+
+    // ===================== SEEDING TESTS =====================
+
+    @Test
+    void backfillUnloggedStories_SeedsLogForExistingStories() {
+        saveLegacyStory("Legacy Story", 7, StoryStatus.DONE);
+
+        assertEquals(1, storyFlowService.backfillUnloggedStories());
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), null);
+
+        assertEquals(7, flow.getScopePoints());
+        assertEquals(7, flow.getCompletedPoints());
+        assertTrue(storyTransitionRepository.existsBySprintId(sprint.getId()));
+    }
+
+    @Test
+    void backfillUnloggedStories_SeedsEachStoryOnce() {
+        UserStory legacy = saveLegacyStory("Seeded Once Story", 3, StoryStatus.IN_PROGRESS);
+        createStory("Logged Story", 2, team);
+
+        assertEquals(1, storyFlowService.backfillUnloggedStories());
+        assertEquals(0, storyFlowService.backfillUnloggedStories());
+
+        assertTrue(storyTransitionRepository.existsByStoryId(legacy.getId()));
+        assertEquals(5, storyFlowService.getSprintFlow(sprint.getId(), null).getScopePoints());
+    }
+
+    @Test
+    void recordChanged_SeedsLegacyStoryBeforeFirstChange() {
+        UserStory legacy = saveLegacyStory("Moved Legacy Story", 5, StoryStatus.TODO);
+        createStory("Logged Story", 3, team);
+        storyFlowService.getSprintFlow(sprint.getId(), null);
+
+        userStoryService.moveToNextStatus(legacy.getId());
+
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), null);
+        assertEquals(8, flow.getScopePoints());
+        for (SprintFlowResponseDTO.FlowPoint point : flow.getPoints()) {
+            assertTrue(point.getPointsByStatus().get(StoryStatus.TODO) >= 0);
+        }
+        SprintFlowResponseDTO.FlowPoint last = flow.getPoints().get(flow.getPoints().size() - 1);
+        assertEquals(3, last.getPointsByStatus().get(StoryStatus.TODO));
+        assertEquals(5, last.getPointsByStatus().get(StoryStatus.IN_PROGRESS));
+        assertEquals(0, storyFlowService.backfillUnloggedStories());
+    }
+
+    @Test
+    void getSprintFlow_EmptySprint_ReturnsEmptySeries() {
+        SprintFlowResponseDTO flow = storyFlowService.getSprintFlow(sprint.getId(), null);
+
+        assertEquals(0, flow.getScopePoints());
+        assertTrue(flow.getPoints().isEmpty());
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private UserStory saveLegacyStory(String title, int points, StoryStatus status) {
+        UserStory legacy = new UserStory(title, "Description", points, sprint, team, teacher);
+        legacy.setStatus(status);
+        return userStoryRepository.saveAndFlush(legacy);
+    }
+
+    private UserStoryRequestDTO createStoryRequest(String title, int points, Team storyTeam) {
+        UserStoryRequestDTO request = new UserStoryRequestDTO();
+        request.setSprintId(sprint.getId());
+        request.setTeamId(storyTeam.getId());
+        request.setCreatedByUserId(teacher.getId());
+        request.setTitle(title);
+        request.setDescription("Description for " + title);
+        request.setStoryPoints(points);
+        request.setStatus(StoryStatus.TODO);
+        request.setPriority(StoryPriority.MEDIUM);
+        return request;
+    }
+
+    private UserStoryResponseDTO createStory(String title, int points, Team storyTeam) {
+        return userStoryService.createUserStory(createStoryRequest(title, points, storyTeam));
+    }
+}
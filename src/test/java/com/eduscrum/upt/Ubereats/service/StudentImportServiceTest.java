@@ -0,0 +1,284 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.dto.response.StudentImportReportDTO;
+import com.eduscrum.upt.Ubereats.dto.response.StudentImportRowResultDTO;
+import com.eduscrum.upt.Ubereats.entity.Course;
+import com.eduscrum.upt.Ubereats.entity.CourseEnrollment;
+import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.entity.enums.ImportRowStatus;
+import com.eduscrum.upt.Ubereats.entity.enums.Semester;
+import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.CourseEnrollmentRepository;
+import com.eduscrum.upt.Ubereats.repository.CourseRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.security.AccessChecker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for StudentImportService.
+ *
+ * @author UberEats
+ * @version 0.2.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StudentImportServiceTest {
+
+    private static final String HEADER = "username,email,password,firstName,lastName\n";
+
+    @Autowired
+    private StudentImportService studentImportService;
+
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private StudentNumberAllocator studentNumberAllocator;
+
+    @Autowired
+    private AccessChecker accessChecker;
+
+    @Autowired
+    private AggregateVersionService aggregateVersionService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Course course;
+    private User existingStudent;
+
+    @BeforeEach
+    void setUp() {
+        User teacher = userRepository.save(new User("profimport", "prof@import.com", "password", UserRole.TEACHER,
+                "Prof", "Import"));
+        course = courseRepository.save(
+                new Course("Import Course", "IC101", "Description", Semester.FIRST, "2024", teacher));
+        existingStudent = userRepository.save(new User("existing", "existing@import.com", "password",
+                UserRole.STUDENT, "Existing", "Student", "9900001"));
+    }
+
+    // ===================== CSV IMPORT TESTS =====================
+
+    @Test
+    void importCsv_NewStudents_RegistersAndEnrolls() {
+        StudentImportReportDTO report = studentImportService.importCsv(course.getId(), csv(
+                "alice,alice@import.com,secret123,Alice,Silva",
+                "bob,bob@import.com,secret456,Bob,Costa",
+                "carol,carol@import.com,secret789,Carol,Pereira"), false);
+
+        assertEquals(3, report.getTotalRows());
+        assertEquals(3, report.getCreated());
+        User alice = userRepository.findByUsername("alice").orElseThrow();
+        assertEquals(UserRole.STUDENT, alice.getRole());
+        assertTrue(alice.getStudentNumber().matches("\\d{7}"));
+        assertTrue(passwordEncoder.matches("secret123", alice.getPassword()));
+        assertEquals(alice.getId(), report.getRows().get(0).getUserId());
+        assertEquals(alice.getStudentNumber(), report.getRows().get(0).getStudentNumber());
+        assertEquals(3, enrollmentRepository.findByCourseId(course.getId()).size());
+    }
+
+    @Test
+    void importCsv_ExistingStudents_EnrollsOnlyOnce() {
+        User enrolled = userRepository.save(new User("enrolled", "enrolled@import.com", "password",
+                UserRole.STUDENT, "Enrolled", "Student", "9900002"));
+        enrollmentRepository.save(new CourseEnrollment(course, enrolled));
+
+        StudentImportReportDTO report = studentImportService.importCsv(course.getId(), csv(
+                "existing,existing@import.com,secret123,Existing,Student",
+                "enrolled,enrolled@import.com,secret123,Enrolled,Student"), false);
+
+        assertEquals(ImportRowStatus.ENROLLED, report.getRows().get(0).getStatus());
+        assertEquals(existingStudent.getId(), report.getRows().get(0).getUserId());
+        assertEquals(ImportRowStatus.ALREADY_ENROLLED, report.getRows().get(1).getStatus());
+        assertEquals(2, enrollmentRepository.findByCourseId(course.getId()).size());
+    }
+
+    @Test
+    void importCsv_InvalidRows_AreRejectedInFileOrder() {
+        StudentImportReportDTO report = studentImportService.importCsv(course.getId(), csv(
+                "dave,dave@import.com,secret123,Dave,Sousa",
+                "eve,not-an-email,secret123,Eve,Lima",
+                "dave,dave2@import.com,secret123,Dave,Again",
+                "other,existing@import.com,secret123,Other,User",
+                "profimport,frank@import.com,secret123,Frank,Teacher",
+                "short,row"), false);
+
+        List<StudentImportRowResultDTO> rows = report.getRows();
+        assertEquals(6, rows.size());
+        assertEquals(1, report.getCreated());
+        assertEquals(5, report.getRejected());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(i + 1, rows.get(i).getRow());
+        }
+        assertEquals("Invalid email format", rows.get(1).getMessage());
+        assertTrue(rows.get(2).getMessage().contains("Duplicate username"));
+        assertTrue(rows.get(3).getMessage().contains("already registered"));
+        assertTrue(rows.get(4).getMessage().contains("already taken"));
+        assertEquals(ImportRowStatus.REJECTED, rows.get(5).getStatus());
+        assertEquals(1, enrollmentRepository.findByCourseId(course.getId()).size());
+    }
+
+    @Test
+    void importCsv_QuotedValuesAndColumnOrder() {
+        InputStream input = stream("lastName,firstName,email,username,password\n"
+                + "\"Silva, Jr\",\"Ana \"\"Nana\"\"\",ana@import.com,ana,secret123\n");
+
+        StudentImportReportDTO report = studentImportService.importCsv(course.getId(), input, false);
+
+        assertEquals(1, report.getCreated());
+        User ana = userRepository.findByUsername("ana").orElseThrow();
+        assertEquals("Silva, Jr", ana.getLastName());
+        assertEquals("Ana \"Nana\"", ana.getFirstName());
+    }
+
+    @Test
+    void importCsv_DryRun_ReportsWithoutWriting() {
+        StudentImportReportDTO report = studentImportService.importCsv(course.getId(), csv(
+                "alice,alice@import.com,secret123,Alice,Silva",
+                "existing,existing@import.com,secret123,Existing,Student"), true);
+
+        assertTrue(report.isDryRun());
+        assertEquals(ImportRowStatus.CREATED, report.getRows().get(0).getStatus());
+        assertNull(report.getRows().get(0).getUserId());
+        assertEquals(ImportRowStatus.ENROLLED, report.getRows().get(1).getStatus());
+        assertFalse(userRepository.existsByUsername("alice"));
+        assertTrue(enrollmentRepository.findByCourseId(course.getId()).isEmpty());
+    }
+
+    @Test
+    void importCsv_MissingColumn_ThrowsException() {
+        InputStream input = stream("username,email,password\nalice,alice@import.com,secret123\n");
+
+        assertThrows(BusinessLogicException.class,
+                () -> studentImportService.importCsv(course.getId(), input, false));
+    }
+
+    @Test
+    void importCsv_UnknownCourse_ThrowsException() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> studentImportService.importCsv(999999L, csv("a,a@import.com,secret123,A,B"), false));
+    }
+
+    // ===================== CONCURRENCY TESTS =====================
+
+    // Runs without the test transaction so a failed batch really rolls back
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void importCsv_ConcurrentRegistration_RetriesBatchRowByRow() {
+        PasswordHashingService hashing = mock(PasswordHashingService.class);
+        boolean[] raced = { false };
+        when(hashing.hashAll(anyList())).thenAnswer(invocation -> {
+            if (!raced[0]) {
+                // Another request registers "bob" after the batch was checked
+                raced[0] = true;
+                userRepository.save(new User("bob", "bob@elsewhere.com", "password", UserRole.STUDENT, "Bob",
+                        "Elsewhere", "9900003"));
+            }
+            List<String> raw = invocation.getArgument(0);
+            return raw.stream().map(passwordEncoder::encode).toList();
+        });
+        StudentImportService service = new StudentImportService(courseRepository, userRepository,
+                enrollmentRepository, userService, studentNumberAllocator, hashing, accessChecker,
+                aggregateVersionService, leaderboardService, jdbcTemplate, objectMapper, transactionManager, 2);
+
+        try {
+            StudentImportReportDTO report = service.importCsv(course.getId(), csv(
+                    "alice,alice@import.com,secret123,Alice,Silva",
+                    "bob,bob@import.com,secret456,Bob,Costa",
+                    "carol,carol@import.com,secret789,Carol,Pereira"), false);
+
+            List<StudentImportRowResultDTO> rows = report.getRows();
+            assertEquals(ImportRowStatus.CREATED, rows.get(0).getStatus());
+            assertEquals(ImportRowStatus.REJECTED, rows.get(1).getStatus());
+            assertTrue(rows.get(1).getMessage().contains("already taken"));
+            assertEquals(ImportRowStatus.CREATED, rows.get(2).getStatus());
+            User alice = userRepository.findByUsername("alice").orElseThrow();
+            assertEquals(alice.getId(), rows.get(0).getUserId());
+            assertTrue(passwordEncoder.matches("secret123", alice.getPassword()));
+            assertEquals(2, enrollmentRepository.findByCourseId(course.getId()).size());
+        } finally {
+            jdbcTemplate.update("DELETE FROM course_enrollments WHERE course_id = ?", course.getId());
+            jdbcTemplate.update("DELETE FROM courses WHERE id = ?", course.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE username IN ('profimport', 'existing', 'alice', 'bob', "
+                    + "'carol')");
+        }
+    }
+
+    // ===================== JSON IMPORT TESTS =====================
+
+    @Test
+    void importJson_NewStudents_RegistersAndEnrolls() {
+        InputStream input = stream("[{\"username\":\"gina\",\"email\":\"gina@import.com\",\"password\":\"secret123\","
+                + "\"firstName\":\"Gina\",\"lastName\":\"Reis\"},"
+                + "{\"username\":\"hugo\",\"email\":\"hugo@import.com\",\"password\":\"123\","
+                + "\"firstName\":\"Hugo\",\"lastName\":\"Neves\"}]");
+
+        StudentImportReportDTO report = studentImportService.importJson(course.getId(), input, false);
+
+        assertEquals(1, report.getCreated());
+        assertEquals(1, report.getRejected());
+        assertTrue(userRepository.existsByUsername("gina"));
+        assertTrue(enrollmentRepository.existsByCourseIdAndStudentId(course.getId(),
+                report.getRows().get(0).getUserId()));
+    }
+
+    @Test
+    void importJson_Malformed_ThrowsException() {
+        assertThrows(BusinessLogicException.class,
+                () -> studentImportService.importJson(course.getId(), stream("[{\"username\": "), false));
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private InputStream csv(String... lines) {
+        return stream(HEADER + String.join("\n", lines) + "\n");
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
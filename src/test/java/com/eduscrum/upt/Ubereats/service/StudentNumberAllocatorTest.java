@@ -0,0 +1,115 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.entity.NumberSequence;
+import com.eduscrum.upt.Ubereats.repository.NumberSequenceRepository;
+import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for StudentNumberAllocator.
+ * Not transactional: block reservations commit in their own transaction.
+ *
+ * @author UberEats
+ * @version 0.1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentNumberAllocatorTest {
+
+    @Autowired
+    private StudentNumberAllocator studentNumberAllocator;
+
+    @Autowired
+    private NumberSequenceRepository numberSequenceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // ===================== ALLOCATION TESTS =====================
+
+    @Test
+    void nextStudentNumber_YearPrefixAndSequential() {
+        String first = studentNumberAllocator.nextStudentNumber();
+        String second = studentNumberAllocator.nextStudentNumber();
+
+        String year = String.format("%02d", LocalDate.now().getYear() % 100);
+        assertTrue(first.matches("\\d{7}"));
+        assertTrue(first.startsWith(year));
+        assertEquals(Long.parseLong(first) + 1, Long.parseLong(second));
+    }
+
+    @Test
+    void nextStudentNumber_CounterIsAheadOfHandedOutNumbers() {
+        String number = studentNumberAllocator.nextStudentNumber();
+
+        NumberSequence sequence = numberSequenceRepository
+                .findById(StudentNumberAllocator.SEQUENCE_PREFIX + number.substring(0, 2)).orElseThrow();
+        assertTrue(sequence.getNextValue() > Long.parseLong(number.substring(2)));
+    }
+
+    @Test
+    void nextStudentNumber_TwoNodes_GetDisjointBlocks() {
+        StudentNumberAllocator nodeA = newNode(10);
+        StudentNumberAllocator nodeB = newNode(10);
+        Set<String> numbers = new HashSet<>();
+
+        for (int i = 0; i < 25; i++) {
+            assertTrue(numbers.add(nodeA.nextStudentNumber()));
+            assertTrue(numbers.add(nodeB.nextStudentNumber()));
+        }
+
+        assertEquals(50, numbers.size());
+    }
+
+    @Test
+    void nextStudentNumber_ConcurrentCallers_AreUnique() throws Exception {
+        StudentNumberAllocator nodeA = newNode(7);
+        StudentNumberAllocator nodeB = newNode(7);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                StudentNumberAllocator node = t % 2 == 0 ? nodeA : nodeB;
+                futures.add(executor.submit(() -> {
+                    List<String> numbers = new ArrayList<>();
+                    for (int i = 0; i < 40; i++) {
+                        numbers.add(node.nextStudentNumber());
+                    }
+                    return numbers;
+                }));
+            }
+
+            Set<String> all = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                all.addAll(future.get());
+            }
+            assertEquals(320, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private StudentNumberAllocator newNode(int blockSize) {
+        return new StudentNumberAllocator(numberSequenceRepository, userRepository, transactionManager, blockSize);
+    }
+}
@@ -34,7 +34,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Integration tests for TeamService.
  *
  * @author UberEats
- * @version 0.8.1
+ * @version 0.11.0 (2026-10-18)
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -503,4 +503,34 @@ class TeamServiceTest {
         List<TeamMember> activeMembers = teamService.getTeamMembers(team.getId());
         assertEquals(0, activeMembers.size());
     }
+
+    @Test
+    void closeTeamMemberships_MultipleTeams_ClosesAllInOneCall() {
+        CreateTeamRequest firstRequest = new CreateTeamRequest();
+        firstRequest.setName("Term Team A");
+        Team first = teamService.createTeam(firstRequest);
+        CreateTeamRequest secondRequest = new CreateTeamRequest();
+        secondRequest.setName("Term Team B");
+        Team second = teamService.createTeam(secondRequest);
+
+        AddMemberRequest member1 = new AddMemberRequest();
+        member1.setUserId(student1.getId());
+        member1.setRole(ScrumRole.DEVELOPER);
+        teamService.addMemberToTeam(first.getId(), member1);
+
+        AddMemberRequest member2 = new AddMemberRequest();
+        member2.setUserId(student2.getId());
+        member2.setRole(ScrumRole.DEVELOPER);
+        teamService.addMemberToTeam(second.getId(), member2);
+
+        int closed = teamService.closeTeamMemberships(List.of(first.getId(), second.getId()));
+
+        assertEquals(2, closed);
+        assertEquals(0, teamService.getTeamMembers(first.getId()).size());
+        assertEquals(0, teamService.getTeamMembers(second.getId()).size());
+        TeamMember reloaded = teamMemberRepository.findByUserIdAndTeamId(student1.getId(), first.getId())
+                .orElseThrow();
+        assertFalse(reloaded.getIsActive());
+        assertNotNull(reloaded.getLeftAt());
+    }
 }
@@ -0,0 +1,306 @@
+package com.eduscrum.upt.Ubereats.service;
+
+import com.eduscrum.upt.Ubereats.config.SqlStatementRecorder;
+import com.eduscrum.upt.Ubereats.dto.request.AchievementRequestDTO;
+import com.eduscrum.upt.Ubereats.dto.request.AddMemberRequest;
+import com.eduscrum.upt.Ubereats.dto.request.CreateTeamRequest;
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.TeamResponse;
+import com.eduscrum.upt.Ubereats.entity.*;
+import com.eduscrum.upt.Ubereats.entity.enums.*;
+import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
+import com.eduscrum.upt.Ubereats.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for TeamSummaryService.
+ *
+ * @author UberEats
+ * @version 0.2.0 (2026-10-18)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TeamSummaryServiceTest {
+
+    @Autowired
+    private TeamSummaryService teamSummaryService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private AchievementService achievementService;
+
+    @Autowired
+    private TeamSummaryRepository teamSummaryRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private AnalyticRepository analyticRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User teacher;
+    private User student1;
+    private User student2;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        teacher = createUser("Prof", "Summary", "profsummary", UserRole.TEACHER);
+        student1 = createUser("Student", "One", "summary1", UserRole.STUDENT);
+        student2 = createUser("Student", "Two", "summary2", UserRole.STUDENT);
+
+        Course course = courseRepository.save(
+                new Course("SummaryCourse", "SUM1", "Desc", Semester.FIRST, "2024", teacher));
+        project = projectRepository.save(
+                new Project("Summary Project", "Desc", LocalDate.now(), LocalDate.now().plusDays(10), course));
+    }
+
+    // ===================== SUMMARY VALUE TESTS =====================
+
+    @Test
+    void getTeamSummary_MatchesResponseBuiltFromEntity() {
+        Team team = createTeamWithMember("Summary Team", student1, ScrumRole.SCRUM_MASTER);
+        teamService.addMemberToTeam(team.getId(), new AddMemberRequest(student2.getId(), ScrumRole.PRODUCT_OWNER));
+        teamService.addTeamToProject(team.getId(), project.getId());
+        Sprint sprint = createSprint();
+        createAnalytic(sprint, team, 1, "12.50", 3, 2, 10);
+        createAnalytic(sprint, team, 2, "20.00", 1, 6, 10);
+        awardToTeam(team, badgeRepository.save(new Badge("Team Badge", "Description", 30, BadgeType.MANUAL, teacher)));
+        entityManager.flush();
+        entityManager.clear();
+
+        TeamResponse summary = teamSummaryService.getTeamSummary(team.getId());
+        TeamResponse expected = new TeamResponse(teamRepository.findById(team.getId()).orElseThrow());
+
+        assertEquals(expected.getId(), summary.getId());
+        assertEquals(expected.getName(), summary.getName());
+        assertEquals(expected.getProjectCount(), summary.getProjectCount());
+        assertEquals(expected.getProjectNames(), summary.getProjectNames());
+        assertEquals(expected.getMemberCount(), summary.getMemberCount());
+        assertEquals(expected.getTotalPoints(), summary.getTotalPoints());
+        assertEquals(expected.getScrumMaster(), summary.getScrumMaster());
+        assertEquals(expected.getProductOwner(), summary.getProductOwner());
+        assertEquals(0, expected.getCurrentProgress().compareTo(summary.getCurrentProgress()));
+        assertEquals(0, expected.getPerformanceRating().compareTo(summary.getPerformanceRating()));
+        assertEquals(0, new BigDecimal("60.00").compareTo(summary.getCurrentProgress()));
+    }
+
+    @Test
+    void getTeamSummary_WithoutMembersOrAnalytics_UsesDefaults() {
+        Team team = createTeam("Empty Team");
+
+        TeamResponse summary = teamSummaryService.getTeamSummary(team.getId());
+
+        assertEquals(0, summary.getMemberCount());
+        assertEquals(0, summary.getProjectCount());
+        assertTrue(summary.getProjectNames().isEmpty());
+        assertEquals("Not assigned", summary.getScrumMaster());
+        assertEquals("Not assigned", summary.getProductOwner());
+        assertEquals(0, BigDecimal.ZERO.compareTo(summary.getPerformanceRating()));
+    }
+
+    @Test
+    void getTeamSummary_NotFound_ThrowsException() {
+        assertThrows(ResourceNotFoundException.class, () -> teamSummaryService.getTeamSummary(999999L));
+    }
+
+    // ===================== REFRESH TESTS =====================
+
+    @Test
+    void getTeamSummary_AfterMembershipChange_RefreshesStoredRow() {
+        Team team = createTeamWithMember("Refresh Team", student1, ScrumRole.SCRUM_MASTER);
+        assertEquals(1, teamSummaryService.getTeamSummary(team.getId()).getMemberCount());
+
+        teamService.addMemberToTeam(team.getId(), new AddMemberRequest(student2.getId(), ScrumRole.PRODUCT_OWNER));
+        TeamResponse refreshed = teamSummaryService.getTeamSummary(team.getId());
+
+        assertEquals(2, refreshed.getMemberCount());
+        assertEquals("Student Two", refreshed.getProductOwner());
+        assertEquals(1, teamSummaryRepository.findByTeamIdIn(List.of(team.getId())).size());
+    }
+
+    @Test
+    void getTeamSummary_AfterAchievement_RefreshesPoints() {
+        Team team = createTeamWithMember("Points Team", student1, ScrumRole.DEVELOPER);
+        teamService.addTeamToProject(team.getId(), project.getId());
+        assertEquals(0, teamSummaryService.getTeamSummary(team.getId()).getTotalPoints());
+
+        awardToTeam(team, badgeRepository.save(new Badge("Team Badge", "Description", 25, BadgeType.MANUAL, teacher)));
+
+        assertEquals(25, teamSummaryService.getTeamSummary(team.getId()).getTotalPoints());
+    }
+
+    @Test
+    void teamsChanged_DefersRefreshUntilCommit() {
+        Team team = createTeamWithMember("Deferred Team", student1, ScrumRole.DEVELOPER);
+
+        teamSummaryService.teamsChanged(List.of(team.getId()));
+
+        assertTrue(teamSummaryRepository.findByTeamIdIn(List.of(team.getId())).isEmpty());
+    }
+
+    @Test
+    void getTeamSummary_WarmRead_IsOneStatement() {
+        Team team = createTeamWithMember("Warm Team", student1, ScrumRole.SCRUM_MASTER);
+        teamSummaryService.getTeamSummary(team.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementRecorder.start();
+        TeamResponse summary = teamSummaryService.getTeamSummary(team.getId());
+        int statements = SqlStatementRecorder.stop().getStatements();
+
+        assertEquals("Student One", summary.getScrumMaster());
+        assertEquals(1, statements);
+    }
+
+    // ===================== USER AND PROJECT TESTS =====================
+
+    @Test
+    void getUserTeamSummaries_ReturnsActiveTeamsInJoinOrder() {
+        Team first = createTeamWithMember("User Team A", student1, ScrumRole.DEVELOPER);
+        Team second = createTeamWithMember("User Team B", student1, ScrumRole.DEVELOPER);
+        createTeamWithMember("Other Team", student2, ScrumRole.DEVELOPER);
+        teamService.removeMemberFromTeam(first.getId(), student1.getId());
+        Team third = createTeamWithMember("User Team C", student1, ScrumRole.DEVELOPER);
+
+        List<TeamResponse> teams = teamSummaryService.getUserTeamSummaries(student1.getId());
+
+        assertEquals(List.of(second.getId(), third.getId()), teams.stream().map(TeamResponse::getId).toList());
+    }
+
+    @Test
+    void getProjectTeamSummary_ReturnsAssignedTeam() {
+        Team team = createTeamWithMember("Project Team", student1, ScrumRole.DEVELOPER);
+        teamService.addTeamToProject(team.getId(), project.getId());
+
+        TeamResponse summary = teamSummaryService.getProjectTeamSummary(project.getId());
+
+        assertEquals(team.getId(), summary.getId());
+        assertEquals(List.of("Summary Project"), summary.getProjectNames());
+    }
+
+    @Test
+    void getProjectTeamSummary_NoTeamAssigned_ReturnsNull() {
+        assertNull(teamSummaryService.getProjectTeamSummary(project.getId()));
+    }
+
+    // ===================== BATCH LOOKUP TESTS =====================
+
+    @Test
+    void getTeamsByIds_KeepsRequestOrderAndReportsMissing() {
+        Team first = createTeamWithMember("Batch Team A", student1, ScrumRole.SCRUM_MASTER);
+        Team second = createTeamWithMember("Batch Team B", student2, ScrumRole.PRODUCT_OWNER);
+        entityManager.flush();
+        entityManager.clear();
+
+        BatchResponseDTO<TeamResponse> batch = teamSummaryService.getTeamsByIds(
+                List.of(second.getId(), 999999L, first.getId()));
+
+        assertEquals(List.of(second.getId(), first.getId()),
+                batch.getItems().stream().map(TeamResponse::getId).toList());
+        assertEquals("Student Two", batch.getItems().get(0).getProductOwner());
+        assertEquals("Student One", batch.getItems().get(1).getScrumMaster());
+        assertEquals(List.of(999999L), batch.getMissingIds());
+    }
+
+    @Test
+    void getTeamsByIds_WarmReadIsOneStatement() {
+        Team first = createTeamWithMember("Batch Team A", student1, ScrumRole.DEVELOPER);
+        Team second = createTeamWithMember("Batch Team B", student2, ScrumRole.DEVELOPER);
+        teamSummaryService.getTeamsByIds(List.of(first.getId(), second.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementRecorder.start();
+        BatchResponseDTO<TeamResponse> batch = teamSummaryService.getTeamsByIds(List.of(first.getId(), second.getId()));
+        int statements = SqlStatementRecorder.stop().getStatements();
+
+        assertEquals(2, batch.getItems().size());
+        assertEquals(1, statements);
+    }
+
+    // ===================== HELPER METHODS =====================
+
+    private User createUser(String firstName, String lastName, String username, UserRole role) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(username + "@summary.com");
+        user.setUsername(username);
+        user.setPassword("pass");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Team createTeam(String name) {
+        CreateTeamRequest request = new CreateTeamRequest();
+        request.setName(name);
+        return teamService.createTeam(request);
+    }
+
+    private Team createTeamWithMember(String name, User user, ScrumRole role) {
+        Team team = createTeam(name);
+        teamService.addMemberToTeam(team.getId(), new AddMemberRequest(user.getId(), role));
+        return team;
+    }
+
+    private Sprint createSprint() {
+        Sprint sprint = new Sprint();
+        sprint.setSprintNumber(1);
+        sprint.setName("Sprint 1");
+        sprint.setStartDate(LocalDate.now().minusDays(5));
+        sprint.setEndDate(LocalDate.now().plusDays(9));
+        sprint.setStatus(SprintStatus.IN_PROGRESS);
+        sprint.setProject(project);
+        return sprintRepository.save(sprint);
+    }
+
+    private void createAnalytic(Sprint sprint, Team team, int day, String velocity, int sampleCount,
+            int completedTasks, int totalTasks) {
+        Analytic analytic = new Analytic(sprint, team, sprint.getStartDate().plusDays(day));
+        analytic.setVelocity(new BigDecimal(velocity));
+        analytic.setSampleCount(sampleCount);
+        analytic.setCompletedTasks(completedTasks);
+        analytic.setTotalTasks(totalTasks);
+        analyticRepository.save(analytic);
+    }
+
+    private void awardToTeam(Team team, Badge awarded) {
+        achievementService.createAchievement(new AchievementRequestDTO("Well done", awarded.getId(), null,
+                team.getId(), project.getId(), null, teacher.getId()));
+    }
+}
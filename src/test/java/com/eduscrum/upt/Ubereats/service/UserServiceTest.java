@@ -1,8 +1,13 @@
 package com.eduscrum.upt.Ubereats.service;
 
+import com.eduscrum.upt.Ubereats.dto.response.BatchResponseDTO;
+import com.eduscrum.upt.Ubereats.dto.response.UserProfileResponse;
 import com.eduscrum.upt.Ubereats.entity.User;
+import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
 import com.eduscrum.upt.Ubereats.entity.enums.UserRole;
+import com.eduscrum.upt.Ubereats.repository.TokenRevocationRepository;
 import com.eduscrum.upt.Ubereats.repository.UserRepository;
+import com.eduscrum.upt.Ubereats.security.TokenRevocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +15,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,7 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Tests user registration, lookup, and authentication.
  *
  * @author UberEats
- * @version 0.5.1
+ * @version 0.7.0 (2026-10-18)
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -33,6 +41,12 @@ class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -333,6 +347,31 @@ class UserServiceTest {
         assertTrue(found.isEmpty());
     }
 
+    // ===================== BATCH LOOKUP TESTS =====================
+
+    @Test
+    void getUsersByIds_KeepsRequestOrderAndReportsMissing() {
+        User first = userService.registerUser("batchone", "batch1@test.com", "password123", "Batch", "One",
+                UserRole.STUDENT, null);
+        User second = userService.registerUser("batchtwo", "batch2@test.com", "password123", "Batch", "Two",
+                UserRole.TEACHER, null);
+
+        BatchResponseDTO<UserProfileResponse> batch = userService.getUsersByIds(
+                List.of(second.getId(), 999999L, first.getId(), second.getId()));
+
+        assertEquals(List.of(second.getId(), first.getId()),
+                batch.getItems().stream().map(UserProfileResponse::getId).toList());
+        assertEquals("Batch One", batch.getItems().get(1).getFullName());
+        assertEquals(List.of(999999L), batch.getMissingIds());
+    }
+
+    @Test
+    void getUsersByIds_TooManyIds_ThrowsException() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThrows(BusinessLogicException.class, () -> userService.getUsersByIds(ids));
+    }
+
     // ===================== FIND ALL BY ROLE TESTS =====================
 
     @Test
@@ -441,4 +480,26 @@ class UserServiceTest {
 
         assertEquals(0, score);
     }
+
+    // ===================== DEACTIVATION TESTS =====================
+
+    @Test
+    void deactivateUser_DisablesUserAndRevokesTokens() {
+        User user = userService.registerUser("leaving", "leaving@test.com", "password123", "Lea", "Ving",
+                UserRole.STUDENT, null);
+        Instant issuedBefore = Instant.now().minusSeconds(1);
+
+        User deactivated = userService.deactivateUser(user.getId());
+
+        assertFalse(deactivated.getIsActive());
+        assertTrue(tokenRevocationRepository.findByExpiresAtAfter(LocalDateTime.now()).stream()
+                .anyMatch(revocation -> user.getId().equals(revocation.getUserId())));
+        // The in-memory cutoff applies once the deactivation commits
+        assertFalse(tokenRevocationService.isRevoked("any-token-id", user.getId(), issuedBefore));
+    }
+
+    @Test
+    void deactivateUser_UserNotFound_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> userService.deactivateUser(999999L));
+    }
 }
@@ -1,5 +1,6 @@
 package com.eduscrum.upt.Ubereats.service;
 
+import com.eduscrum.upt.Ubereats.dto.request.FieldSelection;
 import com.eduscrum.upt.Ubereats.dto.request.UserStoryRequestDTO;
 import com.eduscrum.upt.Ubereats.dto.response.UserStoryResponseDTO;
 import com.eduscrum.upt.Ubereats.entity.*;
@@ -7,15 +8,20 @@ import com.eduscrum.upt.Ubereats.entity.enums.*;
 import com.eduscrum.upt.Ubereats.exception.BusinessLogicException;
 import com.eduscrum.upt.Ubereats.exception.ResourceNotFoundException;
 import com.eduscrum.upt.Ubereats.repository.*;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,6 +61,9 @@ class UserStoryServiceTest {
     @Autowired
     private TeamMemberRepository teamMemberRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private User teacher;
     private User student;
     private Course course;
@@ -271,6 +280,94 @@ class UserStoryServiceTest {
         assertEquals(StoryStatus.TODO, todoStories.get(0).getStatus());
     }
 
+    // ===================== SPARSE FIELDSET TESTS =====================
+
+    @Test
+    void getUserStoriesBySprint_WithFields_LoadsOnlySelectedFields() {
+        UserStoryResponseDTO created = createTestStory("Board Card", 8);
+        UserStory story = userStoryRepository.findById(created.getId()).orElseThrow();
+        story.setAssignedTo(student);
+        userStoryRepository.save(story);
+        createTestStory("Unassigned Card", 0);
+
+        FieldSelection fields = FieldSelection.parse("title,status,effortLevel,assignedUserName,sprintName",
+                UserStoryResponseDTO.class);
+        List<UserStoryResponseDTO> cards = userStoryService.getUserStoriesBySprint(sprint.getId(), fields);
+
+        assertEquals(2, cards.size());
+        UserStoryResponseDTO card = cards.get(0);
+        assertEquals(created.getId(), card.getId());
+        assertEquals("Board Card", card.getTitle());
+        assertEquals(StoryStatus.TODO, card.getStatus());
+        assertEquals("Medium", card.getEffortLevel());
+        assertEquals("Student Story", card.getAssignedUserName());
+        assertEquals("Sprint 1", card.getSprintName());
+        assertNull(card.getDescription());
+        assertNull(card.getStoryPoints());
+        assertNull(card.getStatusColor());
+        assertNull(card.getTeamName());
+        assertEquals("Unassigned", cards.get(1).getAssignedUserName());
+        assertEquals("Not estimated", cards.get(1).getEffortLevel());
+    }
+
+    @Test
+    void getUserStoriesBySprint_WithFields_MatchesFullConversion() {
+        createTestStory("Computed Card", 13);
+        UserStoryResponseDTO full = userStoryService.getUserStoriesBySprint(sprint.getId()).get(0);
+
+        FieldSelection fields = FieldSelection.parse(
+                "statusColor,priorityColor,priorityIcon,pending,canMoveToNextStatus,canMoveToPreviousStatus,"
+                        + "assigned,teamId,teamName,createdByName,createdAt",
+                UserStoryResponseDTO.class);
+        UserStoryResponseDTO sparse = userStoryService.getUserStoriesBySprint(sprint.getId(), fields).get(0);
+
+        assertEquals(full.getStatusColor(), sparse.getStatusColor());
+        assertEquals(full.getPriorityColor(), sparse.getPriorityColor());
+        assertEquals(full.getPriorityIcon(), sparse.getPriorityIcon());
+        assertEquals(full.isPending(), sparse.isPending());
+        assertEquals(full.isCanMoveToNextStatus(), sparse.isCanMoveToNextStatus());
+        assertEquals(full.isCanMoveToPreviousStatus(), sparse.isCanMoveToPreviousStatus());
+        assertEquals(full.isAssigned(), sparse.isAssigned());
+        assertEquals(full.getTeamId(), sparse.getTeamId());
+        assertEquals(full.getTeamName(), sparse.getTeamName());
+        assertEquals("Prof Story", sparse.getCreatedByName());
+        assertEquals(full.getCreatedAt(), sparse.getCreatedAt());
+    }
+
+    @Test
+    void fieldSelection_UnknownField_ThrowsException() {
+        assertThrows(BusinessLogicException.class,
+                () -> FieldSelection.parse("title,password", UserStoryResponseDTO.class));
+        assertTrue(FieldSelection.parse(" ", UserStoryResponseDTO.class).isAll());
+    }
+
+    @Test
+    void fieldSelection_Wrap_SerializesOnlySelectedFields() throws Exception {
+        createTestStory("Serialized Card", 3);
+        FieldSelection fields = FieldSelection.parse("title,storyPoints,inProgress", UserStoryResponseDTO.class);
+        MappingJacksonValue body = fields.wrap(userStoryService.getUserStoriesBySprint(sprint.getId(), fields));
+
+        String json = objectMapper.writer(body.getFilters()).writeValueAsString(body.getValue());
+
+        List<Map<String, Object>> cards = objectMapper.readValue(json, new TypeReference<>() {
+        });
+        assertEquals(Set.of("id", "title", "storyPoints", "inProgress"), cards.get(0).keySet());
+    }
+
+    @Test
+    void fieldSelection_WithoutFilter_SerializesAllFields() throws Exception {
+        UserStoryResponseDTO story = createTestStory("Full Card", 3);
+
+        Map<String, Object> json = objectMapper.readValue(objectMapper.writeValueAsString(story),
+                new TypeReference<>() {
+                });
+
+        // Every property can be selected by its name
+        FieldSelection all = FieldSelection.parse(String.join(",", json.keySet()), UserStoryResponseDTO.class);
+        assertEquals(28, json.size());
+        assertTrue(json.keySet().stream().allMatch(all::includes));
+    }
+
     // ===================== EXISTENCE CHECKS =====================
 
     @Test